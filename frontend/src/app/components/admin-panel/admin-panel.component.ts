@@ -23,7 +23,7 @@ import { User } from '../../models/user.model';
           [class.active]="activeTab === 'reviews'"
           (click)="setActiveTab('reviews')">
           Pending Reviews
-          <span class="badge" *ngIf="pendingReviews.length > 0">{{ pendingReviews.length }}</span>
+          <span class="badge" *ngIf="pendingReviews.length > 0">{{ pendingReviewsCount }}</span>
         </button>
         <button 
           class="tab-btn"
@@ -38,7 +38,7 @@ import { User } from '../../models/user.model';
         <div class="section" *ngIf="activeTab === 'reviews'">
           <div class="section-header">
             <h2>Pending Reviews</h2>
-            <span class="badge" *ngIf="pendingReviews.length > 0">{{ pendingReviews.length }}</span>
+            <span class="badge" *ngIf="pendingReviews.length > 0">{{ pendingReviewsCount }}</span>
           </div>
           
           <div class="reviews-list" *ngIf="pendingReviews.length > 0">
@@ -76,6 +76,15 @@ import { User } from '../../models/user.model';
                 </button>
               </div>
             </div>
+
+            <div class="load-more-section" *ngIf="hasMorePendingReviews">
+              <button
+                (click)="loadMorePendingReviews()"
+                class="btn btn-load-more"
+                [disabled]="loadingMorePendingReviews">
+                {{ loadingMorePendingReviews ? 'Loading...' : 'Load More Reviews' }}
+              </button>
+            </div>
           </div>
           
           <div class="empty-state" *ngIf="pendingReviews.length === 0">
@@ -94,7 +103,7 @@ import { User } from '../../models/user.model';
               <div class="stat-label">Total Reviews</div>
             </div>
             <div class="stat-card">
-              <div class="stat-value">{{ pendingReviews.length }}</div>
+              <div class="stat-value">{{ pendingReviewsCount }}</div>
               <div class="stat-label">Pending Approval</div>
             </div>
             <div class="stat-card">
@@ -319,6 +328,21 @@ import { User } from '../../models/user.model';
       background: #dc2626;
     }
 
+    .load-more-section {
+      display: flex;
+      justify-content: center;
+      margin-top: 0.5rem;
+    }
+
+    .btn-load-more {
+      background: #4f46e5;
+      color: white;
+    }
+
+    .btn-load-more:hover:not(:disabled) {
+      background: #4338ca;
+    }
+
     .empty-state {
       text-align: center;
       padding: 4rem 2rem;
@@ -554,6 +578,9 @@ import { User } from '../../models/user.model';
 })
 export class AdminPanelComponent implements OnInit {
   pendingReviews: Review[] = [];
+  pendingReviewsCursor: string | null = null;
+  hasMorePendingReviews = false;
+  loadingMorePendingReviews = false;
   processingReviews = new Set<string>();
   allUsers: User[] = [];
   promotingUsers = new Set<string>();
@@ -583,10 +610,17 @@ export class AdminPanelComponent implements OnInit {
     return this.currentUser?.role === 'ADMIN';
   }
 
+  // The queue is paged by cursor without a total, so only count what has been loaded
+  get pendingReviewsCount(): string {
+    return this.pendingReviews.length + (this.hasMorePendingReviews ? '+' : '');
+  }
+
   loadPendingReviews(): void {
     this.reviewService.getPendingReviews().subscribe({
-      next: (reviews) => {
-        this.pendingReviews = reviews;
+      next: (page) => {
+        this.pendingReviews = page.content;
+        this.pendingReviewsCursor = page.nextCursor;
+        this.hasMorePendingReviews = page.hasNext;
         this.updateStatistics();
       },
       error: (error) => {
@@ -595,6 +629,29 @@ export class AdminPanelComponent implements OnInit {
     });
   }
 
+  loadMorePendingReviews(): void {
+    if (!this.hasMorePendingReviews || this.loadingMorePendingReviews || !this.pendingReviewsCursor) {
+      return;
+    }
+
+    this.loadingMorePendingReviews = true;
+
+    this.reviewService.getPendingReviews(this.pendingReviewsCursor).subscribe({
+      next: (page) => {
+        const loadedIds = new Set(this.pendingReviews.map(r => r.id));
+        this.pendingReviews = [...this.pendingReviews, ...page.content.filter(r => !loadedIds.has(r.id))];
+        this.pendingReviewsCursor = page.nextCursor;
+        this.hasMorePendingReviews = page.hasNext;
+        this.updateStatistics();
+        this.loadingMorePendingReviews = false;
+      },
+      error: (error) => {
+        console.error('Error loading more pending reviews:', error);
+        this.loadingMorePendingReviews = false;
+      }
+    });
+  }
+
   approveReview(reviewId: string): void {
     this.processingReviews.add(reviewId);
     
@@ -32,4 +32,11 @@ export interface PagedReviews {
     totalPages: number;
     size: number;
     number: number;
+}
+
+export interface ReviewCursorPage {
+    content: Review[];
+    size: number;
+    hasNext: boolean;
+    nextCursor: string | null;
 }
\ No newline at end of file
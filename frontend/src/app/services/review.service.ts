@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Review, StoreReviewRequest, UpdateReviewRequest, ReviewStats, PagedReviews } from '../models/review.model';
+import { Review, StoreReviewRequest, UpdateReviewRequest, ReviewStats, ReviewCursorPage } from '../models/review.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -24,14 +24,14 @@ export class ReviewService {
         return this.http.put<Review>(`${this.apiUrl}/${reviewId}`, reviewData);
     }
 
-    getReviewsByTvShow(tvShowId: number, page: number = 0, size: number = 10): Observable<PagedReviews> {
+    getReviewsByTvShow(tvShowId: number, cursor: string = '', size: number = 10): Observable<ReviewCursorPage> {
         const params = new HttpParams()
-            .set('page', page.toString())
+            .set('cursor', cursor)
             .set('size', size.toString())
             .set('sortBy', 'createdAt')
             .set('sortDir', 'desc');
         
-        return this.http.get<PagedReviews>(`${this.apiUrl}/tv-show/${tvShowId}`, { params });
+        return this.http.get<ReviewCursorPage>(`${this.apiUrl}/tv-show/${tvShowId}`, { params });
     }
 
     getReviewStats(tvShowId: number): Observable<ReviewStats> {
@@ -46,8 +46,13 @@ export class ReviewService {
         return this.http.delete<void>(`${this.apiUrl}/${reviewId}`);
     }
 
-    getPendingReviews(): Observable<Review[]> {
-        return this.http.get<Review[]>(`${this.apiUrl}/pending`);
+    getPendingReviews(cursor?: string, size: number = 20): Observable<ReviewCursorPage> {
+        let params = new HttpParams().set('size', size.toString());
+        if (cursor) {
+            params = params.set('cursor', cursor);
+        }
+
+        return this.http.get<ReviewCursorPage>(`${this.apiUrl}/pending`, { params });
     }
 
     approveReview(reviewId: string): Observable<void> {
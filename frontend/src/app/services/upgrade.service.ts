@@ -1,12 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable, switchMap } from 'rxjs';
+import { Observable } from 'rxjs';
 import { environment } from '../../environments/environment';
 
-export interface UpgradeUserProfileDto {
-    username: string;
-}
-
 export interface UserProfileDto {
     id: string;
     username: string;
@@ -25,24 +21,7 @@ export class UpgradeService {
     constructor(private http: HttpClient) {}
 
     upgradeUserToPremium(username: string): Observable<UserProfileDto> {
-        const upgradeRequest: UpgradeUserProfileDto = {
-            username: username
-        };
-
-        // First call user service to upgrade profile
-        return this.http.post<UserProfileDto>(`${this.apiUrl}/users/upgrade`, upgradeRequest).pipe(
-            switchMap((userProfile) => {
-                // If user service upgrade succeeds, also upgrade in auth service
-                return this.http.post<void>(`${this.apiUrl}/auth/users/${username}/upgrade`, {}).pipe(
-                    switchMap(() => {
-                        // Return the user profile from the first call
-                        return new Observable<UserProfileDto>(subscriber => {
-                            subscriber.next(userProfile);
-                            subscriber.complete();
-                        });
-                    })
-                );
-            })
-        );
+        // auth-service owns membership and propagates the change to the user profile
+        return this.http.post<UserProfileDto>(`${this.apiUrl}/auth/users/${username}/upgrade`, {});
     }
-}
\ No newline at end of file
+}
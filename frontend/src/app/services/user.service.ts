@@ -17,6 +17,6 @@ export class UserService {
     }
 
     upgradeProfile(upgradeData: UpgradeProfileRequest): Observable<UserProfile> {
-        return this.http.post<UserProfile>(`${this.apiUrl}/upgrade`, upgradeData);
+        return this.http.post<UserProfile>(`${environment.apiUrl}/auth/users/${upgradeData.username}/upgrade`, {});
     }
 }
\ No newline at end of file
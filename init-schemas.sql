@@ -7,6 +7,9 @@ CREATE SCHEMA IF NOT EXISTS review_service;
 -- Enable UUID extension
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
+-- Enable trigram matching for show search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Set search path to include all schemas
 SET search_path TO auth_service, user_service, shows_service, review_service, public;
 
@@ -69,6 +72,7 @@ CREATE TABLE IF NOT EXISTS shows_service.tv_shows (
     type VARCHAR(50),
     language VARCHAR(50),
     status VARCHAR(50),
+    network VARCHAR(255),
     runtime INT,
     average_runtime INT,
     premiered DATE,
@@ -83,6 +87,7 @@ CREATE TABLE IF NOT EXISTS shows_service.tv_shows (
     image_medium VARCHAR(255),
     image_original VARCHAR(255),
     summary TEXT,
+    tvmaze_updated BIGINT,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -99,6 +104,13 @@ CREATE TABLE IF NOT EXISTS shows_service.tv_show_genres (
     FOREIGN KEY (genre_id) REFERENCES shows_service.genres(id) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS shows_service.seed_checkpoints (
+    source VARCHAR(50) PRIMARY KEY,
+    last_page INT NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP
+);
+
 -- Review Service Schema
 CREATE TABLE IF NOT EXISTS review_service.reviews (
     id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
@@ -123,9 +135,12 @@ CREATE INDEX IF NOT EXISTS idx_user_profiles_username ON user_service.user_profi
 CREATE INDEX IF NOT EXISTS idx_user_profiles_email ON user_service.user_profiles(email);
 CREATE INDEX IF NOT EXISTS idx_watchlist_user_id ON user_service.watchlist(user_id);
 CREATE INDEX IF NOT EXISTS idx_watchlist_show_id ON user_service.watchlist(show_id);
+CREATE INDEX IF NOT EXISTS idx_tv_show_search_history_user_time ON user_service.tv_show_search_history(user_id, search_time DESC);
 
 CREATE INDEX IF NOT EXISTS idx_tv_shows_tv_show_id ON shows_service.tv_shows(tv_show_id);
 CREATE INDEX IF NOT EXISTS idx_tv_shows_name ON shows_service.tv_shows(name);
+CREATE INDEX IF NOT EXISTS idx_tv_shows_name_trgm ON shows_service.tv_shows USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tv_shows_summary_tsv ON shows_service.tv_shows USING gin (to_tsvector('english', coalesce(summary, '')));
 CREATE INDEX IF NOT EXISTS idx_tv_show_genres_tv_show_id ON shows_service.tv_show_genres(tv_show_id);
 CREATE INDEX IF NOT EXISTS idx_tv_show_genres_genre_id ON shows_service.tv_show_genres(genre_id);
 
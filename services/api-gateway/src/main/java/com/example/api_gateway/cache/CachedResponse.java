@@ -0,0 +1,20 @@
+package com.example.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Metadata of a cached response; the body lives in {@link ResponseCacheStore} at
+ * {@code offset}.
+ */
+public record CachedResponse(
+        String key,
+        long offset,
+        int length,
+        HttpStatusCode status,
+        HttpHeaders headers,
+        long storedAtMillis,
+        long freshUntilMillis,
+        long staleUntilMillis
+) {
+}
@@ -0,0 +1,275 @@
+package com.example.api_gateway.cache;
+
+import com.example.api_gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches GET responses of a route, keyed on path, query and the configured request headers.
+ * Fresh entries are served directly; stale ones are served while a single background request
+ * refreshes them, and concurrent misses for one key wait for the first request instead of all
+ * going downstream.
+ */
+@Component
+@Slf4j
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            CACHE_HEADER.toLowerCase()
+    );
+
+    private final ResponseCacheStore store;
+
+    private final ResponseCacheProperties properties;
+
+    private final WebClient webClient;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store, ResponseCacheProperties properties,
+                                             WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        this(store, properties, webClientBuilder.build(), meterRegistry, Clock.systemUTC());
+    }
+
+    ResponseCacheGatewayFilterFactory(ResponseCacheStore store, ResponseCacheProperties properties,
+                                      WebClient webClient, MeterRegistry meterRegistry, Clock clock) {
+        super(Config.class);
+        this.store = store;
+        this.properties = properties;
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> Mono.defer(() -> filter(exchange, chain, config));
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "";
+        String key = key(routeId, request, config);
+        long now = clock.millis();
+
+        CachedResponse cached = store.get(key);
+        if (cached != null && now >= cached.staleUntilMillis()) {
+            store.remove(cached);
+        } else if (cached != null) {
+            byte[] body = store.read(cached);
+            if (body != null) {
+                boolean fresh = now < cached.freshUntilMillis();
+                if (!fresh && route != null) {
+                    revalidate(key, route, request, config);
+                }
+                count(routeId, fresh ? "hit" : "stale");
+                return write(exchange, cached, body, fresh ? "HIT" : "STALE");
+            }
+        }
+
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            count(routeId, "collapsed");
+            return leader.asMono()
+                    .mapNotNull(response -> {
+                        byte[] body = store.read(response);
+                        return body != null ? new Hit(response, body) : null;
+                    })
+                    .flatMap(hit -> write(exchange, hit.response(), hit.body(), "HIT").thenReturn(true))
+                    .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(true)))
+                    .then();
+        }
+
+        count(routeId, "miss");
+        ServerHttpResponse caching = new CachingResponse(exchange.getResponse(), key, config, sink);
+        return chain.filter(exchange.mutate().response(caching).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, byte[] body, String result) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().setContentLength(body.length);
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf((clock.millis() - cached.storedAtMillis()) / 1000));
+        response.getHeaders().set(CACHE_HEADER, result);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private void revalidate(String key, Route route, ServerHttpRequest request, Config config) {
+        if (!revalidating.add(key)) {
+            return;
+        }
+
+        URI uri = UriComponentsBuilder.fromUri(route.getUri())
+                .replacePath(request.getPath().value())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(request.getHeaders());
+        headers.remove(HttpHeaders.HOST);
+
+        webClient.get()
+                .uri(uri)
+                .headers(target -> target.addAll(headers))
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .timeout(properties.getRevalidateTimeout())
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(
+                        entity -> storeRevalidated(key, entity, config),
+                        error -> log.warn("Failed to revalidate cached response for {}: {}", uri, error.getMessage())
+                );
+    }
+
+    private void storeRevalidated(String key, ResponseEntity<byte[]> entity, Config config) {
+        byte[] body = entity.getBody() != null ? entity.getBody() : new byte[0];
+        if (cacheable(entity.getStatusCode(), entity.getHeaders(), body.length, config)) {
+            store(key, entity.getStatusCode(), entity.getHeaders(), body, config);
+        }
+    }
+
+    private CachedResponse store(String key, HttpStatusCode status, HttpHeaders headers, byte[] body, Config config) {
+        HttpHeaders kept = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase())) {
+                kept.put(name, values);
+            }
+        });
+
+        long now = clock.millis();
+        long freshUntil = now + config.getTtl().toMillis();
+        return store.put(key, status, kept, body, now, freshUntil, freshUntil + config.getStaleWhileRevalidate().toMillis());
+    }
+
+    private boolean cacheable(HttpStatusCode status, HttpHeaders headers, int length, Config config) {
+        if (status == null || status.value() != HttpStatus.OK.value() || length > config.getMaxBodySize().toBytes()) {
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    static String key(String routeId, ServerHttpRequest request, Config config) {
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : config.getKeyHeaders()) {
+            String value = request.getHeaders().getFirst(header);
+            key.append('\n').append(header).append('=').append(value != null ? value : "");
+        }
+        return key.toString();
+    }
+
+    private void count(String routeId, String result) {
+        meterRegistry.counter("gateway.response.cache.requests", "route", routeId, "result", result).increment();
+    }
+
+    private record Hit(CachedResponse response, byte[] body) {
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final String key;
+        private final Config config;
+        private final Sinks.One<CachedResponse> sink;
+
+        CachingResponse(ServerHttpResponse delegate, String key, Config config, Sinks.One<CachedResponse> sink) {
+            super(delegate);
+            this.key = key;
+            this.config = config;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        if (cacheable(status, getHeaders(), bytes.length, config)) {
+                            CachedResponse stored = store(key, status, getHeaders(), bytes, config);
+                            if (stored != null) {
+                                sink.tryEmitValue(stored);
+                            }
+                        }
+
+                        getHeaders().set(CACHE_HEADER, "MISS");
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    })
+                    .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+        }
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration staleWhileRevalidate = Duration.ofSeconds(60);
+        private List<String> keyHeaders = List.of();
+        private DataSize maxBodySize = DataSize.ofKilobytes(512);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.api_gateway.cache;
+
+import com.example.api_gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Response bodies kept off-heap in one fixed-size direct buffer used as a ring log. Bodies are
+ * appended at a monotonically growing logical position; once the writer laps an entry its bytes
+ * are reused and the entry is dropped, so memory stays at {@code gateway.response-cache.capacity}
+ * and eviction is oldest-first. Readers copy optimistically and retry under the read lock when a
+ * write raced them.
+ */
+@Component
+public class ResponseCacheStore {
+    private final ByteBuffer arena;
+
+    private final int capacity;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    // Entries in write order, guarded by the write lock.
+    private final ArrayDeque<CachedResponse> log = new ArrayDeque<>();
+
+    private long writePosition;
+
+    public ResponseCacheStore(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.capacity = Math.toIntExact(properties.getCapacity().toBytes());
+        this.arena = ByteBuffer.allocateDirect(capacity);
+
+        Gauge.builder("gateway.response.cache.entries", entries, Map::size).register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Copies the body of {@code response} out of the arena, or returns null when it has been
+     * overwritten since.
+     */
+    public byte[] read(CachedResponse response) {
+        byte[] body = new byte[response.length()];
+
+        long stamp = lock.tryOptimisticRead();
+        if (isLive(response, writePosition)) {
+            arena.get(physical(response.offset()), body);
+            if (lock.validate(stamp)) {
+                return body;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            if (!isLive(response, writePosition)) {
+                entries.remove(response.key(), response);
+                return null;
+            }
+            arena.get(physical(response.offset()), body);
+            return body;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Stores a body and returns its entry, or null when the body is larger than the whole store.
+     */
+    public CachedResponse put(String key, HttpStatusCode status, HttpHeaders headers, byte[] body,
+                              long storedAtMillis, long freshUntilMillis, long staleUntilMillis) {
+        if (body.length > capacity) {
+            return null;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            long start = writePosition;
+            int physical = physical(start);
+            if (physical + body.length > capacity) {
+                start += capacity - physical;
+            }
+            writePosition = start + body.length;
+            arena.put(physical(start), body);
+
+            while (!log.isEmpty() && !isLive(log.peekFirst(), writePosition)) {
+                CachedResponse overwritten = log.pollFirst();
+                entries.remove(overwritten.key(), overwritten);
+            }
+
+            CachedResponse response = new CachedResponse(key, start, body.length, status,
+                    HttpHeaders.readOnlyHttpHeaders(headers), storedAtMillis, freshUntilMillis, staleUntilMillis);
+            log.addLast(response);
+            entries.put(key, response);
+            return response;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(CachedResponse response) {
+        entries.remove(response.key(), response);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isLive(CachedResponse response, long position) {
+        return position <= response.offset() + capacity;
+    }
+
+    private int physical(long position) {
+        return (int) (position % capacity);
+    }
+}
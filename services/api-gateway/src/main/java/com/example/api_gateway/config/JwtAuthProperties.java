@@ -11,5 +11,7 @@
 @Data
 public class JwtAuthProperties {
     private List<String> excludedPaths;
-
+    private List<String> optionalPaths = List.of();
+    private int tokenCacheSize = 4096;
+    private double logSampleRate = 0.0;
 }
\ No newline at end of file
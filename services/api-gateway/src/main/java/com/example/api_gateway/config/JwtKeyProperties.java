@@ -0,0 +1,16 @@
+package com.example.api_gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "jwt")
+@Component
+@Data
+public class JwtKeyProperties {
+    private String secret;
+    private Map<String, String> keys = new LinkedHashMap<>();
+}
@@ -0,0 +1,16 @@
+package com.example.api_gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@Component
+@Data
+public class RateLimitProperties {
+    private int maxBuckets = 100_000;
+    private long sweepIntervalMs = 60_000;
+    private boolean redisEnabled = false;
+    // Proxies in front of the gateway that append to X-Forwarded-For; 0 keys anonymous clients by the socket address.
+    private int trustedProxyHops = 0;
+}
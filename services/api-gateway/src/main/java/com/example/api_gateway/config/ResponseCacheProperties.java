@@ -0,0 +1,16 @@
+package com.example.api_gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.response-cache")
+@Component
+@Data
+public class ResponseCacheProperties {
+    private DataSize capacity = DataSize.ofMegabytes(32);
+    private Duration revalidateTimeout = Duration.ofSeconds(5);
+}
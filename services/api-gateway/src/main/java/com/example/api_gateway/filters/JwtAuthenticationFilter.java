@@ -2,11 +2,13 @@
 
 import com.example.api_gateway.config.JwtAuthProperties;
 import com.example.api_gateway.service.JwtService;
-import io.jsonwebtoken.Claims;
+import com.example.api_gateway.service.VerifiedToken;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -18,55 +20,51 @@
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @Slf4j
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     private final JwtService jwtService;
     private final JwtAuthProperties jwtAuthProperties;
+    private final RoutePolicyTable routePolicyTable;
 
     private static final String BEARER_PREFIX = "Bearer ";
 
-    public JwtAuthenticationFilter(JwtService jwtService, JwtAuthProperties jwtAuthProperties) {
+    public JwtAuthenticationFilter(JwtService jwtService, JwtAuthProperties jwtAuthProperties, RoutePolicyTable routePolicyTable) {
         this.jwtService = jwtService;
         this.jwtAuthProperties = jwtAuthProperties;
+        this.routePolicyTable = routePolicyTable;
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        RoutePolicy policy = routePolicyTable.policyFor(request.getPath().value(), route);
 
-        if (isExcludedPath(request.getPath().toString())) {
-            return chain.filter(exchange);
+        if (policy == RoutePolicy.PUBLIC) {
+            return chain.filter(anonymous(exchange));
         }
 
         String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
 
         if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            if (policy == RoutePolicy.OPTIONAL) {
+                return chain.filter(anonymous(exchange));
+            }
             return onError(exchange, "Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
         }
 
-        String token = authHeader.substring(BEARER_PREFIX.length());
-
         try {
-            Claims claims = jwtService.verifyToken(token);
-
-            String username = claims.getIssuer();
-            String firstName = claims.get("firstName", String.class);
-            String lastName = claims.get("lastName", String.class);
-            String role = claims.get("role", String.class);
-            String membership = claims.get("membership", String.class);
+            VerifiedToken verified = jwtService.authenticate(authHeader, BEARER_PREFIX.length());
 
-            log.info("JWT Claims: username={}, firstName={}, lastName={}, role={}, membership={}",
-                    username, firstName, lastName, role, membership);
+            if (sampled()) {
+                log.info("JWT Claims: username={}, firstName={}, lastName={}, role={}, membership={}",
+                        verified.username(), verified.firstName(), verified.lastName(), verified.role(), verified.membership());
+            }
 
-            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-Auth-Username", username != null ? username : "")
-                    .header("X-Auth-FirstName", firstName != null ? firstName : "")
-                    .header("X-Auth-LastName", lastName != null ? lastName : "")
-                    .header("X-Auth-Role", role != null ? role : "")
-                    .header("X-Auth-Membership", membership != null ? membership : "")
-                    .build();
+            ServerHttpRequest modifiedRequest = request.mutate().headers(verified::applyTo).build();
 
             return chain.filter(exchange.mutate().request(modifiedRequest).build());
         } catch (JwtException e) {
@@ -78,6 +76,25 @@ public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         }
     }
 
+    // Downstream services trust X-Auth-* headers, so values sent by the client are dropped.
+    private ServerWebExchange anonymous(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        for (String name : VerifiedToken.HEADER_NAMES) {
+            if (headers.containsKey(name)) {
+                ServerHttpRequest stripped = exchange.getRequest().mutate()
+                        .headers(mutable -> VerifiedToken.HEADER_NAMES.forEach(mutable::remove))
+                        .build();
+                return exchange.mutate().request(stripped).build();
+            }
+        }
+        return exchange;
+    }
+
+    private boolean sampled() {
+        double rate = jwtAuthProperties.getLogSampleRate();
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
     private Mono<Void> onError(ServerWebExchange exchange, String error, HttpStatus httpStatus) {
         ServerHttpResponse response = exchange.getResponse();
 
@@ -89,10 +106,6 @@ private Mono<Void> onError(ServerWebExchange exchange, String error, HttpStatus
         return response.writeWith(Mono.just(buffer));
     }
 
-    private boolean isExcludedPath(String path) {
-        return jwtAuthProperties.getExcludedPaths().stream().anyMatch(path::startsWith);
-    }
-
     @Override
     public int getOrder() {
         return -100;
@@ -0,0 +1,11 @@
+package com.example.api_gateway.filters;
+
+public enum RoutePolicy {
+    PUBLIC,
+    OPTIONAL,
+    REQUIRED;
+
+    public static RoutePolicy fromMetadata(Object value) {
+        return value == null ? REQUIRED : valueOf(value.toString().trim().toUpperCase());
+    }
+}
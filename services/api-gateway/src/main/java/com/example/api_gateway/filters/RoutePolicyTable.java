@@ -0,0 +1,94 @@
+package com.example.api_gateway.filters;
+
+import com.example.api_gateway.config.JwtAuthProperties;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides how a request is authenticated. Path prefixes from {@code jwt.auth} are compiled into a
+ * character trie and the longest matching prefix wins; otherwise the {@code auth} metadata of the
+ * matched gateway route applies, resolved once per route, and requests default to
+ * {@link RoutePolicy#REQUIRED}.
+ */
+@Component
+public class RoutePolicyTable {
+    public static final String AUTH_METADATA = "auth";
+
+    private final Node root = new Node();
+
+    private final Map<String, RoutePolicy> routePolicies = new ConcurrentHashMap<>();
+
+    public RoutePolicyTable(JwtAuthProperties jwtAuthProperties) {
+        addAll(jwtAuthProperties.getOptionalPaths(), RoutePolicy.OPTIONAL);
+        addAll(jwtAuthProperties.getExcludedPaths(), RoutePolicy.PUBLIC);
+    }
+
+    public RoutePolicy policyFor(String path, Route route) {
+        RoutePolicy policy = match(path);
+        if (policy != null) {
+            return policy;
+        }
+        if (route == null) {
+            return RoutePolicy.REQUIRED;
+        }
+        return routePolicies.computeIfAbsent(route.getId(),
+                id -> RoutePolicy.fromMetadata(route.getMetadata().get(AUTH_METADATA)));
+    }
+
+    RoutePolicy match(String path) {
+        Node node = root;
+        RoutePolicy policy = root.policy;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.child(path.charAt(i));
+            if (node != null && node.policy != null) {
+                policy = node.policy;
+            }
+        }
+        return policy;
+    }
+
+    private void addAll(List<String> prefixes, RoutePolicy policy) {
+        if (prefixes == null) {
+            return;
+        }
+        for (String prefix : prefixes) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+            }
+            node.policy = policy;
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private RoutePolicy policy;
+
+        Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
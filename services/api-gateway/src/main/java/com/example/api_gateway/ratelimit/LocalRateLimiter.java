@@ -0,0 +1,83 @@
+package com.example.api_gateway.ratelimit;
+
+import com.example.api_gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+@Slf4j
+public class LocalRateLimiter {
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final RateLimitProperties properties;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong lastSweepNanos;
+
+    public LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.lastSweepNanos = new AtomicLong(nanoClock.getAsLong());
+
+        Gauge.builder("gateway.rate.limit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns 0 when the request is admitted, otherwise the nanoseconds until it would be.
+     */
+    public long tryAcquire(String key, double permitsPerSecond, int burst) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                sweepAtMostOncePerSecond(now);
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(permitsPerSecond, burst, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Gives back a permit taken by {@link #tryAcquire}; a bucket swept in between has nothing to refund.
+     */
+    public void release(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        lastSweepNanos.set(now);
+
+        log.debug("Rate limit sweep removed {} idle buckets", before - buckets.size());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void sweepAtMostOncePerSecond(long now) {
+        long last = lastSweepNanos.get();
+        if (now - last >= 1_000_000_000L && lastSweepNanos.compareAndSet(last, now)) {
+            buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        }
+    }
+}
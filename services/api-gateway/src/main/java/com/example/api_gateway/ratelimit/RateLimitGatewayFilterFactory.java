@@ -0,0 +1,127 @@
+package com.example.api_gateway.ratelimit;
+
+import com.example.api_gateway.config.RateLimitProperties;
+import com.example.api_gateway.service.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Admits requests per route and client: authenticated requests are keyed by
+ * {@code X-Auth-Username}, anonymous ones by client address, read from {@code X-Forwarded-For}
+ * when {@code gateway.rate-limit.trusted-proxy-hops} proxies sit in front of the gateway. The
+ * in-memory bucket is always checked; routes with {@code global: true} are additionally checked
+ * against Redis when {@code gateway.rate-limit.redis-enabled} is set, and a request rejected there
+ * gets its local permit back.
+ */
+@Component
+public class RateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<RateLimitGatewayFilterFactory.Config> {
+    private final LocalRateLimiter localRateLimiter;
+
+    private final ObjectProvider<RedisRateLimiter> redisRateLimiter;
+
+    private final MeterRegistry meterRegistry;
+
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public RateLimitGatewayFilterFactory(LocalRateLimiter localRateLimiter, ObjectProvider<RedisRateLimiter> redisRateLimiter,
+                                         MeterRegistry meterRegistry, RateLimitProperties properties) {
+        super(Config.class);
+        this.localRateLimiter = localRateLimiter;
+        this.redisRateLimiter = redisRateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.remoteAddressResolver = properties.getTrustedProxyHops() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.getTrustedProxyHops())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> filter(exchange, chain, config);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "";
+        String key = routeId + ":" + clientKey(exchange);
+
+        long waitNanos = localRateLimiter.tryAcquire(key, config.getRequestsPerSecond(), config.getBurst());
+        if (waitNanos > 0) {
+            return reject(exchange, routeId, waitNanos);
+        }
+
+        RedisRateLimiter redis = config.isGlobal() ? redisRateLimiter.getIfAvailable() : null;
+        if (redis == null) {
+            count(routeId, "allowed");
+            return chain.filter(exchange);
+        }
+
+        return redis.tryAcquire(key, config.getGlobalRequestsPerSecond(), config.getGlobalBurst())
+                .flatMap(globalWaitNanos -> {
+                    if (globalWaitNanos > 0) {
+                        localRateLimiter.release(key);
+                        return reject(exchange, routeId, globalWaitNanos);
+                    }
+                    count(routeId, "allowed");
+                    return chain.filter(exchange);
+                });
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        String username = exchange.getRequest().getHeaders().getFirst(VerifiedToken.USERNAME_HEADER);
+        if (username != null && !username.isEmpty()) {
+            return "user:" + username;
+        }
+
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + (remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String routeId, long waitNanos) {
+        count(routeId, "rejected");
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+
+        String errorMessage = "{\"error\":\"Too many requests\",\"status\":" + HttpStatus.TOO_MANY_REQUESTS.value() + "}";
+        DataBuffer buffer = response.bufferFactory().wrap(errorMessage.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private void count(String routeId, String result) {
+        meterRegistry.counter("gateway.rate.limit.requests", "route", routeId, "result", result).increment();
+    }
+
+    @Data
+    public static class Config {
+        private double requestsPerSecond = 10;
+        private int burst = 20;
+        private boolean global = false;
+        private double globalRequestsPerSecond = 100;
+        private int globalBurst = 200;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api_gateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Cluster-wide limits shared by all gateway instances. The same GCRA state as {@link TokenBucket}
+ * is kept in Redis and updated atomically by a script using the Redis clock, so instance clock
+ * skew does not matter. Redis failures admit the request; the local limit still applies.
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.redis-enabled", havingValue = "true")
+@Slf4j
+public class RedisRateLimiter {
+    private static final RedisScript<Long> GCRA = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = interval * tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then tat = now end
+            local new_tat = tat + interval
+            local wait = new_tat - now - tolerance
+            if wait > 0 then return wait end
+            redis.call('SET', KEYS[1], new_tat, 'PX', math.ceil((new_tat - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public RedisRateLimiter(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Emits 0 when the request is admitted, otherwise the nanoseconds until it would be.
+     */
+    public Mono<Long> tryAcquire(String key, double permitsPerSecond, int burst) {
+        long intervalMicros = Math.max(1, (long) (1_000_000L / permitsPerSecond));
+
+        return redisTemplate.execute(GCRA, List.of("rate-limit:" + key),
+                        List.of(String.valueOf(intervalMicros), String.valueOf(Math.max(1, burst))))
+                .next()
+                .map(waitMicros -> waitMicros * 1_000L)
+                .onErrorResume(error -> {
+                    log.warn("Redis rate limit check failed, admitting request: {}", error.getMessage());
+                    return Mono.just(0L);
+                })
+                .defaultIfEmpty(0L);
+    }
+}
@@ -1,42 +1,113 @@
 package com.example.api_gateway.service;
 
+import com.example.api_gateway.config.JwtAuthProperties;
+import com.example.api_gateway.config.JwtKeyProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.security.Key;
+import java.time.Clock;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Optional;
-import java.util.function.Function;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class JwtService {
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String DEFAULT_KEY_ID = "default";
 
-    private SecretKey signingKey;
+    private final JwtKeyProperties jwtKeyProperties;
 
+    private final VerifiedTokenCache tokenCache;
+
+    private final Counter cacheHits;
+
+    private final Counter cacheMisses;
+
+    private final Timer verifyTimer;
+
+    private JwtParser parser;
+
+    public JwtService(JwtAuthProperties jwtAuthProperties, JwtKeyProperties jwtKeyProperties, MeterRegistry meterRegistry) {
+        this(jwtAuthProperties, jwtKeyProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    JwtService(JwtAuthProperties jwtAuthProperties, JwtKeyProperties jwtKeyProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.jwtKeyProperties = jwtKeyProperties;
+        this.tokenCache = new VerifiedTokenCache(jwtAuthProperties.getTokenCacheSize(), clock);
+        this.cacheHits = meterRegistry.counter("gateway.jwt.cache.requests", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("gateway.jwt.cache.requests", "result", "miss");
+        this.verifyTimer = meterRegistry.timer("gateway.jwt.verify");
+    }
+
+    /**
+     * Builds one key per key id so tokens signed with any key auth-service may rotate through
+     * verify. Tokens without a {@code kid} header predate key ids and use the {@code jwt.secret} key.
+     */
     @PostConstruct
     public void init() {
-        String encodedSecret = Base64.getEncoder().encodeToString(jwtSecret.getBytes());
-        signingKey = Keys.hmacShaKeyFor(encodedSecret.getBytes());
+        Map<String, String> secrets = new HashMap<>(jwtKeyProperties.getKeys());
+        if (jwtKeyProperties.getSecret() != null) {
+            secrets.putIfAbsent(DEFAULT_KEY_ID, jwtKeyProperties.getSecret());
+        }
+
+        Map<String, SecretKey> signingKeys = new HashMap<>();
+        secrets.forEach((keyId, secret) -> {
+            String encodedSecret = Base64.getEncoder().encodeToString(secret.getBytes());
+            signingKeys.put(keyId, Keys.hmacShaKeyFor(encodedSecret.getBytes()));
+        });
+
+        parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String keyId = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KEY_ID;
+                        SecretKey signingKey = signingKeys.get(keyId);
+                        if (signingKey == null) {
+                            throw new SignatureException("Unknown signing key id: " + keyId);
+                        }
+                        return signingKey;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Verifies the bearer token that starts at {@code offset} in the Authorization header. Tokens
+     * verified before are served from the cache until they expire.
+     */
+    public VerifiedToken authenticate(String authorization, int offset) {
+        VerifiedToken cached = tokenCache.get(authorization, offset);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        cacheMisses.increment();
+        String token = authorization.substring(offset);
+        long start = System.nanoTime();
+        try {
+            VerifiedToken verified = VerifiedToken.of(token, verifyToken(token));
+            tokenCache.put(verified);
+            return verified;
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     public Claims verifyToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             if (claims.getExpiration().before(new Date())) {
                 throw new ExpiredJwtException(null, claims, "Token has expired");
@@ -56,11 +127,7 @@ public Claims verifyToken(String token) {
 
     public String extractUsername(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             return claims.getIssuer();
         } catch (Exception e) {
@@ -0,0 +1,73 @@
+package com.example.api_gateway.service;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A token that passed signature verification, with its {@code X-Auth-*} header values resolved
+ * once so requests presenting the same token reuse them as they are.
+ */
+public record VerifiedToken(
+        String token,
+        int hash,
+        long expiresAtMillis,
+        String username,
+        String firstName,
+        String lastName,
+        String role,
+        String membership,
+        Map<String, List<String>> headers
+) {
+    public static final String USERNAME_HEADER = "X-Auth-Username";
+    public static final String FIRST_NAME_HEADER = "X-Auth-FirstName";
+    public static final String LAST_NAME_HEADER = "X-Auth-LastName";
+    public static final String ROLE_HEADER = "X-Auth-Role";
+    public static final String MEMBERSHIP_HEADER = "X-Auth-Membership";
+
+    public static final List<String> HEADER_NAMES =
+            List.of(USERNAME_HEADER, FIRST_NAME_HEADER, LAST_NAME_HEADER, ROLE_HEADER, MEMBERSHIP_HEADER);
+
+    public static VerifiedToken of(String token, Claims claims) {
+        String username = valueOrEmpty(claims.getIssuer());
+        String firstName = valueOrEmpty(claims.get("firstName", String.class));
+        String lastName = valueOrEmpty(claims.get("lastName", String.class));
+        String role = valueOrEmpty(claims.get("role", String.class));
+        String membership = valueOrEmpty(claims.get("membership", String.class));
+
+        return new VerifiedToken(
+                token,
+                VerifiedTokenCache.hash(token, 0),
+                claims.getExpiration().getTime(),
+                username,
+                firstName,
+                lastName,
+                role,
+                membership,
+                Map.of(
+                        USERNAME_HEADER, List.of(username),
+                        FIRST_NAME_HEADER, List.of(firstName),
+                        LAST_NAME_HEADER, List.of(lastName),
+                        ROLE_HEADER, List.of(role),
+                        MEMBERSHIP_HEADER, List.of(membership)
+                )
+        );
+    }
+
+    /**
+     * Replaces any client-supplied {@code X-Auth-*} values with the verified ones.
+     */
+    public void applyTo(HttpHeaders target) {
+        target.putAll(headers);
+    }
+
+    boolean matches(String value, int offset) {
+        return value.length() - offset == token.length() && value.regionMatches(offset, token, 0, token.length());
+    }
+
+    private static String valueOrEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api_gateway.service;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, direct-mapped cache of verified tokens. A token's hash picks its slot and a newer token
+ * landing on the same slot replaces the older one. The slot is only trusted when the stored token
+ * equals the presented one, so a hash collision costs a verification, never a wrong identity.
+ * Lookups read the token straight out of the Authorization header and allocate nothing.
+ */
+public class VerifiedTokenCache {
+    private final AtomicReferenceArray<VerifiedToken> slots;
+    private final int mask;
+    private final Clock clock;
+
+    public VerifiedTokenCache(int capacity, Clock clock) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached, unexpired entry for the token starting at {@code offset} in
+     * {@code value}, or null.
+     */
+    public VerifiedToken get(String value, int offset) {
+        int hash = hash(value, offset);
+        VerifiedToken entry = slots.get(hash & mask);
+
+        if (entry == null || entry.hash() != hash || !entry.matches(value, offset)) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.millis()) {
+            slots.compareAndSet(hash & mask, entry, null);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(VerifiedToken token) {
+        slots.set(token.hash() & mask, token);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    static int hash(String value, int offset) {
+        int hash = 0;
+        for (int i = offset; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
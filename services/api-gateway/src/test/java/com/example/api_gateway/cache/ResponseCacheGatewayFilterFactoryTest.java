@@ -0,0 +1,184 @@
+package com.example.api_gateway.cache;
+
+import com.example.api_gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheGatewayFilterFactoryTest {
+    private final Route route = Route.async()
+            .id("tv-shows-catalog")
+            .uri("http://localhost:8083")
+            .predicate(exchange -> true)
+            .build();
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+
+    private final MutableClock clock = new MutableClock();
+
+    private GatewayFilter filter;
+
+    private final GatewayFilterChain chain = exchange -> {
+        downstreamCalls.incrementAndGet();
+        return respond(exchange, "top rated for " + exchange.getRequest().getHeaders().getFirst("X-Auth-Username"));
+    };
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResponseCacheGatewayFilterFactory factory = new ResponseCacheGatewayFilterFactory(
+                new ResponseCacheStore(properties, meterRegistry), properties, WebClient.create(), meterRegistry, clock);
+
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofSeconds(30));
+        config.setStaleWhileRevalidate(Duration.ofSeconds(60));
+        config.setKeyHeaders(List.of("X-Auth-Username"));
+        filter = factory.apply(config);
+    }
+
+    private static Mono<Void> respond(ServerWebExchange exchange, String body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private MockServerWebExchange exchange(String username) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/tv-shows/top-rated?page=0");
+        if (username != null) {
+            request.header("X-Auth-Username", username);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    @Test
+    void filter_ShouldServeRepeatedReadsFromCache() {
+        MockServerWebExchange first = exchange(null);
+        MockServerWebExchange second = exchange(null);
+
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+        assertEquals("top rated for null", second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_ShouldKeySeparatelyOnConfiguredHeaders() {
+        filter.filter(exchange("ada"), chain).block();
+        MockServerWebExchange other = exchange("grace");
+        filter.filter(other, chain).block();
+
+        assertEquals(2, downstreamCalls.get());
+        assertEquals("top rated for grace", other.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_ShouldServeStaleEntryWithinRevalidationWindow() {
+        filter.filter(exchange(null), chain).block();
+        clock.advance(Duration.ofSeconds(45));
+
+        MockServerWebExchange stale = exchange(null);
+        filter.filter(stale, chain).block();
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals("STALE", stale.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+    }
+
+    @Test
+    void filter_ShouldGoDownstreamOnceStaleWindowHasPassed() {
+        filter.filter(exchange(null), chain).block();
+        clock.advance(Duration.ofSeconds(120));
+
+        filter.filter(exchange(null), chain).block();
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void filter_ShouldCollapseConcurrentMisses() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain slowChain = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return release.asMono().then(respond(exchange, "collapsed"));
+        };
+
+        MockServerWebExchange leader = exchange(null);
+        MockServerWebExchange follower = exchange(null);
+        Mono<Void> leaderDone = filter.filter(leader, slowChain).cache();
+        Mono<Void> followerDone = filter.filter(follower, slowChain).cache();
+        leaderDone.subscribe();
+        followerDone.subscribe();
+
+        release.tryEmitEmpty();
+        leaderDone.block(Duration.ofSeconds(5));
+        followerDone.block(Duration.ofSeconds(5));
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals("collapsed", follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_ShouldNotCacheErrorResponses() {
+        GatewayFilterChain failingChain = exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return exchange.getResponse().setComplete();
+        };
+
+        filter.filter(exchange(null), failingChain).block();
+        filter.filter(exchange(null), failingChain).block();
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.api_gateway.cache;
+
+import com.example.api_gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheStoreTest {
+
+    private ResponseCacheStore store(int capacity) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setCapacity(DataSize.ofBytes(capacity));
+        return new ResponseCacheStore(properties, new SimpleMeterRegistry());
+    }
+
+    private CachedResponse put(ResponseCacheStore store, String key, String body) {
+        return store.put(key, HttpStatus.OK, new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8), 0, 1000, 2000);
+    }
+
+    @Test
+    void read_ShouldReturnStoredBody() {
+        ResponseCacheStore store = store(64);
+        CachedResponse response = put(store, "a", "hello");
+
+        assertSame(response, store.get("a"));
+        assertEquals("hello", new String(store.read(response), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void put_ShouldEvictOldestEntriesOnceTheRingWrapsOverThem() {
+        ResponseCacheStore store = store(10);
+        CachedResponse first = put(store, "a", "aaaa");
+        CachedResponse second = put(store, "b", "bbbb");
+        CachedResponse third = put(store, "c", "cccc");
+
+        assertNull(store.get("a"));
+        assertNull(store.read(first));
+        assertEquals("bbbb", new String(store.read(second), StandardCharsets.UTF_8));
+        assertEquals("cccc", new String(store.read(third), StandardCharsets.UTF_8));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void put_ShouldKeepReplacedKeyPointingAtNewestEntry() {
+        ResponseCacheStore store = store(64);
+        put(store, "a", "old");
+        CachedResponse newer = put(store, "a", "new");
+
+        assertSame(newer, store.get("a"));
+        assertEquals("new", new String(store.read(newer), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void put_ShouldRejectBodiesLargerThanTheStore() {
+        ResponseCacheStore store = store(4);
+
+        assertNull(put(store, "a", "too large"));
+        assertNull(store.get("a"));
+    }
+}
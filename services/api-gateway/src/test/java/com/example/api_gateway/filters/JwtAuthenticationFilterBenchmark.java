@@ -0,0 +1,100 @@
+package com.example.api_gateway.filters;
+
+import com.example.api_gateway.config.JwtAuthProperties;
+import com.example.api_gateway.config.JwtKeyProperties;
+import com.example.api_gateway.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the auth filter's own cost per request, with a chain that completes immediately. GC
+ * allocation per request is reported by the gc profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "a3f9b1c8d4e7f0a3b9c2d1e8f6a7b4c5d3e2f1a9b8c7d6e5f4a3b2c1d0e9f8a7";
+    private static final List<String> EXCLUDED_PATHS = List.of("/api/auth/login", "/api/auth/register", "/api/auth/refresh");
+
+    private JwtAuthenticationFilter filter;
+    private RoutePolicyTable routePolicyTable;
+    private String authorization;
+
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtAuthProperties properties = new JwtAuthProperties();
+        properties.setExcludedPaths(EXCLUDED_PATHS);
+
+        JwtKeyProperties keyProperties = new JwtKeyProperties();
+        keyProperties.setSecret(SECRET);
+
+        JwtService jwtService = new JwtService(properties, keyProperties, new SimpleMeterRegistry());
+        jwtService.init();
+
+        routePolicyTable = new RoutePolicyTable(properties);
+        filter = new JwtAuthenticationFilter(jwtService, properties, routePolicyTable);
+
+        authorization = "Bearer " + Jwts.builder()
+                .issuer("ada")
+                .claim("firstName", "Ada")
+                .claim("role", "USER")
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(Base64.getEncoder().encodeToString(SECRET.getBytes()).getBytes()))
+                .compact();
+    }
+
+    @Benchmark
+    public void publicPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login"));
+        filter.filter(exchange, chain).block();
+    }
+
+    @Benchmark
+    public void authenticatedPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/tv-shows/42")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+        filter.filter(exchange, chain).block();
+    }
+
+    @Benchmark
+    public void excludedPathStream(Blackhole blackhole) {
+        String path = "/api/tv-shows/42";
+        blackhole.consume(EXCLUDED_PATHS.stream().anyMatch(path::startsWith));
+    }
+
+    @Benchmark
+    public void excludedPathTrie(Blackhole blackhole) {
+        blackhole.consume(routePolicyTable.match("/api/tv-shows/42"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.api_gateway.filters;
+
+import com.example.api_gateway.config.JwtAuthProperties;
+import com.example.api_gateway.config.JwtKeyProperties;
+import com.example.api_gateway.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+    private static final String SECRET = "a3f9b1c8d4e7f0a3b9c2d1e8f6a7b4c5d3e2f1a9b8c7d6e5f4a3b2c1d0e9f8a7";
+
+    private JwtAuthenticationFilter filter;
+
+    private final AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange.getRequest());
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        JwtAuthProperties properties = new JwtAuthProperties();
+        properties.setExcludedPaths(List.of("/api/auth/login"));
+        properties.setOptionalPaths(List.of("/api/tv-shows/top-rated"));
+
+        JwtKeyProperties keyProperties = new JwtKeyProperties();
+        keyProperties.setSecret(SECRET);
+
+        JwtService jwtService = new JwtService(properties, keyProperties, new SimpleMeterRegistry());
+        jwtService.init();
+
+        filter = new JwtAuthenticationFilter(jwtService, properties, new RoutePolicyTable(properties));
+    }
+
+    private String bearer(String username) {
+        return "Bearer " + Jwts.builder()
+                .issuer(username)
+                .claim("role", "USER")
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(Base64.getEncoder().encodeToString(SECRET.getBytes()).getBytes()))
+                .compact();
+    }
+
+    @Test
+    void filter_ShouldInjectVerifiedHeadersOverClientValues() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, bearer("ada"))
+                .header("X-Auth-Username", "mallory"));
+
+        filter.filter(exchange, chain).block();
+
+        HttpHeaders headers = forwarded.get().getHeaders();
+        assertEquals(List.of("ada"), headers.get("X-Auth-Username"));
+        assertEquals(List.of("USER"), headers.get("X-Auth-Role"));
+        assertEquals(List.of(""), headers.get("X-Auth-Membership"));
+    }
+
+    @Test
+    void filter_ShouldStripAuthHeadersOnPublicPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login")
+                .header("X-Auth-Username", "mallory"));
+
+        filter.filter(exchange, chain).block();
+
+        assertFalse(forwarded.get().getHeaders().containsKey("X-Auth-Username"));
+    }
+
+    @Test
+    void filter_ShouldPassAnonymousRequestsOnOptionalPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/tv-shows/top-rated"));
+
+        filter.filter(exchange, chain).block();
+
+        assertNotNull(forwarded.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_ShouldRejectMissingTokenOnProtectedPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/me"));
+
+        filter.filter(exchange, chain).block();
+
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+}
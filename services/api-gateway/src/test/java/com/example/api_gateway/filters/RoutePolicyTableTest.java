@@ -0,0 +1,58 @@
+package com.example.api_gateway.filters;
+
+import com.example.api_gateway.config.JwtAuthProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePolicyTableTest {
+
+    private RoutePolicyTable table(List<String> excludedPaths, List<String> optionalPaths) {
+        JwtAuthProperties properties = new JwtAuthProperties();
+        properties.setExcludedPaths(excludedPaths);
+        properties.setOptionalPaths(optionalPaths);
+        return new RoutePolicyTable(properties);
+    }
+
+    private Route route(String id, Map<String, Object> metadata) {
+        return Route.async()
+                .id(id)
+                .uri("http://localhost:8083")
+                .predicate(exchange -> true)
+                .metadata(metadata)
+                .build();
+    }
+
+    @Test
+    void policyFor_ShouldMatchExcludedPathsByPrefix() {
+        RoutePolicyTable table = table(List.of("/api/auth/login", "/api/auth/register"), List.of());
+
+        assertEquals(RoutePolicy.PUBLIC, table.policyFor("/api/auth/login", null));
+        assertEquals(RoutePolicy.PUBLIC, table.policyFor("/api/auth/login/extra", null));
+        assertEquals(RoutePolicy.PUBLIC, table.policyFor("/api/auth/register", null));
+        assertEquals(RoutePolicy.REQUIRED, table.policyFor("/api/auth/log", null));
+        assertEquals(RoutePolicy.REQUIRED, table.policyFor("/api/auth/refresh", null));
+        assertEquals(RoutePolicy.REQUIRED, table.policyFor("", null));
+    }
+
+    @Test
+    void policyFor_ShouldPreferLongestMatchingPrefix() {
+        RoutePolicyTable table = table(List.of("/api/tv-shows/top-rated"), List.of("/api/tv-shows"));
+
+        assertEquals(RoutePolicy.PUBLIC, table.policyFor("/api/tv-shows/top-rated", null));
+        assertEquals(RoutePolicy.OPTIONAL, table.policyFor("/api/tv-shows/42", null));
+    }
+
+    @Test
+    void policyFor_ShouldFallBackToRouteMetadata() {
+        RoutePolicyTable table = table(List.of("/api/auth/login"), List.of());
+
+        assertEquals(RoutePolicy.OPTIONAL, table.policyFor("/api/tv-shows", route("tv-shows-service", Map.of("auth", "optional"))));
+        assertEquals(RoutePolicy.REQUIRED, table.policyFor("/api/users/me", route("user-service", Map.of())));
+        assertEquals(RoutePolicy.PUBLIC, table.policyFor("/api/auth/login", route("auth-service", Map.of("auth", "required"))));
+    }
+}
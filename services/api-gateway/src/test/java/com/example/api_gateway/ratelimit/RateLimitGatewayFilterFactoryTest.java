@@ -0,0 +1,149 @@
+package com.example.api_gateway.ratelimit;
+
+import com.example.api_gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitGatewayFilterFactoryTest {
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private final RedisRateLimiter redisRateLimiter = mock(RedisRateLimiter.class);
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = filter(new RateLimitProperties(), false);
+    }
+
+    private GatewayFilter filter(RateLimitProperties properties, boolean global) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LocalRateLimiter localRateLimiter = new LocalRateLimiter(properties, meterRegistry, now::get);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("redisRateLimiter", redisRateLimiter);
+        RateLimitGatewayFilterFactory factory = new RateLimitGatewayFilterFactory(
+                localRateLimiter, beanFactory.getBeanProvider(RedisRateLimiter.class), meterRegistry, properties);
+
+        RateLimitGatewayFilterFactory.Config config = new RateLimitGatewayFilterFactory.Config();
+        config.setRequestsPerSecond(1);
+        config.setBurst(2);
+        config.setGlobal(global);
+        return factory.apply(config);
+    }
+
+    private MockServerWebExchange exchange(String username, String address) {
+        return exchange(username, address, null);
+    }
+
+    private MockServerWebExchange exchange(String username, String address, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/review")
+                .remoteAddress(new InetSocketAddress(address, 40000));
+        if (username != null) {
+            request.header("X-Auth-Username", username);
+        }
+        if (forwardedFor != null) {
+            request.header("X-Forwarded-For", forwardedFor);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void filter_ShouldRejectWithRetryAfterOnceBurstIsSpent() {
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        MockServerWebExchange rejected = exchange("ada", "10.0.0.1");
+        filter.filter(rejected, chain).block();
+
+        assertEquals(2, forwarded.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void filter_ShouldKeyAuthenticatedRequestsByUsername() {
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.2"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.3"), chain).block();
+        filter.filter(exchange("grace", "10.0.0.1"), chain).block();
+
+        assertEquals(3, forwarded.get());
+    }
+
+    @Test
+    void filter_ShouldKeyAnonymousRequestsByClientAddress() {
+        filter.filter(exchange(null, "10.0.0.1"), chain).block();
+        filter.filter(exchange(null, "10.0.0.1"), chain).block();
+        filter.filter(exchange(null, "10.0.0.1"), chain).block();
+        filter.filter(exchange(null, "10.0.0.2"), chain).block();
+
+        assertEquals(3, forwarded.get());
+    }
+
+    @Test
+    void filter_ShouldAdmitAgainAfterRefill() {
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        now.addAndGet(1_000_000_000L);
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+
+        assertEquals(3, forwarded.get());
+    }
+
+    @Test
+    void filter_ShouldKeyAnonymousRequestsByForwardedAddressFromTrustedProxy() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTrustedProxyHops(1);
+        filter = filter(properties, false);
+
+        filter.filter(exchange(null, "10.0.0.1", "203.0.113.7"), chain).block();
+        filter.filter(exchange(null, "10.0.0.1", "203.0.113.7"), chain).block();
+        filter.filter(exchange(null, "10.0.0.1", "203.0.113.7"), chain).block();
+        filter.filter(exchange(null, "10.0.0.1", "198.51.100.1, 203.0.113.8"), chain).block();
+
+        assertEquals(3, forwarded.get());
+    }
+
+    @Test
+    void filter_ShouldRefundLocalPermitWhenGlobalLimitRejects() {
+        when(redisRateLimiter.tryAcquire(anyString(), anyDouble(), anyInt()))
+                .thenReturn(Mono.just(1_000_000_000L), Mono.just(1_000_000_000L), Mono.just(0L));
+        filter = filter(new RateLimitProperties(), true);
+
+        MockServerWebExchange rejected = exchange("ada", "10.0.0.1");
+        filter.filter(rejected, chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+        filter.filter(exchange("ada", "10.0.0.1"), chain).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals(2, forwarded.get());
+    }
+}
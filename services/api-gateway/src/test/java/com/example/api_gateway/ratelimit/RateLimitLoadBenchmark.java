@@ -0,0 +1,56 @@
+package com.example.api_gateway.ratelimit;
+
+import com.example.api_gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the local limiter: many threads admitting requests either against one hot key
+ * (worst-case CAS contention) or spread over 10k users. Reports admission checks per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class RateLimitLoadBenchmark {
+    private static final int USERS = 10_000;
+
+    private LocalRateLimiter limiter;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new LocalRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry());
+        keys = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            keys[i] = "tv-shows-service:user:user-" + i;
+        }
+    }
+
+    @Benchmark
+    public void hotKey(Blackhole blackhole) {
+        blackhole.consume(limiter.tryAcquire("tv-shows-service:user:hot", 1_000, 2_000));
+    }
+
+    @Benchmark
+    public void manyUsers(Blackhole blackhole) {
+        String key = keys[ThreadLocalRandom.current().nextInt(USERS)];
+        blackhole.consume(limiter.tryAcquire(key, 20, 40));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimitLoadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.api_gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenReportWait() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND / 10, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(SECOND / 20) > 0);
+        assertEquals(0, bucket.tryAcquire(SECOND / 10));
+    }
+
+    @Test
+    void release_ShouldGiveBackOnePermit() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        bucket.release();
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void isIdle_ShouldBeTrueOnceFullyRefilled() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        bucket.tryAcquire(0);
+
+        assertFalse(bucket.isIdle(0));
+        assertTrue(bucket.isIdle(SECOND / 10));
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverOverAdmitUnderContention() throws InterruptedException {
+        double permitsPerSecond = 10_000;
+        int burst = 100;
+        int threads = 16;
+        long start = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(permitsPerSecond, burst, start);
+        LongAdder admitted = new LongAdder();
+        LongAdder attempts = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(threads);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                ready.countDown();
+                long deadline = start + SECOND / 2;
+                for (long now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+                    attempts.increment();
+                    if (bucket.tryAcquire(now) == 0) {
+                        admitted.increment();
+                    }
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / (double) SECOND;
+        assertTrue(attempts.sum() > admitted.sum());
+        assertTrue(admitted.sum() > 0);
+        assertTrue(admitted.sum() <= burst + permitsPerSecond * elapsedSeconds + 1,
+                "Admitted " + admitted.sum() + " of " + attempts.sum() + " in " + elapsedSeconds + "s");
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.api_gateway.service;
+
+import com.example.api_gateway.config.JwtAuthProperties;
+import com.example.api_gateway.config.JwtKeyProperties;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET = "a3f9b1c8d4e7f0a3b9c2d1e8f6a7b4c5d3e2f1a9b8c7d6e5f4a3b2c1d0e9f8a7";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String NEXT_SECRET = "5d1c0e9f8a7b6c5d4e3f2a1b0c9d8e7f6a5b4c3d2e1f0a9b8c7d6e5f4a3b2c1d";
+
+    private final SecretKey signingKey = Keys.hmacShaKeyFor(Base64.getEncoder().encodeToString(SECRET.getBytes()).getBytes());
+
+    private final SecretKey nextSigningKey = Keys.hmacShaKeyFor(Base64.getEncoder().encodeToString(NEXT_SECRET.getBytes()).getBytes());
+
+    private final JwtKeyProperties keyProperties = new JwtKeyProperties();
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        keyProperties.setSecret(SECRET);
+        keyProperties.setKeys(Map.of("next", NEXT_SECRET));
+    }
+
+    private JwtService jwtService(Clock clock) {
+        JwtService jwtService = new JwtService(new JwtAuthProperties(), keyProperties, meterRegistry, clock);
+        jwtService.init();
+        return jwtService;
+    }
+
+    private String token(String username, Duration ttl) {
+        return Jwts.builder()
+                .issuer(username)
+                .claim("firstName", "Ada")
+                .claim("role", "USER")
+                .expiration(Date.from(Instant.now().plus(ttl)))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    private String token(String username, String keyId, SecretKey key) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(username)
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(key)
+                .compact();
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.counter("gateway.jwt.cache.requests", "result", result).count();
+    }
+
+    @Test
+    void authenticate_ShouldVerifyOnceAndServeRepeatsFromCache() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+        String authorization = BEARER_PREFIX + token("ada", Duration.ofHours(1));
+
+        VerifiedToken first = jwtService.authenticate(authorization, BEARER_PREFIX.length());
+        VerifiedToken second = jwtService.authenticate(new String(authorization), BEARER_PREFIX.length());
+
+        assertSame(first, second);
+        assertEquals("ada", first.username());
+        assertEquals("Ada", first.firstName());
+        assertEquals("", first.lastName());
+        assertEquals("USER", first.role());
+        assertEquals(1, cacheRequests("miss"));
+        assertEquals(1, cacheRequests("hit"));
+        assertEquals(1, meterRegistry.timer("gateway.jwt.verify").count());
+    }
+
+    @Test
+    void authenticate_ShouldVerifyAgainOnceCachedTokenExpires() {
+        JwtService jwtService = jwtService(Clock.fixed(Instant.now().plus(Duration.ofHours(2)), ZoneOffset.UTC));
+        String authorization = BEARER_PREFIX + token("ada", Duration.ofHours(1));
+
+        jwtService.authenticate(authorization, BEARER_PREFIX.length());
+        jwtService.authenticate(authorization, BEARER_PREFIX.length());
+
+        assertEquals(2, cacheRequests("miss"));
+        assertEquals(0, cacheRequests("hit"));
+    }
+
+    @Test
+    void authenticate_ShouldRejectTamperedTokenEvenWhenOriginalIsCached() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+        String authorization = BEARER_PREFIX + token("ada", Duration.ofHours(1));
+        jwtService.authenticate(authorization, BEARER_PREFIX.length());
+
+        String tampered = authorization.substring(0, authorization.length() - 2) + "xx";
+
+        assertThrows(JwtException.class, () -> jwtService.authenticate(tampered, BEARER_PREFIX.length()));
+    }
+
+    @Test
+    void authenticate_ShouldRejectExpiredToken() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+        String authorization = BEARER_PREFIX + token("ada", Duration.ofMinutes(-1));
+
+        assertThrows(JwtException.class, () -> jwtService.authenticate(authorization, BEARER_PREFIX.length()));
+    }
+
+    @Test
+    void authenticate_ShouldVerifyWithKeyNamedByKidHeader() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+
+        assertEquals("ada", jwtService.authenticate(BEARER_PREFIX + token("ada", "next", nextSigningKey), BEARER_PREFIX.length()).username());
+        assertEquals("bob", jwtService.authenticate(BEARER_PREFIX + token("bob", "default", signingKey), BEARER_PREFIX.length()).username());
+    }
+
+    @Test
+    void authenticate_ShouldRejectUnknownOrMismatchedKid() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+
+        assertThrows(JwtException.class, () -> jwtService.authenticate(BEARER_PREFIX + token("ada", "retired", signingKey), BEARER_PREFIX.length()));
+        assertThrows(JwtException.class, () -> jwtService.authenticate(BEARER_PREFIX + token("ada", "next", signingKey), BEARER_PREFIX.length()));
+    }
+
+    @Test
+    void authenticate_ShouldNotAllocateOnCacheHit() {
+        JwtService jwtService = jwtService(Clock.systemUTC());
+        String authorization = BEARER_PREFIX + token("ada", Duration.ofHours(1));
+        jwtService.authenticate(authorization, BEARER_PREFIX.length());
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 20_000; i++) {
+            jwtService.authenticate(authorization, BEARER_PREFIX.length());
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            jwtService.authenticate(authorization, BEARER_PREFIX.length());
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Leaves room for the measurement itself, far below one object per lookup.
+        assertTrue(allocated < 10_000, "Allocated " + allocated + " bytes over 100k cache hits");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.tvshows_auth.config;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing keys by key id. {@link Algorithm} and {@link JWTVerifier} are immutable and thread-safe,
+ * so one of each is built per key at startup and shared by every request.
+ *
+ * <p>Tokens are signed with the active key and carry its id in the {@code kid} header. To rotate,
+ * add the new key under {@code jwt.keys}, point {@code jwt.active-key-id} at it, and remove the old
+ * key once the refresh token lifetime has passed. Tokens without a {@code kid} were issued before
+ * key ids existed and are checked against the {@code jwt.secret} key.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+    static final String DEFAULT_KEY_ID = "default";
+
+    private final String activeKeyId;
+
+    private final Algorithm signingAlgorithm;
+
+    private final Map<String, JWTVerifier> verifiers;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        Map<String, String> secrets = new LinkedHashMap<>(jwtProperties.getKeys());
+        if (jwtProperties.getSecret() != null) {
+            secrets.putIfAbsent(DEFAULT_KEY_ID, jwtProperties.getSecret());
+        }
+
+        Map<String, Algorithm> algorithms = new HashMap<>();
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        secrets.forEach((keyId, secret) -> {
+            Algorithm algorithm = Algorithm.HMAC256(Base64.getEncoder().encodeToString(secret.getBytes()));
+            algorithms.put(keyId, algorithm);
+            verifiers.put(keyId, JWT.require(algorithm).build());
+        });
+
+        this.activeKeyId = jwtProperties.getActiveKeyId();
+        this.signingAlgorithm = algorithms.get(activeKeyId);
+        if (signingAlgorithm == null) {
+            throw new IllegalStateException("Active JWT key id '" + activeKeyId + "' has no configured secret");
+        }
+        this.verifiers = Map.copyOf(verifiers);
+
+        log.info("Signing tokens with key '{}', accepting keys {}", activeKeyId, this.verifiers.keySet());
+    }
+
+    public String sign(JWTCreator.Builder builder) {
+        return builder.withKeyId(activeKeyId).sign(signingAlgorithm);
+    }
+
+    public DecodedJWT verify(String token) {
+        DecodedJWT jwt = JWT.decode(token);
+        String keyId = jwt.getKeyId() != null ? jwt.getKeyId() : DEFAULT_KEY_ID;
+
+        JWTVerifier verifier = verifiers.get(keyId);
+        if (verifier == null) {
+            throw new JWTVerificationException("Unknown signing key id: " + keyId);
+        }
+
+        return verifier.verify(jwt);
+    }
+}
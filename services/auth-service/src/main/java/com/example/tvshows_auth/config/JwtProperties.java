@@ -4,10 +4,16 @@
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "jwt")
 @Component
 @Data
 public class JwtProperties {
+    private String secret;
+    private String activeKeyId = JwtKeyRing.DEFAULT_KEY_ID;
+    private Map<String, String> keys = new LinkedHashMap<>();
     private long accessTokenExpiration = 1800; // 30 minutes in seconds
     private long refreshTokenExpiration = 604800; // 7 days in seconds
     private Claims claims = new Claims();
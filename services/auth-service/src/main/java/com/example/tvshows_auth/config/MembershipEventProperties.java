@@ -0,0 +1,13 @@
+package com.example.tvshows_auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "membership-events")
+@Component
+@Data
+public class MembershipEventProperties {
+    private long relayIntervalMs = 1000;
+    private int batchSize = 100;
+}
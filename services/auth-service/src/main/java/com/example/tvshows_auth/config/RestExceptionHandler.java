@@ -2,6 +2,7 @@
 
 import com.example.tvshows_auth.dto.ErrorDto;
 import com.example.tvshows_auth.exceptions.AppException;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,4 +17,11 @@ public ResponseEntity<ErrorDto> handleAppException(AppException e) {
         return ResponseEntity.status(e.getStatus())
                 .body(new ErrorDto(e.getMessage()));
     }
+
+    @ExceptionHandler(value = { DownstreamUnavailableException.class })
+    @ResponseBody
+    public ResponseEntity<ErrorDto> handleDownstreamUnavailableException(DownstreamUnavailableException e) {
+        return ResponseEntity.status(e.getHttpStatus())
+                .body(new ErrorDto(e.getMessage()));
+    }
 }
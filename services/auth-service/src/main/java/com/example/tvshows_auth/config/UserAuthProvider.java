@@ -1,18 +1,13 @@
 package com.example.tvshows_auth.config;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.tvshows_auth.dto.UserDto;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.UUID;
@@ -22,16 +17,11 @@
 public class UserAuthProvider {
     private final JwtProperties jwtProperties;
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final JwtKeyRing keyRing;
 
-    public UserAuthProvider(JwtProperties jwtProperties) {
+    public UserAuthProvider(JwtProperties jwtProperties, JwtKeyRing keyRing) {
         this.jwtProperties = jwtProperties;
-    }
-
-    @PostConstruct
-    protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        this.keyRing = keyRing;
     }
 
     public String createToken(UserDto user) {
@@ -39,15 +29,14 @@ public String createToken(UserDto user) {
         Date validity = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration() * 1000);
 
         JwtProperties.Claims claims = jwtProperties.getClaims();
-        return JWT.create()
+        return keyRing.sign(JWT.create()
                 .withIssuer(user.getUsername())
                 .withIssuedAt(now)
                 .withExpiresAt(validity)
                 .withClaim(claims.getFirstName(), user.getFirstName())
                 .withClaim(claims.getLastName(), user.getLastName())
                 .withClaim(claims.getRole(), user.getRole())
-                .withClaim(claims.getMembership(), user.getMembership())
-                .sign(Algorithm.HMAC256(secretKey));
+                .withClaim(claims.getMembership(), user.getMembership()));
     }
 
     public String createRefreshToken(UserDto user) {
@@ -55,20 +44,17 @@ public String createRefreshToken(UserDto user) {
         Date validity = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration() * 1000);
 
         JwtProperties.Claims claims = jwtProperties.getClaims();
-        return JWT.create()
+        return keyRing.sign(JWT.create()
                 .withIssuer(user.getUsername())
                 .withIssuedAt(now)
                 .withExpiresAt(validity)
                 .withClaim(claims.getTokenId(), UUID.randomUUID().toString())
-                .withClaim(claims.getType(), claims.getRefreshType())
-                .sign(Algorithm.HMAC256(secretKey));
+                .withClaim(claims.getType(), claims.getRefreshType()));
     }
 
     public boolean validateRefreshToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm).build();
-            DecodedJWT jwt = verifier.verify(token);
+            DecodedJWT jwt = keyRing.verify(token);
             
             return jwtProperties.getClaims().getRefreshType().equals(jwt.getClaim(jwtProperties.getClaims().getType()).asString());
         } catch (Exception e) {
@@ -79,9 +65,7 @@ public boolean validateRefreshToken(String token) {
 
     public String getUsernameFromRefreshToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm).build();
-            DecodedJWT jwt = verifier.verify(token);
+            DecodedJWT jwt = keyRing.verify(token);
             
             return jwt.getIssuer();
         } catch (Exception e) {
@@ -91,10 +75,7 @@ public String getUsernameFromRefreshToken(String token) {
     }
 
     public UsernamePasswordAuthenticationToken getToken(String token) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        JWTVerifier verifier = JWT.require(algorithm).build();
-
-        DecodedJWT jwt = verifier.verify(token);
+        DecodedJWT jwt = keyRing.verify(token);
 
         UserDto user = new UserDto();
         user.setUsername(jwt.getIssuer());
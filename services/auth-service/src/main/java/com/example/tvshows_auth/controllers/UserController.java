@@ -23,9 +23,9 @@ public ResponseEntity<List<UserDto>> getAllUsers(@RequestHeader(name = "X-Auth-R
     }
 
     @PostMapping("/{username}/upgrade")
-    public ResponseEntity<Object> upgradeMembership(@PathVariable String username) {
-        userService.upgradeMembership(username);
+    public ResponseEntity<UserDto> upgradeMembership(@PathVariable String username) {
+        UserDto userDto = userService.upgradeMembership(username);
 
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(userDto);
     }
 }
@@ -0,0 +1,20 @@
+package com.example.tvshows_auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MembershipChangedEventDto {
+    private UUID eventId;
+    private String username;
+    private String membership;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,43 @@
+package com.example.tvshows_auth.models;
+
+import com.example.tvshows_auth.enums.Membership;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Data
+@Builder
+@Table(name = "membership_outbox")
+public class MembershipOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, name = "event_id")
+    private UUID eventId;
+
+    @Column(nullable = false, name = "username")
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "membership")
+    private Membership membership;
+
+    @Column(nullable = false, name = "occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false, name = "attempts")
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,14 @@
+package com.example.tvshows_auth.repositories;
+
+import com.example.tvshows_auth.models.MembershipOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MembershipOutboxRepository extends JpaRepository<MembershipOutboxEvent, Long> {
+
+    List<MembershipOutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+}
@@ -2,12 +2,12 @@
 
 import com.example.tvshows_auth.config.UserAuthProvider;
 import com.example.tvshows_auth.dto.*;
-import com.example.tvshows_auth.enums.Membership;
 import com.example.tvshows_auth.models.User;
 import com.example.tvshows_auth.exceptions.AppException;
 import com.example.tvshows_auth.exceptions.UnsupportedVersionException;
 import com.example.tvshows_auth.mappers.UserMapper;
 import com.example.tvshows_auth.repositories.UserRepository;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -75,7 +75,13 @@ private UserDto registerV1(SignUpDto signUpDto) {
 
         userDto.setToken(userAuthProvider.createToken(userDto));
 
-        userService.createUserProfile(signUpDto, userDto);
+        try {
+            userService.createUserProfile(signUpDto, userDto);
+        } catch (DownstreamUnavailableException e) {
+            // Without a profile the account is unusable, so undo it and let the client retry later
+            userRepository.delete(savedUser);
+            throw e;
+        }
 
         return userDto;
     }
@@ -99,9 +105,8 @@ private LoginUserDto createLoginUserDto(User user, UserDto userDto) {
         loginUserDto.setRefreshToken(refreshToken);
         loginUserDto.setRole(user.getRole());
 
-        // Get membership from user service to ensure consistency
-        UserProfileDto userProfileDto = userService.getUserProfile(user.getUsername(), token);
-        loginUserDto.setMembership(Membership.valueOf(userProfileDto.getMemberType()));
+        // Membership is owned here and pushed to user-service through the outbox, so no remote lookup is needed
+        loginUserDto.setMembership(user.getMembership());
 
         return loginUserDto;
     }
@@ -0,0 +1,137 @@
+package com.example.tvshows_auth.services;
+
+import com.example.tvshows_auth.config.MembershipEventProperties;
+import com.example.tvshows_auth.dto.MembershipChangedEventDto;
+import com.example.tvshows_auth.models.MembershipOutboxEvent;
+import com.example.tvshows_auth.repositories.MembershipOutboxRepository;
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers membership changes recorded in the outbox to user-service, oldest first. A failed
+ * delivery stops the batch so events for the same user are never applied out of order; it is
+ * retried on the next run. Delivery is at-least-once, so user-service applies events idempotently.
+ */
+@Component
+@Slf4j
+public class MembershipEventRelay {
+    private static final String USER_SERVICE = "user-service";
+
+    @Value("${users-service.api.url}")
+    private String usersServiceUrl;
+
+    private final WebClient webClient;
+
+    private final MembershipOutboxRepository membershipOutboxRepository;
+
+    private final MembershipEventProperties properties;
+
+    private final DownstreamGuard downstreamGuard;
+
+    private final Clock clock;
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    public MembershipEventRelay(
+            WebClient webClient,
+            MembershipOutboxRepository membershipOutboxRepository,
+            MembershipEventProperties properties,
+            DownstreamGuard downstreamGuard
+    ) {
+        this(webClient, membershipOutboxRepository, properties, downstreamGuard, Clock.systemUTC());
+    }
+
+    MembershipEventRelay(
+            WebClient webClient,
+            MembershipOutboxRepository membershipOutboxRepository,
+            MembershipEventProperties properties,
+            DownstreamGuard downstreamGuard,
+            Clock clock
+    ) {
+        this.webClient = webClient;
+        this.membershipOutboxRepository = membershipOutboxRepository;
+        this.properties = properties;
+        this.downstreamGuard = downstreamGuard;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${membership-events.relay-interval-ms:1000}")
+    public void relay() {
+        if (!relayLock.tryLock()) {
+            return;
+        }
+
+        try {
+            List<MembershipOutboxEvent> events = membershipOutboxRepository
+                    .findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, properties.getBatchSize()));
+
+            for (MembershipOutboxEvent event : events) {
+                if (!deliver(event)) {
+                    return;
+                }
+            }
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    private boolean deliver(MembershipOutboxEvent event) {
+        try {
+            downstreamGuard.call(USER_SERVICE, webClient.post()
+                            .uri(usersServiceUrl + "/internal/membership-events")
+                            .bodyValue(toDto(event))
+                            .retrieve()
+                            .toBodilessEntity())
+                    .block();
+
+            markPublished(event, null);
+            return true;
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                // Rejected events will never be accepted, so park them instead of blocking the outbox
+                log.error("user-service rejected membership event {} for {}: {}", event.getEventId(), event.getUsername(), e.getMessage());
+                markPublished(event, e.getMessage());
+                return true;
+            }
+            markFailed(event, e);
+            return false;
+        } catch (RuntimeException e) {
+            markFailed(event, e);
+            return false;
+        }
+    }
+
+    private void markPublished(MembershipOutboxEvent event, String error) {
+        event.setPublishedAt(LocalDateTime.now(clock));
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(error);
+        membershipOutboxRepository.save(event);
+    }
+
+    private void markFailed(MembershipOutboxEvent event, RuntimeException e) {
+        log.warn("Failed to deliver membership event {} (attempt {}): {}", event.getEventId(), event.getAttempts() + 1, e.getMessage());
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(e.getMessage());
+        membershipOutboxRepository.save(event);
+    }
+
+    private static MembershipChangedEventDto toDto(MembershipOutboxEvent event) {
+        return MembershipChangedEventDto.builder()
+                .eventId(event.getEventId())
+                .username(event.getUsername())
+                .membership(event.getMembership().getValue())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -8,20 +8,30 @@
 import com.example.tvshows_auth.exceptions.AppException;
 import com.example.tvshows_auth.exceptions.InsufficientPermissionsException;
 import com.example.tvshows_auth.mappers.UserMapper;
+import com.example.tvshows_auth.models.MembershipOutboxEvent;
 import com.example.tvshows_auth.models.User;
+import com.example.tvshows_auth.repositories.MembershipOutboxRepository;
 import com.example.tvshows_auth.repositories.UserRepository;
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
+import java.util.UUID;
 
 @Service
+@Slf4j
 public class UserService {
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_SERVICE = "user-service";
 
     private final UserMapper userMapper;
 
@@ -32,10 +42,22 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    public UserService(WebClient webClient, UserMapper userMapper, UserRepository userRepository) {
+    private final MembershipOutboxRepository membershipOutboxRepository;
+
+    private final DownstreamGuard downstreamGuard;
+
+    public UserService(
+            WebClient webClient,
+            UserMapper userMapper,
+            UserRepository userRepository,
+            MembershipOutboxRepository membershipOutboxRepository,
+            DownstreamGuard downstreamGuard
+    ) {
         this.webClient = webClient;
         this.userMapper = userMapper;
         this.userRepository = userRepository;
+        this.membershipOutboxRepository = membershipOutboxRepository;
+        this.downstreamGuard = downstreamGuard;
     }
 
     public void createUserProfile(SignUpDto signUpDto, UserDto userDto) {
@@ -43,23 +65,12 @@ public void createUserProfile(SignUpDto signUpDto, UserDto userDto) {
         UserProfileDto userProfileDto = userMapper.signUpToUserProfile(signUpDto);
         userProfileDto.setId(userDto.getId());
 
-        webClient.post()
+        callUserService(webClient.post()
                 .uri(apiGatewayUrl + "/api/users/profile")
                 .bodyValue(userProfileDto)
                 .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + userDto.getToken())
                 .retrieve()
-                .toBodilessEntity()
-                .block();
-    }
-
-    public UserProfileDto getUserProfile(String username, String token) {
-        return Objects.requireNonNull(webClient.get()
-                        .uri(apiGatewayUrl + "/api/users/" + username + "/profile")
-                        .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
-                        .retrieve()
-                        .toEntity(UserProfileDto.class)
-                        .block())
-                .getBody();
+                .toBodilessEntity());
     }
 
     public List<UserDto> getAllUsers(String requestingUsername, String requestingUserRole) {
@@ -88,13 +99,41 @@ public UserDto promoteToAdmin(String username, String requestingUserRole) {
         return userMapper.toUserDto(savedUser);
     }
 
-    public void upgradeMembership(String username) {
+    /**
+     * Upgrades the user to PREMIUM. auth-service owns membership; the change is recorded in the
+     * outbox in the same transaction and relayed to user-service by {@link MembershipEventRelay}.
+     */
+    @Transactional
+    public UserDto upgradeMembership(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AppException("User not found", HttpStatus.NOT_FOUND));
 
+        if (user.getMembership() == Membership.PREMIUM) {
+            throw new AppException(username + " already has a PREMIUM membership", HttpStatus.BAD_REQUEST);
+        }
+
         user.setMembership(Membership.PREMIUM);
         User savedUser = userRepository.save(user);
 
-        userMapper.toUserDto(savedUser);
+        membershipOutboxRepository.save(MembershipOutboxEvent.builder()
+                .eventId(UUID.randomUUID())
+                .username(savedUser.getUsername())
+                .membership(savedUser.getMembership())
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        return userMapper.toUserDto(savedUser);
+    }
+
+    private <T> T callUserService(Mono<T> request) {
+        try {
+            return downstreamGuard.call(USER_SERVICE, request).block();
+        } catch (RuntimeException e) {
+            if (!DownstreamGuard.isUnavailable(e)) {
+                throw e;
+            }
+            log.warn("Call to {} failed: {}", USER_SERVICE, e.getMessage());
+            throw new DownstreamUnavailableException(USER_SERVICE);
+        }
     }
 }
@@ -10,4 +10,18 @@ CREATE TABLE if not exists app_user
     password  VARCHAR(255) NOT NULL,
     role      VARCHAR(255)      NOT NULL,
     membership      VARCHAR(255)      NOT NULL
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS membership_outbox
+(
+    id           BIGSERIAL PRIMARY KEY,
+    event_id     UUID         NOT NULL UNIQUE,
+    username     VARCHAR(255) NOT NULL,
+    membership   VARCHAR(255) NOT NULL,
+    occurred_at  TIMESTAMP    NOT NULL,
+    published_at TIMESTAMP,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    last_error   TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_membership_outbox_unpublished ON membership_outbox (id) WHERE published_at IS NULL;
@@ -0,0 +1,80 @@
+package com.example.tvshows_auth.config;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+    private static final String SECRET = "a3f9b1c8d4e7f0a3b9c2d1e8f6a7b4c5d3e2f1a9b8c7d6e5f4a3b2c1d0e9f8a7";
+    private static final String NEXT_SECRET = "5d1c0e9f8a7b6c5d4e3f2a1b0c9d8e7f6a5b4c3d2e1f0a9b8c7d6e5f4a3b2c1d";
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+    }
+
+    @Test
+    void sign_ShouldTagTokensWithActiveKeyId() {
+        jwtProperties.setKeys(Map.of("next", NEXT_SECRET));
+        jwtProperties.setActiveKeyId("next");
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+
+        String token = keyRing.sign(JWT.create().withIssuer("ada"));
+
+        assertEquals("next", JWT.decode(token).getKeyId());
+        assertEquals("ada", keyRing.verify(token).getIssuer());
+        JWT.require(hmac(NEXT_SECRET)).build().verify(token);
+    }
+
+    @Test
+    void verify_ShouldAcceptTokensFromPreviousKeyAfterRotation() {
+        String issuedBeforeRotation = new JwtKeyRing(jwtProperties).sign(JWT.create().withIssuer("ada"));
+
+        jwtProperties.setKeys(Map.of("next", NEXT_SECRET));
+        jwtProperties.setActiveKeyId("next");
+        DecodedJWT jwt = new JwtKeyRing(jwtProperties).verify(issuedBeforeRotation);
+
+        assertEquals("default", jwt.getKeyId());
+        assertEquals("ada", jwt.getIssuer());
+    }
+
+    @Test
+    void verify_ShouldCheckTokensWithoutKeyIdAgainstDefaultKey() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+        String legacy = JWT.create().withIssuer("ada").sign(hmac(SECRET));
+        String forged = JWT.create().withIssuer("ada").sign(hmac(NEXT_SECRET));
+
+        assertEquals("ada", keyRing.verify(legacy).getIssuer());
+        assertThrows(JWTVerificationException.class, () -> keyRing.verify(forged));
+    }
+
+    @Test
+    void verify_ShouldRejectUnknownKeyId() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+        String token = JWT.create().withKeyId("retired").withIssuer("ada").sign(hmac(SECRET));
+
+        assertThrows(JWTVerificationException.class, () -> keyRing.verify(token));
+    }
+
+    @Test
+    void constructor_ShouldFailWhenActiveKeyIsNotConfigured() {
+        jwtProperties.setActiveKeyId("next");
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(jwtProperties));
+    }
+
+    private static Algorithm hmac(String secret) {
+        return Algorithm.HMAC256(Base64.getEncoder().encodeToString(secret.getBytes()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.tvshows_auth.config;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.tvshows_auth.dto.UserDto;
+import com.example.tvshows_auth.enums.Membership;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token cost with signer and verifier shared through {@link JwtKeyRing} (current)
+ * against the previous code, which built a new {@link Algorithm} and {@link JWTVerifier} on every
+ * call. Runs with several threads because {@code getToken} sits on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class UserAuthProviderBenchmark {
+    private static final String SECRET = "a3f9b1c8d4e7f0a3b9c2d1e8f6a7b4c5d3e2f1a9b8c7d6e5f4a3b2c1d0e9f8a7";
+
+    private UserAuthProvider userAuthProvider;
+    private String encodedSecret;
+    private UserDto user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        userAuthProvider = new UserAuthProvider(jwtProperties, new JwtKeyRing(jwtProperties));
+        encodedSecret = Base64.getEncoder().encodeToString(SECRET.getBytes());
+
+        user = new UserDto();
+        user.setUsername("bench");
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setRole("USER");
+        user.setMembership(Membership.PREMIUM.name());
+        token = userAuthProvider.createToken(user);
+    }
+
+    @Benchmark
+    public String createTokenShared() {
+        return userAuthProvider.createToken(user);
+    }
+
+    @Benchmark
+    public String createTokenPerCall() {
+        Date now = Date.from(Instant.now());
+        return JWT.create()
+                .withIssuer(user.getUsername())
+                .withIssuedAt(now)
+                .withExpiresAt(new Date(now.getTime() + 1_800_000))
+                .withClaim("firstName", user.getFirstName())
+                .withClaim("lastName", user.getLastName())
+                .withClaim("role", user.getRole())
+                .withClaim("membership", user.getMembership())
+                .sign(Algorithm.HMAC256(encodedSecret));
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken verifyTokenShared() {
+        return userAuthProvider.getToken(token);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken verifyTokenPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(encodedSecret);
+        JWTVerifier verifier = JWT.require(algorithm).build();
+        DecodedJWT jwt = verifier.verify(token);
+
+        UserDto verified = new UserDto();
+        verified.setUsername(jwt.getIssuer());
+        verified.setFirstName(jwt.getClaim("firstName").asString());
+        verified.setLastName(jwt.getClaim("lastName").asString());
+
+        return new UsernamePasswordAuthenticationToken(verified, "", Collections.emptyList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserAuthProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.tvshows_auth.services;
+
+import com.example.tvshows_auth.config.JwtKeyRing;
+import com.example.tvshows_auth.config.JwtProperties;
+import com.example.tvshows_auth.config.UserAuthProvider;
+import com.example.tvshows_auth.dto.CredentialDto;
+import com.example.tvshows_auth.dto.LoginUserDto;
+import com.example.tvshows_auth.dto.UserProfileDto;
+import com.example.tvshows_auth.enums.Membership;
+import com.example.tvshows_auth.mappers.UserMapperImpl;
+import com.example.tvshows_auth.models.User;
+import com.example.tvshows_auth.repositories.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Login latency with membership read locally (current) against the previous path, which added a
+ * blocking profile lookup through the gateway. The lookup is served by a local stub that waits
+ * {@code profileLatencyMicros} to stand in for the gateway hop, JWT verification and the
+ * user-service query. Password hashing is stubbed out so the difference is not hidden by bcrypt.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthLoginBenchmark {
+    private static final String PROFILE_JSON = "{\"username\":\"bench\",\"memberType\":\"PREMIUM\"}";
+
+    @Param({"0", "2000"})
+    public long profileLatencyMicros;
+
+    private AuthService authService;
+    private WebClient webClient;
+    private HttpServer server;
+    private String profileUrl;
+    private CredentialDto credentials;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("bench")
+                .email("bench@example.com")
+                .password("secret")
+                .firstName("Bench")
+                .lastName("User")
+                .membership(Membership.PREMIUM)
+                .build();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername("bench")).thenReturn(Optional.of(user));
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("benchmark-secret-benchmark-secret");
+        UserAuthProvider userAuthProvider = new UserAuthProvider(jwtProperties, new JwtKeyRing(jwtProperties));
+
+        authService = new AuthService(userRepository, new PlainPasswordEncoder(), new UserMapperImpl(), mock(UserService.class), userAuthProvider);
+        credentials = new CredentialDto("bench", "secret");
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/api/users/bench/profile", exchange -> {
+            if (profileLatencyMicros > 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(profileLatencyMicros));
+            }
+            byte[] body = PROFILE_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        webClient = WebClient.create();
+        profileUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/users/bench/profile";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public LoginUserDto loginLocalMembership() throws Exception {
+        return authService.login(credentials, "v1");
+    }
+
+    @Benchmark
+    public LoginUserDto loginWithProfileLookup() throws Exception {
+        LoginUserDto loginUserDto = authService.login(credentials, "v1");
+
+        UserProfileDto profile = webClient.get()
+                .uri(profileUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + loginUserDto.getToken())
+                .retrieve()
+                .bodyToMono(UserProfileDto.class)
+                .block();
+        loginUserDto.setMembership(Membership.valueOf(profile.getMemberType()));
+
+        return loginUserDto;
+    }
+
+    private static final class PlainPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthLoginBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
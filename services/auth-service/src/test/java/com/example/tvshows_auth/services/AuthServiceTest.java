@@ -9,6 +9,7 @@
 import com.example.tvshows_auth.mappers.UserMapper;
 import com.example.tvshows_auth.models.User;
 import com.example.tvshows_auth.repositories.UserRepository;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -84,8 +85,6 @@ void setUp() {
     void login_ValidCredentials_ReturnsLoginUserDto() throws UnsupportedVersionException {
         // Arrange
         CredentialDto credentialDto = new CredentialDto("testuser", "password");
-        UserProfileDto profileDto = new UserProfileDto();
-        profileDto.setMemberType("FREE");
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
         when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
@@ -93,7 +92,6 @@ void login_ValidCredentials_ReturnsLoginUserDto() throws UnsupportedVersionExcep
         when(userMapper.toLoginUserDto(testUser)).thenReturn(testLoginUserDto);
         when(userAuthProvider.createToken(testUserDto)).thenReturn("test-token");
         when(userAuthProvider.createRefreshToken(testUserDto)).thenReturn("test-refresh-token");
-        when(userService.getUserProfile("testuser", "test-token")).thenReturn(profileDto);
 
         // Act
         LoginUserDto result = authService.login(credentialDto, "v1");
@@ -106,6 +104,7 @@ void login_ValidCredentials_ReturnsLoginUserDto() throws UnsupportedVersionExcep
         assertEquals(Membership.FREE, result.getMembership());
         verify(userAuthProvider).createToken(testUserDto);
         verify(userAuthProvider).createRefreshToken(testUserDto);
+        verifyNoInteractions(userService);
     }
 
     @Test
@@ -172,6 +171,28 @@ void register_NewUser_ReturnsUserDto() throws UnsupportedVersionException {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void register_UserServiceUnavailable_RemovesUserAndThrows() {
+        // Arrange
+        SignUpDto signUpDto = new SignUpDto("John", "Doe", "johndoe", "john@example.com", "secret", "PREMIUM", "ADMIN");
+
+        when(userRepository.findByUsername("johndoe")).thenReturn(Optional.empty());
+        when(userMapper.signUpToUser(signUpDto)).thenReturn(testUser);
+        when(passwordEncoder.encode("secret")).thenReturn("secret");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userMapper.toUserDto(testUser)).thenReturn(testUserDto);
+        when(userAuthProvider.createToken(testUserDto)).thenReturn("test-token");
+        doThrow(new DownstreamUnavailableException("user-service"))
+                .when(userService).createUserProfile(signUpDto, testUserDto);
+
+        // Act & Assert
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class,
+                () -> authService.register(signUpDto, "v1"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        verify(userRepository).delete(testUser);
+    }
+
     @Test
     void register_ExistingUser_ThrowsAppException() {
         // Arrange
@@ -218,8 +239,7 @@ void getUser_NonExistingUser_ThrowsAppException() {
     void refreshToken_ValidToken_ReturnsNewLoginUserDto() {
         // Arrange
         String refreshToken = "valid-refresh-token";
-        UserProfileDto profileDto = new UserProfileDto();
-        profileDto.setMemberType("PREMIUM");
+        testUser.setMembership(Membership.PREMIUM);
 
         when(userAuthProvider.validateRefreshToken(refreshToken)).thenReturn(true);
         when(userAuthProvider.getUsernameFromRefreshToken(refreshToken)).thenReturn("testuser");
@@ -228,7 +248,6 @@ void refreshToken_ValidToken_ReturnsNewLoginUserDto() {
         when(userMapper.toLoginUserDto(testUser)).thenReturn(testLoginUserDto);
         when(userAuthProvider.createToken(testUserDto)).thenReturn("new-token");
         when(userAuthProvider.createRefreshToken(testUserDto)).thenReturn("new-refresh-token");
-        when(userService.getUserProfile("testuser", "new-token")).thenReturn(profileDto);
 
         // Act
         LoginUserDto result = authService.refreshToken(refreshToken);
@@ -0,0 +1,144 @@
+package com.example.tvshows_auth.services;
+
+import com.example.tvshows_auth.config.MembershipEventProperties;
+import com.example.tvshows_auth.enums.Membership;
+import com.example.tvshows_auth.models.MembershipOutboxEvent;
+import com.example.tvshows_auth.repositories.MembershipOutboxRepository;
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.HttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipEventRelayTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private MembershipOutboxRepository membershipOutboxRepository;
+
+    private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, Integer> statusByUsername = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    private MembershipEventRelay relay;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/internal/membership-events", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            received.add(body);
+            int status = statusByUsername.entrySet().stream()
+                    .filter(entry -> body.contains("\"" + entry.getKey() + "\""))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(204);
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        relay = new MembershipEventRelay(
+                WebClient.create(),
+                membershipOutboxRepository,
+                new MembershipEventProperties(),
+                new DownstreamGuard(new HttpClientProperties()),
+                CLOCK
+        );
+        ReflectionTestUtils.setField(relay, "usersServiceUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void relay_ShouldDeliverEventsInOrderAndMarkThemPublished() {
+        MembershipOutboxEvent first = event(1L, "alice");
+        MembershipOutboxEvent second = event(2L, "bob");
+        when(membershipOutboxRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+
+        relay.relay();
+
+        assertEquals(2, received.size());
+        assertTrue(received.get(0).contains("\"alice\""));
+        assertTrue(received.get(0).contains("\"PREMIUM\""));
+        assertTrue(received.get(1).contains("\"bob\""));
+        assertEquals(LocalDateTime.now(CLOCK), first.getPublishedAt());
+        assertEquals(LocalDateTime.now(CLOCK), second.getPublishedAt());
+        verify(membershipOutboxRepository, times(2)).save(any(MembershipOutboxEvent.class));
+    }
+
+    @Test
+    void relay_ShouldStopAtFirstFailureToKeepOrder() {
+        statusByUsername.put("alice", 500);
+        MembershipOutboxEvent first = event(1L, "alice");
+        MembershipOutboxEvent second = event(2L, "bob");
+        when(membershipOutboxRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+
+        relay.relay();
+
+        assertEquals(1, received.size());
+        assertNull(first.getPublishedAt());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(first.getLastError());
+        assertNull(second.getPublishedAt());
+        verify(membershipOutboxRepository).save(first);
+        verify(membershipOutboxRepository, never()).save(second);
+    }
+
+    @Test
+    void relay_ShouldParkRejectedEventsAndContinue() {
+        statusByUsername.put("alice", 404);
+        MembershipOutboxEvent first = event(1L, "alice");
+        MembershipOutboxEvent second = event(2L, "bob");
+        when(membershipOutboxRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+
+        relay.relay();
+
+        assertEquals(2, received.size());
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(first.getLastError());
+        assertNotNull(second.getPublishedAt());
+        assertNull(second.getLastError());
+    }
+
+    private static MembershipOutboxEvent event(long id, String username) {
+        return MembershipOutboxEvent.builder()
+                .id(id)
+                .eventId(UUID.randomUUID())
+                .username(username)
+                .membership(Membership.PREMIUM)
+                .occurredAt(LocalDateTime.now(CLOCK))
+                .build();
+    }
+}
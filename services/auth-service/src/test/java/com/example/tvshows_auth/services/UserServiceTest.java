@@ -8,13 +8,20 @@
 import com.example.tvshows_auth.exceptions.AppException;
 import com.example.tvshows_auth.exceptions.InsufficientPermissionsException;
 import com.example.tvshows_auth.mappers.UserMapper;
+import com.example.tvshows_auth.models.MembershipOutboxEvent;
 import com.example.tvshows_auth.models.User;
+import com.example.tvshows_auth.repositories.MembershipOutboxRepository;
 import com.example.tvshows_auth.repositories.UserRepository;
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
+import com.example.tvshows_commons.resilience.HttpClientProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -29,6 +36,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,6 +55,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MembershipOutboxRepository membershipOutboxRepository;
+
     @Mock
     private WebClient.RequestBodyUriSpec requestBodyUriSpec;
 
@@ -62,6 +73,9 @@ class UserServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Spy
+    private DownstreamGuard downstreamGuard = new DownstreamGuard(new HttpClientProperties());
+
     @InjectMocks
     private UserService userService;
 
@@ -100,29 +114,27 @@ void createUserProfile_Success() {
     }
 
     @Test
-    void getUserProfile_Success() {
+    void createUserProfile_UserServiceTimesOut_ThrowsDownstreamUnavailableException() {
         // Arrange
-        String username = "johndoe";
-        String token = "test-token";
-        UserProfileDto expectedProfile = new UserProfileDto();
-        expectedProfile.setUsername(username);
-        expectedProfile.setMemberType("FREE");
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri("http://api-gateway/api/users/" + username + "/profile")).thenReturn(requestHeadersSpec);
+        SignUpDto signUpDto = new SignUpDto("John", "Doe", "johndoe", "john@example.com", "secret", "PREMIUM", "ADMIN");
+
+        UserDto userDto = new UserDto();
+        userDto.setId(UUID.randomUUID());
+        userDto.setToken("test-token");
+
+        when(userMapper.signUpToUserProfile(signUpDto)).thenReturn(new UserProfileDto());
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.header(eq(HttpHeaders.AUTHORIZATION), anyString())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.toEntity(UserProfileDto.class))
-                .thenReturn(Mono.just(ResponseEntity.ok(expectedProfile)));
+        when(responseSpec.toBodilessEntity()).thenReturn(Mono.error(new TimeoutException("user-service timed out")));
 
-        // Act
-        UserProfileDto result = userService.getUserProfile(username, token);
+        // Act & Assert
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class,
+                () -> userService.createUserProfile(signUpDto, userDto));
 
-        // Assert
-        assertNotNull(result);
-        assertEquals(username, result.getUsername());
-        assertEquals("FREE", result.getMemberType());
-        verify(requestHeadersSpec).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
     }
 
     @Test
@@ -251,12 +263,39 @@ void upgradeMembership_Success() {
         when(userMapper.toUserDto(any(User.class))).thenReturn(userDto);
 
         // Act
-        assertDoesNotThrow(() -> userService.upgradeMembership(username));
+        UserDto result = userService.upgradeMembership(username);
 
         // Assert
+        assertEquals(Membership.PREMIUM.getValue(), result.getMembership());
         assertEquals(Membership.PREMIUM, user.getMembership());
         verify(userRepository).save(user);
         verify(userMapper).toUserDto(user);
+
+        ArgumentCaptor<MembershipOutboxEvent> event = ArgumentCaptor.forClass(MembershipOutboxEvent.class);
+        verify(membershipOutboxRepository).save(event.capture());
+        assertEquals(username, event.getValue().getUsername());
+        assertEquals(Membership.PREMIUM, event.getValue().getMembership());
+        assertNotNull(event.getValue().getEventId());
+        assertNull(event.getValue().getPublishedAt());
+    }
+
+    @Test
+    void upgradeMembership_AlreadyPremium_ThrowsAppException() {
+        // Arrange
+        User user = User.builder()
+                .username("user")
+                .membership(Membership.PREMIUM)
+                .build();
+
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class,
+                () -> userService.upgradeMembership("user"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(membershipOutboxRepository);
     }
 
     @Test
@@ -0,0 +1,16 @@
+package com.example.review_rating_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "moderation")
+@Component
+@Data
+public class ModerationProperties {
+    private Duration leaseDuration = Duration.ofMinutes(5);
+    private int maxPageSize = 100;
+    private int maxBatchIds = 100;
+}
@@ -0,0 +1,16 @@
+package com.example.review_rating_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "review-feed")
+@Component
+@Data
+public class ReviewFeedProperties {
+    private int maxPageSize = 50;
+    private Duration firstPageTtl = Duration.ofSeconds(10);
+    private long firstPageMaxShows = 10_000;
+}
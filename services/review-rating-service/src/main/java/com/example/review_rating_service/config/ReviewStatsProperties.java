@@ -0,0 +1,13 @@
+package com.example.review_rating_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "review-stats")
+@Component
+@Data
+public class ReviewStatsProperties {
+    private String rebuildCron = "0 30 3 * * *";
+    private int batchMaxIds = 200;
+}
@@ -1,17 +1,25 @@
 package com.example.review_rating_service.controllers;
 
+import com.example.review_rating_service.dto.ClaimedReviewsDto;
+import com.example.review_rating_service.dto.ModerationRequestDto;
+import com.example.review_rating_service.dto.ModerationResultDto;
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
 import com.example.review_rating_service.dto.ReviewDto;
 import com.example.review_rating_service.dto.ReviewStatsDto;
 import com.example.review_rating_service.dto.StoreReviewDto;
 import com.example.review_rating_service.dto.UpdateReviewDto;
 import com.example.review_rating_service.exceptions.ActionNotAuthorized;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.InvalidRatingException;
+import com.example.review_rating_service.exceptions.ModerationBatchTooLargeException;
+import com.example.review_rating_service.exceptions.ReviewClaimedException;
 import com.example.review_rating_service.exceptions.ReviewNotFoundException;
 import com.example.review_rating_service.exceptions.ReviewsNotFoundException;
+import com.example.review_rating_service.exceptions.StatsRequestTooLargeException;
+import com.example.review_rating_service.exceptions.UnsupportedSortException;
+import com.example.review_rating_service.service.ModerationQueueService;
 import com.example.review_rating_service.service.ReviewService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,8 +32,11 @@ public class ReviewController {
 
     private final ReviewService reviewService;
 
-    public ReviewController(ReviewService reviewService) {
+    private final ModerationQueueService moderationQueueService;
+
+    public ReviewController(ReviewService reviewService, ModerationQueueService moderationQueueService) {
         this.reviewService = reviewService;
+        this.moderationQueueService = moderationQueueService;
     }
 
     @PostMapping("/{tvShowId}/{username}")
@@ -35,7 +46,7 @@ public ResponseEntity<Void> storeReview(
             @PathVariable String username,
             @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role,
             @RequestHeader(name = "X-Auth-Membership", defaultValue = "") String userMembership
-    ) throws ActionNotAuthorized {
+    ) throws ActionNotAuthorized, InvalidRatingException {
         reviewService.storeReview(storeReviewDto, tvShowId, username, role, userMembership);
 
         return ResponseEntity.noContent().build();
@@ -55,7 +66,7 @@ public ResponseEntity<ReviewDto> updateReviewId(
             @PathVariable UUID reviewId,
             @RequestBody UpdateReviewDto updateReviewDto,
             @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
-    ) throws ReviewNotFoundException, ActionNotAuthorized {
+    ) throws ReviewNotFoundException, ActionNotAuthorized, InvalidRatingException {
         ReviewDto review = reviewService.getReview(reviewId, updateReviewDto, role);
 
         return ResponseEntity.ok(review);
@@ -68,14 +79,34 @@ public ResponseEntity<Page<ReviewDto>> getReviewsByTvShow(
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir
-    ) {
-        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<ReviewDto> reviews = reviewService.getReviewsByTvShow(tvShowId, pageable);
+    ) throws UnsupportedSortException {
+        Page<ReviewDto> reviews = reviewService.getReviewsByTvShow(tvShowId, page, size, sortBy, sortDir);
         
         return ResponseEntity.ok(reviews);
     }
 
+    @GetMapping(value = "/tv-show/{tvShowId}", params = "cursor")
+    public ResponseEntity<ReviewCursorPageDto> getReviewsByTvShowAfter(
+            @PathVariable Long tvShowId,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir
+    ) throws UnsupportedSortException, InvalidCursorException {
+        ReviewCursorPageDto reviews = reviewService.getReviewsByTvShowAfter(tvShowId, cursor, size, sortBy, sortDir);
+
+        return ResponseEntity.ok(reviews);
+    }
+
+    @GetMapping("/tv-show/stats")
+    public ResponseEntity<List<ReviewStatsDto>> getReviewStatsBatch(
+            @RequestParam("ids") List<Long> tvShowIds
+    ) throws StatsRequestTooLargeException {
+        List<ReviewStatsDto> stats = reviewService.getReviewStats(tvShowIds);
+
+        return ResponseEntity.ok(stats);
+    }
+
     @GetMapping("/tv-show/{tvShowId}/stats")
     public ResponseEntity<ReviewStatsDto> getReviewStats(@PathVariable Long tvShowId) {
         ReviewStatsDto stats = reviewService.getReviewStats(tvShowId);
@@ -105,20 +136,56 @@ public ResponseEntity<Void> deleteReview(
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<ReviewDto>> getPendingReviews(
+    public ResponseEntity<ReviewCursorPageDto> getPendingReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
-    ) throws ActionNotAuthorized {
-        List<ReviewDto> pendingReviews = reviewService.getPendingReviews(role);
-        
+    ) throws ActionNotAuthorized, InvalidCursorException {
+        ReviewCursorPageDto pendingReviews = moderationQueueService.getPendingReviews(cursor, size, role);
+
         return ResponseEntity.ok(pendingReviews);
     }
 
+    @PostMapping("/pending/claim")
+    public ResponseEntity<ClaimedReviewsDto> claimPendingReviews(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
+            @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
+    ) throws ActionNotAuthorized {
+        ClaimedReviewsDto claimedReviews = moderationQueueService.claimPendingReviews(size, username, role);
+
+        return ResponseEntity.ok(claimedReviews);
+    }
+
+    @PutMapping("/pending/approve")
+    public ResponseEntity<ModerationResultDto> approveReviews(
+            @RequestBody ModerationRequestDto moderationRequestDto,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
+            @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
+    ) throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        ModerationResultDto result = moderationQueueService.approveReviews(moderationRequestDto.getReviewIds(), username, role);
+
+        return ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/pending/reject")
+    public ResponseEntity<ModerationResultDto> rejectReviews(
+            @RequestBody ModerationRequestDto moderationRequestDto,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
+            @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
+    ) throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        ModerationResultDto result = moderationQueueService.rejectReviews(moderationRequestDto.getReviewIds(), username, role);
+
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{reviewId}/approve")
     public ResponseEntity<Void> approveReview(
             @PathVariable UUID reviewId,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
             @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
-    ) throws ReviewNotFoundException, ActionNotAuthorized {
-        reviewService.approveReview(reviewId, role);
+    ) throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        reviewService.approveReview(reviewId, username, role);
         
         return ResponseEntity.noContent().build();
     }
@@ -126,9 +193,10 @@ public ResponseEntity<Void> approveReview(
     @PutMapping("/{reviewId}/reject")
     public ResponseEntity<Void> rejectReview(
             @PathVariable UUID reviewId,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
             @RequestHeader(name = "X-Auth-Role", defaultValue = "") String role
-    ) throws ReviewNotFoundException, ActionNotAuthorized {
-        reviewService.rejectReview(reviewId, role);
+    ) throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        reviewService.rejectReview(reviewId, username, role);
         
         return ResponseEntity.noContent().build();
     }
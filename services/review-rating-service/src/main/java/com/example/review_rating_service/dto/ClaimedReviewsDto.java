@@ -0,0 +1,18 @@
+package com.example.review_rating_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClaimedReviewsDto {
+    private List<ReviewDto> reviews;
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,15 @@
+package com.example.review_rating_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationRequestDto {
+    private List<UUID> reviewIds;
+}
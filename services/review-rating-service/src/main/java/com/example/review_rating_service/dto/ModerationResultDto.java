@@ -0,0 +1,21 @@
+package com.example.review_rating_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationResultDto {
+    // Reviews that were approved or rejected by this request.
+    private List<UUID> processed;
+
+    // Reviews that no longer exist, are already approved, or are leased to another moderator.
+    private List<UUID> skipped;
+}
@@ -0,0 +1,19 @@
+package com.example.review_rating_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewCursorPageDto {
+    private List<ReviewDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
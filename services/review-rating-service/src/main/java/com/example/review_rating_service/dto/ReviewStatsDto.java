@@ -5,6 +5,8 @@
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -15,4 +17,6 @@ public class ReviewStatsDto {
     private Double averageRating;
     
     private Long totalReviews;
+
+    private Map<Integer, Long> ratingDistribution;
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.review_rating_service.enums;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Sort orders the per-show review feed accepts. Each one ends in {@code created_at, id} so the
+ * order is total, and each matches a partial {@code (tv_show_id, ...) WHERE is_approved} index in
+ * schema.sql that serves it in both directions.
+ */
+@Getter
+public enum ReviewSortField {
+    CREATED_AT("createdAt", List.of("createdAt", "id"), List.of("created_at", "id")),
+    RATING("rating", List.of("rating", "createdAt", "id"), List.of("rating", "created_at", "id"));
+
+    private final String value;
+    private final List<String> attributes;
+    private final List<String> columns;
+
+    ReviewSortField(String value, List<String> attributes, List<String> columns) {
+        this.value = value;
+        this.attributes = attributes;
+        this.columns = columns;
+    }
+
+    public static ReviewSortField fromValue(String value) {
+        for (ReviewSortField field : ReviewSortField.values()) {
+            if (field.getValue().equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort field: " + value);
+    }
+}
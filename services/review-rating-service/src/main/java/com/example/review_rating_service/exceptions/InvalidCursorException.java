@@ -0,0 +1,9 @@
+package com.example.review_rating_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends AppException {
+    public InvalidCursorException() {
+        super("Invalid cursor.", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.review_rating_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRatingException extends AppException {
+    public InvalidRatingException(int minRating, int maxRating) {
+        super("Rating must be a whole number from " + minRating + " to " + maxRating + ".", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.review_rating_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ModerationBatchTooLargeException extends AppException {
+    public ModerationBatchTooLargeException(int maxIds) {
+        super("At most " + maxIds + " reviews can be moderated at a time.", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.review_rating_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ReviewClaimedException extends AppException {
+    public ReviewClaimedException() {
+        super("Review is being moderated by another moderator.", HttpStatus.CONFLICT);
+    }
+}
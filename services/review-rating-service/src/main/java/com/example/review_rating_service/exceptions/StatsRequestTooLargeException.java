@@ -0,0 +1,9 @@
+package com.example.review_rating_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class StatsRequestTooLargeException extends AppException {
+    public StatsRequestTooLargeException(int maxIds) {
+        super("Stats can be requested for at most " + maxIds + " TV shows at a time.", HttpStatus.BAD_REQUEST);
+    }
+}
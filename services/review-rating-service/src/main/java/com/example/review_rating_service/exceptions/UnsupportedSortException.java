@@ -0,0 +1,13 @@
+package com.example.review_rating_service.exceptions;
+
+import com.example.review_rating_service.enums.ReviewSortField;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+
+public class UnsupportedSortException extends AppException {
+    public UnsupportedSortException(String sortBy) {
+        super("Reviews cannot be sorted by '" + sortBy + "'. Supported: " +
+                Arrays.stream(ReviewSortField.values()).map(ReviewSortField::getValue).toList() + ".", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.review_rating_service.repositories;
+
+import com.example.review_rating_service.dto.ReviewDto;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pending reviews in queue order ({@code created_at, id}), served by the partial
+ * {@code idx_reviews_pending_queue} index. Moderators claim batches under a lease so concurrent
+ * moderators never get the same reviews, and approve or reject many reviews per statement.
+ */
+@Repository
+public class ModerationQueueRepository {
+    private static final String SELECT_FIRST_PAGE =
+            "SELECT " + ReviewRowMapper.COLUMNS + " FROM reviews WHERE NOT is_approved " +
+            "ORDER BY created_at, id LIMIT :limit";
+
+    private static final String SELECT_PAGE_AFTER =
+            "SELECT " + ReviewRowMapper.COLUMNS + " FROM reviews WHERE NOT is_approved " +
+            "AND (created_at, id) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY created_at, id LIMIT :limit";
+
+    // Pending and not leased to someone else; a moderator's own lease does not block them.
+    private static final String CLAIMABLE =
+            "NOT is_approved AND (claimed_until IS NULL OR claimed_until < :now OR claimed_by = :moderator)";
+
+    // Rows another moderator is claiming right now are skipped rather than waited on.
+    private static final String CLAIM =
+            "WITH next AS (" +
+            "    SELECT id FROM reviews " +
+            "    WHERE " + CLAIMABLE + " " +
+            "    ORDER BY created_at, id LIMIT :limit " +
+            "    FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "UPDATE reviews r SET claimed_by = :moderator, claimed_until = :leasedUntil " +
+            "FROM next WHERE r.id = next.id " +
+            "RETURNING r.id, r.username, r.tv_show_id, r.rating, r.content, r.is_approved, r.is_flagged, r.created_at, r.updated_at";
+
+    private static final String APPROVE =
+            "UPDATE reviews SET is_approved = true, is_flagged = false, claimed_by = NULL, claimed_until = NULL, updated_at = :now " +
+            "WHERE id IN (:reviewIds) AND " + CLAIMABLE + " " +
+            "RETURNING " + ReviewRowMapper.COLUMNS;
+
+    private static final String REJECT =
+            "DELETE FROM reviews WHERE id IN (:reviewIds) AND " + CLAIMABLE + " RETURNING id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ModerationQueueRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Up to {@code limit} pending reviews after the given queue position, or from the start of the
+     * queue when {@code afterId} is null.
+     */
+    public List<ReviewDto> findPending(LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query(SELECT_FIRST_PAGE, new MapSqlParameterSource("limit", limit), ReviewRowMapper.INSTANCE);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterCreatedAt", afterCreatedAt)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SELECT_PAGE_AFTER, params, ReviewRowMapper.INSTANCE);
+    }
+
+    /**
+     * Leases the oldest unclaimed pending reviews to {@code moderator} until {@code leasedUntil}.
+     * The moderator's own unexpired leases are renewed and returned again.
+     */
+    public List<ReviewDto> claim(String moderator, int limit, LocalDateTime now, LocalDateTime leasedUntil) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("moderator", moderator)
+                .addValue("limit", limit)
+                .addValue("now", now)
+                .addValue("leasedUntil", leasedUntil);
+
+        return jdbcTemplate.query(CLAIM, params, ReviewRowMapper.INSTANCE).stream()
+                .sorted(Comparator.comparing(ReviewDto::getCreatedAt).thenComparing(ReviewDto::getId))
+                .toList();
+    }
+
+    /**
+     * Approves the pending reviews that are not leased to another moderator.
+     *
+     * @return the reviews that were approved, as they are after the update
+     */
+    public List<ReviewDto> approve(Collection<UUID> reviewIds, String moderator, LocalDateTime now) {
+        return jdbcTemplate.query(APPROVE, moderationParams(reviewIds, moderator, now), ReviewRowMapper.INSTANCE);
+    }
+
+    /**
+     * Deletes the pending reviews that are not leased to another moderator.
+     *
+     * @return the ids of the deleted reviews
+     */
+    public List<UUID> reject(Collection<UUID> reviewIds, String moderator, LocalDateTime now) {
+        return jdbcTemplate.query(REJECT, moderationParams(reviewIds, moderator, now), (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+
+    private static MapSqlParameterSource moderationParams(Collection<UUID> reviewIds, String moderator, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("reviewIds", reviewIds)
+                .addValue("moderator", moderator)
+                .addValue("now", now);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.review_rating_service.repositories;
+
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.enums.ReviewSortField;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset pages of a show's approved reviews. Every column of the sort key runs in the same
+ * direction, so the row comparison against the previous page's last review is an index condition
+ * on the matching {@code idx_reviews_feed_*} index and no page costs more than its own rows.
+ */
+@Repository
+public class ReviewFeedRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReviewFeedRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Up to {@code limit} approved reviews of the show that follow the given key in the sort order,
+     * or from the start of the feed when {@code afterId} is null. {@code afterRating} is only read
+     * for {@link ReviewSortField#RATING}.
+     */
+    public List<ReviewDto> findPage(
+            Long tvShowId,
+            ReviewSortField sortField,
+            boolean descending,
+            Integer afterRating,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            int limit
+    ) {
+        String direction = descending ? " DESC" : " ASC";
+        StringBuilder sql = new StringBuilder("SELECT ").append(ReviewRowMapper.COLUMNS)
+                .append(" FROM reviews WHERE tv_show_id = :tvShowId AND is_approved");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tvShowId", tvShowId)
+                .addValue("limit", limit);
+
+        if (afterId != null) {
+            List<String> keyParams = sortField == ReviewSortField.RATING
+                    ? List.of(":afterRating", ":afterCreatedAt", ":afterId")
+                    : List.of(":afterCreatedAt", ":afterId");
+            sql.append(" AND (").append(String.join(", ", sortField.getColumns())).append(")")
+                    .append(descending ? " < (" : " > (").append(String.join(", ", keyParams)).append(")");
+
+            params.addValue("afterRating", afterRating)
+                    .addValue("afterCreatedAt", afterCreatedAt)
+                    .addValue("afterId", afterId);
+        }
+
+        sql.append(" ORDER BY ")
+                .append(sortField.getColumns().stream().map(column -> column + direction).collect(Collectors.joining(", ")))
+                .append(" LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, ReviewRowMapper.INSTANCE);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.review_rating_service.repositories;
 
 import com.example.review_rating_service.models.Review;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,13 +22,9 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     
     Optional<Review> findByTvShowIdAndUsername(Long tvShowId, String username);
     
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.tvShowId = :tvShowId AND r.isApproved = true")
-    Double findAverageRatingByTvShowId(@Param("tvShowId") Long tvShowId);
-    
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.tvShowId = :tvShowId AND r.isApproved = true")
-    Long countApprovedReviewsByTvShowId(@Param("tvShowId") Long tvShowId);
-    
-    List<Review> findAllByIsApprovedFalse();
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") UUID id);
     
     List<Review> findAllByIsFlaggedTrue();
 }
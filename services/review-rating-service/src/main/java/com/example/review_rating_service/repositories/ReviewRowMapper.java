@@ -0,0 +1,38 @@
+package com.example.review_rating_service.repositories;
+
+import com.example.review_rating_service.dto.ReviewDto;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maps {@link #COLUMNS} of a {@code reviews} row straight to a {@link ReviewDto} for the native
+ * queries that bypass JPA.
+ */
+final class ReviewRowMapper implements RowMapper<ReviewDto> {
+    static final String COLUMNS =
+            "id, username, tv_show_id, rating, content, is_approved, is_flagged, created_at, updated_at";
+
+    static final ReviewRowMapper INSTANCE = new ReviewRowMapper();
+
+    private ReviewRowMapper() {
+    }
+
+    @Override
+    public ReviewDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return ReviewDto.builder()
+                .id(rs.getObject("id", UUID.class))
+                .username(rs.getString("username"))
+                .tvShowId(rs.getLong("tv_show_id"))
+                .rating(rs.getInt("rating"))
+                .content(rs.getString("content"))
+                .isApproved(rs.getBoolean("is_approved"))
+                .isFlagged(rs.getBoolean("is_flagged"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
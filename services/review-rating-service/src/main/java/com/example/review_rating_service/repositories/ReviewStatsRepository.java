@@ -0,0 +1,174 @@
+package com.example.review_rating_service.repositories;
+
+import com.example.review_rating_service.dto.ReviewStatsDto;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Repository
+public class ReviewStatsRepository {
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    private static final String SELECT_STATS =
+            "SELECT tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5 " +
+            "FROM review_stats WHERE tv_show_id = :tvShowId";
+
+    private static final String SELECT_STATS_BATCH =
+            "SELECT tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5 " +
+            "FROM review_stats WHERE tv_show_id IN (:tvShowIds)";
+
+    // Increments in place so concurrent transitions on the same show never overwrite each other.
+    private static final String ADJUST_STATS =
+            "INSERT INTO review_stats (tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+            "VALUES (:tvShowId, :sumDelta, :countDelta, :delta1, :delta2, :delta3, :delta4, :delta5, now()) " +
+            "ON CONFLICT (tv_show_id) DO UPDATE SET " +
+            "rating_sum = review_stats.rating_sum + EXCLUDED.rating_sum, " +
+            "review_count = review_stats.review_count + EXCLUDED.review_count, " +
+            "rating_1 = review_stats.rating_1 + EXCLUDED.rating_1, " +
+            "rating_2 = review_stats.rating_2 + EXCLUDED.rating_2, " +
+            "rating_3 = review_stats.rating_3 + EXCLUDED.rating_3, " +
+            "rating_4 = review_stats.rating_4 + EXCLUDED.rating_4, " +
+            "rating_5 = review_stats.rating_5 + EXCLUDED.rating_5, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    // Blocks the increments above until the rebuild commits, so none of them is lost to its snapshot.
+    private static final String LOCK_STATS = "LOCK TABLE review_stats IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String REBUILD_STATS =
+            "WITH actual AS (" +
+            "    SELECT tv_show_id, SUM(rating) AS rating_sum, COUNT(*) AS review_count, " +
+            "           COUNT(*) FILTER (WHERE rating = 1) AS rating_1, COUNT(*) FILTER (WHERE rating = 2) AS rating_2, " +
+            "           COUNT(*) FILTER (WHERE rating = 3) AS rating_3, COUNT(*) FILTER (WHERE rating = 4) AS rating_4, " +
+            "           COUNT(*) FILTER (WHERE rating = 5) AS rating_5 " +
+            "    FROM reviews WHERE is_approved GROUP BY tv_show_id" +
+            ") " +
+            "INSERT INTO review_stats (tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at) " +
+            "SELECT tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5, now() FROM actual " +
+            "ON CONFLICT (tv_show_id) DO UPDATE SET " +
+            "rating_sum = EXCLUDED.rating_sum, review_count = EXCLUDED.review_count, " +
+            "rating_1 = EXCLUDED.rating_1, rating_2 = EXCLUDED.rating_2, rating_3 = EXCLUDED.rating_3, " +
+            "rating_4 = EXCLUDED.rating_4, rating_5 = EXCLUDED.rating_5, updated_at = EXCLUDED.updated_at " +
+            "WHERE (review_stats.rating_sum, review_stats.review_count, review_stats.rating_1, review_stats.rating_2, " +
+            "       review_stats.rating_3, review_stats.rating_4, review_stats.rating_5) " +
+            "IS DISTINCT FROM (EXCLUDED.rating_sum, EXCLUDED.review_count, EXCLUDED.rating_1, EXCLUDED.rating_2, " +
+            "       EXCLUDED.rating_3, EXCLUDED.rating_4, EXCLUDED.rating_5)";
+
+    private static final String DELETE_STALE_STATS =
+            "DELETE FROM review_stats s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM reviews r WHERE r.tv_show_id = s.tv_show_id AND r.is_approved)";
+
+    private static final RowMapper<ReviewStatsDto> STATS_MAPPER = (rs, rowNum) -> {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            distribution.put(rating, rs.getLong("rating_" + rating));
+        }
+
+        long count = rs.getLong("review_count");
+        return ReviewStatsDto.builder()
+                .tvShowId(rs.getLong("tv_show_id"))
+                .averageRating(count == 0 ? 0.0 : (double) rs.getLong("rating_sum") / count)
+                .totalReviews(count)
+                .ratingDistribution(distribution)
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReviewStatsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ReviewStatsDto> findByTvShowId(Long tvShowId) {
+        List<ReviewStatsDto> stats = jdbcTemplate.query(SELECT_STATS, new MapSqlParameterSource("tvShowId", tvShowId), STATS_MAPPER);
+
+        return stats.stream().findFirst();
+    }
+
+    public List<ReviewStatsDto> findByTvShowIds(Collection<Long> tvShowIds) {
+        return jdbcTemplate.query(SELECT_STATS_BATCH, new MapSqlParameterSource("tvShowIds", tvShowIds), STATS_MAPPER);
+    }
+
+    /**
+     * Adds {@code delta} reviews with the given rating to the show's aggregate; a negative delta
+     * removes them.
+     */
+    public void adjust(Long tvShowId, int rating, int delta) {
+        long[] histogramDelta = new long[MAX_RATING + 1];
+        histogramDelta[rating] = delta;
+
+        update(tvShowId, (long) rating * delta, delta, histogramDelta);
+    }
+
+    public void changeRating(Long tvShowId, int fromRating, int toRating) {
+        long[] histogramDelta = new long[MAX_RATING + 1];
+        histogramDelta[fromRating] -= 1;
+        histogramDelta[toRating] += 1;
+
+        update(tvShowId, toRating - fromRating, 0, histogramDelta);
+    }
+
+    /**
+     * Adds approved reviews to many shows in one batched round trip. Shows are written in id order
+     * so concurrent batches touching the same shows cannot deadlock on each other's rows.
+     */
+    public void addApproved(Map<Long, List<Integer>> ratingsByShow) {
+        MapSqlParameterSource[] batch = new TreeMap<>(ratingsByShow).entrySet().stream()
+                .map(entry -> {
+                    long[] histogramDelta = new long[MAX_RATING + 1];
+                    long sumDelta = 0;
+                    for (int rating : entry.getValue()) {
+                        histogramDelta[rating]++;
+                        sumDelta += rating;
+                    }
+                    return params(entry.getKey(), sumDelta, entry.getValue().size(), histogramDelta);
+                })
+                .toArray(MapSqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(ADJUST_STATS, batch);
+    }
+
+    public void lockForRebuild() {
+        jdbcTemplate.getJdbcTemplate().execute(LOCK_STATS);
+    }
+
+    /**
+     * Recomputes every show from its approved reviews, writing only rows that differ.
+     *
+     * @return the number of shows whose aggregate was missing or wrong
+     */
+    public int rebuildFromReviews() {
+        return jdbcTemplate.getJdbcTemplate().update(REBUILD_STATS);
+    }
+
+    /**
+     * Removes rows for shows that no longer have approved reviews; reads fall back to zeros.
+     */
+    public int deleteWithoutApprovedReviews() {
+        return jdbcTemplate.getJdbcTemplate().update(DELETE_STALE_STATS);
+    }
+
+    private void update(Long tvShowId, long sumDelta, long countDelta, long[] histogramDelta) {
+        jdbcTemplate.update(ADJUST_STATS, params(tvShowId, sumDelta, countDelta, histogramDelta));
+    }
+
+    private static MapSqlParameterSource params(Long tvShowId, long sumDelta, long countDelta, long[] histogramDelta) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tvShowId", tvShowId)
+                .addValue("sumDelta", sumDelta)
+                .addValue("countDelta", countDelta);
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            params.addValue("delta" + rating, histogramDelta[rating]);
+        }
+
+        return params;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ModerationProperties;
+import com.example.review_rating_service.dto.ClaimedReviewsDto;
+import com.example.review_rating_service.dto.ModerationResultDto;
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.enums.Role;
+import com.example.review_rating_service.exceptions.ActionNotAuthorized;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.ModerationBatchTooLargeException;
+import com.example.review_rating_service.repositories.ModerationQueueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moderation of pending reviews. Admins either browse the queue page by page or claim a batch,
+ * which leases it to them for {@code moderation.lease-duration} so concurrent moderators work on
+ * different reviews. Approving and rejecting take many review ids and skip reviews that are gone,
+ * already approved, or leased to someone else.
+ */
+@Service
+@Slf4j
+public class ModerationQueueService {
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final ModerationQueueRepository moderationQueueRepository;
+
+    private final ReviewStatsService reviewStatsService;
+
+    private final ReviewFeedService reviewFeedService;
+
+    private final ModerationProperties properties;
+
+    public ModerationQueueService(
+            ModerationQueueRepository moderationQueueRepository,
+            ReviewStatsService reviewStatsService,
+            ReviewFeedService reviewFeedService,
+            ModerationProperties properties
+    ) {
+        this.moderationQueueRepository = moderationQueueRepository;
+        this.reviewStatsService = reviewStatsService;
+        this.reviewFeedService = reviewFeedService;
+        this.properties = properties;
+    }
+
+    public ReviewCursorPageDto getPendingReviews(String cursor, int size, String role) throws ActionNotAuthorized, InvalidCursorException {
+        requireAdmin(role);
+
+        int limit = pageSize(size);
+        QueuePosition after = decode(cursor);
+        List<ReviewDto> reviews = after == null
+                ? moderationQueueRepository.findPending(null, null, limit + 1)
+                : moderationQueueRepository.findPending(after.createdAt(), after.id(), limit + 1);
+
+        boolean hasNext = reviews.size() > limit;
+        List<ReviewDto> content = hasNext ? reviews.subList(0, limit) : reviews;
+
+        return ReviewCursorPageDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encode(content.get(content.size() - 1)) : null)
+                .build();
+    }
+
+    @Transactional
+    public ClaimedReviewsDto claimPendingReviews(int size, String moderator, String role) throws ActionNotAuthorized {
+        requireAdmin(role);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leasedUntil = now.plus(properties.getLeaseDuration());
+
+        return ClaimedReviewsDto.builder()
+                .reviews(moderationQueueRepository.claim(moderator, pageSize(size), now, leasedUntil))
+                .leasedUntil(leasedUntil)
+                .build();
+    }
+
+    @Transactional
+    public ModerationResultDto approveReviews(Collection<UUID> reviewIds, String moderator, String role) throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        requireAdmin(role);
+
+        Set<UUID> requested = batch(reviewIds);
+        if (requested.isEmpty()) {
+            return result(requested, List.of());
+        }
+
+        List<ReviewDto> approved = moderationQueueRepository.approve(requested, moderator, LocalDateTime.now());
+        reviewStatsService.reviewsApproved(approved);
+        approved.stream().map(ReviewDto::getTvShowId).distinct().forEach(reviewFeedService::invalidate);
+
+        return result(requested, approved.stream().map(ReviewDto::getId).toList());
+    }
+
+    @Transactional
+    public ModerationResultDto rejectReviews(Collection<UUID> reviewIds, String moderator, String role) throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        requireAdmin(role);
+
+        Set<UUID> requested = batch(reviewIds);
+        if (requested.isEmpty()) {
+            return result(requested, List.of());
+        }
+
+        return result(requested, moderationQueueRepository.reject(requested, moderator, LocalDateTime.now()));
+    }
+
+    private void requireAdmin(String role) throws ActionNotAuthorized {
+        if (!Role.valueOf(role).equals(Role.ADMIN)) {
+            throw new ActionNotAuthorized();
+        }
+    }
+
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), properties.getMaxPageSize());
+    }
+
+    private Set<UUID> batch(Collection<UUID> reviewIds) throws ModerationBatchTooLargeException {
+        Set<UUID> distinctIds = new HashSet<>();
+        if (reviewIds != null) {
+            reviewIds.stream().filter(Objects::nonNull).forEach(distinctIds::add);
+        }
+
+        if (distinctIds.size() > properties.getMaxBatchIds()) {
+            throw new ModerationBatchTooLargeException(properties.getMaxBatchIds());
+        }
+
+        return distinctIds;
+    }
+
+    private static ModerationResultDto result(Set<UUID> requested, List<UUID> processed) {
+        Set<UUID> skipped = new HashSet<>(requested);
+        processed.forEach(skipped::remove);
+
+        return ModerationResultDto.builder()
+                .processed(processed)
+                .skipped(List.copyOf(skipped))
+                .build();
+    }
+
+    private static String encode(ReviewDto last) {
+        String position = last.getCreatedAt() + CURSOR_SEPARATOR + last.getId();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static QueuePosition decode(String cursor) throws InvalidCursorException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(CURSOR_SEPARATOR);
+            return new QueuePosition(LocalDateTime.parse(position.substring(0, separator)), UUID.fromString(position.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private record QueuePosition(LocalDateTime createdAt, UUID id) {
+    }
+}
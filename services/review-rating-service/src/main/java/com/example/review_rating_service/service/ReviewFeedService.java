@@ -0,0 +1,147 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ReviewFeedProperties;
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.enums.ReviewSortField;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.UnsupportedSortException;
+import com.example.review_rating_service.repositories.ReviewFeedRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cursor-paged feed of a show's approved reviews. Most readers only see the first page, so it is
+ * cached per show for every sort order and page size asked for, and dropped as a whole once a
+ * transaction that approves, edits or removes one of the show's approved reviews commits.
+ * Invalidation only reaches this instance; other instances drop the page when its short TTL expires.
+ */
+@Service
+@Slf4j
+public class ReviewFeedService {
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final ReviewFeedRepository reviewFeedRepository;
+
+    private final ReviewFeedProperties properties;
+
+    // tvShowId -> first pages keyed by sort order and size. A load that is still running when the
+    // show is invalidated writes into the detached map, so it can never bring back the old page.
+    private final Cache<Long, Map<String, ReviewCursorPageDto>> firstPages;
+
+    public ReviewFeedService(ReviewFeedRepository reviewFeedRepository, ReviewFeedProperties properties) {
+        this.reviewFeedRepository = reviewFeedRepository;
+        this.properties = properties;
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(properties.getFirstPageMaxShows())
+                .expireAfterWrite(properties.getFirstPageTtl())
+                .build();
+    }
+
+    public ReviewCursorPageDto getReviews(Long tvShowId, String cursor, int size, String sortBy, String sortDir) throws UnsupportedSortException, InvalidCursorException {
+        ReviewSortField sortField = sortField(sortBy);
+        boolean descending = "desc".equalsIgnoreCase(sortDir);
+        int limit = Math.min(Math.max(size, 1), properties.getMaxPageSize());
+
+        FeedPosition after = decode(cursor);
+        if (after == null) {
+            String pageKey = sortField.getValue() + (descending ? ":desc:" : ":asc:") + limit;
+
+            return firstPages.get(tvShowId, id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(pageKey, key -> loadPage(tvShowId, sortField, descending, null, limit));
+        }
+
+        if (after.sortField() != sortField || after.descending() != descending) {
+            throw new InvalidCursorException();
+        }
+
+        return loadPage(tvShowId, sortField, descending, after, limit);
+    }
+
+    /**
+     * Drops the show's cached first pages once the current transaction commits, or right away
+     * outside a transaction. Dropping before commit would let a concurrent read cache the old rows.
+     */
+    public void invalidate(Long tvShowId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            firstPages.invalidate(tvShowId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                firstPages.invalidate(tvShowId);
+            }
+        });
+    }
+
+    static ReviewSortField sortField(String sortBy) throws UnsupportedSortException {
+        try {
+            return ReviewSortField.fromValue(sortBy);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedSortException(sortBy);
+        }
+    }
+
+    private ReviewCursorPageDto loadPage(Long tvShowId, ReviewSortField sortField, boolean descending, FeedPosition after, int limit) {
+        List<ReviewDto> reviews = after == null
+                ? reviewFeedRepository.findPage(tvShowId, sortField, descending, null, null, null, limit + 1)
+                : reviewFeedRepository.findPage(tvShowId, sortField, descending, after.rating(), after.createdAt(), after.id(), limit + 1);
+
+        boolean hasNext = reviews.size() > limit;
+        List<ReviewDto> content = hasNext ? List.copyOf(reviews.subList(0, limit)) : reviews;
+
+        return ReviewCursorPageDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encode(sortField, descending, content.get(content.size() - 1)) : null)
+                .build();
+    }
+
+    private static String encode(ReviewSortField sortField, boolean descending, ReviewDto last) {
+        String position = String.join(CURSOR_SEPARATOR,
+                sortField.name(),
+                descending ? "desc" : "asc",
+                String.valueOf(last.getRating()),
+                String.valueOf(last.getCreatedAt()),
+                String.valueOf(last.getId()));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FeedPosition decode(String cursor) throws InvalidCursorException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + CURSOR_SEPARATOR);
+            return new FeedPosition(
+                    ReviewSortField.valueOf(parts[0]),
+                    "desc".equals(parts[1]),
+                    Integer.valueOf(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    UUID.fromString(parts[4])
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private record FeedPosition(ReviewSortField sortField, boolean descending, Integer rating, LocalDateTime createdAt, UUID id) {
+    }
+}
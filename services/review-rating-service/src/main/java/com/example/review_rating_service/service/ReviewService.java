@@ -1,23 +1,36 @@
 package com.example.review_rating_service.service;
 
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
 import com.example.review_rating_service.dto.ReviewDto;
 import com.example.review_rating_service.dto.ReviewStatsDto;
 import com.example.review_rating_service.dto.StoreReviewDto;
 import com.example.review_rating_service.dto.UpdateReviewDto;
 import com.example.review_rating_service.enums.Membership;
+import com.example.review_rating_service.enums.ReviewSortField;
 import com.example.review_rating_service.enums.Role;
 import com.example.review_rating_service.exceptions.ActionNotAuthorized;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.InvalidRatingException;
+import com.example.review_rating_service.exceptions.ReviewClaimedException;
 import com.example.review_rating_service.exceptions.ReviewNotFoundException;
 import com.example.review_rating_service.exceptions.ReviewsNotFoundException;
+import com.example.review_rating_service.exceptions.StatsRequestTooLargeException;
+import com.example.review_rating_service.exceptions.UnsupportedSortException;
 import com.example.review_rating_service.mapper.ReviewMapper;
 import com.example.review_rating_service.models.Review;
+import com.example.review_rating_service.repositories.ModerationQueueRepository;
 import com.example.review_rating_service.repositories.ReviewRepository;
+import com.example.review_rating_service.repositories.ReviewStatsRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,13 +40,25 @@ public class ReviewService {
 
     private final ReviewMapper reviewMapper;
     private final ReviewRepository reviewRepository;
-
-    public ReviewService(ReviewMapper reviewMapper, ReviewRepository reviewRepository) {
+    private final ReviewStatsService reviewStatsService;
+    private final ReviewFeedService reviewFeedService;
+    private final ModerationQueueRepository moderationQueueRepository;
+
+    public ReviewService(
+            ReviewMapper reviewMapper,
+            ReviewRepository reviewRepository,
+            ReviewStatsService reviewStatsService,
+            ReviewFeedService reviewFeedService,
+            ModerationQueueRepository moderationQueueRepository
+    ) {
         this.reviewMapper = reviewMapper;
         this.reviewRepository = reviewRepository;
+        this.reviewStatsService = reviewStatsService;
+        this.reviewFeedService = reviewFeedService;
+        this.moderationQueueRepository = moderationQueueRepository;
     }
 
-    public void storeReview(StoreReviewDto storeReviewDto, Long tvShowId, String username, String role, String membership) throws ActionNotAuthorized {
+    public void storeReview(StoreReviewDto storeReviewDto, Long tvShowId, String username, String role, String membership) throws ActionNotAuthorized, InvalidRatingException {
         Role userRole = Role.valueOf(role);
         Membership userMembership = Membership.valueOf(membership);
 
@@ -41,6 +66,8 @@ public void storeReview(StoreReviewDto storeReviewDto, Long tvShowId, String use
             throw new ActionNotAuthorized();
         }
 
+        requireValidRating(storeReviewDto.getRating());
+
         Review review = reviewMapper.toModel(storeReviewDto);
         review.setUsername(username);
         review.setTvShowId(tvShowId);
@@ -68,35 +95,49 @@ public List<ReviewDto> getReviews(String username) throws ReviewsNotFoundExcepti
         return reviewList.stream().map(reviewMapper::toDto).toList();
     }
 
-    public ReviewDto getReview(UUID reviewId, UpdateReviewDto updateReviewDto, String role) throws ReviewNotFoundException, ActionNotAuthorized {
+    @Transactional
+    public ReviewDto getReview(UUID reviewId, UpdateReviewDto updateReviewDto, String role) throws ReviewNotFoundException, ActionNotAuthorized, InvalidRatingException {
         if (!Role.valueOf(role).equals(Role.ADMIN)) {
             throw new ActionNotAuthorized();
         }
 
-        Review review = reviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
+        requireValidRating(updateReviewDto.getRating());
+
+        Review review = reviewRepository.findByIdForUpdate(reviewId).orElseThrow(ReviewNotFoundException::new);
+        int previousRating = review.getRating();
 
         review.setContent(updateReviewDto.getContent());
         review.setRating(updateReviewDto.getRating());
 
+        if (Boolean.TRUE.equals(review.getIsApproved())) {
+            reviewStatsService.approvedRatingChanged(review.getTvShowId(), previousRating, review.getRating());
+            reviewFeedService.invalidate(review.getTvShowId());
+        }
+
         reviewRepository.save(review);
 
         return reviewMapper.toDto(review);
     }
 
-    public Page<ReviewDto> getReviewsByTvShow(Long tvShowId, Pageable pageable) {
+    public Page<ReviewDto> getReviewsByTvShow(Long tvShowId, int page, int size, String sortBy, String sortDir) throws UnsupportedSortException {
+        ReviewSortField sortField = ReviewFeedService.sortField(sortBy);
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField.getAttributes().toArray(String[]::new)));
+
         Page<Review> reviews = reviewRepository.findAllByTvShowIdAndIsApprovedTrue(tvShowId, pageable);
         return reviews.map(reviewMapper::toDto);
     }
 
+    public ReviewCursorPageDto getReviewsByTvShowAfter(Long tvShowId, String cursor, int size, String sortBy, String sortDir) throws UnsupportedSortException, InvalidCursorException {
+        return reviewFeedService.getReviews(tvShowId, cursor, size, sortBy, sortDir);
+    }
+
     public ReviewStatsDto getReviewStats(Long tvShowId) {
-        Double averageRating = reviewRepository.findAverageRatingByTvShowId(tvShowId);
-        Long totalReviews = reviewRepository.countApprovedReviewsByTvShowId(tvShowId);
-        
-        return ReviewStatsDto.builder()
-                .tvShowId(tvShowId)
-                .averageRating(averageRating != null ? averageRating : 0.0)
-                .totalReviews(totalReviews != null ? totalReviews : 0L)
-                .build();
+        return reviewStatsService.getStats(tvShowId);
+    }
+
+    public List<ReviewStatsDto> getReviewStats(List<Long> tvShowIds) throws StatsRequestTooLargeException {
+        return reviewStatsService.getStats(tvShowIds);
     }
 
     public ReviewDto getUserReviewForShow(Long tvShowId, String username) throws ReviewNotFoundException {
@@ -105,43 +146,80 @@ public ReviewDto getUserReviewForShow(Long tvShowId, String username) throws Rev
         return reviewMapper.toDto(review);
     }
 
+    @Transactional
     public void deleteReview(UUID reviewId, String username, String role) throws ReviewNotFoundException, ActionNotAuthorized {
-        Review review = reviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
+        Review review = reviewRepository.findByIdForUpdate(reviewId).orElseThrow(ReviewNotFoundException::new);
         
         Role userRole = Role.valueOf(role);
         if (!userRole.equals(Role.ADMIN) && !review.getUsername().equals(username)) {
             throw new ActionNotAuthorized();
         }
         
-        reviewRepository.delete(review);
+        removeReview(review);
     }
 
-    public List<ReviewDto> getPendingReviews(String role) throws ActionNotAuthorized {
+    /**
+     * Pending reviews are approved through the moderation queue, so a review leased to another
+     * moderator is refused and the lease is cleared on approval.
+     */
+    @Transactional
+    public void approveReview(UUID reviewId, String moderator, String role) throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
         if (!Role.valueOf(role).equals(Role.ADMIN)) {
             throw new ActionNotAuthorized();
         }
         
-        List<Review> pendingReviews = reviewRepository.findAllByIsApprovedFalse();
-        return pendingReviews.stream().map(reviewMapper::toDto).toList();
+        Review review = reviewRepository.findByIdForUpdate(reviewId).orElseThrow(ReviewNotFoundException::new);
+
+        if (Boolean.TRUE.equals(review.getIsApproved())) {
+            review.setIsFlagged(false);
+            reviewRepository.save(review);
+            return;
+        }
+
+        List<ReviewDto> approved = moderationQueueRepository.approve(List.of(reviewId), moderator, LocalDateTime.now());
+        if (approved.isEmpty()) {
+            throw new ReviewClaimedException();
+        }
+
+        reviewStatsService.reviewsApproved(approved);
+        reviewFeedService.invalidate(review.getTvShowId());
     }
 
-    public void approveReview(UUID reviewId, String role) throws ReviewNotFoundException, ActionNotAuthorized {
+    /**
+     * Pending reviews are rejected through the moderation queue, so a review leased to another
+     * moderator is refused. Rejecting an approved review removes it like a delete.
+     */
+    @Transactional
+    public void rejectReview(UUID reviewId, String moderator, String role) throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
         if (!Role.valueOf(role).equals(Role.ADMIN)) {
             throw new ActionNotAuthorized();
         }
         
-        Review review = reviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
-        review.setIsApproved(true);
-        review.setIsFlagged(false);
-        reviewRepository.save(review);
+        Review review = reviewRepository.findByIdForUpdate(reviewId).orElseThrow(ReviewNotFoundException::new);
+
+        if (Boolean.TRUE.equals(review.getIsApproved())) {
+            removeReview(review);
+            return;
+        }
+
+        if (moderationQueueRepository.reject(List.of(reviewId), moderator, LocalDateTime.now()).isEmpty()) {
+            throw new ReviewClaimedException();
+        }
     }
 
-    public void rejectReview(UUID reviewId, String role) throws ReviewNotFoundException, ActionNotAuthorized {
-        if (!Role.valueOf(role).equals(Role.ADMIN)) {
-            throw new ActionNotAuthorized();
+    // Ratings index the stats histogram, so anything outside it has to be refused up front
+    private static void requireValidRating(Integer rating) throws InvalidRatingException {
+        if (rating == null || rating < ReviewStatsRepository.MIN_RATING || rating > ReviewStatsRepository.MAX_RATING) {
+            throw new InvalidRatingException(ReviewStatsRepository.MIN_RATING, ReviewStatsRepository.MAX_RATING);
         }
-        
-        Review review = reviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
+    }
+
+    private void removeReview(Review review) {
         reviewRepository.delete(review);
+
+        if (Boolean.TRUE.equals(review.getIsApproved())) {
+            reviewStatsService.approvedReviewRemoved(review);
+            reviewFeedService.invalidate(review.getTvShowId());
+        }
     }
 }
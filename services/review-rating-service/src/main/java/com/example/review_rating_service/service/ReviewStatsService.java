@@ -0,0 +1,116 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ReviewStatsProperties;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.dto.ReviewStatsDto;
+import com.example.review_rating_service.exceptions.StatsRequestTooLargeException;
+import com.example.review_rating_service.models.Review;
+import com.example.review_rating_service.repositories.ReviewStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-show rating aggregates in {@code review_stats}. Every review transition that changes what
+ * counts towards a show's rating adjusts its row inside the same transaction, so reading stats is
+ * a primary key lookup instead of AVG and COUNT over the show's reviews. A scheduled rebuild
+ * recomputes the table from {@code reviews} and repairs any drift.
+ */
+@Service
+@Slf4j
+public class ReviewStatsService {
+    private final ReviewStatsRepository reviewStatsRepository;
+
+    private final ReviewStatsProperties properties;
+
+    public ReviewStatsService(ReviewStatsRepository reviewStatsRepository, ReviewStatsProperties properties) {
+        this.reviewStatsRepository = reviewStatsRepository;
+        this.properties = properties;
+    }
+
+    public ReviewStatsDto getStats(Long tvShowId) {
+        return reviewStatsRepository.findByTvShowId(tvShowId).orElseGet(() -> empty(tvShowId));
+    }
+
+    /**
+     * Stats for every requested show in one query, in request order with duplicates removed.
+     * Shows without approved reviews get zeros.
+     */
+    public List<ReviewStatsDto> getStats(Collection<Long> tvShowIds) throws StatsRequestTooLargeException {
+        List<Long> distinctIds = tvShowIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > properties.getBatchMaxIds()) {
+            throw new StatsRequestTooLargeException(properties.getBatchMaxIds());
+        }
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ReviewStatsDto> statsByShow = reviewStatsRepository.findByTvShowIds(distinctIds).stream()
+                .collect(Collectors.toMap(ReviewStatsDto::getTvShowId, Function.identity()));
+
+        return distinctIds.stream()
+                .map(tvShowId -> statsByShow.containsKey(tvShowId) ? statsByShow.get(tvShowId) : empty(tvShowId))
+                .toList();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewsApproved(Collection<ReviewDto> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+
+        reviewStatsRepository.addApproved(reviews.stream()
+                .collect(Collectors.groupingBy(ReviewDto::getTvShowId, Collectors.mapping(ReviewDto::getRating, Collectors.toList()))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void approvedReviewRemoved(Review review) {
+        reviewStatsRepository.adjust(review.getTvShowId(), review.getRating(), -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void approvedRatingChanged(Long tvShowId, int fromRating, int toRating) {
+        if (fromRating != toRating) {
+            reviewStatsRepository.changeRating(tvShowId, fromRating, toRating);
+        }
+    }
+
+    @Scheduled(cron = "${review-stats.rebuild-cron:0 30 3 * * *}")
+    @Transactional
+    public void rebuild() {
+        reviewStatsRepository.lockForRebuild();
+        int repaired = reviewStatsRepository.rebuildFromReviews();
+        int removed = reviewStatsRepository.deleteWithoutApprovedReviews();
+
+        if (repaired > 0) {
+            log.warn("Review stats rebuild repaired {} shows", repaired);
+        }
+        if (removed > 0) {
+            log.info("Review stats rebuild removed {} shows without approved reviews", removed);
+        }
+    }
+
+    static ReviewStatsDto empty(Long tvShowId) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = ReviewStatsRepository.MIN_RATING; rating <= ReviewStatsRepository.MAX_RATING; rating++) {
+            distribution.put(rating, 0L);
+        }
+
+        return ReviewStatsDto.builder()
+                .tvShowId(tvShowId)
+                .averageRating(0.0)
+                .totalReviews(0L)
+                .ratingDistribution(distribution)
+                .build();
+    }
+}
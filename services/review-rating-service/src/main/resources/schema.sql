@@ -26,3 +26,38 @@ CREATE INDEX IF NOT EXISTS idx_reviews_tv_show_id ON reviews(tv_show_id);
 CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews(created_at);
 CREATE INDEX IF NOT EXISTS idx_reviews_approved ON reviews(is_approved);
 CREATE INDEX IF NOT EXISTS idx_reviews_flagged ON reviews(is_flagged);
+
+-- Moderation leases: a claimed pending review is hidden from other moderators until claimed_until.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(50);
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+-- Moderation queue order; only unapproved rows are indexed so it stays as small as the backlog.
+CREATE INDEX IF NOT EXISTS idx_reviews_pending_queue ON reviews(created_at, id) WHERE NOT is_approved;
+
+-- Per-show review feed, one index per ReviewSortField; scanned backwards for descending order.
+CREATE INDEX IF NOT EXISTS idx_reviews_feed_created_at ON reviews(tv_show_id, created_at, id) WHERE is_approved;
+CREATE INDEX IF NOT EXISTS idx_reviews_feed_rating ON reviews(tv_show_id, rating, created_at, id) WHERE is_approved;
+
+CREATE TABLE IF NOT EXISTS review_stats (
+    tv_show_id BIGINT PRIMARY KEY,
+
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    review_count BIGINT NOT NULL DEFAULT 0,
+
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One-time backfill when the table is introduced; afterwards ReviewStatsService keeps it current.
+INSERT INTO review_stats (tv_show_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5)
+SELECT tv_show_id, SUM(rating), COUNT(*),
+       COUNT(*) FILTER (WHERE rating = 1), COUNT(*) FILTER (WHERE rating = 2), COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4), COUNT(*) FILTER (WHERE rating = 5)
+FROM reviews
+WHERE is_approved AND NOT EXISTS (SELECT 1 FROM review_stats)
+GROUP BY tv_show_id;
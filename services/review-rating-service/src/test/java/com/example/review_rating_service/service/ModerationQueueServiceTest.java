@@ -0,0 +1,163 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ModerationProperties;
+import com.example.review_rating_service.dto.ClaimedReviewsDto;
+import com.example.review_rating_service.dto.ModerationResultDto;
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.exceptions.ActionNotAuthorized;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.ModerationBatchTooLargeException;
+import com.example.review_rating_service.repositories.ModerationQueueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModerationQueueServiceTest {
+
+    @Mock
+    private ModerationQueueRepository moderationQueueRepository;
+
+    @Mock
+    private ReviewStatsService reviewStatsService;
+
+    @Mock
+    private ReviewFeedService reviewFeedService;
+
+    @Spy
+    private ModerationProperties properties = new ModerationProperties();
+
+    @InjectMocks
+    private ModerationQueueService moderationQueueService;
+
+    @Test
+    void getPendingReviews_ShouldReturnFirstPageWithCursorToNextOne() throws ActionNotAuthorized, InvalidCursorException {
+        ReviewDto first = pending(LocalDateTime.of(2026, 1, 1, 10, 0));
+        ReviewDto second = pending(LocalDateTime.of(2026, 1, 1, 11, 0));
+        ReviewDto third = pending(LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(moderationQueueRepository.findPending(null, null, 3)).thenReturn(List.of(first, second, third));
+
+        ReviewCursorPageDto page = moderationQueueService.getPendingReviews(null, 2, "ADMIN");
+
+        assertEquals(List.of(first, second), page.getContent());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPendingReviews_ShouldContinueAfterCursorPosition() throws ActionNotAuthorized, InvalidCursorException {
+        ReviewDto first = pending(LocalDateTime.of(2026, 1, 1, 10, 0));
+        ReviewDto second = pending(LocalDateTime.of(2026, 1, 1, 11, 0));
+        when(moderationQueueRepository.findPending(null, null, 2)).thenReturn(List.of(first, second));
+        String cursor = moderationQueueService.getPendingReviews(null, 1, "ADMIN").getNextCursor();
+
+        ReviewCursorPageDto page = moderationQueueService.getPendingReviews(cursor, 1, "ADMIN");
+
+        verify(moderationQueueRepository).findPending(first.getCreatedAt(), first.getId(), 2);
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPendingReviews_ShouldCapPageSize() throws ActionNotAuthorized, InvalidCursorException {
+        properties.setMaxPageSize(50);
+
+        moderationQueueService.getPendingReviews(null, 10_000, "ADMIN");
+
+        verify(moderationQueueRepository).findPending(null, null, 51);
+    }
+
+    @Test
+    void getPendingReviews_ShouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> moderationQueueService.getPendingReviews("not-a-cursor", 20, "ADMIN"));
+        verifyNoInteractions(moderationQueueRepository);
+    }
+
+    @Test
+    void getPendingReviews_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
+        assertThrows(ActionNotAuthorized.class, () -> moderationQueueService.getPendingReviews(null, 20, "USER"));
+        verifyNoInteractions(moderationQueueRepository);
+    }
+
+    @Test
+    void claimPendingReviews_ShouldLeaseReviewsForConfiguredDuration() throws ActionNotAuthorized {
+        properties.setLeaseDuration(Duration.ofMinutes(2));
+        ReviewDto review = pending(LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(moderationQueueRepository.claim(eq("admin"), eq(20), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(review));
+
+        ClaimedReviewsDto claimed = moderationQueueService.claimPendingReviews(20, "admin", "ADMIN");
+
+        assertEquals(List.of(review), claimed.getReviews());
+        verify(moderationQueueRepository).claim(eq("admin"), eq(20), argThat(now -> now.plusMinutes(2).equals(claimed.getLeasedUntil())), eq(claimed.getLeasedUntil()));
+    }
+
+    @Test
+    void approveReviews_ShouldApproveInOneStatementAndUpdateStats() throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        ReviewDto approved = pending(LocalDateTime.of(2026, 1, 1, 10, 0));
+        UUID leasedElsewhere = UUID.randomUUID();
+        when(moderationQueueRepository.approve(eq(Set.of(approved.getId(), leasedElsewhere)), eq("admin"), any(LocalDateTime.class)))
+                .thenReturn(List.of(approved));
+
+        ModerationResultDto result = moderationQueueService.approveReviews(List.of(approved.getId(), leasedElsewhere, approved.getId()), "admin", "ADMIN");
+
+        assertEquals(List.of(approved.getId()), result.getProcessed());
+        assertEquals(List.of(leasedElsewhere), result.getSkipped());
+        verify(moderationQueueRepository, times(1)).approve(any(), any(), any());
+        verify(reviewStatsService).reviewsApproved(List.of(approved));
+        verify(reviewFeedService).invalidate(7L);
+    }
+
+    @Test
+    void rejectReviews_ShouldReportSkippedReviewsAndLeaveStatsAlone() throws ActionNotAuthorized, ModerationBatchTooLargeException {
+        UUID rejected = UUID.randomUUID();
+        UUID alreadyApproved = UUID.randomUUID();
+        when(moderationQueueRepository.reject(eq(Set.of(rejected, alreadyApproved)), eq("admin"), any(LocalDateTime.class)))
+                .thenReturn(List.of(rejected));
+
+        ModerationResultDto result = moderationQueueService.rejectReviews(List.of(rejected, alreadyApproved), "admin", "ADMIN");
+
+        assertEquals(List.of(rejected), result.getProcessed());
+        assertEquals(List.of(alreadyApproved), result.getSkipped());
+        verifyNoInteractions(reviewStatsService);
+    }
+
+    @Test
+    void approveReviews_ShouldRejectTooManyIds() {
+        properties.setMaxBatchIds(1);
+
+        assertThrows(ModerationBatchTooLargeException.class, () ->
+                moderationQueueService.approveReviews(List.of(UUID.randomUUID(), UUID.randomUUID()), "admin", "ADMIN"));
+        verifyNoInteractions(moderationQueueRepository, reviewStatsService);
+    }
+
+    @Test
+    void approveReviews_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
+        assertThrows(ActionNotAuthorized.class, () -> moderationQueueService.approveReviews(List.of(UUID.randomUUID()), "user", "USER"));
+        verifyNoInteractions(moderationQueueRepository, reviewStatsService);
+    }
+
+    private static ReviewDto pending(LocalDateTime createdAt) {
+        return ReviewDto.builder()
+                .id(UUID.randomUUID())
+                .tvShowId(7L)
+                .rating(4)
+                .isApproved(false)
+                .createdAt(createdAt)
+                .build();
+    }
+}
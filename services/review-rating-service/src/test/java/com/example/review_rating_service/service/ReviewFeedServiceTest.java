@@ -0,0 +1,137 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ReviewFeedProperties;
+import com.example.review_rating_service.dto.ReviewCursorPageDto;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.enums.ReviewSortField;
+import com.example.review_rating_service.exceptions.InvalidCursorException;
+import com.example.review_rating_service.exceptions.UnsupportedSortException;
+import com.example.review_rating_service.repositories.ReviewFeedRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewFeedServiceTest {
+
+    @Mock
+    private ReviewFeedRepository reviewFeedRepository;
+
+    private ReviewFeedService reviewFeedService;
+
+    @BeforeEach
+    void setUp() {
+        reviewFeedService = new ReviewFeedService(reviewFeedRepository, new ReviewFeedProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getReviews_ShouldServeFirstPageFromCache() throws UnsupportedSortException, InvalidCursorException {
+        ReviewDto review = review(5, LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(reviewFeedRepository.findPage(7L, ReviewSortField.CREATED_AT, true, null, null, null, 11)).thenReturn(List.of(review));
+
+        ReviewCursorPageDto first = reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+        ReviewCursorPageDto second = reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+
+        assertSame(first, second);
+        assertEquals(List.of(review), second.getContent());
+        verify(reviewFeedRepository, times(1)).findPage(anyLong(), any(), anyBoolean(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getReviews_ShouldCacheEachSortOrderSeparately() throws UnsupportedSortException, InvalidCursorException {
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+        reviewFeedService.getReviews(7L, "", 10, "rating", "desc");
+        reviewFeedService.getReviews(7L, "", 10, "rating", "desc");
+
+        verify(reviewFeedRepository).findPage(7L, ReviewSortField.CREATED_AT, true, null, null, null, 11);
+        verify(reviewFeedRepository).findPage(7L, ReviewSortField.RATING, true, null, null, null, 11);
+    }
+
+    @Test
+    void invalidate_ShouldReloadFirstPage_WhenCalledOutsideTransaction() throws UnsupportedSortException, InvalidCursorException {
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+
+        reviewFeedService.invalidate(7L);
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+
+        verify(reviewFeedRepository, times(2)).findPage(7L, ReviewSortField.CREATED_AT, true, null, null, null, 11);
+    }
+
+    @Test
+    void invalidate_ShouldWaitForCommit_WhenCalledInsideTransaction() throws UnsupportedSortException, InvalidCursorException {
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+        TransactionSynchronizationManager.initSynchronization();
+
+        reviewFeedService.invalidate(7L);
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+        verify(reviewFeedRepository, times(1)).findPage(anyLong(), any(), anyBoolean(), any(), any(), any(), anyInt());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        reviewFeedService.getReviews(7L, "", 10, "createdAt", "desc");
+        verify(reviewFeedRepository, times(2)).findPage(anyLong(), any(), anyBoolean(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getReviews_ShouldContinueAfterLastReviewOfPreviousPage() throws UnsupportedSortException, InvalidCursorException {
+        ReviewDto first = review(5, LocalDateTime.of(2026, 1, 1, 10, 0));
+        ReviewDto second = review(4, LocalDateTime.of(2026, 1, 1, 11, 0));
+        when(reviewFeedRepository.findPage(7L, ReviewSortField.RATING, true, null, null, null, 2)).thenReturn(List.of(first, second));
+
+        ReviewCursorPageDto page = reviewFeedService.getReviews(7L, "", 1, "rating", "desc");
+        reviewFeedService.getReviews(7L, page.getNextCursor(), 1, "rating", "desc");
+
+        assertTrue(page.isHasNext());
+        assertEquals(List.of(first), page.getContent());
+        verify(reviewFeedRepository).findPage(7L, ReviewSortField.RATING, true, 5, first.getCreatedAt(), first.getId(), 2);
+    }
+
+    @Test
+    void getReviews_ShouldRejectCursorFromAnotherSortOrder() throws UnsupportedSortException, InvalidCursorException {
+        when(reviewFeedRepository.findPage(eq(7L), eq(ReviewSortField.RATING), eq(true), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(review(5, LocalDateTime.now()), review(4, LocalDateTime.now())));
+        String cursor = reviewFeedService.getReviews(7L, "", 1, "rating", "desc").getNextCursor();
+
+        assertThrows(InvalidCursorException.class, () -> reviewFeedService.getReviews(7L, cursor, 1, "createdAt", "desc"));
+        assertThrows(InvalidCursorException.class, () -> reviewFeedService.getReviews(7L, "garbage", 1, "rating", "desc"));
+    }
+
+    @Test
+    void getReviews_ShouldRejectUnsupportedSort() {
+        assertThrows(UnsupportedSortException.class, () -> reviewFeedService.getReviews(7L, "", 10, "username", "desc"));
+        verifyNoInteractions(reviewFeedRepository);
+    }
+
+    private static ReviewDto review(int rating, LocalDateTime createdAt) {
+        return ReviewDto.builder()
+                .id(UUID.randomUUID())
+                .tvShowId(7L)
+                .rating(rating)
+                .isApproved(true)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -7,10 +7,14 @@
 import com.example.review_rating_service.enums.Membership;
 import com.example.review_rating_service.enums.Role;
 import com.example.review_rating_service.exceptions.ActionNotAuthorized;
+import com.example.review_rating_service.exceptions.InvalidRatingException;
+import com.example.review_rating_service.exceptions.ReviewClaimedException;
 import com.example.review_rating_service.exceptions.ReviewNotFoundException;
 import com.example.review_rating_service.exceptions.ReviewsNotFoundException;
+import com.example.review_rating_service.exceptions.UnsupportedSortException;
 import com.example.review_rating_service.mapper.ReviewMapper;
 import com.example.review_rating_service.models.Review;
+import com.example.review_rating_service.repositories.ModerationQueueRepository;
 import com.example.review_rating_service.repositories.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,10 @@
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -42,6 +49,15 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewStatsService reviewStatsService;
+
+    @Mock
+    private ReviewFeedService reviewFeedService;
+
+    @Mock
+    private ModerationQueueRepository moderationQueueRepository;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -90,7 +106,7 @@ void setUp() {
     }
 
     @Test
-    void storeReview_ShouldStoreSuccessfully_WhenPremiumUser() throws ActionNotAuthorized {
+    void storeReview_ShouldStoreSuccessfully_WhenPremiumUser() throws ActionNotAuthorized, InvalidRatingException {
         when(reviewMapper.toModel(storeReviewDto)).thenReturn(review);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
 
@@ -110,7 +126,7 @@ void storeReview_ShouldThrowActionNotAuthorized_WhenFreeUser() {
     }
 
     @Test
-    void storeReview_ShouldSetFlaggedTrue_WhenAdminUser() throws ActionNotAuthorized {
+    void storeReview_ShouldSetFlaggedTrue_WhenAdminUser() throws ActionNotAuthorized, InvalidRatingException {
         Review savedReview = new Review();
         when(reviewMapper.toModel(storeReviewDto)).thenReturn(savedReview);
         when(reviewRepository.save(any(Review.class))).thenReturn(savedReview);
@@ -157,15 +173,15 @@ void getReviews_ShouldThrowReviewsNotFoundException_WhenUserHasNoReviews() {
     }
 
     @Test
-    void getReview_ShouldUpdateAndReturnReview_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+    void getReview_ShouldUpdateAndReturnReview_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized, InvalidRatingException {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
         when(reviewMapper.toDto(review)).thenReturn(reviewDto);
 
         ReviewDto result = reviewService.getReview(reviewId, updateReviewDto, "ADMIN");
 
         assertNotNull(result);
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository).save(any(Review.class));
         verify(reviewMapper).toDto(review);
     }
@@ -181,54 +197,69 @@ void getReview_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
 
     @Test
     void getReview_ShouldThrowReviewNotFoundException_WhenReviewNotFound() {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.empty());
 
         assertThrows(ReviewNotFoundException.class, () -> 
             reviewService.getReview(reviewId, updateReviewDto, "ADMIN"));
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
+    }
+
+    @Test
+    void getReview_ShouldRejectRatingOutsideOneToFive() {
+        for (Integer rating : Arrays.asList(null, 0, 6)) {
+            updateReviewDto.setRating(rating);
+
+            InvalidRatingException exception = assertThrows(InvalidRatingException.class, () ->
+                reviewService.getReview(reviewId, updateReviewDto, "ADMIN"));
+
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        }
+
+        verifyNoInteractions(reviewRepository);
+        verifyNoInteractions(reviewStatsService);
+    }
+
+    @Test
+    void storeReview_ShouldRejectRatingOutsideOneToFive() {
+        storeReviewDto.setRating(6);
+
+        assertThrows(InvalidRatingException.class, () ->
+            reviewService.storeReview(storeReviewDto, 1L, "testuser", "USER", "PREMIUM"));
+
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
-    void getReviewsByTvShow_ShouldReturnPageOfReviews() {
+    void getReviewsByTvShow_ShouldReturnPageOfReviews() throws UnsupportedSortException {
         List<Review> reviews = List.of(review);
         Page<Review> reviewsPage = new PageImpl<>(reviews);
         when(reviewRepository.findAllByTvShowIdAndIsApprovedTrue(eq(1L), any(Pageable.class))).thenReturn(reviewsPage);
         when(reviewMapper.toDto(review)).thenReturn(reviewDto);
 
-        Page<ReviewDto> result = reviewService.getReviewsByTvShow(1L, Pageable.unpaged());
+        Page<ReviewDto> result = reviewService.getReviewsByTvShow(1L, 0, 10, "rating", "desc");
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(reviewRepository).findAllByTvShowIdAndIsApprovedTrue(eq(1L), any(Pageable.class));
+        verify(reviewRepository).findAllByTvShowIdAndIsApprovedTrue(1L, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rating", "createdAt", "id")));
     }
 
     @Test
-    void getReviewStats_ShouldReturnStats_WhenDataExists() {
-        when(reviewRepository.findAverageRatingByTvShowId(1L)).thenReturn(4.5);
-        when(reviewRepository.countApprovedReviewsByTvShowId(1L)).thenReturn(10L);
-
-        ReviewStatsDto result = reviewService.getReviewStats(1L);
+    void getReviewsByTvShow_ShouldRejectUnsupportedSort() {
+        assertThrows(UnsupportedSortException.class, () -> reviewService.getReviewsByTvShow(1L, 0, 10, "content", "desc"));
 
-        assertNotNull(result);
-        assertEquals(1L, result.getTvShowId());
-        assertEquals(4.5, result.getAverageRating());
-        assertEquals(10L, result.getTotalReviews());
-        verify(reviewRepository).findAverageRatingByTvShowId(1L);
-        verify(reviewRepository).countApprovedReviewsByTvShowId(1L);
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
-    void getReviewStats_ShouldReturnZeroDefaults_WhenNoDataExists() {
-        when(reviewRepository.findAverageRatingByTvShowId(1L)).thenReturn(null);
-        when(reviewRepository.countApprovedReviewsByTvShowId(1L)).thenReturn(null);
+    void getReviewStats_ShouldReadAggregate() {
+        ReviewStatsDto stats = ReviewStatsDto.builder().tvShowId(1L).averageRating(4.5).totalReviews(10L).build();
+        when(reviewStatsService.getStats(1L)).thenReturn(stats);
 
         ReviewStatsDto result = reviewService.getReviewStats(1L);
 
-        assertNotNull(result);
-        assertEquals(1L, result.getTvShowId());
-        assertEquals(0.0, result.getAverageRating());
-        assertEquals(0L, result.getTotalReviews());
+        assertSame(stats, result);
+        verify(reviewStatsService).getStats(1L);
     }
 
     @Test
@@ -257,131 +288,145 @@ void getUserReviewForShow_ShouldThrowReviewNotFoundException_WhenNotExists() {
 
     @Test
     void deleteReview_ShouldDeleteSuccessfully_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
 
         reviewService.deleteReview(reviewId, "anyuser", "ADMIN");
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository).delete(review);
     }
 
     @Test
     void deleteReview_ShouldDeleteSuccessfully_WhenOwnerUser() throws ReviewNotFoundException, ActionNotAuthorized {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
 
         reviewService.deleteReview(reviewId, "testuser", "USER");
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository).delete(review);
     }
 
     @Test
     void deleteReview_ShouldThrowActionNotAuthorized_WhenNonOwnerUser() {
         review.setUsername("otheruser");
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
 
         assertThrows(ActionNotAuthorized.class, () -> 
             reviewService.deleteReview(reviewId, "testuser", "USER"));
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository, never()).delete(any());
     }
 
     @Test
     void deleteReview_ShouldThrowReviewNotFoundException_WhenReviewNotFound() {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.empty());
 
         assertThrows(ReviewNotFoundException.class, () -> 
             reviewService.deleteReview(reviewId, "testuser", "USER"));
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository, never()).delete(any());
     }
 
     @Test
-    void getPendingReviews_ShouldReturnPendingReviews_WhenAdminUser() throws ActionNotAuthorized {
-        List<Review> pendingReviews = List.of(review);
-        when(reviewRepository.findAllByIsApprovedFalse()).thenReturn(pendingReviews);
-        when(reviewMapper.toDto(review)).thenReturn(reviewDto);
+    void approveReview_ShouldApproveThroughModerationQueue_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+        when(moderationQueueRepository.approve(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class))).thenReturn(List.of(reviewDto));
 
-        List<ReviewDto> result = reviewService.getPendingReviews("ADMIN");
+        reviewService.approveReview(reviewId, "admin", "ADMIN");
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(reviewRepository).findAllByIsApprovedFalse();
-        verify(reviewMapper).toDto(review);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
+        verify(reviewStatsService).reviewsApproved(List.of(reviewDto));
+        verify(reviewFeedService).invalidate(1L);
     }
 
     @Test
-    void getPendingReviews_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
-        assertThrows(ActionNotAuthorized.class, () -> 
-            reviewService.getPendingReviews("USER"));
+    void approveReview_ShouldThrowReviewClaimedException_WhenLeasedToAnotherModerator() {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+        when(moderationQueueRepository.approve(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class))).thenReturn(List.of());
 
-        verifyNoInteractions(reviewRepository);
-        verifyNoInteractions(reviewMapper);
+        assertThrows(ReviewClaimedException.class, () ->
+            reviewService.approveReview(reviewId, "admin", "ADMIN"));
+
+        verifyNoInteractions(reviewStatsService);
+        verifyNoInteractions(reviewFeedService);
     }
 
     @Test
-    void approveReview_ShouldApproveSuccessfully_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
-        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+    void approveReview_ShouldNotCountReviewTwice_WhenAlreadyApproved() throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        review.setIsApproved(true);
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
 
-        reviewService.approveReview(reviewId, "ADMIN");
+        reviewService.approveReview(reviewId, "admin", "ADMIN");
 
-        verify(reviewRepository).findById(reviewId);
-        verify(reviewRepository).save(argThat(r -> r.getIsApproved().equals(true) && r.getIsFlagged().equals(false)));
+        verifyNoInteractions(moderationQueueRepository);
+        verifyNoInteractions(reviewStatsService);
+        verifyNoInteractions(reviewFeedService);
     }
 
     @Test
     void approveReview_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
         assertThrows(ActionNotAuthorized.class, () -> 
-            reviewService.approveReview(reviewId, "USER"));
+            reviewService.approveReview(reviewId, "testuser", "USER"));
 
         verifyNoInteractions(reviewRepository);
     }
 
     @Test
     void approveReview_ShouldThrowReviewNotFoundException_WhenReviewNotFound() {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.empty());
 
         assertThrows(ReviewNotFoundException.class, () -> 
-            reviewService.approveReview(reviewId, "ADMIN"));
+            reviewService.approveReview(reviewId, "admin", "ADMIN"));
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository, never()).save(any());
     }
 
     @Test
-    void rejectReview_ShouldDeleteSuccessfully_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+    void rejectReview_ShouldDeleteThroughModerationQueue_WhenAdminUser() throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+        when(moderationQueueRepository.reject(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class))).thenReturn(List.of(reviewId));
 
-        reviewService.rejectReview(reviewId, "ADMIN");
+        reviewService.rejectReview(reviewId, "admin", "ADMIN");
 
-        verify(reviewRepository).findById(reviewId);
-        verify(reviewRepository).delete(review);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
+        verify(moderationQueueRepository).reject(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void rejectReview_ShouldThrowReviewClaimedException_WhenLeasedToAnotherModerator() {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+        when(moderationQueueRepository.reject(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertThrows(ReviewClaimedException.class, () ->
+            reviewService.rejectReview(reviewId, "admin", "ADMIN"));
+
+        verify(reviewRepository, never()).delete(any());
     }
 
     @Test
     void rejectReview_ShouldThrowActionNotAuthorized_WhenNonAdminUser() {
         assertThrows(ActionNotAuthorized.class, () -> 
-            reviewService.rejectReview(reviewId, "USER"));
+            reviewService.rejectReview(reviewId, "testuser", "USER"));
 
         verifyNoInteractions(reviewRepository);
     }
 
     @Test
     void rejectReview_ShouldThrowReviewNotFoundException_WhenReviewNotFound() {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.empty());
 
         assertThrows(ReviewNotFoundException.class, () -> 
-            reviewService.rejectReview(reviewId, "ADMIN"));
+            reviewService.rejectReview(reviewId, "admin", "ADMIN"));
 
-        verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findByIdForUpdate(reviewId);
         verify(reviewRepository, never()).delete(any());
     }
 
     @Test
-    void storeReview_ShouldSetCorrectReviewProperties() throws ActionNotAuthorized {
+    void storeReview_ShouldSetCorrectReviewProperties() throws ActionNotAuthorized, InvalidRatingException {
         Review capturedReview = new Review();
         when(reviewMapper.toModel(storeReviewDto)).thenReturn(capturedReview);
         when(reviewRepository.save(any(Review.class))).thenReturn(capturedReview);
@@ -397,14 +442,57 @@ void storeReview_ShouldSetCorrectReviewProperties() throws ActionNotAuthorized {
     }
 
     @Test
-    void getReviewsByTvShow_ShouldReturnEmptyPage_WhenNoReviews() {
+    void getReviewsByTvShow_ShouldReturnEmptyPage_WhenNoReviews() throws UnsupportedSortException {
         Page<Review> emptyPage = new PageImpl<>(new ArrayList<>());
         when(reviewRepository.findAllByTvShowIdAndIsApprovedTrue(eq(1L), any(Pageable.class))).thenReturn(emptyPage);
 
-        Page<ReviewDto> result = reviewService.getReviewsByTvShow(1L, Pageable.unpaged());
+        Page<ReviewDto> result = reviewService.getReviewsByTvShow(1L, 0, 10, "createdAt", "desc");
 
         assertNotNull(result);
         assertEquals(0, result.getTotalElements());
         verify(reviewRepository).findAllByTvShowIdAndIsApprovedTrue(eq(1L), any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getReview_ShouldMoveRatingInStats_WhenApprovedReviewIsEdited() throws ReviewNotFoundException, ActionNotAuthorized, InvalidRatingException {
+        review.setIsApproved(true);
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+
+        reviewService.getReview(reviewId, updateReviewDto, "ADMIN");
+
+        verify(reviewStatsService).approvedRatingChanged(1L, 5, 4);
+        verify(reviewFeedService).invalidate(1L);
+    }
+
+    @Test
+    void getReview_ShouldLeaveStatsAlone_WhenPendingReviewIsEdited() throws ReviewNotFoundException, ActionNotAuthorized, InvalidRatingException {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+
+        reviewService.getReview(reviewId, updateReviewDto, "ADMIN");
+
+        verifyNoInteractions(reviewStatsService);
+    }
+
+    @Test
+    void deleteReview_ShouldRemoveFromStats_WhenReviewWasApproved() throws ReviewNotFoundException, ActionNotAuthorized {
+        review.setIsApproved(true);
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+
+        reviewService.deleteReview(reviewId, "testuser", "USER");
+
+        verify(reviewRepository).delete(review);
+        verify(reviewStatsService).approvedReviewRemoved(review);
+        verify(reviewFeedService).invalidate(1L);
+    }
+
+    @Test
+    void rejectReview_ShouldLeaveStatsAlone_WhenReviewWasPending() throws ReviewNotFoundException, ActionNotAuthorized, ReviewClaimedException {
+        when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(review));
+        when(moderationQueueRepository.reject(eq(List.of(reviewId)), eq("admin"), any(LocalDateTime.class))).thenReturn(List.of(reviewId));
+
+        reviewService.rejectReview(reviewId, "admin", "ADMIN");
+
+        verifyNoInteractions(reviewStatsService);
+        verifyNoInteractions(reviewFeedService);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.review_rating_service.service;
+
+import com.example.review_rating_service.config.ReviewStatsProperties;
+import com.example.review_rating_service.dto.ReviewDto;
+import com.example.review_rating_service.dto.ReviewStatsDto;
+import com.example.review_rating_service.exceptions.StatsRequestTooLargeException;
+import com.example.review_rating_service.models.Review;
+import com.example.review_rating_service.repositories.ReviewStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewStatsServiceTest {
+
+    @Mock
+    private ReviewStatsRepository reviewStatsRepository;
+
+    @Spy
+    private ReviewStatsProperties properties = new ReviewStatsProperties();
+
+    @InjectMocks
+    private ReviewStatsService reviewStatsService;
+
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        review = new Review();
+        review.setTvShowId(7L);
+        review.setRating(4);
+        review.setIsApproved(true);
+    }
+
+    @Test
+    void getStats_ShouldReturnStoredAggregate() {
+        ReviewStatsDto stats = ReviewStatsDto.builder().tvShowId(7L).averageRating(4.0).totalReviews(3L).build();
+        when(reviewStatsRepository.findByTvShowId(7L)).thenReturn(Optional.of(stats));
+
+        assertSame(stats, reviewStatsService.getStats(7L));
+    }
+
+    @Test
+    void getStats_ShouldReturnZeros_WhenShowHasNoApprovedReviews() {
+        when(reviewStatsRepository.findByTvShowId(7L)).thenReturn(Optional.empty());
+
+        ReviewStatsDto result = reviewStatsService.getStats(7L);
+
+        assertEquals(7L, result.getTvShowId());
+        assertEquals(0.0, result.getAverageRating());
+        assertEquals(0L, result.getTotalReviews());
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 0L), result.getRatingDistribution());
+    }
+
+    @Test
+    void getStatsBatch_ShouldAnswerInRequestOrderWithZerosForMissingShows() throws StatsRequestTooLargeException {
+        ReviewStatsDto stats = ReviewStatsDto.builder().tvShowId(7L).averageRating(4.0).totalReviews(3L).build();
+        when(reviewStatsRepository.findByTvShowIds(List.of(9L, 7L))).thenReturn(List.of(stats));
+
+        List<ReviewStatsDto> result = reviewStatsService.getStats(List.of(9L, 7L, 9L));
+
+        assertEquals(2, result.size());
+        assertEquals(9L, result.get(0).getTvShowId());
+        assertEquals(0L, result.get(0).getTotalReviews());
+        assertSame(stats, result.get(1));
+    }
+
+    @Test
+    void getStatsBatch_ShouldRejectTooManyIds() {
+        properties.setBatchMaxIds(2);
+
+        assertThrows(StatsRequestTooLargeException.class, () -> reviewStatsService.getStats(List.of(1L, 2L, 3L)));
+        verifyNoInteractions(reviewStatsRepository);
+    }
+
+    @Test
+    void reviewsApproved_ShouldAddRatingsPerShowInOneBatch() {
+        reviewStatsService.reviewsApproved(List.of(
+                ReviewDto.builder().tvShowId(7L).rating(4).build(),
+                ReviewDto.builder().tvShowId(9L).rating(1).build(),
+                ReviewDto.builder().tvShowId(7L).rating(5).build()
+        ));
+
+        verify(reviewStatsRepository).addApproved(Map.of(7L, List.of(4, 5), 9L, List.of(1)));
+    }
+
+    @Test
+    void reviewsApproved_ShouldSkipWrite_WhenNothingWasApproved() {
+        reviewStatsService.reviewsApproved(List.of());
+
+        verifyNoInteractions(reviewStatsRepository);
+    }
+
+    @Test
+    void approvedReviewRemoved_ShouldSubtractRatingFromAggregate() {
+        reviewStatsService.approvedReviewRemoved(review);
+
+        verify(reviewStatsRepository).adjust(7L, 4, -1);
+    }
+
+    @Test
+    void approvedRatingChanged_ShouldMoveRatingBetweenBuckets() {
+        reviewStatsService.approvedRatingChanged(7L, 4, 2);
+
+        verify(reviewStatsRepository).changeRating(7L, 4, 2);
+    }
+
+    @Test
+    void approvedRatingChanged_ShouldSkipWrite_WhenRatingIsUnchanged() {
+        reviewStatsService.approvedRatingChanged(7L, 4, 4);
+
+        verifyNoInteractions(reviewStatsRepository);
+    }
+
+    @Test
+    void rebuild_ShouldLockAggregatesBeforeRecomputing() {
+        when(reviewStatsRepository.rebuildFromReviews()).thenReturn(2);
+
+        reviewStatsService.rebuild();
+
+        InOrder inOrder = inOrder(reviewStatsRepository);
+        inOrder.verify(reviewStatsRepository).lockForRebuild();
+        inOrder.verify(reviewStatsRepository).rebuildFromReviews();
+        inOrder.verify(reviewStatsRepository).deleteWithoutApprovedReviews();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.tvshows_commons.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wraps calls to other services with a per-downstream timeout, bulkhead and circuit breaker, so a
+ * slow or failing downstream rejects calls quickly instead of tying up request threads.
+ * Client errors (4xx) are passed through without counting against the breaker.
+ */
+@Slf4j
+public class DownstreamGuard {
+    private final HttpClientProperties properties;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public DownstreamGuard(HttpClientProperties properties) {
+        this.properties = properties;
+    }
+
+    public <T> Mono<T> call(String downstream, Mono<T> request) {
+        Guard guard = guards.computeIfAbsent(downstream, this::createGuard);
+
+        return request
+                .timeout(guard.responseTimeout())
+                .transformDeferred(BulkheadOperator.of(guard.bulkhead()))
+                .transformDeferred(CircuitBreakerOperator.of(guard.circuitBreaker()));
+    }
+
+    public CircuitBreaker.State state(String downstream) {
+        return guards.computeIfAbsent(downstream, this::createGuard).circuitBreaker().getState();
+    }
+
+    /**
+     * Whether the failure means the downstream could not serve the call at all, as opposed to
+     * rejecting it, so callers can fall back instead of surfacing the error.
+     */
+    public static boolean isUnavailable(Throwable throwable) {
+        Throwable error = Exceptions.unwrap(throwable);
+        return error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException
+                || error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || error instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError();
+    }
+
+    private static boolean isClientError(Throwable error) {
+        return error instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+    }
+
+    private Guard createGuard(String downstream) {
+        HttpClientProperties.Downstream config = properties.downstream(downstream);
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of(downstream, CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(config.getSlowCallDurationThreshold())
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(config.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(error -> !isClientError(error))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Circuit breaker for {} moved {}", downstream, event.getStateTransition()));
+
+        Bulkhead bulkhead = Bulkhead.of(downstream, BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(config.getMaxWaitDuration())
+                .build());
+
+        return new Guard(circuitBreaker, bulkhead, config.getResponseTimeout());
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, Duration responseTimeout) {
+    }
+}
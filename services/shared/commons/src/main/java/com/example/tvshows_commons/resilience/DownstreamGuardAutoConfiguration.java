@@ -0,0 +1,17 @@
+package com.example.tvshows_commons.resilience;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class DownstreamGuardAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DownstreamGuard downstreamGuard(HttpClientProperties properties) {
+        return new DownstreamGuard(properties);
+    }
+}
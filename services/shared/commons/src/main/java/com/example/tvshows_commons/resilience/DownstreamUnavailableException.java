@@ -0,0 +1,17 @@
+package com.example.tvshows_commons.resilience;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a downstream could not serve a call and there is no fallback. Each service maps it
+ * to a 503 in its exception handler.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    @Getter
+    private final HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public DownstreamUnavailableException(String downstream) {
+        super(downstream + " is unavailable, please try again later");
+    }
+}
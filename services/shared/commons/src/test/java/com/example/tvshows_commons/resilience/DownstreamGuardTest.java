@@ -0,0 +1,154 @@
+package com.example.tvshows_commons.resilience;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamGuardTest {
+    private static final String USER_SERVICE = "user-service";
+
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+
+    private ConnectionProvider connectionProvider;
+
+    private WebClient webClient;
+
+    private DownstreamGuard guard;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+        server.createContext("/missing", exchange -> respond(exchange, 404));
+        server.createContext("/broken", exchange -> respond(exchange, 500));
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.start();
+
+        HttpClientProperties.Downstream userService = new HttpClientProperties.Downstream();
+        userService.setResponseTimeout(Duration.ofMillis(300));
+        userService.setMaxConcurrentCalls(1);
+        userService.setSlidingWindowSize(4);
+        userService.setMinimumNumberOfCalls(4);
+        userService.setWaitDurationInOpenState(Duration.ofMinutes(1));
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getDownstreams().put(USER_SERVICE, userService);
+
+        connectionProvider = ConnectionProvider.create("downstream-guard-test");
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        guard = new DownstreamGuard(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void call_ShouldPassThroughSuccessfulResponses() {
+        Integer status = guard.call(USER_SERVICE, get("/ok")).block();
+
+        assertEquals(200, status);
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state(USER_SERVICE));
+    }
+
+    @Test
+    void call_ShouldTimeOutSlowDownstream() {
+        long start = System.nanoTime();
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> guard.call(USER_SERVICE, get("/slow")).block());
+
+        assertTrue(DownstreamGuard.isUnavailable(error));
+        assertInstanceOf(TimeoutException.class, Exceptions.unwrap(error));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+    }
+
+    @Test
+    void call_ShouldOpenCircuitAfterServerErrorsAndStopCallingDownstream() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.InternalServerError.class, () -> guard.call(USER_SERVICE, get("/broken")).block());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.state(USER_SERVICE));
+        CallNotPermittedException rejected = assertThrows(CallNotPermittedException.class, () -> guard.call(USER_SERVICE, get("/broken")).block());
+        assertTrue(DownstreamGuard.isUnavailable(rejected));
+        assertEquals(4, hits.get());
+    }
+
+    @Test
+    void call_ShouldNotCountClientErrorsAgainstCircuit() {
+        for (int i = 0; i < 6; i++) {
+            WebClientResponseException error = assertThrows(WebClientResponseException.NotFound.class, () -> guard.call(USER_SERVICE, get("/missing")).block());
+            assertFalse(DownstreamGuard.isUnavailable(error));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state(USER_SERVICE));
+    }
+
+    @Test
+    void call_ShouldRejectCallsOverBulkheadLimit() throws Exception {
+        CountDownLatch firstDone = new CountDownLatch(1);
+        guard.call(USER_SERVICE, get("/slow"))
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> firstDone.countDown())
+                .subscribe();
+
+        assertThrows(BulkheadFullException.class, () -> guard.call(USER_SERVICE, get("/ok")).block());
+
+        assertTrue(firstDone.await(2, TimeUnit.SECONDS));
+        assertEquals(200, guard.call(USER_SERVICE, get("/ok")).block());
+    }
+
+    private Mono<Integer> get(String path) {
+        return webClient.get()
+                .uri("http://127.0.0.1:" + server.getAddress().getPort() + path)
+                .retrieve()
+                .toBodilessEntity()
+                .map(response -> response.getStatusCode().value());
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        hits.incrementAndGet();
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+}
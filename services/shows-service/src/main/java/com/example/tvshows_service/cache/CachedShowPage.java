@@ -0,0 +1,19 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.dto.TvShowDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * User-independent page of shows as stored in Redis. Per-user links are added after a hit.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CachedShowPage {
+    private List<TvShowDto> content;
+    private long totalElements;
+}
@@ -0,0 +1,69 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.filters.TvShowFilter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds canonical cache keys. Every filter field is written in a fixed order with its value
+ * URL-encoded, so two filters share a key only if they select the same rows. Fields the
+ * specifications compare case-insensitively are lower-cased and list fields are sorted.
+ */
+public final class ShowCacheKeys {
+
+    private ShowCacheKeys() {
+    }
+
+    public static String topRated(String prefix, int page, int size) {
+        return prefix + ":page=" + page + "&size=" + size;
+    }
+
+    public static String filtered(String prefix, TvShowFilter filter, int page, int size) {
+        StringJoiner key = new StringJoiner("&", prefix + ":", "");
+
+        key.add("page=" + page);
+        key.add("size=" + size);
+        key.add("name=" + encodeLower(filter.getName()));
+        key.add("description=" + encodeLower(filter.getDescription()));
+        key.add("premiered=" + encode(filter.getPremiered()));
+        key.add("ended=" + encode(filter.getEnded()));
+        key.add("minRating=" + encode(filter.getMinRating()));
+        key.add("maxRating=" + encode(filter.getMaxRating()));
+        key.add("status=" + encodeLower(filter.getStatus()));
+        key.add("network=" + encodeLower(filter.getNetwork()));
+        key.add("language=" + encodeLower(filter.getLanguage()));
+        key.add("sortBy=" + encode(filter.getSortBy()));
+        key.add("sortOrder=" + encode("desc".equalsIgnoreCase(filter.getSortOrder()) ? "desc" : "asc"));
+        key.add("genres=" + encodeList(filter.getGenres() == null ? null : filter.getGenres().stream()
+                .filter(Objects::nonNull)
+                .map(genre -> genre.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(TreeSet::new))));
+        key.add("ids=" + encodeList(filter.getIds() == null ? null : filter.getIds().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new))));
+
+        return key.toString();
+    }
+
+    private static String encodeLower(String value) {
+        return encode(value == null ? null : value.toLowerCase(Locale.ROOT));
+    }
+
+    private static String encode(Object value) {
+        // A bare "~" marks null so it cannot be confused with an empty string, which encodes to "".
+        return value == null ? "~" : URLEncoder.encode(value.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static String encodeList(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return "~";
+        }
+
+        return values.stream()
+                .map(ShowCacheKeys::encode)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.config.ShowDetailCacheProperties;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.dto.TvShowDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache for show details: a per-instance Caffeine cache in front of Redis. Concurrent
+ * misses for the same show share one load, and invalidations are broadcast to every instance
+ * over Redis pub/sub. Invalidations bump a local and a Redis generation counter; a show loaded
+ * across an invalidation is returned but dropped from the tier whose generation moved, so a slow
+ * load cannot put back a detail the invalidation was meant to remove.
+ */
+@Component
+@Slf4j
+public class ShowDetailCache implements MessageListener {
+    private static final String METRIC_REQUESTS = "tvshows.cache.detail.requests";
+    private static final String METRIC_LOAD = "tvshows.cache.detail.load";
+    private static final String GENERATION = "generation";
+
+    private final RedisTemplate<String, TvShowDto> showDetailRedisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ShowDetailCacheProperties properties;
+
+    private final Cache<Long, TvShowDto> localCache;
+
+    private final ConcurrentMap<Long, CompletableFuture<TvShowDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter coalescedLoads;
+    private final Timer redisLoadTimer;
+    private final Timer databaseLoadTimer;
+
+    public ShowDetailCache(
+            RedisTemplate<String, TvShowDto> showDetailRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            ShowDetailCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.showDetailRedisTemplate = showDetailRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.redisHits = requests(meterRegistry, "redis", "hit");
+        this.redisMisses = requests(meterRegistry, "redis", "miss");
+        this.coalescedLoads = Counter.builder("tvshows.cache.detail.coalesced").register(meterRegistry);
+        this.redisLoadTimer = Timer.builder(METRIC_LOAD).tag("tier", "redis").register(meterRegistry);
+        this.databaseLoadTimer = Timer.builder(METRIC_LOAD).tag("tier", "database").register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached show or loads it through Redis and then {@code loader}. A {@code null}
+     * result from the loader means the show does not exist and is not cached.
+     */
+    public TvShowDto get(Long tvShowId, Function<Long, TvShowDto> loader) {
+        TvShowDto cached = localCache.getIfPresent(tvShowId);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        CompletableFuture<TvShowDto> load = new CompletableFuture<>();
+        CompletableFuture<TvShowDto> pending = inFlight.putIfAbsent(tvShowId, load);
+        if (pending != null) {
+            coalescedLoads.increment();
+            return await(pending);
+        }
+
+        try {
+            long generation = localGeneration.get();
+            TvShowDto tvShowDto = loadThroughRedis(tvShowId, loader);
+            if (tvShowDto != null) {
+                localCache.put(tvShowId, tvShowDto);
+                // checked after the put: an invalidation that ran before it is seen here, one after it removes the entry
+                if (localGeneration.get() != generation) {
+                    localCache.invalidate(tvShowId);
+                }
+            }
+            load.complete(tvShowDto);
+
+            return tvShowDto;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(tvShowId, load);
+        }
+    }
+
+    public void invalidate(Collection<Long> tvShowIds) {
+        if (tvShowIds == null || tvShowIds.isEmpty()) {
+            return;
+        }
+
+        localGeneration.incrementAndGet();
+        localCache.invalidateAll(tvShowIds);
+        try {
+            stringRedisTemplate.opsForValue().increment(generationKey());
+            showDetailRedisTemplate.delete(tvShowIds.stream().map(this::redisKey).toList());
+            stringRedisTemplate.convertAndSend(
+                    properties.getInvalidationChannel(),
+                    tvShowIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate {} show details in Redis: {}", tvShowIds.size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidate(event.getTvShowIds());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.isBlank()) {
+            return;
+        }
+
+        try {
+            List<Long> tvShowIds = Arrays.stream(body.split(","))
+                    .map(String::trim)
+                    .map(Long::valueOf)
+                    .toList();
+            localGeneration.incrementAndGet();
+            localCache.invalidateAll(tvShowIds);
+
+            log.debug("Invalidated {} show details from a broadcast", tvShowIds.size());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed invalidation message: {}", body);
+        }
+    }
+
+    private TvShowDto loadThroughRedis(Long tvShowId, Function<Long, TvShowDto> loader) {
+        String key = redisKey(tvShowId);
+
+        TvShowDto tvShowDto = redisLoadTimer.record(() -> readRedis(key));
+        if (tvShowDto != null) {
+            redisHits.increment();
+            return tvShowDto;
+        }
+        redisMisses.increment();
+
+        long generation = redisGeneration();
+        tvShowDto = databaseLoadTimer.record(() -> loader.apply(tvShowId));
+        if (tvShowDto != null) {
+            writeRedis(key, tvShowDto, generation);
+        }
+
+        return tvShowDto;
+    }
+
+    private TvShowDto readRedis(String key) {
+        try {
+            return showDetailRedisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read show detail {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The Redis generation before a database load, or -1 if Redis cannot be reached, in which
+     * case the loaded show is not written back.
+     */
+    private long redisGeneration() {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(generationKey());
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read show detail generation: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    // Same write-then-validate order as ShowPageCache.put: invalidate increments before it deletes.
+    private void writeRedis(String key, TvShowDto tvShowDto, long generation) {
+        if (generation < 0) {
+            return;
+        }
+
+        try {
+            showDetailRedisTemplate.opsForValue().set(key, tvShowDto, properties.getRedisTtl());
+            if (redisGeneration() != generation) {
+                showDetailRedisTemplate.delete(key);
+                log.debug("Dropped show detail {} loaded before an invalidation", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write show detail {} to Redis: {}", key, e.getMessage());
+        }
+    }
+
+    private TvShowDto await(CompletableFuture<TvShowDto> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String redisKey(Long tvShowId) {
+        return properties.getKeyPrefix() + tvShowId;
+    }
+
+    private String generationKey() {
+        return properties.getKeyPrefix() + GENERATION;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
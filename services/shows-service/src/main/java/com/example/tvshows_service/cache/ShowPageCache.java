@@ -0,0 +1,119 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.config.ShowCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis cache for user-independent show pages. Every entry is registered under one or more
+ * tags (a Redis set of keys) so whole groups can be evicted without scanning the keyspace.
+ * Evictions bump a generation counter; a page loaded before an eviction is dropped instead of
+ * being cached, so a slow load cannot put back a page the eviction was meant to remove.
+ */
+@Component
+@Slf4j
+public class ShowPageCache {
+    public static final String CATALOG_TAG = "catalog";
+
+    private static final String GENERATION = "generation";
+
+    private final RedisTemplate<String, CachedShowPage> showPageRedisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ShowCacheProperties showCacheProperties;
+
+    public ShowPageCache(
+            RedisTemplate<String, CachedShowPage> showPageRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            ShowCacheProperties showCacheProperties
+    ) {
+        this.showPageRedisTemplate = showPageRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.showCacheProperties = showCacheProperties;
+    }
+
+    public Optional<CachedShowPage> get(String key) {
+        try {
+            return Optional.ofNullable(showPageRedisTemplate.opsForValue().get(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read cache entry {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The eviction generation to pass to {@link #put} for a page that is about to be loaded, or -1
+     * if Redis cannot be reached, in which case the page is not cached.
+     */
+    public long generation() {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(tagKey(GENERATION));
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read cache generation: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Caches a page loaded at {@code generation}. The generation is checked again after the write
+     * rather than before it: an eviction that started before the check is seen and the entry is
+     * removed, and one that started after it finds the entry in the tag set and removes it.
+     */
+    public void put(String key, CachedShowPage page, Duration ttl, long generation, String... tags) {
+        if (generation < 0) {
+            return;
+        }
+
+        try {
+            showPageRedisTemplate.opsForValue().set(key, page, ttl);
+            for (String tag : tags) {
+                String tagKey = tagKey(tag);
+                stringRedisTemplate.opsForSet().add(tagKey, key);
+                // every put pushes the expiry out, so the set outlives all of its entries and is dropped once idle
+                stringRedisTemplate.expire(tagKey, tagTtl(ttl));
+            }
+
+            if (generation() != generation) {
+                showPageRedisTemplate.delete(key);
+                log.debug("Dropped cache entry {} loaded before an eviction", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    public void evictTag(String tag) {
+        try {
+            stringRedisTemplate.opsForValue().increment(tagKey(GENERATION));
+
+            String tagKey = tagKey(tag);
+            Set<String> keys = stringRedisTemplate.opsForSet().members(tagKey);
+
+            if (keys != null && !keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+            stringRedisTemplate.delete(tagKey);
+
+            log.info("Evicted {} cache entries tagged {}", keys == null ? 0 : keys.size(), tag);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict cache tag {}: {}", tag, e.getMessage());
+        }
+    }
+
+    private Duration tagTtl(Duration ttl) {
+        Duration longestTtl = showCacheProperties.longestTtl();
+        return ttl.compareTo(longestTtl) > 0 ? ttl : longestTtl;
+    }
+
+    private String tagKey(String tag) {
+        return showCacheProperties.getTagPrefix() + tag;
+    }
+}
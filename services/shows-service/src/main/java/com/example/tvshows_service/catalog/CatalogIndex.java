@@ -0,0 +1,369 @@
+package com.example.tvshows_service.catalog;
+
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.filters.TvShowFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column-oriented snapshot of the catalog. Each show occupies one position across
+ * all columns; text columns are stored lower-cased, low-cardinality columns are dictionary
+ * encoded and genres are kept as one bitset per genre.
+ */
+public final class CatalogIndex {
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final int size;
+    private final long[] tvShowIds;
+    private final String[] names;
+    private final String[] summaries;
+    private final double[] ratings;
+    private final int[] runtimes;
+    private final int[] averageRuntimes;
+    private final long[] premiered;
+    private final long[] ended;
+    private final Dictionary types;
+    private final Dictionary statuses;
+    private final Dictionary languages;
+    private final Dictionary networks;
+    private final Map<String, BitSet> genres;
+    private final Map<Long, Integer> positions;
+    private final Map<TvShowSortField, int[]> ascendingOrders;
+
+    /**
+     * Builds the columns for {@code rows}. When {@code keptOrders} is given, the first
+     * {@code keptSize} rows are unchanged rows of a previous index and {@code keptOrders} holds
+     * their sort orders in the new positions; only the rows after them are sorted and spliced in.
+     */
+    private CatalogIndex(List<CatalogRow> rows, Map<Long, List<String>> genresByShow,
+                         Map<TvShowSortField, int[]> keptOrders, int keptSize) {
+        this.size = rows.size();
+        this.tvShowIds = new long[size];
+        this.names = new String[size];
+        this.summaries = new String[size];
+        this.ratings = new double[size];
+        this.runtimes = new int[size];
+        this.averageRuntimes = new int[size];
+        this.premiered = new long[size];
+        this.ended = new long[size];
+        this.positions = new HashMap<>(size * 2);
+        this.genres = new HashMap<>();
+
+        String[] rawTypes = new String[size];
+        String[] rawStatuses = new String[size];
+        String[] rawLanguages = new String[size];
+        String[] rawNetworks = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            CatalogRow row = rows.get(i);
+
+            tvShowIds[i] = row.tvShowId();
+            names[i] = lower(row.name());
+            summaries[i] = lower(row.summary());
+            ratings[i] = row.rating();
+            runtimes[i] = row.runtime();
+            averageRuntimes[i] = row.averageRuntime();
+            premiered[i] = row.premiered() == null ? NO_DATE : row.premiered().toEpochDay();
+            ended[i] = row.ended() == null ? NO_DATE : row.ended().toEpochDay();
+            rawTypes[i] = lower(row.type());
+            rawStatuses[i] = lower(row.status());
+            rawLanguages[i] = lower(row.language());
+            rawNetworks[i] = lower(row.network());
+            positions.put(row.tvShowId(), i);
+
+            for (String genre : genresByShow.getOrDefault(row.tvShowId(), List.of())) {
+                genres.computeIfAbsent(lower(genre), key -> new BitSet(size)).set(i);
+            }
+        }
+
+        this.types = Dictionary.encode(rawTypes);
+        this.statuses = Dictionary.encode(rawStatuses);
+        this.languages = Dictionary.encode(rawLanguages);
+        this.networks = Dictionary.encode(rawNetworks);
+
+        this.ascendingOrders = new EnumMap<>(TvShowSortField.class);
+        for (TvShowSortField sortField : TvShowSortField.values()) {
+            ascendingOrders.put(sortField, keptOrders == null
+                    ? sortPositions(sortField, 0)
+                    : splicePositions(sortField, keptOrders.get(sortField), keptSize));
+        }
+    }
+
+    public static CatalogIndex build(List<CatalogRow> rows, List<GenreLink> genreLinks) {
+        Map<Long, List<String>> genresByShow = new HashMap<>();
+        for (GenreLink link : genreLinks) {
+            genresByShow.computeIfAbsent(link.tvShowId(), key -> new ArrayList<>()).add(link.genre());
+        }
+
+        return new CatalogIndex(rows, genresByShow, null, 0);
+    }
+
+    /**
+     * Returns a new index where the given shows replace their previous rows. Shows listed in
+     * {@code changedTvShowIds} but missing from {@code changedRows} are dropped. The existing sort
+     * orders are carried over and only the changed rows are sorted into them, so a change of k
+     * shows costs O(N + k log k) instead of re-sorting the whole catalog.
+     */
+    public CatalogIndex merge(Collection<Long> changedTvShowIds, List<CatalogRow> changedRows, List<GenreLink> changedGenreLinks) {
+        Set<Long> replaced = new HashSet<>(changedTvShowIds);
+        changedRows.forEach(row -> replaced.add(row.tvShowId()));
+
+        List<CatalogRow> rows = new ArrayList<>(size + changedRows.size());
+        Map<Long, List<String>> genresByShow = new HashMap<>();
+        int[] keptPositions = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            if (replaced.contains(tvShowIds[i])) {
+                keptPositions[i] = -1;
+            } else {
+                keptPositions[i] = rows.size();
+                rows.add(rowAt(i));
+            }
+        }
+        int keptSize = rows.size();
+
+        Map<TvShowSortField, int[]> keptOrders = new EnumMap<>(TvShowSortField.class);
+        for (Map.Entry<TvShowSortField, int[]> order : ascendingOrders.entrySet()) {
+            int[] kept = new int[keptSize];
+            int n = 0;
+            for (int position : order.getValue()) {
+                if (keptPositions[position] >= 0) {
+                    kept[n++] = keptPositions[position];
+                }
+            }
+            keptOrders.put(order.getKey(), kept);
+        }
+        for (Map.Entry<String, BitSet> genre : genres.entrySet()) {
+            BitSet members = genre.getValue();
+            for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+                if (!replaced.contains(tvShowIds[i])) {
+                    genresByShow.computeIfAbsent(tvShowIds[i], key -> new ArrayList<>()).add(genre.getKey());
+                }
+            }
+        }
+
+        rows.addAll(changedRows);
+        for (GenreLink link : changedGenreLinks) {
+            genresByShow.computeIfAbsent(link.tvShowId(), key -> new ArrayList<>()).add(link.genre());
+        }
+
+        return new CatalogIndex(rows, genresByShow, keptOrders, keptSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Page<Long> search(TvShowFilter filter, TvShowSortField sortField, boolean descending, int page, int pageSize) {
+        BitSet matches = match(filter);
+        int total = matches.cardinality();
+
+        int[] order = ascendingOrders.get(sortField);
+        int toSkip = page * pageSize;
+        List<Long> content = new ArrayList<>(pageSize);
+
+        for (int n = 0; n < size && content.size() < pageSize; n++) {
+            int position = descending ? order[size - 1 - n] : order[n];
+
+            if (!matches.get(position)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            content.add(tvShowIds[position]);
+        }
+
+        return new PageImpl<>(content, PageRequest.of(page, pageSize), total);
+    }
+
+    BitSet match(TvShowFilter filter) {
+        BitSet matches = new BitSet(size);
+        matches.set(0, size);
+
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            BitSet idMatches = new BitSet(size);
+            filter.getIds().stream()
+                    .map(positions::get)
+                    .filter(Objects::nonNull)
+                    .forEach(idMatches::set);
+            matches.and(idMatches);
+        }
+
+        if (filter.getGenres() != null && !filter.getGenres().isEmpty()) {
+            BitSet genreMatches = new BitSet(size);
+            filter.getGenres().stream()
+                    .map(genre -> genres.get(lower(genre)))
+                    .filter(Objects::nonNull)
+                    .forEach(genreMatches::or);
+            matches.and(genreMatches);
+        }
+
+        retainEncoded(matches, statuses, filter.getStatus());
+        retainEncoded(matches, languages, filter.getLanguage());
+        retainEncoded(matches, networks, filter.getNetwork());
+
+        if (filter.getMinRating() != null) {
+            double min = filter.getMinRating();
+            retain(matches, i -> ratings[i] >= min);
+        }
+        if (filter.getMaxRating() != null) {
+            double max = filter.getMaxRating();
+            retain(matches, i -> ratings[i] <= max);
+        }
+        if (filter.getPremiered() != null) {
+            long from = filter.getPremiered().toEpochDay();
+            retain(matches, i -> premiered[i] != NO_DATE && premiered[i] >= from);
+        }
+        if (filter.getEnded() != null) {
+            long to = filter.getEnded().toEpochDay();
+            retain(matches, i -> ended[i] != NO_DATE && ended[i] <= to);
+        }
+        if (filter.getName() != null) {
+            String term = lower(filter.getName());
+            retain(matches, i -> names[i] != null && names[i].contains(term));
+        }
+        if (filter.getDescription() != null) {
+            String term = lower(filter.getDescription());
+            retain(matches, i -> summaries[i] != null && summaries[i].contains(term));
+        }
+
+        return matches;
+    }
+
+    private void retainEncoded(BitSet matches, Dictionary dictionary, String value) {
+        if (value == null) {
+            return;
+        }
+
+        int code = dictionary.codeOf(lower(value));
+        if (code < 0) {
+            matches.clear();
+            return;
+        }
+        retain(matches, i -> dictionary.codes[i] == code);
+    }
+
+    private static void retain(BitSet matches, IntPredicate predicate) {
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (!predicate.test(i)) {
+                matches.clear(i);
+            }
+        }
+    }
+
+    private int[] sortPositions(TvShowSortField sortField, int from) {
+        return IntStream.range(from, size)
+                .boxed()
+                .sorted(comparator(sortField))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Merges the rows from keptSize on into the already sorted order of the rows before them.
+    private int[] splicePositions(TvShowSortField sortField, int[] kept, int keptSize) {
+        Comparator<Integer> comparator = comparator(sortField);
+        int[] added = sortPositions(sortField, keptSize);
+        int[] order = new int[size];
+
+        int k = 0;
+        int a = 0;
+        int n = 0;
+        while (k < kept.length && a < added.length) {
+            order[n++] = comparator.compare(kept[k], added[a]) <= 0 ? kept[k++] : added[a++];
+        }
+        while (k < kept.length) {
+            order[n++] = kept[k++];
+        }
+        while (a < added.length) {
+            order[n++] = added[a++];
+        }
+        return order;
+    }
+
+    private Comparator<Integer> comparator(TvShowSortField sortField) {
+        Comparator<Integer> byKey = switch (sortField) {
+            case ID -> (a, b) -> 0;
+            case NAME -> Comparator.comparing(i -> names[i], Comparator.nullsLast(Comparator.naturalOrder()));
+            case TYPE -> Comparator.comparing(i -> types.valueAt(i), Comparator.nullsLast(Comparator.naturalOrder()));
+            case STATUS -> Comparator.comparing(i -> statuses.valueAt(i), Comparator.nullsLast(Comparator.naturalOrder()));
+            case LANGUAGE -> Comparator.comparing(i -> languages.valueAt(i), Comparator.nullsLast(Comparator.naturalOrder()));
+            case RATING -> Comparator.comparingDouble(i -> ratings[i]);
+            case RUNTIME -> Comparator.comparingInt(i -> runtimes[i]);
+            case AVERAGE_RUNTIME -> Comparator.comparingInt(i -> averageRuntimes[i]);
+            case PREMIERED -> Comparator.comparingLong(i -> premiered[i] == NO_DATE ? Long.MAX_VALUE : premiered[i]);
+            case ENDED -> Comparator.comparingLong(i -> ended[i] == NO_DATE ? Long.MAX_VALUE : ended[i]);
+        };
+
+        return byKey.thenComparingLong(i -> tvShowIds[i]);
+    }
+
+    private CatalogRow rowAt(int i) {
+        return new CatalogRow(
+                tvShowIds[i],
+                names[i],
+                summaries[i],
+                types.valueAt(i),
+                statuses.valueAt(i),
+                languages.valueAt(i),
+                networks.valueAt(i),
+                ratings[i],
+                runtimes[i],
+                averageRuntimes[i],
+                premiered[i] == NO_DATE ? null : LocalDate.ofEpochDay(premiered[i]),
+                ended[i] == NO_DATE ? null : LocalDate.ofEpochDay(ended[i])
+        );
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Dictionary {
+        private static final int NO_VALUE = -1;
+
+        private final int[] codes;
+        private final List<String> values;
+        private final Map<String, Integer> lookup;
+
+        private Dictionary(int[] codes, List<String> values, Map<String, Integer> lookup) {
+            this.codes = codes;
+            this.values = values;
+            this.lookup = lookup;
+        }
+
+        static Dictionary encode(String[] column) {
+            int[] codes = new int[column.length];
+            List<String> values = new ArrayList<>();
+            Map<String, Integer> lookup = new HashMap<>();
+
+            for (int i = 0; i < column.length; i++) {
+                if (column[i] == null) {
+                    codes[i] = NO_VALUE;
+                    continue;
+                }
+                codes[i] = lookup.computeIfAbsent(column[i], value -> {
+                    values.add(value);
+                    return values.size() - 1;
+                });
+            }
+
+            return new Dictionary(codes, values, lookup);
+        }
+
+        int codeOf(String value) {
+            return lookup.getOrDefault(value, NO_VALUE);
+        }
+
+        String valueAt(int position) {
+            return codes[position] == NO_VALUE ? null : values.get(codes[position]);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.tvshows_service.catalog;
+
+import java.time.LocalDate;
+
+public record CatalogRow(
+        Long tvShowId,
+        String name,
+        String summary,
+        String type,
+        String status,
+        String language,
+        String network,
+        double rating,
+        int runtime,
+        int averageRuntime,
+        LocalDate premiered,
+        LocalDate ended
+) {
+}
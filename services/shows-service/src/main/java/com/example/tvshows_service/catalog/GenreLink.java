@@ -0,0 +1,4 @@
+package com.example.tvshows_service.catalog;
+
+public record GenreLink(Long tvShowId, String genre) {
+}
@@ -0,0 +1,13 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "catalog.index")
+@Component
+@Data
+public class CatalogIndexProperties {
+    private boolean enabled = false;
+    private String changeChannel = "tv-shows:catalog:changed";
+}
@@ -0,0 +1,19 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "catalog.sync")
+@Component
+@Data
+public class CatalogSyncProperties {
+    private boolean enabled = false;
+    // TVMaze updates window: day, week or month
+    private String since = "day";
+    private int concurrency = 4;
+    private int batchSize = 100;
+    private Duration requestTimeout = Duration.ofSeconds(30);
+}
@@ -1,8 +1,10 @@
 package com.example.tvshows_service.config;
 
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
 import com.example.tvshows_service.dto.ErrorResponse;
 import com.example.tvshows_service.exceptions.AppException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,14 +16,23 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(AppException.class)
     ResponseEntity<ErrorResponse> handleAppException(AppException ex, HttpServletRequest request) {
+        return errorResponse(ex.getHttpStatus(), ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    ResponseEntity<ErrorResponse> handleDownstreamUnavailableException(DownstreamUnavailableException ex, HttpServletRequest request) {
+        return errorResponse(ex.getHttpStatus(), ex.getMessage(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> errorResponse(HttpStatus status, String message, HttpServletRequest request) {
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
-                ex.getHttpStatus().value(),
-                ex.getHttpStatus().getReasonPhrase(),
-                ex.getMessage(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(ex.getHttpStatus().value()).body(errorResponse);
+        return ResponseEntity.status(status.value()).body(errorResponse);
     }
 }
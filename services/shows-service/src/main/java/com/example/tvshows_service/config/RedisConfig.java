@@ -1,26 +1,67 @@
 package com.example.tvshows_service.config;
 
+import com.example.tvshows_service.cache.CachedShowPage;
+import com.example.tvshows_service.cache.ShowDetailCache;
+import com.example.tvshows_service.dto.TvShowDto;
+import com.example.tvshows_service.service.CatalogChangeService;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.hateoas.RepresentationModel;
 
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, CachedShowPage> showPageRedisTemplate(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+        return typedTemplate(redisConnectionFactory, objectMapper, CachedShowPage.class);
+    }
+
+    @Bean
+    public RedisTemplate<String, TvShowDto> showDetailRedisTemplate(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+        return typedTemplate(redisConnectionFactory, objectMapper, TvShowDto.class);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            ShowDetailCache showDetailCache,
+            ShowDetailCacheProperties showDetailCacheProperties,
+            CatalogChangeService catalogChangeService,
+            CatalogIndexProperties catalogIndexProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(showDetailCache, new ChannelTopic(showDetailCacheProperties.getInvalidationChannel()));
+        container.addMessageListener(catalogChangeService, new ChannelTopic(catalogIndexProperties.getChangeChannel()));
+
+        return container;
+    }
+
+    private <T> RedisTemplate<String, T> typedTemplate(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper, Class<T> type) {
+        RedisTemplate<String, T> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
 
         template.setKeySerializer(new StringRedisSerializer());
 
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
-        template.setValueSerializer(jackson2JsonRedisSerializer);
-        template.setHashKeySerializer(jackson2JsonRedisSerializer);
+        // Bound to a single class, so no type metadata is written and HATEOAS links are left out.
+        ObjectMapper cacheObjectMapper = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, IgnoreLinks.class)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(cacheObjectMapper, type));
 
         return template;
     }
+
+    @JsonIgnoreProperties({"links"})
+    private abstract static class IgnoreLinks {
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.review-stats")
+@Component
+@Data
+public class ReviewStatsClientProperties {
+    private Duration ttl = Duration.ofSeconds(30);
+    private long maxSize = 50_000;
+    private int batchSize = 100;
+}
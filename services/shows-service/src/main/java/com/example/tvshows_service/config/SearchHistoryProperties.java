@@ -0,0 +1,17 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "search-history")
+@Component
+@Data
+public class SearchHistoryProperties {
+    private int queueCapacity = 10_000;
+    private int batchSize = 200;
+    private long flushIntervalMs = 1000;
+    private Duration requestTimeout = Duration.ofSeconds(5);
+}
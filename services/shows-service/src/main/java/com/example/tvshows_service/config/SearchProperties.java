@@ -0,0 +1,16 @@
+package com.example.tvshows_service.config;
+
+import com.example.tvshows_service.enums.SearchMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "search")
+@Component
+@Data
+public class SearchProperties {
+    private SearchMode mode = SearchMode.MEMORY;
+    private double minScore = 0.2;
+    private int maxResults = 200;
+    private int typeaheadLimit = 10;
+}
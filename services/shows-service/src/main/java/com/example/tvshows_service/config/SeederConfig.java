@@ -1,9 +1,13 @@
 package com.example.tvshows_service.config;
 
 import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.example.tvshows_service.dump.TvMazeDumpReader;
+import com.example.tvshows_service.dump.TvMazeDumpWriter;
+import com.example.tvshows_service.models.SeedCheckpoint;
 import com.example.tvshows_service.repositories.TvShowRepository;
 import com.example.tvshows_service.service.SeederService;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.example.tvshows_service.snapshot.CatalogSnapshotConverter;
+import com.example.tvshows_service.snapshot.CatalogSnapshotReader;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,10 +17,14 @@
 import org.springframework.context.annotation.Profile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Configuration
 @Profile("dev")
@@ -26,49 +34,107 @@ public class SeederConfig {
     @Value("${database.dump.path}")
     private String dumpFilename;
 
+    @Value("${database.snapshot.path:}")
+    private String snapshotFilename;
+
     TvShowRepository tvShowRepository;
 
-    public SeederConfig(TvShowRepository tvShowRepository) {
+    SeederProperties seederProperties;
+
+    public SeederConfig(TvShowRepository tvShowRepository, SeederProperties seederProperties) {
         this.tvShowRepository = tvShowRepository;
+        this.seederProperties = seederProperties;
     }
 
     @Bean
     CommandLineRunner generateJsonDump(ObjectMapper objectMapper, SeederService seederService) {
         return args -> {
-            if (tvShowRepository.count() > 0) {
+            Optional<SeedCheckpoint> checkpoint = seederService.getCheckpoint();
+            boolean resuming = checkpoint.isPresent() && !checkpoint.get().isCompleted();
+
+            if (!resuming && (checkpoint.isPresent() || tvShowRepository.count() > 0)) {
                 return;
             }
 
             Path dumpPath = Paths.get(this.dumpFilename);
 
-            if (Files.exists(dumpPath)) {
-                try {
-                    log.info("Loading TvShows database table from existing json dump.");
-
-                    List<TvMazeShowDto> tvShows = objectMapper.readValue(
-                            dumpPath.toFile(),
-                            new TypeReference<List<TvMazeShowDto>>() {}
-                    );
-                    seederService.saveTvShows(tvShows);
-                } catch (IOException e) {
-                    log.error("Failed to save data from dump file: {}", e.getMessage());
-                    throw new RuntimeException(e);
-                }
+            if (resuming) {
+                // The dump written by the interrupted run is incomplete, so a resumed seed only fills the database.
+                log.info("Resuming TVMaze seed after page {}.", checkpoint.get().getLastPage());
+                seed(seederService, tvShows -> {});
+            } else if (snapshotFilename.isBlank() && Files.exists(dumpPath)) {
+                loadFromDump(objectMapper, seederService, dumpPath);
+            } else if (!snapshotFilename.isBlank() && (Files.exists(Paths.get(snapshotFilename)) || Files.exists(dumpPath))) {
+                loadFromSnapshot(objectMapper, seederService, dumpPath, Paths.get(snapshotFilename));
             } else {
-                try {
-                    log.info("Generating TvShows database dump.");
+                log.info("Generating TvShows database dump.");
+                writeDumpWhileSeeding(objectMapper, seederService, dumpPath);
+            }
+        };
+    }
 
-                    List<TvMazeShowDto> tvShows = seederService.fetchAllTvShows();
-                    Files.createDirectories(dumpPath.getParent());
-                    objectMapper.writeValue(dumpPath.toFile(), tvShows);
+    private void loadFromDump(ObjectMapper objectMapper, SeederService seederService, Path dumpPath) {
+        log.info("Loading TvShows database table from json dump.");
+        List<Long> loadedTvShowIds = new ArrayList<>();
+        try (TvMazeDumpReader reader = TvMazeDumpReader.open(objectMapper, dumpPath)) {
+            int loaded = reader.forEachChunk(seederProperties.getLoadChunkSize(), chunk -> loadedTvShowIds.addAll(seederService.bulkSaveTvShows(chunk)));
+            log.info("Loaded {} shows from json dump.", loaded);
+        } catch (IOException e) {
+            log.error("Failed to save data from dump file: {}", e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            seederService.publishCatalogChanged(loadedTvShowIds);
+        }
+    }
 
-                    seederService.saveTvShows(tvShows);
+    private void loadFromSnapshot(ObjectMapper objectMapper, SeederService seederService, Path dumpPath, Path snapshotPath) {
+        List<Long> loadedTvShowIds = new ArrayList<>();
+        try {
+            if (!Files.exists(snapshotPath)) {
+                log.info("Converting json dump to a catalog snapshot.");
+                int converted = CatalogSnapshotConverter.convert(objectMapper, dumpPath, snapshotPath);
+                log.info("Wrote {} shows to {}.", converted, snapshotPath);
+            }
 
-                    log.info("Wrote {} shows to TvShows database table.", tvShows.size());
+            log.info("Loading TvShows database table from catalog snapshot.");
+            int loaded = CatalogSnapshotReader.open(snapshotPath)
+                    .forEachBatch(seederProperties.getLoadChunkSize(), batch -> loadedTvShowIds.addAll(seederService.bulkSaveTvShows(batch)));
+            log.info("Loaded {} shows from catalog snapshot.", loaded);
+        } catch (IOException e) {
+            log.error("Failed to save data from catalog snapshot: {}", e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            seederService.publishCatalogChanged(loadedTvShowIds);
+        }
+    }
+
+    private void writeDumpWhileSeeding(ObjectMapper objectMapper, SeederService seederService, Path dumpPath) {
+        try (TvMazeDumpWriter writer = TvMazeDumpWriter.create(objectMapper, dumpPath)) {
+            boolean completed = seed(seederService, tvShows -> {
+                try {
+                    writer.writeAll(tvShows);
                 } catch (IOException e) {
-                    log.error("Failed to generate data from dump file: {}", e.getMessage());
+                    throw new UncheckedIOException(e);
                 }
+            });
+
+            if (completed) {
+                writer.commit();
             }
-        };
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to generate data from dump file: {}", e.getMessage());
+        }
+    }
+
+    private boolean seed(SeederService seederService, Consumer<List<TvMazeShowDto>> pageSink) {
+        try {
+            int seeded = seederService.seed(pageSink);
+
+            log.info("Wrote {} shows to TvShows database table.", seeded);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("TVMaze seed stopped, it will resume from the last committed page on next start: {}", e.getMessage());
+            return false;
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "seeder")
+@Component
+@Data
+public class SeederProperties {
+    private int parallelism = 4;
+    private int batchSize = 500;
+    private int loadChunkSize = 1000;
+    private Duration requestTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,34 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "redis.cache-keys")
+@Component
+@Data
+public class ShowCacheProperties {
+    private CacheKey topRatedShows = new CacheKey("top-rated-shows", Duration.ofHours(1));
+    private CacheKey filteredShows = new CacheKey("tv-shows:filtered", Duration.ofHours(1));
+    private String tagPrefix = "tv-shows:tag:";
+
+    public Duration longestTtl() {
+        return topRatedShows.getTtl().compareTo(filteredShows.getTtl()) >= 0 ? topRatedShows.getTtl() : filteredShows.getTtl();
+    }
+
+    @Data
+    public static class CacheKey {
+        private String cacheKey;
+        private Duration ttl;
+
+        public CacheKey() {
+        }
+
+        public CacheKey(String cacheKey, Duration ttl) {
+            this.cacheKey = cacheKey;
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.show-detail")
+@Component
+@Data
+public class ShowDetailCacheProperties {
+    private long localMaxSize = 10_000;
+    private Duration localTtl = Duration.ofMinutes(10);
+    private Duration redisTtl = Duration.ofHours(1);
+    private String keyPrefix = "tv-shows:detail:";
+    private String invalidationChannel = "tv-shows:detail:invalidate";
+}
@@ -0,0 +1,12 @@
+package com.example.tvshows_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "tv-shows.listing")
+@Component
+@Data
+public class TvShowListingProperties {
+    private int maxPageSize = 100;
+}
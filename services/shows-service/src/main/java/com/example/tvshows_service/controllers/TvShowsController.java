@@ -1,6 +1,10 @@
 package com.example.tvshows_service.controllers;
 
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
+import com.example.tvshows_service.dto.TvShowCursorPageDto;
 import com.example.tvshows_service.dto.TvShowDto;
+import com.example.tvshows_service.dto.TvShowSuggestionDto;
+import com.example.tvshows_service.exceptions.InvalidCursorException;
 import com.example.tvshows_service.exceptions.TvShowsNotFoundException;
 import com.example.tvshows_service.filters.TvShowFilter;
 import com.example.tvshows_service.service.TvShowService;
@@ -9,6 +13,8 @@
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/tv-shows")
 public class TvShowsController {
@@ -35,6 +41,43 @@ public ResponseEntity<Page<TvShowDto>> getTvShows(
         return ResponseEntity.ok(tvShowPage);
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<TvShowCursorPageDto> getTvShowsAfter(
+            @ModelAttribute TvShowFilter tvShowFilter,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username,
+            HttpServletRequest request
+    ) throws TvShowsNotFoundException, InvalidCursorException {
+        TvShowCursorPageDto tvShowCursorPage = tvShowService.getTvShowsAfter(cursor, size, tvShowFilter, username);
+
+        tvShowService.storeFilteredTvShowsSearchHistory(username, request.getRequestURL().toString(), tvShowFilter);
+
+        return ResponseEntity.ok(tvShowCursorPage);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<TvShowDto>> searchTvShows(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(name = "X-Auth-Username", defaultValue = "") String username
+    ) throws TvShowsNotFoundException {
+        Page<TvShowDto> tvShowPage = tvShowService.searchTvShows(query, page, size, username);
+
+        return ResponseEntity.ok(tvShowPage);
+    }
+
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TvShowSuggestionDto>> typeahead(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<TvShowSuggestionDto> suggestions = tvShowService.getSuggestions(query, limit);
+
+        return ResponseEntity.ok(suggestions);
+    }
+
     @GetMapping("/top-rated")
     public ResponseEntity<Page<TvShowDto>> topRatedShows(
             @RequestParam(defaultValue = "0") int page,
@@ -54,7 +97,7 @@ public ResponseEntity<TvShowDto> getTvShow(@PathVariable Long tvShowId) throws T
     }
 
     @PostMapping("/{tvShowId}/watchlist/{username}")
-    public ResponseEntity<Void> watchlist(@PathVariable("tvShowId") long tvShowId, @PathVariable("username") String username) throws TvShowsNotFoundException {
+    public ResponseEntity<Void> watchlist(@PathVariable("tvShowId") long tvShowId, @PathVariable("username") String username) throws TvShowsNotFoundException, DownstreamUnavailableException {
         tvShowService.addToWatchList(tvShowId, username);
 
         return ResponseEntity.noContent().build();
@@ -0,0 +1,9 @@
+package com.example.tvshows_service.dto;
+
+import java.util.List;
+
+public record BulkInsertResult(List<Long> insertedTvShowIds, List<Conflict> conflicts) {
+
+    public record Conflict(Long tvShowId, String reason) {
+    }
+}
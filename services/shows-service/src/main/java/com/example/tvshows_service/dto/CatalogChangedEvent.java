@@ -0,0 +1,14 @@
+package com.example.tvshows_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogChangedEvent {
+    private List<Long> tvShowIds;
+}
@@ -0,0 +1,19 @@
+package com.example.tvshows_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TvShowCursorPageDto {
+    private List<TvShowDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
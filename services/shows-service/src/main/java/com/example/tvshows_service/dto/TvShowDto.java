@@ -47,4 +47,8 @@ public class TvShowDto extends RepresentationModel<TvShowDto> {
     private String watchlistUrl;
 
     private String reviewUrl;
+
+    // Approved review stats from review-rating-service; null when they could not be fetched.
+    private Double communityRating;
+    private Long communityReviewCount;
 }
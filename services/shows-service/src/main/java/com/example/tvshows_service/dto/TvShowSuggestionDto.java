@@ -0,0 +1,16 @@
+package com.example.tvshows_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TvShowSuggestionDto {
+    private Long id;
+    private String name;
+    private double score;
+}
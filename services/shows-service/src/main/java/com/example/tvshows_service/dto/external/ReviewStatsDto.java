@@ -0,0 +1,16 @@
+package com.example.tvshows_service.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewStatsDto {
+    private Long tvShowId;
+    private Double averageRating;
+    private Long totalReviews;
+}
@@ -6,11 +6,15 @@
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class StoreTvShowSearchDto {
+public class StoreTvShowSearchEntryDto {
+    private String username;
     private String endpoint;
     private JsonNode filters;
+    private LocalDateTime searchTime;
 }
@@ -0,0 +1,14 @@
+package com.example.tvshows_service.dto.external;
+
+import java.util.List;
+
+public record TvMazePage(int number, List<TvMazeShowDto> shows) {
+    public static TvMazePage end(int number) {
+        return new TvMazePage(number, List.of());
+    }
+
+    // TVMaze answers 404 past the last page; an empty page is treated the same way.
+    public boolean isEnd() {
+        return shows.isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.tvshows_service.dump;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a JSON dump (an array of TVMaze shows) one element at a time, so only the current chunk of
+ * shows is ever on the heap.
+ */
+public final class TvMazeDumpReader implements Closeable {
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+
+    private TvMazeDumpReader(ObjectMapper objectMapper, JsonParser parser) {
+        this.objectMapper = objectMapper;
+        this.parser = parser;
+    }
+
+    public static TvMazeDumpReader open(ObjectMapper objectMapper, Path dump) throws IOException {
+        JsonParser parser = objectMapper.createParser(dump.toFile());
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Expected a JSON array in " + dump);
+        }
+        return new TvMazeDumpReader(objectMapper, parser);
+    }
+
+    /**
+     * Returns the next show, or null once the array is exhausted.
+     */
+    public TvMazeShowDto next() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        return objectMapper.readValue(parser, TvMazeShowDto.class);
+    }
+
+    /**
+     * Hands the remaining shows to {@code consumer} in lists of at most {@code chunkSize}.
+     */
+    public int forEachChunk(int chunkSize, Consumer<List<TvMazeShowDto>> consumer) throws IOException {
+        int total = 0;
+        List<TvMazeShowDto> chunk = new ArrayList<>(chunkSize);
+
+        for (TvMazeShowDto show = next(); show != null; show = next()) {
+            chunk.add(show);
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                total += chunk.size();
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+            total += chunk.size();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
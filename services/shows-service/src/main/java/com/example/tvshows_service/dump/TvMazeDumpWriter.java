@@ -0,0 +1,61 @@
+package com.example.tvshows_service.dump;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Writes a JSON dump incrementally into a {@code .part} file next to the target. The target is
+ * only replaced by {@link #commit()}; closing an uncommitted writer discards the partial file.
+ */
+public final class TvMazeDumpWriter implements Closeable {
+    private final Path target;
+    private final Path partial;
+    private final SequenceWriter writer;
+    private boolean committed;
+    private int count;
+
+    private TvMazeDumpWriter(Path target, Path partial, SequenceWriter writer) {
+        this.target = target;
+        this.partial = partial;
+        this.writer = writer;
+    }
+
+    public static TvMazeDumpWriter create(ObjectMapper objectMapper, Path target) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        return new TvMazeDumpWriter(target, partial, objectMapper.writer().writeValuesAsArray(partial.toFile()));
+    }
+
+    public void writeAll(List<TvMazeShowDto> shows) throws IOException {
+        writer.writeAll(shows);
+        count += shows.size();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void commit() throws IOException {
+        writer.close();
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            writer.close();
+            Files.deleteIfExists(partial);
+        }
+    }
+}
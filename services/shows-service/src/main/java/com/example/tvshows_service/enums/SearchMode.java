@@ -0,0 +1,6 @@
+package com.example.tvshows_service.enums;
+
+public enum SearchMode {
+    MEMORY,
+    POSTGRES
+}
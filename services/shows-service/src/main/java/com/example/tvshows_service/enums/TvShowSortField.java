@@ -0,0 +1,63 @@
+package com.example.tvshows_service.enums;
+
+import com.example.tvshows_service.models.TvShow;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+@Getter
+public enum TvShowSortField {
+    ID("id", "tvShowId", Long.class, null, TvShow::getTvShowId),
+    NAME("name", "name", String.class, "", TvShow::getName),
+    TYPE("type", "type", String.class, "", TvShow::getType),
+    LANGUAGE("language", "language", String.class, "", TvShow::getLanguage),
+    STATUS("status", "status", String.class, "", TvShow::getStatus),
+    RATING("rating", "rating", Double.class, null, TvShow::getRating),
+    RUNTIME("runtime", "runtime", Integer.class, null, TvShow::getRuntime),
+    AVERAGE_RUNTIME("averageRuntime", "averageRuntime", Integer.class, null, TvShow::getAverageRuntime),
+    PREMIERED("premiered", "premiered", LocalDate.class, LocalDate.of(1, 1, 1), TvShow::getPremiered),
+    ENDED("ended", "ended", LocalDate.class, LocalDate.of(1, 1, 1), TvShow::getEnded);
+
+    private final String value;
+    private final String attribute;
+    private final Class<? extends Comparable<?>> type;
+    // Nullable columns are ordered and compared through coalesce(column, nullSentinel) so keyset predicates stay total.
+    private final Comparable<?> nullSentinel;
+    private final Function<TvShow, Object> extractor;
+
+    TvShowSortField(String value, String attribute, Class<? extends Comparable<?>> type, Comparable<?> nullSentinel, Function<TvShow, Object> extractor) {
+        this.value = value;
+        this.attribute = attribute;
+        this.type = type;
+        this.nullSentinel = nullSentinel;
+        this.extractor = extractor;
+    }
+
+    public static TvShowSortField fromValue(String value) {
+        if (value == null || value.isBlank() || "tvShowId".equalsIgnoreCase(value)) {
+            return ID;
+        }
+
+        for (TvShowSortField field : TvShowSortField.values()) {
+            if (field.getValue().equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort field: " + value);
+    }
+
+    public Comparable<?> keyOf(TvShow tvShow) {
+        Object key = extractor.apply(tvShow);
+
+        return key == null ? nullSentinel : (Comparable<?>) key;
+    }
+
+    public Comparable<?> parseKey(String key) {
+        if (type == Long.class) return Long.valueOf(key);
+        if (type == Integer.class) return Integer.valueOf(key);
+        if (type == Double.class) return Double.valueOf(key);
+        if (type == LocalDate.class) return LocalDate.parse(key);
+        return key;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.tvshows_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends AppException {
+
+    public InvalidCursorException() {
+        super("Invalid or expired cursor", HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidCursorException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
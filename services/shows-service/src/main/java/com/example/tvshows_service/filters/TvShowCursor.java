@@ -0,0 +1,4 @@
+package com.example.tvshows_service.filters;
+
+public record TvShowCursor(String sortBy, String sortOrder, String key, Long tvShowId) {
+}
@@ -0,0 +1,37 @@
+package com.example.tvshows_service.helpers;
+
+import com.example.tvshows_service.exceptions.InvalidCursorException;
+import com.example.tvshows_service.filters.TvShowCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+
+@Component
+public class CursorHelper {
+    private final ObjectMapper objectMapper;
+
+    public CursorHelper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(TvShowCursor cursor) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    public TvShowCursor decode(String cursor) throws InvalidCursorException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), TvShowCursor.class);
+        } catch (Exception e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
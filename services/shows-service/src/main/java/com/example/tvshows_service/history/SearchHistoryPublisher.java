@@ -0,0 +1,130 @@
+package com.example.tvshows_service.history;
+
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_service.config.SearchHistoryProperties;
+import com.example.tvshows_service.dto.external.StoreTvShowSearchBatchDto;
+import com.example.tvshows_service.dto.external.StoreTvShowSearchEntryDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers search history events in a bounded queue and ships them to user-service in batches
+ * from a background thread. When the queue is full new events are dropped and counted rather
+ * than blocking the request thread. Sends go through the user-service circuit breaker, so while it
+ * is open batches are dropped without a network call.
+ */
+@Component
+@Slf4j
+public class SearchHistoryPublisher {
+    private static final String METRIC_EVENTS = "tvshows.search.history.events";
+    private static final String USER_SERVICE = "user-service";
+
+    @Value("${user-service.api.url}")
+    private String userServiceUrl;
+
+    private final WebClient webClient;
+
+    private final SearchHistoryProperties properties;
+
+    private final DownstreamGuard downstreamGuard;
+
+    private final BlockingQueue<StoreTvShowSearchEntryDto> queue;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter enqueued;
+    private final Counter sent;
+    private final Counter droppedQueueFull;
+    private final Counter droppedSendFailed;
+    private final Counter droppedCircuitOpen;
+
+    public SearchHistoryPublisher(
+            WebClient webClient,
+            SearchHistoryProperties properties,
+            DownstreamGuard downstreamGuard,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.downstreamGuard = downstreamGuard;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.enqueued = events(meterRegistry, "enqueued");
+        this.sent = events(meterRegistry, "sent");
+        this.droppedQueueFull = events(meterRegistry, "dropped_queue_full");
+        this.droppedSendFailed = events(meterRegistry, "dropped_send_failed");
+        this.droppedCircuitOpen = events(meterRegistry, "dropped_circuit_open");
+        Gauge.builder("tvshows.search.history.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public boolean publish(StoreTvShowSearchEntryDto search) {
+        if (!queue.offer(search)) {
+            droppedQueueFull.increment();
+            return false;
+        }
+
+        enqueued.increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${search-history.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            List<StoreTvShowSearchEntryDto> batch = new ArrayList<>(properties.getBatchSize());
+            while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+                send(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void send(List<StoreTvShowSearchEntryDto> batch) {
+        try {
+            downstreamGuard.call(USER_SERVICE, webClient.post()
+                            .uri(userServiceUrl + "/api/users/search/batch")
+                            .bodyValue(new StoreTvShowSearchBatchDto(List.copyOf(batch)))
+                            .retrieve()
+                            .toBodilessEntity())
+                    .block(properties.getRequestTimeout());
+
+            sent.increment(batch.size());
+        } catch (CallNotPermittedException e) {
+            droppedCircuitOpen.increment(batch.size());
+            log.debug("Skipped {} search history events, user-service circuit is open", batch.size());
+        } catch (RuntimeException e) {
+            droppedSendFailed.increment(batch.size());
+            log.warn("Failed to send {} search history events: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC_EVENTS)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -19,11 +19,22 @@ public interface TvShowMapper {
     @Mapping(target = "id", source = "tvShowId")
     @Mapping(target = "genres", source = "genres")
     @Mapping(target = "watchlistUrl", ignore = true)
+    @Mapping(target = "communityRating", ignore = true)
+    @Mapping(target = "communityReviewCount", ignore = true)
     TvShowDto tvShowToDto(TvShow tvShow);
 
+    @Mapping(target = "id", source = "tvShow.tvShowId")
+    @Mapping(target = "genres", source = "genres")
+    @Mapping(target = "watchlistUrl", ignore = true)
+    @Mapping(target = "communityRating", ignore = true)
+    @Mapping(target = "communityReviewCount", ignore = true)
+    TvShowDto tvShowToListingDto(TvShow tvShow, List<String> genres);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tvShowId", source = "id")
     @Mapping(target = "genres", source = "genres")
+    @Mapping(target = "network", ignore = true)
+    @Mapping(target = "tvmazeUpdated", ignore = true)
     TvShow dtoToTvShow(TvShowDto tvShowDto);
 
     @Mapping(target = "id", ignore = true)
@@ -36,6 +47,8 @@ public interface TvShowMapper {
     @Mapping(target = "thetvdb", source = "externals.thetvdb")
     @Mapping(target = "scheduleTime", source = "schedule.time")
     @Mapping(target = "scheduleDays", source = "schedule.days")
+    @Mapping(target = "network", source = "network.name")
+    @Mapping(target = "tvmazeUpdated", source = "updated")
     @Mapping(target = "genres", ignore = true)
     TvShow mazeDtoToTvShow(TvMazeShowDto tvMazeShowDto);
 
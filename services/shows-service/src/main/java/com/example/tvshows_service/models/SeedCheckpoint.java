@@ -0,0 +1,29 @@
+package com.example.tvshows_service.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "seed_checkpoints")
+public class SeedCheckpoint {
+    @Id
+    private String source;
+
+    @Column(name = "last_page", nullable = false)
+    private int lastPage = -1;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static SeedCheckpoint start(String source) {
+        SeedCheckpoint checkpoint = new SeedCheckpoint();
+        checkpoint.setSource(source);
+        return checkpoint;
+    }
+}
@@ -28,6 +28,8 @@ public class TvShow {
 
     private String status;
 
+    private String network;
+
     private int runtime;
 
     private int averageRuntime;
@@ -66,4 +68,7 @@ public class TvShow {
     private String imageOriginal;
 
     private String summary;
+
+    @Column(name = "tvmaze_updated")
+    private Long tvmazeUpdated;
 }
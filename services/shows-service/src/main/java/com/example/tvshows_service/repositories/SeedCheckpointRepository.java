@@ -0,0 +1,7 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.models.SeedCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SeedCheckpointRepository extends JpaRepository<SeedCheckpoint, String> {
+}
@@ -0,0 +1,11 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.models.TvShow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TvShowKeysetRepository {
+    List<TvShow> findAfter(Specification<TvShow> spec, TvShowSortField sortField, boolean descending, Comparable<?> lastKey, Long lastTvShowId, int limit);
+}
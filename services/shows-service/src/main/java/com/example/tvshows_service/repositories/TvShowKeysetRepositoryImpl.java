@@ -0,0 +1,80 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.models.TvShow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TvShowKeysetRepositoryImpl implements TvShowKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<TvShow> findAfter(Specification<TvShow> spec, TvShowSortField sortField, boolean descending, Comparable<?> lastKey, Long lastTvShowId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TvShow> query = cb.createQuery(TvShow.class);
+        Root<TvShow> root = query.from(TvShow.class);
+
+        Expression<Comparable> sortKey = sortExpression(cb, root, sortField);
+        Expression<Long> tieBreaker = root.get("tvShowId");
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+
+        if (lastTvShowId != null) {
+            Comparable key = lastKey;
+
+            if (sortField == TvShowSortField.ID) {
+                predicates.add(descending ? cb.lessThan(tieBreaker, lastTvShowId) : cb.greaterThan(tieBreaker, lastTvShowId));
+            } else if (descending) {
+                predicates.add(cb.or(
+                        cb.lessThan(sortKey, key),
+                        cb.and(cb.equal(sortKey, key), cb.lessThan(tieBreaker, lastTvShowId))
+                ));
+            } else {
+                predicates.add(cb.or(
+                        cb.greaterThan(sortKey, key),
+                        cb.and(cb.equal(sortKey, key), cb.greaterThan(tieBreaker, lastTvShowId))
+                ));
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (sortField != TvShowSortField.ID) {
+            orders.add(descending ? cb.desc(sortKey) : cb.asc(sortKey));
+        }
+        orders.add(descending ? cb.desc(tieBreaker) : cb.asc(tieBreaker));
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Expression<Comparable> sortExpression(CriteriaBuilder cb, Root<TvShow> root, TvShowSortField sortField) {
+        Expression<Comparable> path = root.get(sortField.getAttribute());
+
+        if (sortField.getNullSentinel() == null) {
+            return path;
+        }
+
+        return cb.coalesce(path, (Comparable) sortField.getNullSentinel());
+    }
+}
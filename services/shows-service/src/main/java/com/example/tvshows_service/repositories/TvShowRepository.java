@@ -1,19 +1,51 @@
 package com.example.tvshows_service.repositories;
 
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.catalog.GenreLink;
 import com.example.tvshows_service.models.TvShow;
+import com.example.tvshows_service.search.TvShowSearchView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TvShowRepository extends JpaRepository<TvShow, UUID>, JpaSpecificationExecutor<TvShow> {
+public interface TvShowRepository extends JpaRepository<TvShow, UUID>, JpaSpecificationExecutor<TvShow>, TvShowKeysetRepository {
     Optional<TvShow> findByName(String name);
 
     Optional<TvShow> findByTvShowId(Long tvShowId);
 
     Optional<List<TvShow>> findAllByTvShowIdIn(List<Long> tvShowIds);
+
+    @Query("SELECT new com.example.tvshows_service.catalog.CatalogRow(t.tvShowId, t.name, t.summary, t.type, t.status, t.language, t.network, t.rating, t.runtime, t.averageRuntime, t.premiered, t.ended) FROM TvShow t")
+    List<CatalogRow> findAllCatalogRows();
+
+    @Query("SELECT new com.example.tvshows_service.catalog.CatalogRow(t.tvShowId, t.name, t.summary, t.type, t.status, t.language, t.network, t.rating, t.runtime, t.averageRuntime, t.premiered, t.ended) FROM TvShow t WHERE t.tvShowId IN :tvShowIds")
+    List<CatalogRow> findCatalogRowsByTvShowIdIn(Collection<Long> tvShowIds);
+
+    @Query("SELECT new com.example.tvshows_service.catalog.GenreLink(t.tvShowId, g.name) FROM TvShow t JOIN t.genres g")
+    List<GenreLink> findAllGenreLinks();
+
+    @Query("SELECT new com.example.tvshows_service.catalog.GenreLink(t.tvShowId, g.name) FROM TvShow t JOIN t.genres g WHERE t.tvShowId IN :tvShowIds")
+    List<GenreLink> findGenreLinksByTvShowIdIn(Collection<Long> tvShowIds);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", nativeQuery = true)
+    boolean isTrigramSearchAvailable();
+
+    @Query(value = "SELECT t.tv_show_id AS \"tvShowId\", t.name AS \"name\", " +
+            "similarity(lower(t.name), lower(:term)) " +
+            "+ CASE WHEN lower(t.name) LIKE lower(:term) || '%' THEN 0.5 ELSE 0 END " +
+            "+ 0.35 * ts_rank(to_tsvector('english', coalesce(t.summary, '')), plainto_tsquery('english', :term)) AS \"score\" " +
+            "FROM tv_shows t " +
+            "WHERE lower(t.name) % lower(:term) " +
+            "OR lower(t.name) LIKE '%' || lower(:term) || '%' " +
+            "OR to_tsvector('english', coalesce(t.summary, '')) @@ plainto_tsquery('english', :term) " +
+            "ORDER BY \"score\" DESC, t.tv_show_id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<TvShowSearchView> searchByTrigram(String term, int limit);
 }
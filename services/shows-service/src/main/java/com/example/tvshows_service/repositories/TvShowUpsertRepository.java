@@ -0,0 +1,321 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.dto.BulkInsertResult;
+import com.example.tvshows_service.models.TvShow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+@Repository
+public class TvShowUpsertRepository {
+    private static final String UPSERT_SHOW =
+            "INSERT INTO tv_shows (tv_show_id, name, type, language, status, network, runtime, average_runtime, " +
+            "premiered, ended, official_site, rating, schedule_time, schedule_days, tvrage, thetvdb, imdb, " +
+            "image_medium, image_original, summary, tvmaze_updated, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (tv_show_id) DO UPDATE SET " +
+            "name = EXCLUDED.name, type = EXCLUDED.type, language = EXCLUDED.language, status = EXCLUDED.status, " +
+            "network = EXCLUDED.network, runtime = EXCLUDED.runtime, average_runtime = EXCLUDED.average_runtime, " +
+            "premiered = EXCLUDED.premiered, ended = EXCLUDED.ended, official_site = EXCLUDED.official_site, " +
+            "rating = EXCLUDED.rating, schedule_time = EXCLUDED.schedule_time, schedule_days = EXCLUDED.schedule_days, " +
+            "tvrage = EXCLUDED.tvrage, thetvdb = EXCLUDED.thetvdb, imdb = EXCLUDED.imdb, " +
+            "image_medium = EXCLUDED.image_medium, image_original = EXCLUDED.image_original, summary = EXCLUDED.summary, " +
+            "tvmaze_updated = EXCLUDED.tvmaze_updated, updated_at = CURRENT_TIMESTAMP";
+
+    // One statement per batch: each column is bound as an array and unnest() turns them back into rows.
+    private static final String INSERT_SHOWS =
+            "INSERT INTO tv_shows (tv_show_id, name, type, language, status, network, runtime, average_runtime, " +
+            "premiered, ended, official_site, rating, schedule_time, schedule_days, tvrage, thetvdb, imdb, " +
+            "image_medium, image_original, summary, tvmaze_updated) " +
+            "SELECT tv_show_id, name, type, language, status, network, runtime, average_runtime, " +
+            "premiered, ended, official_site, rating, schedule_time, string_to_array(schedule_days, chr(31)), " +
+            "tvrage, thetvdb, imdb, image_medium, image_original, summary, tvmaze_updated " +
+            "FROM unnest(?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::int[], ?::int[], " +
+            "?::date[], ?::date[], ?::text[], ?::float8[], ?::text[], ?::text[], ?::int[], ?::int[], ?::text[], " +
+            "?::text[], ?::text[], ?::text[], ?::bigint[]) " +
+            "AS s(tv_show_id, name, type, language, status, network, runtime, average_runtime, premiered, ended, " +
+            "official_site, rating, schedule_time, schedule_days, tvrage, thetvdb, imdb, image_medium, " +
+            "image_original, summary, tvmaze_updated) " +
+            "ON CONFLICT (tv_show_id) DO NOTHING " +
+            "RETURNING tv_show_id";
+
+    private static final String SCHEDULE_DAYS_SEPARATOR = "\u001F";
+
+    private static final Map<String, Integer> VARCHAR_LIMITS = Map.of(
+            "name", 255, "type", 50, "language", 50, "status", 50, "network", 255,
+            "official_site", 255, "schedule_time", 10, "imdb", 50, "image_medium", 255, "image_original", 255
+    );
+
+    private static final String INSERT_GENRES =
+            "INSERT INTO genres (name) SELECT DISTINCT unnest(?::text[]) ON CONFLICT (name) DO NOTHING";
+
+    private static final String DELETE_GENRE_LINKS =
+            "DELETE FROM tv_show_genres tg USING tv_shows ts " +
+            "WHERE tg.tv_show_id = ts.id AND ts.tv_show_id = ANY(?::bigint[])";
+
+    private static final String INSERT_GENRE_LINKS =
+            "INSERT INTO tv_show_genres (tv_show_id, genre_id) " +
+            "SELECT ts.id, g.id FROM unnest(?::bigint[], ?::text[]) AS link(tv_show_id, genre) " +
+            "JOIN tv_shows ts ON ts.tv_show_id = link.tv_show_id " +
+            "JOIN genres g ON g.name = link.genre " +
+            "ON CONFLICT DO NOTHING";
+
+    private static final String FIND_TVMAZE_UPDATED =
+            "SELECT tv_show_id, tvmaze_updated FROM tv_shows WHERE tv_show_id = ANY(?::bigint[])";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TvShowUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the TVMaze {@code updated} timestamp stored for each known show; shows that are not in
+     * the catalog yet are absent from the map and shows synced before the column existed map to null.
+     */
+    public Map<Long, Long> findTvMazeUpdatedByTvShowIdIn(Collection<Long> tvShowIds) {
+        Map<Long, Long> updated = new HashMap<>();
+        if (tvShowIds.isEmpty()) {
+            return updated;
+        }
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(FIND_TVMAZE_UPDATED);
+                    statement.setArray(1, connection.createArrayOf("bigint", tvShowIds.toArray()));
+                    return statement;
+                },
+                resultSet -> {
+                    long value = resultSet.getLong("tvmaze_updated");
+                    updated.put(resultSet.getLong("tv_show_id"), resultSet.wasNull() ? null : value);
+                }
+        );
+        return updated;
+    }
+
+    /**
+     * Inserts or updates the shows by {@code tv_show_id} and replaces their genre links. Must run
+     * inside a transaction so a batch is applied as a whole.
+     */
+    public void upsertAll(List<TvShow> tvShows, Map<Long, List<String>> genresByTvShowId) {
+        if (tvShows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SHOW, tvShows, tvShows.size(), this::bindShow);
+
+        Long[] tvShowIds = tvShows.stream().map(TvShow::getTvShowId).toArray(Long[]::new);
+
+        jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_GENRE_LINKS)) {
+                statement.setArray(1, connection.createArrayOf("bigint", tvShowIds));
+                statement.executeUpdate();
+            }
+
+            insertGenreLinks(connection, genresByTvShowId);
+            return null;
+        });
+    }
+
+    /**
+     * Inserts new shows and their genre links with a fixed number of statements per batch, however
+     * many rows it has. Shows whose {@code tv_show_id} already exists, including repeats within the
+     * batch, and rows that would violate a column constraint are skipped and reported as conflicts
+     * instead of failing the batch. Must run inside a transaction.
+     */
+    public BulkInsertResult insertAll(List<TvShow> tvShows, Map<Long, List<String>> genresByTvShowId) {
+        List<BulkInsertResult.Conflict> conflicts = new ArrayList<>();
+        List<TvShow> candidates = new ArrayList<>(tvShows.size());
+        for (TvShow tvShow : tvShows) {
+            String violation = violation(tvShow);
+            if (violation != null) {
+                conflicts.add(new BulkInsertResult.Conflict(tvShow.getTvShowId(), violation));
+            } else {
+                candidates.add(tvShow);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return new BulkInsertResult(List.of(), conflicts);
+        }
+
+        Set<Long> inserted = jdbcTemplate.execute((Connection connection) -> {
+            Set<Long> insertedIds = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SHOWS)) {
+                bindColumns(statement, connection, candidates);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        insertedIds.add(resultSet.getLong(1));
+                    }
+                }
+            }
+
+            Map<Long, List<String>> insertedGenres = new HashMap<>();
+            insertedIds.forEach(tvShowId -> insertedGenres.put(tvShowId, genresByTvShowId.getOrDefault(tvShowId, List.of())));
+            insertGenreLinks(connection, insertedGenres);
+            return insertedIds;
+        });
+
+        List<Long> insertedTvShowIds = new ArrayList<>(inserted.size());
+        Set<Long> claimed = new HashSet<>();
+        for (TvShow tvShow : candidates) {
+            if (inserted.contains(tvShow.getTvShowId()) && claimed.add(tvShow.getTvShowId())) {
+                insertedTvShowIds.add(tvShow.getTvShowId());
+            } else {
+                conflicts.add(new BulkInsertResult.Conflict(tvShow.getTvShowId(), "duplicate tv_show_id"));
+            }
+        }
+
+        return new BulkInsertResult(insertedTvShowIds, conflicts);
+    }
+
+    private void insertGenreLinks(Connection connection, Map<Long, List<String>> genresByTvShowId) throws SQLException {
+        List<Long> linkShowIds = new ArrayList<>();
+        List<String> linkGenres = new ArrayList<>();
+        genresByTvShowId.forEach((tvShowId, genres) -> genres.forEach(genre -> {
+            linkShowIds.add(tvShowId);
+            linkGenres.add(genre);
+        }));
+
+        if (linkGenres.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_GENRES)) {
+            statement.setArray(1, connection.createArrayOf("text", linkGenres.toArray()));
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_GENRE_LINKS)) {
+            statement.setArray(1, connection.createArrayOf("bigint", linkShowIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("text", linkGenres.toArray()));
+            statement.executeUpdate();
+        }
+    }
+
+    static String violation(TvShow tvShow) {
+        if (tvShow.getTvShowId() == null) {
+            return "missing tv_show_id";
+        }
+        if (tvShow.getName() == null) {
+            return "missing name";
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("name", tvShow.getName());
+        values.put("type", tvShow.getType());
+        values.put("language", tvShow.getLanguage());
+        values.put("status", tvShow.getStatus());
+        values.put("network", tvShow.getNetwork());
+        values.put("official_site", tvShow.getOfficialSite());
+        values.put("schedule_time", tvShow.getScheduleTime());
+        values.put("imdb", tvShow.getImdb());
+        values.put("image_medium", tvShow.getImageMedium());
+        values.put("image_original", tvShow.getImageOriginal());
+
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            if (value.getValue() != null && value.getValue().length() > VARCHAR_LIMITS.get(value.getKey())) {
+                return value.getKey() + " longer than " + VARCHAR_LIMITS.get(value.getKey());
+            }
+        }
+        return null;
+    }
+
+    private void bindColumns(PreparedStatement statement, Connection connection, List<TvShow> tvShows) throws SQLException {
+        int size = tvShows.size();
+        Long[] tvShowIds = new Long[size];
+        String[][] text = new String[10][size];
+        Integer[][] ints = new Integer[4][size];
+        Date[] premiered = new Date[size];
+        Date[] ended = new Date[size];
+        Double[] ratings = new Double[size];
+        String[] scheduleDays = new String[size];
+        String[] summaries = new String[size];
+        Long[] tvmazeUpdated = new Long[size];
+
+        for (int i = 0; i < size; i++) {
+            TvShow tvShow = tvShows.get(i);
+            tvShowIds[i] = tvShow.getTvShowId();
+            text[0][i] = tvShow.getName();
+            text[1][i] = tvShow.getType();
+            text[2][i] = tvShow.getLanguage();
+            text[3][i] = tvShow.getStatus();
+            text[4][i] = tvShow.getNetwork();
+            text[5][i] = tvShow.getOfficialSite();
+            text[6][i] = tvShow.getScheduleTime();
+            text[7][i] = tvShow.getImdb();
+            text[8][i] = tvShow.getImageMedium();
+            text[9][i] = tvShow.getImageOriginal();
+            ints[0][i] = tvShow.getRuntime();
+            ints[1][i] = tvShow.getAverageRuntime();
+            ints[2][i] = tvShow.getTvrage();
+            ints[3][i] = tvShow.getThetvdb();
+            premiered[i] = tvShow.getPremiered() != null ? Date.valueOf(tvShow.getPremiered()) : null;
+            ended[i] = tvShow.getEnded() != null ? Date.valueOf(tvShow.getEnded()) : null;
+            ratings[i] = tvShow.getRating();
+            scheduleDays[i] = tvShow.getScheduleDays() != null
+                    ? String.join(SCHEDULE_DAYS_SEPARATOR, tvShow.getScheduleDays())
+                    : null;
+            summaries[i] = tvShow.getSummary();
+            tvmazeUpdated[i] = tvShow.getTvmazeUpdated();
+        }
+
+        statement.setArray(1, connection.createArrayOf("bigint", tvShowIds));
+        statement.setArray(2, connection.createArrayOf("text", text[0]));
+        statement.setArray(3, connection.createArrayOf("text", text[1]));
+        statement.setArray(4, connection.createArrayOf("text", text[2]));
+        statement.setArray(5, connection.createArrayOf("text", text[3]));
+        statement.setArray(6, connection.createArrayOf("text", text[4]));
+        statement.setArray(7, connection.createArrayOf("int4", ints[0]));
+        statement.setArray(8, connection.createArrayOf("int4", ints[1]));
+        statement.setArray(9, connection.createArrayOf("date", premiered));
+        statement.setArray(10, connection.createArrayOf("date", ended));
+        statement.setArray(11, connection.createArrayOf("text", text[5]));
+        statement.setArray(12, connection.createArrayOf("float8", ratings));
+        statement.setArray(13, connection.createArrayOf("text", text[6]));
+        statement.setArray(14, connection.createArrayOf("text", scheduleDays));
+        statement.setArray(15, connection.createArrayOf("int4", ints[2]));
+        statement.setArray(16, connection.createArrayOf("int4", ints[3]));
+        statement.setArray(17, connection.createArrayOf("text", text[7]));
+        statement.setArray(18, connection.createArrayOf("text", text[8]));
+        statement.setArray(19, connection.createArrayOf("text", text[9]));
+        statement.setArray(20, connection.createArrayOf("text", summaries));
+        statement.setArray(21, connection.createArrayOf("bigint", tvmazeUpdated));
+    }
+
+    private void bindShow(PreparedStatement statement, TvShow tvShow) throws SQLException {
+        statement.setLong(1, tvShow.getTvShowId());
+        statement.setString(2, tvShow.getName());
+        statement.setString(3, tvShow.getType());
+        statement.setString(4, tvShow.getLanguage());
+        statement.setString(5, tvShow.getStatus());
+        statement.setString(6, tvShow.getNetwork());
+        statement.setInt(7, tvShow.getRuntime());
+        statement.setInt(8, tvShow.getAverageRuntime());
+        statement.setDate(9, tvShow.getPremiered() != null ? Date.valueOf(tvShow.getPremiered()) : null);
+        statement.setDate(10, tvShow.getEnded() != null ? Date.valueOf(tvShow.getEnded()) : null);
+        statement.setString(11, tvShow.getOfficialSite());
+        statement.setDouble(12, tvShow.getRating());
+        statement.setString(13, tvShow.getScheduleTime());
+        statement.setArray(14, tvShow.getScheduleDays() != null
+                ? statement.getConnection().createArrayOf("text", tvShow.getScheduleDays().toArray())
+                : null);
+        statement.setInt(15, tvShow.getTvrage());
+        statement.setInt(16, tvShow.getThetvdb());
+        statement.setString(17, tvShow.getImdb());
+        statement.setString(18, tvShow.getImageMedium());
+        statement.setString(19, tvShow.getImageOriginal());
+        statement.setString(20, tvShow.getSummary());
+        if (tvShow.getTvmazeUpdated() != null) {
+            statement.setLong(21, tvShow.getTvmazeUpdated());
+        } else {
+            statement.setNull(21, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.tvshows_service.reviews;
+
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_service.config.ReviewStatsClientProperties;
+import com.example.tvshows_service.dto.external.ReviewStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Community ratings for listing pages. Ratings are kept in a short-lived local cache and the
+ * shows a page is missing are fetched from review-rating-service in one batch call, guarded by
+ * that service's timeout and circuit breaker. If the call fails the page is served without the
+ * missing ratings rather than failing the listing.
+ */
+@Component
+@Slf4j
+public class ReviewStatsClient {
+    private static final String METRIC_REQUESTS = "tvshows.review.stats.requests";
+    private static final String REVIEW_RATING_SERVICE = "review-rating-service";
+
+    @Value("${review-rating-service.api.url}")
+    private String reviewRatingServiceUrl;
+
+    private final WebClient webClient;
+
+    private final ReviewStatsClientProperties properties;
+
+    private final DownstreamGuard downstreamGuard;
+
+    private final Cache<Long, ReviewStatsDto> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter failures;
+
+    public ReviewStatsClient(
+            WebClient webClient,
+            ReviewStatsClientProperties properties,
+            DownstreamGuard downstreamGuard,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.downstreamGuard = downstreamGuard;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.failures = requests(meterRegistry, "failed");
+    }
+
+    /**
+     * Returns the stats that could be resolved, keyed by show id. Shows whose stats are neither
+     * cached nor returned by review-rating-service are absent from the map.
+     */
+    public Map<Long, ReviewStatsDto> getStats(Collection<Long> tvShowIds) {
+        Map<Long, ReviewStatsDto> stats = new HashMap<>(cache.getAllPresent(tvShowIds));
+        List<Long> missing = tvShowIds.stream()
+                .filter(tvShowId -> !stats.containsKey(tvShowId))
+                .distinct()
+                .toList();
+
+        hits.increment(stats.size());
+        if (missing.isEmpty()) {
+            return stats;
+        }
+        misses.increment(missing.size());
+
+        try {
+            List<ReviewStatsDto> fetched = Flux.range(0, (missing.size() + properties.getBatchSize() - 1) / properties.getBatchSize())
+                    .map(batch -> missing.subList(batch * properties.getBatchSize(), Math.min((batch + 1) * properties.getBatchSize(), missing.size())))
+                    .flatMap(this::fetch)
+                    .collectList()
+                    .block();
+
+            for (ReviewStatsDto reviewStats : fetched) {
+                cache.put(reviewStats.getTvShowId(), reviewStats);
+                stats.put(reviewStats.getTvShowId(), reviewStats);
+            }
+        } catch (RuntimeException e) {
+            failures.increment(missing.size());
+            log.warn("Serving {} shows without community ratings: {}", missing.size(), e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private Flux<ReviewStatsDto> fetch(List<Long> tvShowIds) {
+        return downstreamGuard.call(REVIEW_RATING_SERVICE, webClient.get()
+                        .uri(UriComponentsBuilder.fromUriString(reviewRatingServiceUrl + "/api/review/tv-show/stats")
+                                .queryParam("ids", tvShowIds)
+                                .build()
+                                .toUri())
+                        .retrieve()
+                        .bodyToFlux(ReviewStatsDto.class)
+                        .collectList())
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
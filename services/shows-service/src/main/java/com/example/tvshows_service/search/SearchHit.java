@@ -0,0 +1,4 @@
+package com.example.tvshows_service.search;
+
+public record SearchHit(Long tvShowId, String name, double score) {
+}
@@ -0,0 +1,288 @@
+package com.example.tvshows_service.search;
+
+import com.example.tvshows_service.catalog.CatalogRow;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable search index over show names and summaries. Names are indexed by trigrams so that
+ * partial and misspelled input still matches; summaries are indexed by word with prefix lookup
+ * on the last query word for search-as-you-type.
+ */
+public final class ShowSearchIndex {
+    private static final Pattern HTML_TAGS = Pattern.compile("<[^>]+>");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final double NAME_WEIGHT = 1.0;
+    private static final double SUMMARY_WEIGHT = 0.35;
+    private static final double PREFIX_BONUS = 0.5;
+
+    private final long[] tvShowIds;
+    private final String[] names;
+    private final String[] normalizedNames;
+    private final int[] nameTrigramCounts;
+    private final Map<String, int[]> nameTrigrams;
+    private final String[] summaryTerms;
+    private final int[][] summaryPostings;
+
+    /**
+     * Indexes {@code rows} after the first {@code keptSize} shows of {@code base}, whose positions
+     * in the new index are given by {@code basePositions} (-1 for dropped shows). Postings of kept
+     * shows are remapped rather than rebuilt, so only {@code rows} are tokenized.
+     */
+    private ShowSearchIndex(ShowSearchIndex base, int[] basePositions, int keptSize, List<CatalogRow> rows) {
+        int size = keptSize + rows.size();
+        this.tvShowIds = new long[size];
+        this.names = new String[size];
+        this.normalizedNames = new String[size];
+        this.nameTrigramCounts = new int[size];
+
+        if (base != null) {
+            for (int i = 0; i < basePositions.length; i++) {
+                int position = basePositions[i];
+                if (position >= 0) {
+                    tvShowIds[position] = base.tvShowIds[i];
+                    names[position] = base.names[i];
+                    normalizedNames[position] = base.normalizedNames[i];
+                    nameTrigramCounts[position] = base.nameTrigramCounts[i];
+                }
+            }
+        }
+
+        Map<String, List<Integer>> trigramPostings = new HashMap<>();
+        TreeMap<String, List<Integer>> termPostings = new TreeMap<>();
+
+        for (int r = 0; r < rows.size(); r++) {
+            CatalogRow row = rows.get(r);
+            int i = keptSize + r;
+            tvShowIds[i] = row.tvShowId();
+            names[i] = row.name();
+            normalizedNames[i] = normalize(row.name());
+
+            Set<String> trigrams = trigrams(normalizedNames[i]);
+            nameTrigramCounts[i] = trigrams.size();
+            for (String trigram : trigrams) {
+                trigramPostings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+
+            String summary = row.summary() == null ? "" : HTML_TAGS.matcher(row.summary()).replaceAll(" ");
+            for (String term : new HashSet<>(words(normalize(summary)))) {
+                termPostings.computeIfAbsent(term, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> trigramIndex = new HashMap<>(trigramPostings.size() * 2);
+        if (base != null) {
+            base.nameTrigrams.forEach((trigram, positions) -> {
+                int[] merged = concat(remap(positions, basePositions), trigramPostings.remove(trigram));
+                if (merged.length > 0) {
+                    trigramIndex.put(trigram, merged);
+                }
+            });
+        }
+        trigramPostings.forEach((trigram, positions) -> trigramIndex.put(trigram, toArray(positions)));
+        this.nameTrigrams = trigramIndex;
+
+        // both term lists are sorted, so they are merged in one pass
+        String[] baseTerms = base == null ? new String[0] : base.summaryTerms;
+        List<String> terms = new ArrayList<>(baseTerms.length + termPostings.size());
+        List<int[]> postings = new ArrayList<>(baseTerms.length + termPostings.size());
+        Iterator<Map.Entry<String, List<Integer>>> added = termPostings.entrySet().iterator();
+        Map.Entry<String, List<Integer>> next = added.hasNext() ? added.next() : null;
+        int t = 0;
+
+        while (t < baseTerms.length || next != null) {
+            int comparison = next == null ? -1 : t == baseTerms.length ? 1 : baseTerms[t].compareTo(next.getKey());
+            String term;
+            int[] merged;
+            if (comparison < 0) {
+                term = baseTerms[t];
+                merged = remap(base.summaryPostings[t++], basePositions);
+            } else {
+                term = next.getKey();
+                merged = comparison == 0
+                        ? concat(remap(base.summaryPostings[t++], basePositions), next.getValue())
+                        : toArray(next.getValue());
+                next = added.hasNext() ? added.next() : null;
+            }
+
+            if (merged.length > 0) {
+                terms.add(term);
+                postings.add(merged);
+            }
+        }
+
+        this.summaryTerms = terms.toArray(new String[0]);
+        this.summaryPostings = postings.toArray(new int[0][]);
+    }
+
+    public static ShowSearchIndex build(List<CatalogRow> rows) {
+        return new ShowSearchIndex(null, null, 0, rows);
+    }
+
+    /**
+     * Returns a new index where the given shows replace their previous rows. Shows listed in
+     * {@code changedTvShowIds} but missing from {@code changedRows} are dropped.
+     */
+    public ShowSearchIndex merge(Collection<Long> changedTvShowIds, List<CatalogRow> changedRows) {
+        Set<Long> replaced = new HashSet<>(changedTvShowIds);
+        changedRows.forEach(row -> replaced.add(row.tvShowId()));
+
+        int[] basePositions = new int[tvShowIds.length];
+        int keptSize = 0;
+        for (int i = 0; i < tvShowIds.length; i++) {
+            basePositions[i] = replaced.contains(tvShowIds[i]) ? -1 : keptSize++;
+        }
+
+        return new ShowSearchIndex(this, basePositions, keptSize, changedRows);
+    }
+
+    public int size() {
+        return tvShowIds.length;
+    }
+
+    /**
+     * Returns up to {@code limit} hits ordered by descending score. Name similarity is the
+     * trigram Jaccard coefficient, boosted when the name starts with the query; summary matches
+     * contribute the fraction of query words found in the summary.
+     */
+    public List<SearchHit> search(String query, int limit, double minScore) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        double[] scores = new double[tvShowIds.length];
+        scoreNames(normalized, scores);
+        scoreSummaries(normalized, scores);
+
+        Comparator<SearchHit> byScore = Comparator.comparingDouble(SearchHit::score)
+                .thenComparing(SearchHit::tvShowId, Comparator.reverseOrder());
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(byScore);
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] < minScore || scores[i] == 0) {
+                continue;
+            }
+            top.offer(new SearchHit(tvShowIds[i], names[i], scores[i]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+
+    private void scoreNames(String query, double[] scores) {
+        Set<String> queryTrigrams = trigrams(query);
+        int[] shared = new int[tvShowIds.length];
+
+        for (String trigram : queryTrigrams) {
+            for (int position : nameTrigrams.getOrDefault(trigram, new int[0])) {
+                shared[position]++;
+            }
+        }
+
+        for (int i = 0; i < shared.length; i++) {
+            if (shared[i] == 0) {
+                continue;
+            }
+            double similarity = (double) shared[i] / (queryTrigrams.size() + nameTrigramCounts[i] - shared[i]);
+            scores[i] += NAME_WEIGHT * similarity;
+            if (normalizedNames[i].startsWith(query)) {
+                scores[i] += PREFIX_BONUS;
+            }
+        }
+    }
+
+    private void scoreSummaries(String query, double[] scores) {
+        List<String> queryWords = words(query);
+        if (queryWords.isEmpty()) {
+            return;
+        }
+
+        int[] matchedWords = new int[tvShowIds.length];
+        for (int w = 0; w < queryWords.size(); w++) {
+            String word = queryWords.get(w);
+            boolean prefix = w == queryWords.size() - 1;
+            BitSet matched = new BitSet(tvShowIds.length);
+
+            int from = Arrays.binarySearch(summaryTerms, word);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            for (int t = from; t < summaryTerms.length && summaryTerms[t].startsWith(word); t++) {
+                if (!prefix && !summaryTerms[t].equals(word)) {
+                    break;
+                }
+                for (int position : summaryPostings[t]) {
+                    matched.set(position);
+                }
+            }
+
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                matchedWords[i]++;
+            }
+        }
+
+        for (int i = 0; i < matchedWords.length; i++) {
+            if (matchedWords[i] > 0) {
+                scores[i] += SUMMARY_WEIGHT * matchedWords[i] / queryWords.size();
+            }
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return NON_WORD.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : words(normalized)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static List<String> words(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalized.split(" "));
+    }
+
+    private static int[] toArray(List<Integer> positions) {
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] remap(int[] positions, int[] basePositions) {
+        int[] remapped = new int[positions.length];
+        int n = 0;
+        for (int position : positions) {
+            if (basePositions[position] >= 0) {
+                remapped[n++] = basePositions[position];
+            }
+        }
+        return n == remapped.length ? remapped : Arrays.copyOf(remapped, n);
+    }
+
+    private static int[] concat(int[] positions, List<Integer> added) {
+        if (added == null || added.isEmpty()) {
+            return positions;
+        }
+
+        int[] merged = Arrays.copyOf(positions, positions.length + added.size());
+        for (int i = 0; i < added.size(); i++) {
+            merged[positions.length + i] = added.get(i);
+        }
+        return merged;
+    }
+}
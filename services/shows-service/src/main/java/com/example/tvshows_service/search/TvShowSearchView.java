@@ -0,0 +1,9 @@
+package com.example.tvshows_service.search;
+
+public interface TvShowSearchView {
+    Long getTvShowId();
+
+    String getName();
+
+    Double getScore();
+}
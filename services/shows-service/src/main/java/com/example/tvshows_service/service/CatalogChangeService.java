@@ -0,0 +1,119 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.cache.ShowPageCache;
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.config.CatalogIndexProperties;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Applies catalog changes to every instance. A change committed on this instance updates its
+ * catalog and search indexes, evicts the shared page cache and is broadcast over Redis pub/sub;
+ * the other instances apply the broadcast the same way. Pages are evicted only after the indexes
+ * are updated, so no instance refills the cache from an index that predates the change. The
+ * changed rows are loaded once and shared by both indexes.
+ */
+@Service
+@Slf4j
+public class CatalogChangeService implements MessageListener {
+    private static final String SEPARATOR = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final TvShowRepository tvShowRepository;
+
+    private final CatalogIndexService catalogIndexService;
+
+    private final ShowSearchService showSearchService;
+
+    private final ShowPageCache showPageCache;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CatalogIndexProperties catalogIndexProperties;
+
+    public CatalogChangeService(
+            TvShowRepository tvShowRepository,
+            CatalogIndexService catalogIndexService,
+            ShowSearchService showSearchService,
+            ShowPageCache showPageCache,
+            StringRedisTemplate stringRedisTemplate,
+            CatalogIndexProperties catalogIndexProperties
+    ) {
+        this.tvShowRepository = tvShowRepository;
+        this.catalogIndexService = catalogIndexService;
+        this.showSearchService = showSearchService;
+        this.showPageCache = showPageCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.catalogIndexProperties = catalogIndexProperties;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        List<Long> tvShowIds = event.getTvShowIds();
+        if (tvShowIds == null || tvShowIds.isEmpty()) {
+            return;
+        }
+
+        apply(tvShowIds);
+        try {
+            stringRedisTemplate.convertAndSend(
+                    catalogIndexProperties.getChangeChannel(),
+                    instanceId + SEPARATOR + tvShowIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast {} catalog changes: {}", tvShowIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0 || separator == body.length() - 1) {
+            log.warn("Ignoring malformed catalog change message: {}", body);
+            return;
+        }
+        // this instance applied its own change before broadcasting it
+        if (instanceId.equals(body.substring(0, separator))) {
+            return;
+        }
+
+        try {
+            List<Long> tvShowIds = Arrays.stream(body.substring(separator + 1).split(","))
+                    .map(String::trim)
+                    .map(Long::valueOf)
+                    .toList();
+            apply(tvShowIds);
+
+            log.debug("Applied {} catalog changes from a broadcast", tvShowIds.size());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed catalog change message: {}", body);
+        }
+    }
+
+    private void apply(List<Long> tvShowIds) {
+        List<CatalogRow> changedRows = null;
+        try {
+            changedRows = tvShowRepository.findCatalogRowsByTvShowIdIn(tvShowIds);
+        } catch (RuntimeException e) {
+            log.error("Failed to load {} changed catalog rows, rebuilding the indexes: {}", tvShowIds.size(), e.getMessage());
+        }
+
+        catalogIndexService.onCatalogChanged(tvShowIds, changedRows);
+        showSearchService.onCatalogChanged(tvShowIds, changedRows);
+        showPageCache.evictTag(ShowPageCache.CATALOG_TAG);
+    }
+}
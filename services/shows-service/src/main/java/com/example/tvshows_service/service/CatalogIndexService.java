@@ -0,0 +1,100 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.catalog.CatalogIndex;
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.config.CatalogIndexProperties;
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.filters.TvShowFilter;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class CatalogIndexService {
+    private final TvShowRepository tvShowRepository;
+
+    private final CatalogIndexProperties catalogIndexProperties;
+
+    private final AtomicReference<CatalogIndex> snapshot = new AtomicReference<>();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public CatalogIndexService(TvShowRepository tvShowRepository, CatalogIndexProperties catalogIndexProperties) {
+        this.tvShowRepository = tvShowRepository;
+        this.catalogIndexProperties = catalogIndexProperties;
+    }
+
+    public boolean isReady() {
+        return catalogIndexProperties.isEnabled() && snapshot.get() != null;
+    }
+
+    public Page<Long> search(TvShowFilter filter, TvShowSortField sortField, boolean descending, int page, int size) {
+        return snapshot.get().search(filter, sortField, descending, page, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (catalogIndexProperties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the changed shows with {@code changedRows}, loaded once for every in-memory index by
+     * {@link CatalogChangeService}; null rows mean they could not be loaded and the index is rebuilt.
+     */
+    public void onCatalogChanged(List<Long> tvShowIds, List<CatalogRow> changedRows) {
+        if (!catalogIndexProperties.isEnabled() || tvShowIds.isEmpty()) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            CatalogIndex current = snapshot.get();
+            if (current == null || changedRows == null) {
+                rebuild();
+                return;
+            }
+
+            CatalogIndex updated = current.merge(
+                    tvShowIds,
+                    changedRows,
+                    tvShowRepository.findGenreLinksByTvShowIdIn(tvShowIds)
+            );
+            snapshot.set(updated);
+
+            log.info("Catalog index updated with {} changed shows ({} total)", tvShowIds.size(), updated.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to update catalog index, falling back to full rebuild: {}", e.getMessage());
+            rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            CatalogIndex index = CatalogIndex.build(
+                    tvShowRepository.findAllCatalogRows(),
+                    tvShowRepository.findAllGenreLinks()
+            );
+            snapshot.set(index);
+
+            log.info("Catalog index built with {} shows in {} ms", index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build catalog index: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
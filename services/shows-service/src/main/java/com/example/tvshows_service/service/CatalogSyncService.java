@@ -0,0 +1,169 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.config.CatalogSyncProperties;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.example.tvshows_service.mappers.TvShowMapper;
+import com.example.tvshows_service.models.TvShow;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Keeps the catalog fresh from TVMaze's updates feed. Only shows whose TVMaze {@code updated}
+ * timestamp is newer than the stored one are fetched, and they are written with batched upserts.
+ */
+@Service
+@Slf4j
+public class CatalogSyncService {
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+
+    @Value("${tv-maze.api.url}")
+    private String tvMazeAPIUrl;
+
+    private final WebClient webClient;
+    private final TvShowMapper tvShowMapper;
+    private final TvShowUpsertRepository tvShowUpsertRepository;
+    private final CatalogSyncProperties catalogSyncProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogSyncService(
+            WebClient webClient,
+            TvShowMapper tvShowMapper,
+            TvShowUpsertRepository tvShowUpsertRepository,
+            CatalogSyncProperties catalogSyncProperties,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher) {
+        this.webClient = webClient;
+        this.tvShowMapper = tvShowMapper;
+        this.tvShowUpsertRepository = tvShowUpsertRepository;
+        this.catalogSyncProperties = catalogSyncProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalog.sync.initial-delay-ms:60000}",
+            fixedDelayString = "${catalog.sync.interval-ms:3600000}"
+    )
+    public void scheduledSync() {
+        if (!catalogSyncProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Catalog sync failed: {}", e.getMessage());
+        }
+    }
+
+    public int sync() {
+        Map<Long, Long> updates = fetchUpdates();
+        Map<Long, Long> stored = tvShowUpsertRepository.findTvMazeUpdatedByTvShowIdIn(updates.keySet());
+
+        List<Long> changedIds = updates.entrySet().stream()
+                .filter(update -> {
+                    Long storedUpdated = stored.get(update.getKey());
+                    return storedUpdated == null || storedUpdated < update.getValue();
+                })
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+
+        log.info("Catalog sync: {} shows in the '{}' updates feed, {} changed", updates.size(), catalogSyncProperties.getSince(), changedIds.size());
+        if (changedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> syncedIds = new ArrayList<>();
+        try {
+            Flux.fromIterable(changedIds)
+                    .flatMap(this::fetchShow, catalogSyncProperties.getConcurrency())
+                    .buffer(catalogSyncProperties.getBatchSize())
+                    .publishOn(Schedulers.boundedElastic(), 1)
+                    .doOnNext(batch -> syncedIds.addAll(upsertBatch(batch)))
+                    .then()
+                    .block();
+        } finally {
+            if (!syncedIds.isEmpty()) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(List.copyOf(syncedIds)));
+            }
+        }
+
+        log.info("Catalog sync upserted {} shows", syncedIds.size());
+        return syncedIds.size();
+    }
+
+    private List<Long> upsertBatch(List<TvMazeShowDto> batch) {
+        List<TvShow> tvShows = new ArrayList<>(batch.size());
+        Map<Long, List<String>> genres = new HashMap<>();
+
+        for (TvMazeShowDto tvMazeShow : batch) {
+            tvShows.add(tvShowMapper.mazeDtoToTvShow(tvMazeShow));
+            genres.put(tvMazeShow.getId(), tvMazeShow.getGenres() != null ? tvMazeShow.getGenres() : List.of());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> tvShowUpsertRepository.upsertAll(tvShows, genres));
+
+        return tvShows.stream().map(TvShow::getTvShowId).toList();
+    }
+
+    private Map<Long, Long> fetchUpdates() {
+        Map<String, Long> updates = webClient.get()
+                .uri(tvMazeAPIUrl + "/updates/shows?since=" + catalogSyncProperties.getSince())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Long>>() {})
+                .timeout(catalogSyncProperties.getRequestTimeout())
+                .retryWhen(retrySpec("updates feed"))
+                .block();
+
+        Map<Long, Long> byTvShowId = new HashMap<>();
+        if (updates != null) {
+            updates.forEach((tvShowId, updated) -> byTvShowId.put(Long.valueOf(tvShowId), updated));
+        }
+        return byTvShowId;
+    }
+
+    private Mono<TvMazeShowDto> fetchShow(Long tvShowId) {
+        return webClient.get()
+                .uri(tvMazeAPIUrl + "/shows/" + tvShowId)
+                .retrieve()
+                .bodyToMono(TvMazeShowDto.class)
+                .timeout(catalogSyncProperties.getRequestTimeout())
+                .retryWhen(retrySpec("show " + tvShowId))
+                .onErrorResume(error -> {
+                    // A skipped show keeps its old timestamp, so the next sync picks it up again.
+                    if (error instanceof WebClientResponseException.NotFound) {
+                        log.debug("Show {} no longer exists on TVMaze", tvShowId);
+                    } else {
+                        log.warn("Skipping show {} in this sync: {}", tvShowId, error.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    private Retry retrySpec(String resource) {
+        return Retry.backoff(MAX_RETRY_ATTEMPTS, RETRY_DELAY)
+                .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
+                        || throwable instanceof WebClientResponseException.ServiceUnavailable
+                        || throwable instanceof WebClientResponseException.GatewayTimeout)
+                .doBeforeRetry(retrySignal -> log.warn("Retrying {} due to error: {}", resource, retrySignal.failure().getMessage()));
+    }
+}
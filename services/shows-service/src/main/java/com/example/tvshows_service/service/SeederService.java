@@ -1,27 +1,33 @@
 package com.example.tvshows_service.service;
 
+import com.example.tvshows_service.config.SeederProperties;
+import com.example.tvshows_service.dto.BulkInsertResult;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.dto.external.TvMazePage;
 import com.example.tvshows_service.dto.external.TvMazeShowDto;
 import com.example.tvshows_service.mappers.TvShowMapper;
 import com.example.tvshows_service.mappers.TvShowMapperImpl;
-import com.example.tvshows_service.models.Genre;
+import com.example.tvshows_service.models.SeedCheckpoint;
 import com.example.tvshows_service.models.TvShow;
-import com.example.tvshows_service.repositories.GenreRepository;
-import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.repositories.SeedCheckpointRepository;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
@@ -31,170 +37,174 @@ public class SeederService {
     @Value("${tv-maze.api.url}")
     private String tvMazeAPIUrl;
 
-    private static final int PAGES_TO_FETCH = 8;
-    private static final int BATCH_SIZE = 50;
-    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    public static final String TVMAZE_SOURCE = "tvmaze";
+
     private static final int MAX_RETRY_ATTEMPTS = 3;
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
 
     private final WebClient webClient;
-    private final TvShowRepository tvShowRepository;
+    private final TvShowUpsertRepository tvShowUpsertRepository;
     private final TvShowMapper tvShowMapper;
-    private final GenreRepository genreRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeederProperties seederProperties;
+    private final SeedCheckpointRepository seedCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public SeederService(
             WebClient webClient,
-            TvShowRepository tvShowRepository,
+            TvShowUpsertRepository tvShowUpsertRepository,
             TvShowMapper tvShowMapper,
-            GenreRepository genreRepository,
-            TvShowMapperImpl tvShowMapperImpl) {
+            TvShowMapperImpl tvShowMapperImpl,
+            ApplicationEventPublisher eventPublisher,
+            SeederProperties seederProperties,
+            SeedCheckpointRepository seedCheckpointRepository,
+            TransactionTemplate transactionTemplate) {
         this.webClient = webClient;
-        this.tvShowRepository = tvShowRepository;
+        this.tvShowUpsertRepository = tvShowUpsertRepository;
         this.tvShowMapper = tvShowMapper;
-        this.genreRepository = genreRepository;
         this.tvShowMapperImpl = tvShowMapperImpl;
+        this.eventPublisher = eventPublisher;
+        this.seederProperties = seederProperties;
+        this.seedCheckpointRepository = seedCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public Optional<SeedCheckpoint> getCheckpoint() {
+        return seedCheckpointRepository.findById(TVMAZE_SOURCE);
+    }
+
+    /**
+     * Streams TVMaze pages into the database until the API runs out of pages. Up to
+     * {@code seeder.parallelism} pages are fetched at once but written strictly in page order,
+     * each in its own transaction together with the checkpoint, so a failed run resumes after
+     * the last committed page. Every committed page is also handed to {@code pageSink}.
+     */
+    public int seed(Consumer<List<TvMazeShowDto>> pageSink) {
+        SeedCheckpoint checkpoint = getCheckpoint().orElseGet(() -> SeedCheckpoint.start(TVMAZE_SOURCE));
+        if (checkpoint.isCompleted()) {
+            log.info("TVMaze seed already completed at page {}", checkpoint.getLastPage());
+            return 0;
+        }
+
+        int firstPage = checkpoint.getLastPage() + 1;
+        List<Long> savedTvShowIds = new ArrayList<>();
+        log.info("Seeding from TVMaze starting at page {}", firstPage);
+
+        try {
+            Flux.range(firstPage, Integer.MAX_VALUE - firstPage)
+                    // Failures travel as signals so that pages before a failed one are still written in order.
+                    .flatMapSequential(page -> fetchTvShowsPage(page).materialize(), seederProperties.getParallelism(), 1)
+                    .filter(signal -> !signal.isOnComplete())
+                    .<TvMazePage>dematerialize()
+                    .takeWhile(page -> !page.isEnd())
+                    .publishOn(Schedulers.boundedElastic(), 1)
+                    .doOnNext(page -> {
+                        savedTvShowIds.addAll(savePage(page, checkpoint));
+                        pageSink.accept(page.shows());
+                        log.info("Progress: saved page {} ({} shows, {} total)", page.number(), page.shows().size(), savedTvShowIds.size());
+                    })
+                    .then()
+                    .block();
+
+            checkpoint.setCompleted(true);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            seedCheckpointRepository.save(checkpoint);
+
+            log.info("{} Total shows seeded, last page {}", savedTvShowIds.size(), checkpoint.getLastPage());
+        } finally {
+            publishCatalogChanged(savedTvShowIds);
+        }
+
+        return savedTvShowIds.size();
+    }
+
+    private List<Long> savePage(TvMazePage page, SeedCheckpoint checkpoint) {
+        return transactionTemplate.execute(status -> {
+            List<Long> savedTvShowIds = saveInBatches(page.shows());
+
+            checkpoint.setLastPage(page.number());
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            seedCheckpointRepository.save(checkpoint);
+
+            return savedTvShowIds;
+        });
     }
 
-    private Mono<List<TvMazeShowDto>> fetchTvShowsPage(int page) {
+    private Mono<TvMazePage> fetchTvShowsPage(int page) {
         return webClient.get()
                 .uri(tvMazeAPIUrl + "/shows?page=" + page)
                 .retrieve()
                 .bodyToFlux(TvMazeShowDto.class)
-                .timeout(REQUEST_TIMEOUT)
+                .collectList()
+                .timeout(seederProperties.getRequestTimeout())
                 .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, RETRY_DELAY)
-                        .filter(throwable -> throwable instanceof WebClientResponseException.ServiceUnavailable || throwable instanceof WebClientResponseException.GatewayTimeout)
+                        .filter(throwable -> throwable instanceof WebClientResponseException.ServiceUnavailable
+                                || throwable instanceof WebClientResponseException.GatewayTimeout
+                                || throwable instanceof WebClientResponseException.TooManyRequests)
                         .doBeforeRetry(retrySignal -> log.warn("Retrying page {} due to error: {}", page, retrySignal.failure().getMessage()))
                 )
-                .collectList()
-                .onErrorResume(error -> {
-                    log.error("Failed to fetch page {} after retries: {}", page, error.getMessage());
-                    return Mono.just(new ArrayList<>());
-                });
-    }
-
-    public List<TvMazeShowDto> fetchAllTvShows() {
-        AtomicInteger totalShows = new AtomicInteger(0);
-
-        List<TvMazeShowDto> allShows = Flux.range(0, PAGES_TO_FETCH)
-                .flatMap(page -> fetchTvShowsPage(page)
-                        .doOnNext(shows -> {
-                            int count = shows.size();
-                            totalShows.addAndGet(count);
-                            log.info("Progress: fetched {} shows from page {}/{}", shows.size(), page + 1, PAGES_TO_FETCH);
-                        }), 4)
-                .collectList()
-                .map(lists -> lists.stream()
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList())
-                )
-                .block();
-
-        log.info("{} Total shows fetched from {} pages", totalShows.get(), PAGES_TO_FETCH);
-
-        return allShows != null ? allShows : new ArrayList<>();
+                .map(shows -> new TvMazePage(page, shows))
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.just(TvMazePage.end(page)))
+                .doOnError(error -> log.error("Failed to fetch page {} after retries: {}", page, error.getMessage()));
     }
 
+    /**
+     * Saves one chunk of a bulk load without announcing it. Every {@link CatalogChangedEvent}
+     * merges into the catalog and search indexes and evicts the page caches, so a load publishes once through {@link #publishCatalogChanged} after its last chunk.
+     *
+     * @return the ids of the shows that were inserted
+     */
     @Transactional
-    public void saveTvShows(List<TvMazeShowDto> tvShows) {
+    public List<Long> bulkSaveTvShows(List<TvMazeShowDto> tvShows) {
         if (tvShows.isEmpty()) {
             log.warn("No tv shows to save");
-            return;
+            return List.of();
         }
-        
-        Map<String, Genre> genreCache = createOrGetGenres(tvShows);
-        
-        List<TvShow> tvShowEntities = new ArrayList<>(tvShows.size());
-        int skippedShows = 0;
-        
-        for (TvMazeShowDto tvShowDto : tvShows) {
-            try {
-                TvShow tvShow = tvShowMapper.mazeDtoToTvShow(tvShowDto);
-                
-                if (tvShowDto.getGenres() != null && !tvShowDto.getGenres().isEmpty()) {
-                    Set<Genre> genres = tvShowDto.getGenres().stream()
-                            .map(genreCache::get)
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toSet());
-                    
-                    tvShow.setGenres(genres);
-                }
 
-                tvShowEntities.add(tvShow);
-            } catch (Exception e) {
-                log.error("Failed to convert TV Show with id {}: {}", tvShowDto.getId(), e.getMessage());
-                skippedShows++;
-            }
-        }
+        List<Long> savedTvShowIds = saveInBatches(tvShows);
+
+        log.info("Saved {} tv shows", savedTvShowIds.size());
 
-        List<TvShow> savedShows = saveInBatches(tvShowEntities);
+        return savedTvShowIds;
+    }
 
-        log.info("Saved {} tv shows", savedShows.size());
+    public void publishCatalogChanged(List<Long> tvShowIds) {
+        if (!tvShowIds.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(List.copyOf(tvShowIds)));
+        }
     }
 
-    private List<TvShow> saveInBatches(List<TvShow> tvShows) {
-        List<TvShow> allSavedShows = new ArrayList<>();
-
-        for (int i = 0; i < tvShows.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, tvShows.size());
-            List<TvShow> batch = tvShows.subList(i, end);
-
-            try {
-                List<TvShow> savedBatch = tvShowRepository.saveAll(batch);
-                allSavedShows.addAll(savedBatch);
-
-                log.debug("Saved batch {}/{} ({} shows)",
-                        (i / BATCH_SIZE) + 1,
-                        (tvShows.size() + BATCH_SIZE - 1) / BATCH_SIZE,
-                        savedBatch.size());
-            } catch (DataIntegrityViolationException e) {
-                log.error("Failed to save batch starting at index {}. Attempting individual saves.", i);
-
-                for (TvShow show : batch) {
-                    try {
-                        TvShow saved = tvShowRepository.save(show);
-                        allSavedShows.add(saved);
-                    } catch (Exception individualError) {
-                        log.error("Failed to save show with tvShowId {}: {}",
-                                show.getTvShowId(), individualError.getMessage());
-                    }
+    private List<Long> saveInBatches(List<TvMazeShowDto> tvShows) {
+        List<Long> savedTvShowIds = new ArrayList<>(tvShows.size());
+        int batchSize = seederProperties.getBatchSize();
+
+        for (int i = 0; i < tvShows.size(); i += batchSize) {
+            List<TvMazeShowDto> batch = tvShows.subList(i, Math.min(i + batchSize, tvShows.size()));
+            List<TvShow> tvShowEntities = new ArrayList<>(batch.size());
+            Map<Long, List<String>> genres = new HashMap<>();
+
+            for (TvMazeShowDto tvShowDto : batch) {
+                try {
+                    tvShowEntities.add(Objects.requireNonNull(tvShowMapper.mazeDtoToTvShow(tvShowDto)));
+                    genres.put(tvShowDto.getId(), tvShowDto.getGenres() != null ? tvShowDto.getGenres() : List.of());
+                } catch (Exception e) {
+                    log.error("Failed to convert TV Show with id {}: {}", tvShowDto.getId(), e.getMessage());
                 }
             }
-        }
 
-        return allSavedShows;
-    }
+            BulkInsertResult result = tvShowUpsertRepository.insertAll(tvShowEntities, genres);
+            savedTvShowIds.addAll(result.insertedTvShowIds());
 
-    private Map<String, Genre> createOrGetGenres(List<TvMazeShowDto> tvShows) {
-        Set<String> genreNames = tvShows.stream()
-                .filter(show -> show.getGenres() != null)
-                .flatMap(show -> show.getGenres().stream())
-                .collect(Collectors.toSet());
-
-        log.debug("Found {} unique genres", genreNames.size());
-
-        Map<String, Genre> genreMap = new HashMap<>();
-        List<Genre> existingGenres = genreRepository.findByNameIn(new ArrayList<>(genreNames));
-        existingGenres.forEach(genre -> genreMap.put(genre.getName(), genre));
-
-        Set<String> existingGenreNames = existingGenres.stream()
-                .map(Genre::getName)
-                .collect(Collectors.toSet());
-
-        List<Genre> newGenres = genreNames.stream()
-                .filter(name -> !existingGenreNames.contains(name))
-                .map(name -> {
-                    Genre genre = new Genre();
-                    genre.setName(name);
-                    return genre;
-                })
-                .collect(Collectors.toList());
-
-        if (!newGenres.isEmpty()) {
-            log.info("Creating {} new genres", newGenres.size());
-            List<Genre> savedGenres = genreRepository.saveAll(newGenres);
-            savedGenres.forEach(genre -> genreMap.put(genre.getName(), genre));
+            for (BulkInsertResult.Conflict conflict : result.conflicts()) {
+                log.warn("Skipped show with tvShowId {}: {}", conflict.tvShowId(), conflict.reason());
+            }
+            log.debug("Saved batch {}/{} ({} shows, {} conflicts)",
+                    (i / batchSize) + 1,
+                    (tvShows.size() + batchSize - 1) / batchSize,
+                    result.insertedTvShowIds().size(),
+                    result.conflicts().size());
         }
 
-        return genreMap;
+        return savedTvShowIds;
     }
 }
@@ -0,0 +1,128 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.config.SearchProperties;
+import com.example.tvshows_service.enums.SearchMode;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.search.SearchHit;
+import com.example.tvshows_service.search.ShowSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class ShowSearchService {
+    private final TvShowRepository tvShowRepository;
+
+    private final SearchProperties searchProperties;
+
+    private final AtomicReference<ShowSearchIndex> snapshot = new AtomicReference<>();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile boolean postgresAvailable;
+
+    public ShowSearchService(TvShowRepository tvShowRepository, SearchProperties searchProperties) {
+        this.tvShowRepository = tvShowRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        if (usePostgres()) {
+            return tvShowRepository.searchByTrigram(query.trim(), limit).stream()
+                    .filter(view -> view.getScore() != null && view.getScore() >= searchProperties.getMinScore())
+                    .map(view -> new SearchHit(view.getTvShowId(), view.getName(), view.getScore()))
+                    .toList();
+        }
+
+        ShowSearchIndex index = snapshot.get();
+        if (index == null) {
+            return List.of();
+        }
+
+        return index.search(query, limit, searchProperties.getMinScore());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (searchProperties.getMode() == SearchMode.POSTGRES) {
+            postgresAvailable = checkPostgresAvailable();
+        }
+
+        if (!usePostgres()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Re-indexes only the changed shows from {@code changedRows}; null rows mean they could not be
+     * loaded and the index is rebuilt.
+     */
+    public void onCatalogChanged(List<Long> tvShowIds, List<CatalogRow> changedRows) {
+        if (usePostgres() || tvShowIds.isEmpty()) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            ShowSearchIndex current = snapshot.get();
+            if (current == null || changedRows == null) {
+                rebuild();
+                return;
+            }
+
+            ShowSearchIndex updated = current.merge(tvShowIds, changedRows);
+            snapshot.set(updated);
+
+            log.info("Search index updated with {} changed shows ({} total)", tvShowIds.size(), updated.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to update search index, falling back to full rebuild: {}", e.getMessage());
+            rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            ShowSearchIndex index = ShowSearchIndex.build(tvShowRepository.findAllCatalogRows());
+            snapshot.set(index);
+
+            log.info("Search index built with {} shows in {} ms", index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build search index: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean usePostgres() {
+        return searchProperties.getMode() == SearchMode.POSTGRES && postgresAvailable;
+    }
+
+    private boolean checkPostgresAvailable() {
+        try {
+            if (tvShowRepository.isTrigramSearchAvailable()) {
+                log.info("Delegating show search to Postgres pg_trgm");
+                return true;
+            }
+            log.warn("pg_trgm extension is not installed, falling back to the in-memory search index");
+        } catch (RuntimeException e) {
+            log.warn("Could not check for pg_trgm, falling back to the in-memory search index: {}", e.getMessage());
+        }
+
+        return false;
+    }
+}
@@ -1,31 +1,60 @@
 package com.example.tvshows_service.service;
 
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
+import com.example.tvshows_service.cache.CachedShowPage;
+import com.example.tvshows_service.cache.ShowCacheKeys;
+import com.example.tvshows_service.cache.ShowDetailCache;
+import com.example.tvshows_service.cache.ShowPageCache;
+import com.example.tvshows_service.catalog.GenreLink;
+import com.example.tvshows_service.config.SearchProperties;
+import com.example.tvshows_service.config.ShowCacheProperties;
+import com.example.tvshows_service.config.TvShowListingProperties;
+import com.example.tvshows_service.dto.TvShowCursorPageDto;
 import com.example.tvshows_service.dto.TvShowDto;
-import com.example.tvshows_service.dto.external.StoreTvShowSearchDto;
+import com.example.tvshows_service.dto.TvShowSuggestionDto;
+import com.example.tvshows_service.dto.external.ReviewStatsDto;
+import com.example.tvshows_service.dto.external.StoreTvShowSearchEntryDto;
 import com.example.tvshows_service.dto.external.StoreWatchlistDto;
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.exceptions.InvalidCursorException;
 import com.example.tvshows_service.exceptions.TvShowsNotFoundException;
+import com.example.tvshows_service.filters.TvShowCursor;
 import com.example.tvshows_service.filters.TvShowFilter;
+import com.example.tvshows_service.helpers.CursorHelper;
 import com.example.tvshows_service.helpers.ReviewHelper;
 import com.example.tvshows_service.helpers.WatchlistHelper;
+import com.example.tvshows_service.history.SearchHistoryPublisher;
 import com.example.tvshows_service.mappers.TvShowMapper;
 import com.example.tvshows_service.models.TvShow;
 import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.reviews.ReviewStatsClient;
+import com.example.tvshows_service.search.SearchHit;
 import com.example.tvshows_service.specifications.TvShowSpecification;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class TvShowService {
+    private static final String USER_SERVICE = "user-service";
+
     @Value("${user-service.api.url}")
     private String userServiceUrl;
 
@@ -41,13 +70,46 @@ public class TvShowService {
 
     private final TvShowRepository tvShowRepository;
 
+    private final CursorHelper cursorHelper;
+
+    private final CatalogIndexService catalogIndexService;
+
+    private final ShowSearchService showSearchService;
+
+    private final SearchProperties searchProperties;
+
+    private final ShowPageCache showPageCache;
+
+    private final ShowCacheProperties showCacheProperties;
+
+    private final ShowDetailCache showDetailCache;
+
+    private final SearchHistoryPublisher searchHistoryPublisher;
+
+    private final DownstreamGuard downstreamGuard;
+
+    private final ReviewStatsClient reviewStatsClient;
+
+    private final TvShowListingProperties tvShowListingProperties;
+
     public TvShowService(
             TvShowRepository tvShowRepository,
             WebClient webClient,
             TvShowMapper tvShowMapper,
             WatchlistHelper watchlistHelper,
             ObjectMapper objectMapper,
-            ReviewHelper reviewHelper
+            ReviewHelper reviewHelper,
+            CursorHelper cursorHelper,
+            CatalogIndexService catalogIndexService,
+            ShowSearchService showSearchService,
+            SearchProperties searchProperties,
+            ShowPageCache showPageCache,
+            ShowCacheProperties showCacheProperties,
+            ShowDetailCache showDetailCache,
+            SearchHistoryPublisher searchHistoryPublisher,
+            DownstreamGuard downstreamGuard,
+            ReviewStatsClient reviewStatsClient,
+            TvShowListingProperties tvShowListingProperties
     ) {
         this.tvShowRepository = tvShowRepository;
         this.webClient = webClient;
@@ -55,70 +117,175 @@ public TvShowService(
         this.watchlistHelper = watchlistHelper;
         this.objectMapper = objectMapper;
         this.reviewHelper = reviewHelper;
+        this.cursorHelper = cursorHelper;
+        this.catalogIndexService = catalogIndexService;
+        this.showSearchService = showSearchService;
+        this.searchProperties = searchProperties;
+        this.showPageCache = showPageCache;
+        this.showCacheProperties = showCacheProperties;
+        this.showDetailCache = showDetailCache;
+        this.searchHistoryPublisher = searchHistoryPublisher;
+        this.downstreamGuard = downstreamGuard;
+        this.reviewStatsClient = reviewStatsClient;
+        this.tvShowListingProperties = tvShowListingProperties;
     }
 
-    @Cacheable(value = "tvShows", key = "#page + ':' + #size" )
     public Page<TvShowDto> getTopRatedShows(int page, int size, String username) throws TvShowsNotFoundException {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rating"));
-        Page<TvShowDto> tvShowsPage = tvShowRepository.findAll(pageable)
-                .map(tvShow -> {
-                            TvShowDto tvShowDto = tvShowMapper.tvShowToDto(tvShow);
-                            addWatchListUrl(tvShowDto, username);
+        ShowCacheProperties.CacheKey cacheConfig = showCacheProperties.getTopRatedShows();
+        String cacheKey = ShowCacheKeys.topRated(cacheConfig.getCacheKey(), page, size);
 
-                            return tvShowDto;
-                        }
-                );
+        CachedShowPage cachedPage = getOrLoadPage(cacheKey, cacheConfig.getTtl(), () ->
+                tvShowRepository.findAll(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rating")))
+        );
 
-        if (tvShowsPage.isEmpty()) {
+        if (cachedPage.getContent().isEmpty()) {
             throw new TvShowsNotFoundException();
         }
 
-        return tvShowsPage;
+        List<TvShowDto> content = cachedPage.getContent().stream()
+                .map(tvShowDto -> addWatchListUrl(tvShowDto, username))
+                .toList();
+
+        return new PageImpl<>(content, PageRequest.of(page, size), cachedPage.getTotalElements());
     }
 
-    @Cacheable(value = "filteredTvShows", key = "#page + ':' + #size + ':' + #filter.hashCode() + ':' + #username")
     public Page<TvShowDto> getTvShows(int page, int size, TvShowFilter filter, String username) throws TvShowsNotFoundException {
-        Specification<TvShow> spec = Stream.of(
-                        TvShowSpecification.hasName(filter.getName()),
-                        TvShowSpecification.hasDescription(filter.getDescription()),
-                        TvShowSpecification.hasNetwork(filter.getNetwork()),
-                        TvShowSpecification.hasStatus(filter.getStatus()),
-                        TvShowSpecification.endedBefore(filter.getEnded()),
-                        TvShowSpecification.premieredAfter(filter.getPremiered()),
-                        TvShowSpecification.hasLanguage(filter.getLanguage()),
-                        TvShowSpecification.ratingBetween(filter.getMinRating(), filter.getMaxRating()),
-                        TvShowSpecification.hasGenres(filter.getGenres()),
-                        TvShowSpecification.hasIds(filter.getIds())
-                )
-                .filter(Objects::nonNull)
-                .reduce(Specification::and)
-                .orElse(null);
+        ShowCacheProperties.CacheKey cacheConfig = showCacheProperties.getFilteredShows();
+        String cacheKey = ShowCacheKeys.filtered(cacheConfig.getCacheKey(), filter, page, size);
 
-        Pageable pageable = createPageable(page, size, filter.getSortBy(), filter.getSortOrder());
+        CachedShowPage cachedPage = getOrLoadPage(cacheKey, cacheConfig.getTtl(), () ->
+                catalogIndexService.isReady() ? findTvShowsInIndex(page, size, filter) : findTvShows(page, size, filter)
+        );
 
-        Page<TvShowDto> tvShowPage = tvShowRepository.findAll(spec, pageable)
-                .map(tvShowMapper::tvShowToDto)
+        if (cachedPage.getContent().isEmpty()) {
+            throw new TvShowsNotFoundException();
+        }
+
+        List<TvShowDto> content = cachedPage.getContent().stream()
+                .map(tvShowDto -> addWatchListUrl(tvShowDto, username))
+                .map(tvShowDto -> addReviewUrl(tvShowDto, username))
+                .toList();
+        addCommunityRatings(content);
+
+        return new PageImpl<>(content, PageRequest.of(page, size), cachedPage.getTotalElements());
+    }
+
+    public TvShowCursorPageDto getTvShowsAfter(String cursor, int size, TvShowFilter filter, String username) throws TvShowsNotFoundException, InvalidCursorException {
+        TvShowSortField sortField;
+        try {
+            sortField = TvShowSortField.fromValue(filter.getSortBy());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(e.getMessage());
+        }
+        boolean descending = "desc".equalsIgnoreCase(filter.getSortOrder());
+        int limit = Math.min(Math.max(size, 1), tvShowListingProperties.getMaxPageSize());
+
+        TvShowCursor after = cursorHelper.decode(cursor);
+        Comparable<?> lastKey = null;
+        Long lastTvShowId = null;
+
+        if (after != null) {
+            if (!sortField.getValue().equals(after.sortBy()) || "desc".equalsIgnoreCase(after.sortOrder()) != descending) {
+                throw new InvalidCursorException("Cursor does not match the requested sort order");
+            }
+
+            try {
+                lastKey = sortField.parseKey(after.key());
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException();
+            }
+            lastTvShowId = after.tvShowId();
+        }
+
+        List<TvShow> tvShows = tvShowRepository.findAfter(buildSpecification(filter), sortField, descending, lastKey, lastTvShowId, limit + 1);
+
+        if (tvShows.isEmpty() && after == null) {
+            throw new TvShowsNotFoundException();
+        }
+
+        boolean hasNext = tvShows.size() > limit;
+        List<TvShow> slice = hasNext ? tvShows.subList(0, limit) : tvShows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TvShow last = slice.get(slice.size() - 1);
+            nextCursor = cursorHelper.encode(new TvShowCursor(
+                    sortField.getValue(),
+                    descending ? "desc" : "asc",
+                    String.valueOf(sortField.keyOf(last)),
+                    last.getTvShowId()
+            ));
+        }
+
+        List<TvShowDto> content = slice.stream()
+                .map(toListingDto(slice))
                 .map(tvShowDto -> addWatchListUrl(tvShowDto, username))
-                .map(tvShowDto -> addReviewUrl(tvShowDto, username));
+                .map(tvShowDto -> addReviewUrl(tvShowDto, username))
+                .toList();
+        addCommunityRatings(content);
+
+        return TvShowCursorPageDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public Page<TvShowDto> searchTvShows(String query, int page, int size, String username) throws TvShowsNotFoundException {
+        List<SearchHit> hits = showSearchService.search(query, searchProperties.getMaxResults());
 
-        if (tvShowPage.isEmpty()) {
+        int from = Math.min(page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<Long> tvShowIds = hits.subList(from, to).stream()
+                .map(SearchHit::tvShowId)
+                .toList();
+
+        List<TvShow> tvShows = findAllInOrder(tvShowIds);
+        List<TvShowDto> content = tvShows.stream()
+                .map(toListingDto(tvShows))
+                .map(tvShowDto -> addWatchListUrl(tvShowDto, username))
+                .map(tvShowDto -> addReviewUrl(tvShowDto, username))
+                .toList();
+
+        if (content.isEmpty()) {
             throw new TvShowsNotFoundException();
         }
 
-        return tvShowPage;
+        return new PageImpl<>(content, PageRequest.of(page, size), hits.size());
     }
 
-    public void addToWatchList(long tvShowId, String username) throws TvShowsNotFoundException {
+    public List<TvShowSuggestionDto> getSuggestions(String query, int limit) {
+        int cappedLimit = Math.min(Math.max(limit, 1), searchProperties.getTypeaheadLimit());
+
+        return showSearchService.search(query, cappedLimit).stream()
+                .map(hit -> TvShowSuggestionDto.builder()
+                        .id(hit.tvShowId())
+                        .name(hit.name())
+                        .score(hit.score())
+                        .build())
+                .toList();
+    }
+
+    public void addToWatchList(long tvShowId, String username) throws TvShowsNotFoundException, DownstreamUnavailableException {
         TvShow tvShow = tvShowRepository.findByTvShowId(tvShowId).orElseThrow(TvShowsNotFoundException::new);
 
         StoreWatchlistDto storeWatchlistDto = tvShowMapper.tvShowToStoreWatchlistDto(tvShow);
 
-        webClient.post()
-                .uri(userServiceUrl + "/api/users/watchlist/" + username)
-                .bodyValue(storeWatchlistDto)
-                .retrieve()
-                .toBodilessEntity()
-                .block();
+        try {
+            downstreamGuard.call(USER_SERVICE, webClient.post()
+                            .uri(userServiceUrl + "/api/users/watchlist/" + username)
+                            .bodyValue(storeWatchlistDto)
+                            .retrieve()
+                            .toBodilessEntity())
+                    .block();
+        } catch (RuntimeException e) {
+            if (!DownstreamGuard.isUnavailable(e)) {
+                throw e;
+            }
+            log.warn("Could not add show {} to watchlist of {}: {}", tvShowId, username, e.getMessage());
+            throw new DownstreamUnavailableException(USER_SERVICE);
+        }
     }
 
     private TvShowDto addWatchListUrl(TvShowDto tvShowDto, String username) {
@@ -137,37 +304,160 @@ private TvShowDto addReviewUrl(TvShowDto tvShowDto, String username) {
         return tvShowDto;
     }
 
+    /**
+     * Fills in community ratings for the whole page with one batched lookup. Shows whose stats
+     * could not be fetched keep null ratings instead of failing the page.
+     */
+    private void addCommunityRatings(List<TvShowDto> tvShowDtos) {
+        if (tvShowDtos.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ReviewStatsDto> statsByShow = reviewStatsClient.getStats(tvShowDtos.stream().map(TvShowDto::getId).toList());
+
+        for (TvShowDto tvShowDto : tvShowDtos) {
+            ReviewStatsDto stats = statsByShow.get(tvShowDto.getId());
+            tvShowDto.setCommunityRating(stats == null ? null : stats.getAverageRating());
+            tvShowDto.setCommunityReviewCount(stats == null ? null : stats.getTotalReviews());
+        }
+    }
+
+    private CachedShowPage getOrLoadPage(String cacheKey, Duration ttl, Supplier<Page<TvShow>> loader) {
+        Optional<CachedShowPage> cachedPage = showPageCache.get(cacheKey);
+        if (cachedPage.isPresent()) {
+            return cachedPage.get();
+        }
+
+        long generation = showPageCache.generation();
+        Page<TvShow> tvShows = loader.get();
+        CachedShowPage loadedPage = new CachedShowPage(
+                tvShows.getContent().stream().map(toListingDto(tvShows.getContent())).toList(),
+                tvShows.getTotalElements()
+        );
+
+        if (!loadedPage.getContent().isEmpty()) {
+            showPageCache.put(cacheKey, loadedPage, ttl, generation, ShowPageCache.CATALOG_TAG);
+        }
+
+        return loadedPage;
+    }
+
+    /**
+     * Maps a page of shows without touching the lazy genres association: genre names for the
+     * whole page are loaded in a single query instead of one select per show.
+     */
+    private Function<TvShow, TvShowDto> toListingDto(List<TvShow> tvShows) {
+        if (tvShows.isEmpty()) {
+            return tvShow -> tvShowMapper.tvShowToListingDto(tvShow, List.of());
+        }
+
+        Map<Long, List<String>> genresByShow = tvShowRepository.findGenreLinksByTvShowIdIn(
+                        tvShows.stream().map(TvShow::getTvShowId).toList()
+                ).stream()
+                .collect(Collectors.groupingBy(GenreLink::tvShowId, Collectors.mapping(GenreLink::genre, Collectors.toList())));
+
+        return tvShow -> tvShowMapper.tvShowToListingDto(tvShow, genresByShow.getOrDefault(tvShow.getTvShowId(), List.of()));
+    }
+
+    private Page<TvShow> findTvShows(int page, int size, TvShowFilter filter) {
+        Pageable pageable = createPageable(page, size, filter.getSortBy(), filter.getSortOrder());
+
+        return tvShowRepository.findAll(buildSpecification(filter), pageable);
+    }
+
+    private Page<TvShow> findTvShowsInIndex(int page, int size, TvShowFilter filter) {
+        TvShowSortField sortField;
+        try {
+            sortField = TvShowSortField.fromValue(filter.getSortBy());
+        } catch (IllegalArgumentException e) {
+            return findTvShows(page, size, filter);
+        }
+
+        Page<Long> tvShowIds = catalogIndexService.search(filter, sortField, "desc".equalsIgnoreCase(filter.getSortOrder()), page, size);
+        if (tvShowIds.isEmpty()) {
+            return new PageImpl<>(List.of(), tvShowIds.getPageable(), tvShowIds.getTotalElements());
+        }
+
+        return new PageImpl<>(findAllInOrder(tvShowIds.getContent()), tvShowIds.getPageable(), tvShowIds.getTotalElements());
+    }
+
+    private List<TvShow> findAllInOrder(List<Long> tvShowIds) {
+        if (tvShowIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TvShow> tvShowsById = tvShowRepository.findAllByTvShowIdIn(tvShowIds)
+                .orElse(List.of())
+                .stream()
+                .collect(Collectors.toMap(TvShow::getTvShowId, Function.identity()));
+
+        return tvShowIds.stream()
+                .map(tvShowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Specification<TvShow> buildSpecification(TvShowFilter filter) {
+        return Stream.of(
+                        TvShowSpecification.hasName(filter.getName()),
+                        TvShowSpecification.hasDescription(filter.getDescription()),
+                        TvShowSpecification.hasNetwork(filter.getNetwork()),
+                        TvShowSpecification.hasStatus(filter.getStatus()),
+                        TvShowSpecification.endedBefore(filter.getEnded()),
+                        TvShowSpecification.premieredAfter(filter.getPremiered()),
+                        TvShowSpecification.hasLanguage(filter.getLanguage()),
+                        TvShowSpecification.ratingBetween(filter.getMinRating(), filter.getMaxRating()),
+                        TvShowSpecification.hasGenres(filter.getGenres()),
+                        TvShowSpecification.hasIds(filter.getIds())
+                )
+                .filter(Objects::nonNull)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    /**
+     * Orders the same way as the catalog index: known sort fields map to their entity attribute
+     * ({@code id} is {@code tvShowId}, not the UUID key) with {@code tvShowId} as tie-breaker.
+     */
     private Pageable createPageable(int page, int size, String sortBy, String sortOrder) {
-        Sort sort = Sort.unsorted();
-
-        if (sortBy != null && !sortBy.isBlank()) {
-            sort = Sort.by(sortBy);
-            if ("desc".equalsIgnoreCase(sortOrder)) {
-                sort = sort.descending();
-            } else {
-                sort = sort.ascending();
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        Sort sort;
+        try {
+            TvShowSortField sortField = TvShowSortField.fromValue(sortBy);
+            sort = Sort.by(direction, sortField.getAttribute());
+            if (sortField != TvShowSortField.ID) {
+                sort = sort.and(Sort.by(direction, TvShowSortField.ID.getAttribute()));
             }
+        } catch (IllegalArgumentException e) {
+            sort = Sort.by(direction, sortBy);
         }
 
         return PageRequest.of(page, size, sort);
     }
 
     public TvShowDto getTvShow(Long tvShowId) throws TvShowsNotFoundException {
-        TvShow tvShow = tvShowRepository.findByTvShowId(tvShowId).orElseThrow(TvShowsNotFoundException::new);
+        TvShowDto tvShowDto = showDetailCache.get(tvShowId, id -> tvShowRepository.findByTvShowId(id)
+                .map(tvShowMapper::tvShowToDto)
+                .orElse(null));
+
+        if (tvShowDto == null) {
+            throw new TvShowsNotFoundException();
+        }
 
-        return tvShowMapper.tvShowToDto(tvShow);
+        return tvShowDto;
     }
 
     public void storeFilteredTvShowsSearchHistory(String username, String url, TvShowFilter filter) {
-        StoreTvShowSearchDto storeTvShowSearchDto = new StoreTvShowSearchDto();
-        storeTvShowSearchDto.setEndpoint(url);
-        storeTvShowSearchDto.setFilters(objectMapper.valueToTree(filter));
-
-        webClient.post()
-                .uri(userServiceUrl + "/api/users/search/store/" + username)
-                .bodyValue(storeTvShowSearchDto)
-                .retrieve()
-                .toBodilessEntity()
-                .block();
+        if (username == null || username.isBlank()) {
+            return;
+        }
+
+        searchHistoryPublisher.publish(StoreTvShowSearchEntryDto.builder()
+                .username(username)
+                .endpoint(url)
+                .filters(objectMapper.valueToTree(filter))
+                .searchTime(LocalDateTime.now())
+                .build());
     }
 }
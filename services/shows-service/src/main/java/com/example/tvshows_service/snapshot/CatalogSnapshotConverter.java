@@ -0,0 +1,36 @@
+package com.example.tvshows_service.snapshot;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.example.tvshows_service.dump.TvMazeDumpReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Converts a JSON dump (an array of TVMaze shows) into a catalog snapshot. The dump is parsed
+ * element by element, and the snapshot only replaces {@code target} once it is complete.
+ */
+public final class CatalogSnapshotConverter {
+    private CatalogSnapshotConverter() {
+    }
+
+    public static int convert(ObjectMapper objectMapper, Path jsonDump, Path target) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        try (TvMazeDumpReader reader = TvMazeDumpReader.open(objectMapper, jsonDump);
+             CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(partial)) {
+            for (TvMazeShowDto show = reader.next(); show != null; show = reader.next()) {
+                writer.write(show);
+            }
+
+            writer.close();
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return writer.getCount();
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+}
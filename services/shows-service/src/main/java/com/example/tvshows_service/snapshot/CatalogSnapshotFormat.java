@@ -0,0 +1,44 @@
+package com.example.tvshows_service.snapshot;
+
+/**
+ * Layout of a catalog snapshot file: a header ({@link #MAGIC}, {@link #VERSION}) followed by
+ * length-prefixed show records. Each record starts with a bitmask of the fields that are present
+ * and then holds those fields in bit order. Strings are a length followed by UTF-8 bytes, dates are
+ * epoch days and string lists are a count followed by strings. Only the fields the catalog stores
+ * are kept.
+ */
+final class CatalogSnapshotFormat {
+    static final int MAGIC = 0x5456534E;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    static final int ID = 0;
+    static final int NAME = 1;
+    static final int TYPE = 2;
+    static final int LANGUAGE = 3;
+    static final int STATUS = 4;
+    static final int RUNTIME = 5;
+    static final int AVERAGE_RUNTIME = 6;
+    static final int PREMIERED = 7;
+    static final int ENDED = 8;
+    static final int OFFICIAL_SITE = 9;
+    static final int SCHEDULE_TIME = 10;
+    static final int SCHEDULE_DAYS = 11;
+    static final int RATING = 12;
+    static final int NETWORK = 13;
+    static final int TVRAGE = 14;
+    static final int THETVDB = 15;
+    static final int IMDB = 16;
+    static final int IMAGE_MEDIUM = 17;
+    static final int IMAGE_ORIGINAL = 18;
+    static final int SUMMARY = 19;
+    static final int GENRES = 20;
+    static final int UPDATED = 21;
+
+    private CatalogSnapshotFormat() {
+    }
+
+    static boolean has(int presence, int field) {
+        return (presence & (1 << field)) != 0;
+    }
+}
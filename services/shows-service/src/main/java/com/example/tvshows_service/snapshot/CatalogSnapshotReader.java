@@ -0,0 +1,169 @@
+package com.example.tvshows_service.snapshot;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static com.example.tvshows_service.snapshot.CatalogSnapshotFormat.*;
+
+/**
+ * Memory-maps a catalog snapshot and decodes one show at a time. Only the record being decoded
+ * lives on the heap; the file contents stay in the page cache.
+ */
+public final class CatalogSnapshotReader implements Iterator<TvMazeShowDto> {
+    private final ByteBuffer buffer;
+
+    private CatalogSnapshotReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a catalog snapshot");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported catalog snapshot version " + version);
+        }
+    }
+
+    public static CatalogSnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CatalogSnapshotReader(mapped);
+        }
+    }
+
+    static CatalogSnapshotReader of(ByteBuffer buffer) throws IOException {
+        return new CatalogSnapshotReader(buffer);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return buffer.hasRemaining();
+    }
+
+    @Override
+    public TvMazeShowDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int length = buffer.getInt();
+        int end = buffer.position() + length;
+        if (length < Integer.BYTES || end > buffer.limit()) {
+            throw new IllegalStateException("Corrupt catalog snapshot record at offset " + (buffer.position() - Integer.BYTES));
+        }
+
+        TvMazeShowDto show = readShow(buffer.getInt());
+        if (buffer.position() != end) {
+            throw new IllegalStateException("Corrupt catalog snapshot record ending at offset " + end);
+        }
+        return show;
+    }
+
+    /**
+     * Hands the remaining shows to {@code consumer} in lists of at most {@code batchSize}.
+     */
+    public int forEachBatch(int batchSize, Consumer<List<TvMazeShowDto>> consumer) {
+        int total = 0;
+        List<TvMazeShowDto> batch = new ArrayList<>(batchSize);
+
+        while (hasNext()) {
+            batch.add(next());
+            if (batch.size() == batchSize) {
+                consumer.accept(batch);
+                total += batch.size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+            total += batch.size();
+        }
+        return total;
+    }
+
+    private TvMazeShowDto readShow(int presence) {
+        TvMazeShowDto show = new TvMazeShowDto();
+
+        // Fields must be read in bit order; each ternary only consumes bytes for present fields.
+        show.setId(has(presence, ID) ? buffer.getLong() : null);
+        show.setName(has(presence, NAME) ? readString() : null);
+        show.setType(has(presence, TYPE) ? readString() : null);
+        show.setLanguage(has(presence, LANGUAGE) ? readString() : null);
+        show.setStatus(has(presence, STATUS) ? readString() : null);
+        show.setRuntime(has(presence, RUNTIME) ? buffer.getInt() : null);
+        show.setAverageRuntime(has(presence, AVERAGE_RUNTIME) ? buffer.getInt() : null);
+        show.setPremiered(has(presence, PREMIERED) ? LocalDate.ofEpochDay(buffer.getInt()) : null);
+        show.setEnded(has(presence, ENDED) ? LocalDate.ofEpochDay(buffer.getInt()) : null);
+        show.setOfficialSite(has(presence, OFFICIAL_SITE) ? readString() : null);
+
+        if (has(presence, SCHEDULE_TIME) || has(presence, SCHEDULE_DAYS)) {
+            TvMazeShowDto.Schedule schedule = new TvMazeShowDto.Schedule();
+            schedule.setTime(has(presence, SCHEDULE_TIME) ? readString() : null);
+            schedule.setDays(has(presence, SCHEDULE_DAYS) ? readStrings() : null);
+            show.setSchedule(schedule);
+        }
+
+        if (has(presence, RATING)) {
+            TvMazeShowDto.Rating rating = new TvMazeShowDto.Rating();
+            rating.setAverage(buffer.getDouble());
+            show.setRating(rating);
+        }
+
+        if (has(presence, NETWORK)) {
+            TvMazeShowDto.Network network = new TvMazeShowDto.Network();
+            network.setName(readString());
+            show.setNetwork(network);
+        }
+
+        if (has(presence, TVRAGE) || has(presence, THETVDB) || has(presence, IMDB)) {
+            TvMazeShowDto.Externals externals = new TvMazeShowDto.Externals();
+            externals.setTvrage(has(presence, TVRAGE) ? buffer.getInt() : null);
+            externals.setThetvdb(has(presence, THETVDB) ? buffer.getInt() : null);
+            externals.setImdb(has(presence, IMDB) ? readString() : null);
+            show.setExternals(externals);
+        }
+
+        if (has(presence, IMAGE_MEDIUM) || has(presence, IMAGE_ORIGINAL)) {
+            TvMazeShowDto.Image image = new TvMazeShowDto.Image();
+            image.setMedium(has(presence, IMAGE_MEDIUM) ? readString() : null);
+            image.setOriginal(has(presence, IMAGE_ORIGINAL) ? readString() : null);
+            show.setImage(image);
+        }
+
+        show.setSummary(has(presence, SUMMARY) ? readString() : null);
+        show.setGenres(has(presence, GENRES) ? readStrings() : null);
+        show.setUpdated(has(presence, UPDATED) ? buffer.getLong() : null);
+
+        return show;
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<String> readStrings() {
+        int size = buffer.getInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.tvshows_service.snapshot;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.tvshows_service.snapshot.CatalogSnapshotFormat.*;
+
+/**
+ * Appends shows to a catalog snapshot one record at a time, so callers never need the whole
+ * catalog in memory.
+ */
+public final class CatalogSnapshotWriter implements Closeable {
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(1024);
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+    private int count;
+
+    private CatalogSnapshotWriter(OutputStream outputStream) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    public static CatalogSnapshotWriter create(Path path) throws IOException {
+        return new CatalogSnapshotWriter(Files.newOutputStream(path));
+    }
+
+    public void write(TvMazeShowDto show) throws IOException {
+        TvMazeShowDto.Schedule schedule = show.getSchedule();
+        TvMazeShowDto.Externals externals = show.getExternals();
+        TvMazeShowDto.Image image = show.getImage();
+
+        Object[] values = new Object[UPDATED + 1];
+        values[ID] = show.getId();
+        values[NAME] = show.getName();
+        values[TYPE] = show.getType();
+        values[LANGUAGE] = show.getLanguage();
+        values[STATUS] = show.getStatus();
+        values[RUNTIME] = show.getRuntime();
+        values[AVERAGE_RUNTIME] = show.getAverageRuntime();
+        values[PREMIERED] = show.getPremiered();
+        values[ENDED] = show.getEnded();
+        values[OFFICIAL_SITE] = show.getOfficialSite();
+        values[SCHEDULE_TIME] = schedule != null ? schedule.getTime() : null;
+        values[SCHEDULE_DAYS] = schedule != null ? schedule.getDays() : null;
+        values[RATING] = show.getRating() != null ? show.getRating().getAverage() : null;
+        values[NETWORK] = show.getNetwork() != null ? show.getNetwork().getName() : null;
+        values[TVRAGE] = externals != null ? externals.getTvrage() : null;
+        values[THETVDB] = externals != null ? externals.getThetvdb() : null;
+        values[IMDB] = externals != null ? externals.getImdb() : null;
+        values[IMAGE_MEDIUM] = image != null ? image.getMedium() : null;
+        values[IMAGE_ORIGINAL] = image != null ? image.getOriginal() : null;
+        values[SUMMARY] = show.getSummary();
+        values[GENRES] = show.getGenres();
+        values[UPDATED] = show.getUpdated();
+
+        int presence = 0;
+        for (int field = 0; field < values.length; field++) {
+            if (values[field] != null) {
+                presence |= 1 << field;
+            }
+        }
+
+        recordBytes.reset();
+        record.writeInt(presence);
+        for (int field = 0; field < values.length; field++) {
+            if (values[field] != null) {
+                writeValue(values[field]);
+            }
+        }
+
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        count++;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object value) throws IOException {
+        switch (value) {
+            case Long longValue -> record.writeLong(longValue);
+            case Integer intValue -> record.writeInt(intValue);
+            case Double doubleValue -> record.writeDouble(doubleValue);
+            case LocalDate date -> record.writeInt((int) date.toEpochDay());
+            case String string -> writeString(string);
+            case List<?> list -> {
+                List<String> strings = (List<String>) list;
+                record.writeInt(strings.size());
+                for (String string : strings) {
+                    writeString(string != null ? string : "");
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported snapshot value " + value.getClass());
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        record.writeInt(bytes.length);
+        record.write(bytes);
+    }
+}
@@ -16,7 +16,7 @@ public static Specification<TvShow> hasName(String name) {
     }
 
     public static Specification<TvShow> hasDescription(String description) {
-        return (root, query, cb) -> description == null ? null : cb.like(cb.lower(root.get("description")), "%" + description.toLowerCase() + "%");
+        return (root, query, cb) -> description == null ? null : cb.like(cb.lower(root.get("summary")), "%" + description.toLowerCase() + "%");
     }
 
     public static Specification<TvShow> premieredAfter(LocalDate premiered) {
@@ -5,6 +5,7 @@ CREATE TABLE IF NOT EXISTS tv_shows (
     type VARCHAR(50),
     language VARCHAR(50),
     status VARCHAR(50),
+    network VARCHAR(255),
     runtime INT,
     average_runtime INT,
     premiered DATE,
@@ -23,6 +24,11 @@ CREATE TABLE IF NOT EXISTS tv_shows (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
     );
 
+ALTER TABLE tv_shows ADD COLUMN IF NOT EXISTS network VARCHAR(255);
+ALTER TABLE tv_shows ADD COLUMN IF NOT EXISTS tvmaze_updated BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_tv_shows_summary_tsv ON tv_shows USING gin (to_tsvector('english', coalesce(summary, '')));
+
 CREATE TABLE IF NOT EXISTS genres (
                                       id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     name VARCHAR(100) UNIQUE NOT NULL
@@ -34,4 +40,11 @@ CREATE TABLE IF NOT EXISTS tv_show_genres (
                                               PRIMARY KEY (tv_show_id, genre_id),
     FOREIGN KEY (tv_show_id) REFERENCES tv_shows(id) ON DELETE CASCADE,
     FOREIGN KEY (genre_id) REFERENCES genres(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS seed_checkpoints (
+    source VARCHAR(50) PRIMARY KEY,
+    last_page INT NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,52 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.filters.TvShowFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowCacheKeysTest {
+
+    @Test
+    void filtered_ShouldIncludeIds() {
+        TvShowFilter first = TvShowFilter.builder().ids(List.of(1L, 2L)).build();
+        TvShowFilter second = TvShowFilter.builder().ids(List.of(3L)).build();
+
+        assertNotEquals(
+                ShowCacheKeys.filtered("shows", first, 0, 10),
+                ShowCacheKeys.filtered("shows", second, 0, 10)
+        );
+    }
+
+    @Test
+    void filtered_ShouldIgnoreCaseAndListOrderWhereFiltersDo() {
+        TvShowFilter first = TvShowFilter.builder().status("Ended").genres(List.of("Drama", "Action")).ids(List.of(2L, 1L)).build();
+        TvShowFilter second = TvShowFilter.builder().status("ended").genres(List.of("action", "drama")).ids(List.of(1L, 2L)).build();
+
+        assertEquals(
+                ShowCacheKeys.filtered("shows", first, 0, 10),
+                ShowCacheKeys.filtered("shows", second, 0, 10)
+        );
+    }
+
+    @Test
+    void filtered_ShouldNotCollideWhenValuesContainSeparators() {
+        TvShowFilter first = TvShowFilter.builder().name("a&status=b").build();
+        TvShowFilter second = TvShowFilter.builder().name("a").status("b").build();
+        TvShowFilter third = TvShowFilter.builder().genres(List.of("a,b")).build();
+        TvShowFilter fourth = TvShowFilter.builder().genres(List.of("a", "b")).build();
+
+        assertNotEquals(ShowCacheKeys.filtered("shows", first, 0, 10), ShowCacheKeys.filtered("shows", second, 0, 10));
+        assertNotEquals(ShowCacheKeys.filtered("shows", third, 0, 10), ShowCacheKeys.filtered("shows", fourth, 0, 10));
+    }
+
+    @Test
+    void filtered_ShouldDistinguishMissingAndEmptyValues() {
+        TvShowFilter missing = TvShowFilter.builder().status(null).build();
+        TvShowFilter empty = TvShowFilter.builder().status("").build();
+
+        assertNotEquals(ShowCacheKeys.filtered("shows", missing, 0, 10), ShowCacheKeys.filtered("shows", empty, 0, 10));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.config.ShowDetailCacheProperties;
+import com.example.tvshows_service.dto.TvShowDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ShowDetailCacheTest {
+
+    @Mock
+    private RedisTemplate<String, TvShowDto> showDetailRedisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, TvShowDto> valueOperations;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ShowDetailCache showDetailCache;
+
+    private TvShowDto tvShowDto;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        showDetailCache = new ShowDetailCache(showDetailRedisTemplate, stringRedisTemplate, new ShowDetailCacheProperties(), meterRegistry);
+
+        tvShowDto = new TvShowDto();
+        tvShowDto.setId(1L);
+        tvShowDto.setName("Test Show");
+
+        when(showDetailRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+    }
+
+    @Test
+    void get_ShouldServeSecondReadFromLocalTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return tvShowDto;
+        });
+        TvShowDto result = showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return tvShowDto;
+        });
+
+        assertEquals(tvShowDto, result);
+        assertEquals(1, loads.get());
+        verify(valueOperations).set("tv-shows:detail:1", tvShowDto, Duration.ofHours(1));
+        assertEquals(1.0, meterRegistry.get("tvshows.cache.detail.requests").tags("tier", "local", "result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("tvshows.cache.detail.requests").tags("tier", "redis", "result", "miss").counter().count());
+    }
+
+    @Test
+    void get_ShouldUseRedisBeforeLoader() {
+        when(valueOperations.get("tv-shows:detail:1")).thenReturn(tvShowDto);
+
+        TvShowDto result = showDetailCache.get(1L, id -> fail("loader should not be called"));
+
+        assertEquals(tvShowDto, result);
+        assertEquals(1.0, meterRegistry.get("tvshows.cache.detail.requests").tags("tier", "redis", "result", "hit").counter().count());
+    }
+
+    @Test
+    void get_ShouldNotCacheMissingShows() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(2, loads.get());
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void get_ShouldCoalesceConcurrentMisses() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<TvShowDto>> results = new ArrayList<>();
+            results.add(executor.submit(() -> showDetailCache.get(1L, id -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return tvShowDto;
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> showDetailCache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    return tvShowDto;
+                })));
+            }
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<TvShowDto> result : results) {
+                assertEquals(tvShowDto, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void onMessage_ShouldEvictLocalEntries() {
+        AtomicInteger loads = new AtomicInteger();
+        showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return tvShowDto;
+        });
+
+        showDetailCache.onMessage(new DefaultMessage(
+                "tv-shows:detail:invalidate".getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)
+        ), null);
+        showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return tvShowDto;
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldDropShowLoadedAcrossAnInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        when(stringValueOperations.get("tv-shows:detail:generation")).thenReturn("4", "5");
+
+        TvShowDto result = showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            showDetailCache.invalidate(List.of(1L));
+            return tvShowDto;
+        });
+        showDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return tvShowDto;
+        });
+
+        assertEquals(tvShowDto, result);
+        assertEquals(2, loads.get());
+        verify(showDetailRedisTemplate).delete("tv-shows:detail:1");
+    }
+
+    @Test
+    void get_ShouldSkipRedisWriteWhenGenerationIsUnknown() {
+        when(stringValueOperations.get("tv-shows:detail:generation")).thenThrow(new IllegalStateException("connection refused"));
+
+        showDetailCache.get(1L, id -> tvShowDto);
+
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void invalidate_ShouldDeleteRedisKeysAndBroadcast() {
+        showDetailCache.invalidate(List.of(1L, 2L));
+
+        verify(stringValueOperations).increment("tv-shows:detail:generation");
+        verify(showDetailRedisTemplate).delete(List.of("tv-shows:detail:1", "tv-shows:detail:2"));
+        verify(stringRedisTemplate).convertAndSend("tv-shows:detail:invalidate", "1,2");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.tvshows_service.cache;
+
+import com.example.tvshows_service.config.ShowCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShowPageCacheTest {
+
+    @Mock
+    private RedisTemplate<String, CachedShowPage> showPageRedisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, CachedShowPage> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
+
+    private ShowPageCache showPageCache;
+
+    @BeforeEach
+    void setUp() {
+        showPageCache = new ShowPageCache(showPageRedisTemplate, stringRedisTemplate, new ShowCacheProperties());
+    }
+
+    @Test
+    void put_ShouldRegisterKeyUnderEachTag() {
+        CachedShowPage page = new CachedShowPage(List.of(), 0);
+        when(showPageRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        when(stringValueOperations.get("tv-shows:tag:generation")).thenReturn("3");
+
+        showPageCache.put("top-rated-shows:page=0&size=10", page, Duration.ofMinutes(5), 3, ShowPageCache.CATALOG_TAG);
+
+        verify(valueOperations).set("top-rated-shows:page=0&size=10", page, Duration.ofMinutes(5));
+        verify(setOperations).add("tv-shows:tag:catalog", "top-rated-shows:page=0&size=10");
+        verify(showPageRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void put_ShouldKeepTagSetAliveAsLongAsTheLongestEntry() {
+        when(showPageRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+
+        showPageCache.put("key", new CachedShowPage(List.of(), 0), Duration.ofMinutes(5), 0, ShowPageCache.CATALOG_TAG);
+
+        verify(stringRedisTemplate).expire("tv-shows:tag:catalog", Duration.ofHours(1));
+    }
+
+    @Test
+    void put_ShouldDropPageLoadedBeforeAnEviction() {
+        when(showPageRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        when(stringValueOperations.get("tv-shows:tag:generation")).thenReturn("4");
+
+        showPageCache.put("key", new CachedShowPage(List.of(), 0), Duration.ofMinutes(5), 3, ShowPageCache.CATALOG_TAG);
+
+        verify(showPageRedisTemplate).delete("key");
+    }
+
+    @Test
+    void put_ShouldSkipWriteWhenGenerationIsUnknown() {
+        showPageCache.put("key", new CachedShowPage(List.of(), 0), Duration.ofMinutes(5), -1, ShowPageCache.CATALOG_TAG);
+
+        verifyNoInteractions(showPageRedisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    void evictTag_ShouldBumpGenerationAndDeleteTaggedKeys() {
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        when(setOperations.members("tv-shows:tag:catalog")).thenReturn(Set.of("a", "b"));
+
+        showPageCache.evictTag(ShowPageCache.CATALOG_TAG);
+
+        verify(stringValueOperations).increment("tv-shows:tag:generation");
+        verify(stringRedisTemplate).delete(Set.of("a", "b"));
+        verify(stringRedisTemplate).delete("tv-shows:tag:catalog");
+    }
+
+    @Test
+    void get_ShouldTreatRedisFailureAsMiss() {
+        when(showPageRedisTemplate.opsForValue()).thenThrow(new IllegalStateException("connection refused"));
+
+        assertTrue(showPageCache.get("key").isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.tvshows_service.catalog;
+
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.filters.TvShowFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogIndexTest {
+
+    private CatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = CatalogIndex.build(
+                List.of(
+                        row(1L, "Under the Dome", "Ended", "CBS", 6.5, LocalDate.of(2013, 6, 24)),
+                        row(2L, "Person of Interest", "Ended", "CBS", 8.8, LocalDate.of(2011, 9, 22)),
+                        row(3L, "Bitten", "Ended", "CTV Sci-Fi Channel", 7.4, LocalDate.of(2014, 1, 11)),
+                        row(4L, "Arrow", "Ended", "The CW", 7.4, null)
+                ),
+                List.of(
+                        new GenreLink(1L, "Drama"),
+                        new GenreLink(1L, "Science-Fiction"),
+                        new GenreLink(2L, "Action"),
+                        new GenreLink(2L, "Drama"),
+                        new GenreLink(3L, "Horror"),
+                        new GenreLink(4L, "Action")
+                )
+        );
+    }
+
+    @Test
+    void search_ShouldMatchCaseInsensitiveFilters() {
+        TvShowFilter filter = new TvShowFilter();
+        filter.setNetwork("cbs");
+        filter.setGenres(List.of("drama"));
+        filter.setMinRating(7);
+
+        Page<Long> result = index.search(filter, TvShowSortField.ID, false, 0, 10);
+
+        assertEquals(List.of(2L), result.getContent());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void search_ShouldSortWithTvShowIdTieBreakerAndPage() {
+        TvShowFilter filter = new TvShowFilter();
+
+        Page<Long> firstPage = index.search(filter, TvShowSortField.RATING, true, 0, 2);
+        Page<Long> secondPage = index.search(filter, TvShowSortField.RATING, true, 1, 2);
+
+        assertEquals(List.of(2L, 4L), firstPage.getContent());
+        assertEquals(List.of(3L, 1L), secondPage.getContent());
+        assertEquals(4, firstPage.getTotalElements());
+    }
+
+    @Test
+    void search_ShouldExcludeMissingDatesFromRangeFilters() {
+        TvShowFilter filter = new TvShowFilter();
+        filter.setPremiered(LocalDate.of(2012, 1, 1));
+        filter.setName("TT");
+
+        Page<Long> result = index.search(filter, TvShowSortField.NAME, false, 0, 10);
+
+        assertEquals(List.of(3L), result.getContent());
+    }
+
+    @Test
+    void search_ShouldReturnNothingForUnknownDictionaryValue() {
+        TvShowFilter filter = new TvShowFilter();
+        filter.setLanguage("Klingon");
+
+        assertTrue(index.search(filter, TvShowSortField.ID, false, 0, 10).isEmpty());
+    }
+
+    @Test
+    void merge_ShouldReplaceChangedRowsAndDropRemovedOnes() {
+        CatalogIndex merged = index.merge(
+                List.of(1L, 3L),
+                List.of(row(1L, "Under the Dome", "Running", "CBS", 9.1, LocalDate.of(2013, 6, 24))),
+                List.of(new GenreLink(1L, "Thriller"))
+        );
+
+        TvShowFilter filter = new TvShowFilter();
+        filter.setGenres(List.of("Thriller"));
+
+        assertEquals(3, merged.size());
+        assertEquals(List.of(1L), merged.search(filter, TvShowSortField.ID, false, 0, 10).getContent());
+        assertEquals(List.of(1L, 2L, 4L), merged.search(new TvShowFilter(), TvShowSortField.RATING, true, 0, 10).getContent());
+    }
+
+    @Test
+    void merge_ShouldKeepEverySortOrderEqualToAFullBuild() {
+        List<CatalogRow> changedRows = List.of(
+                row(2L, "Person of Interest", "Ended", "CBS", 5.0, LocalDate.of(2011, 9, 22)),
+                row(5L, "Arrow", "Running", "ABC", 7.4, LocalDate.of(2012, 10, 10))
+        );
+        CatalogIndex merged = index.merge(List.of(2L, 3L, 5L), changedRows, List.of(new GenreLink(5L, "Drama")));
+        CatalogIndex rebuilt = CatalogIndex.build(
+                List.of(
+                        row(1L, "Under the Dome", "Ended", "CBS", 6.5, LocalDate.of(2013, 6, 24)),
+                        row(4L, "Arrow", "Ended", "The CW", 7.4, null),
+                        changedRows.get(0),
+                        changedRows.get(1)
+                ),
+                List.of(new GenreLink(5L, "Drama"))
+        );
+
+        for (TvShowSortField sortField : TvShowSortField.values()) {
+            for (boolean descending : new boolean[]{false, true}) {
+                assertEquals(
+                        rebuilt.search(new TvShowFilter(), sortField, descending, 0, 10).getContent(),
+                        merged.search(new TvShowFilter(), sortField, descending, 0, 10).getContent(),
+                        sortField + (descending ? " desc" : " asc")
+                );
+            }
+        }
+    }
+
+    private static CatalogRow row(Long tvShowId, String name, String status, String network, double rating, LocalDate premiered) {
+        return new CatalogRow(tvShowId, name, null, "Scripted", status, "English", network, rating, 60, 60, premiered, null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tvshows_service.config;
+
+import com.example.tvshows_commons.resilience.HttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test for {@code spring.threads.virtual.enabled}: an embedded Tomcat serving a servlet that
+ * blocks on a downstream call through the service's WebClient, the shape of
+ * {@code addToWatchList}, with Tomcat's default 200 platform threads against virtual threads.
+ * 400 client threads keep more requests in flight than the platform pool can hold. Throughput
+ * mode gives requests per millisecond and sample mode gives p99 latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(400)
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20"})
+    public long downstreamLatencyMillis;
+
+    private HttpServer downstream;
+    private ExecutorService clientExecutor;
+    private ConnectionProvider connectionProvider;
+    private WebServer webServer;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        downstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        downstream.createContext("/", exchange -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(downstreamLatencyMillis));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        downstream.start();
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxConnections(1000);
+        properties.setPendingAcquireMaxCount(2000);
+        ApplicationConfig config = new ApplicationConfig();
+        connectionProvider = config.connectionProvider(properties);
+        WebClient webClient = config.webClient(connectionProvider, properties);
+        String downstreamUrl = "http://127.0.0.1:" + downstream.getAddress().getPort() + "/";
+
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                webClient.get().uri(downstreamUrl).retrieve().toBodilessEntity().block();
+                resp.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            }
+        };
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if ("virtual".equals(threads)) {
+            factory.addProtocolHandlerCustomizers(handler -> handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        }
+        webServer = factory.getWebServer(servletContext -> servletContext.addServlet("watchlist", servlet).addMapping("/*"));
+        webServer.start();
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + webServer.getPort() + "/watchlist")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        webServer.stop();
+        connectionProvider.dispose();
+        downstream.stop(0);
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int watchlistRequest() throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadLoadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.tvshows_service.dump;
+
+import com.example.tvshows_service.config.SeederProperties;
+import com.example.tvshows_service.mappers.TvShowMapperImpl;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
+import com.example.tvshows_service.service.SeederService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Paths;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams a dump into {@link SeederService#bulkSaveTvShows} chunk by chunk the way SeederConfig
+ * loads it, through the real mapper and {@link TvShowUpsertRepository}. Only the JDBC connection
+ * is stubbed: every bound row is reported as inserted and then dropped. Launched by
+ * {@link TvMazeDumpTest} in a JVM with a small heap; prints the number of inserted shows last.
+ */
+public class TvMazeDumpSeedProbe {
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        SeederService seederService = new SeederService(
+                WebClient.create(),
+                new TvShowUpsertRepository(new DroppingJdbcTemplate()),
+                new TvShowMapperImpl(),
+                new TvShowMapperImpl(),
+                event -> {
+                },
+                new SeederProperties(),
+                null,
+                null
+        );
+
+        List<Long> loadedTvShowIds = new ArrayList<>();
+        try (TvMazeDumpReader reader = TvMazeDumpReader.open(objectMapper, Paths.get(args[0]))) {
+            reader.forEachChunk(Integer.parseInt(args[1]), chunk -> loadedTvShowIds.addAll(seederService.bulkSaveTvShows(chunk)));
+        }
+        seederService.publishCatalogChanged(loadedTvShowIds);
+
+        System.out.println(loadedTvShowIds.size());
+    }
+
+    private static class DroppingJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public <T> T execute(ConnectionCallback<T> action) {
+            try {
+                return action.doInConnection(proxy(Connection.class, (method, args) -> switch (method) {
+                    case "prepareStatement" -> statement();
+                    case "createArrayOf" -> proxy(Array.class, (arrayMethod, arrayArgs) ->
+                            "getArray".equals(arrayMethod) ? args[1] : null);
+                    default -> null;
+                }));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // Answers the insert with the ids bound as its first parameter, as if none existed yet.
+        private static PreparedStatement statement() {
+            Object[][] boundIds = new Object[1][];
+
+            return proxy(PreparedStatement.class, (method, args) -> switch (method) {
+                case "setArray" -> {
+                    if ((int) args[0] == 1) {
+                        boundIds[0] = (Object[]) ((Array) args[1]).getArray();
+                    }
+                    yield null;
+                }
+                case "executeQuery" -> resultSet(boundIds[0] == null ? List.of() : Arrays.asList(boundIds[0]));
+                case "executeUpdate" -> 0;
+                default -> null;
+            });
+        }
+
+        private static ResultSet resultSet(List<Object> ids) {
+            Iterator<Object> rows = ids.iterator();
+            Object[] current = new Object[1];
+
+            return proxy(ResultSet.class, (method, args) -> switch (method) {
+                case "next" -> {
+                    boolean hasNext = rows.hasNext();
+                    current[0] = hasNext ? rows.next() : null;
+                    yield hasNext;
+                }
+                case "getLong" -> current[0];
+                default -> null;
+            });
+        }
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args) throws SQLException;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result = handler.handle(method.getName(), args);
+            if (result == null && method.getReturnType() == boolean.class) {
+                return false;
+            }
+            return result;
+        });
+    }
+}
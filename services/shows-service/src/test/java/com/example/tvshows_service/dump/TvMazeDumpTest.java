@@ -0,0 +1,131 @@
+package com.example.tvshows_service.dump;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TvMazeDumpTest {
+    private static final int LARGE_DUMP_SIZE = 500_000;
+    private static final String SMALL_HEAP = "-Xmx48m";
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    @Test
+    void forEachChunk_ShouldSplitDumpIntoFixedSizeChunks() throws IOException {
+        Path dump = tempDir.resolve("dump.json");
+        try (TvMazeDumpWriter writer = TvMazeDumpWriter.create(objectMapper, dump)) {
+            writer.writeAll(List.of(show(1L), show(2L), show(3L)));
+            writer.writeAll(List.of(show(4L), show(5L)));
+            writer.commit();
+        }
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        int total;
+        try (TvMazeDumpReader reader = TvMazeDumpReader.open(objectMapper, dump)) {
+            total = reader.forEachChunk(2, chunk -> {
+                chunkSizes.add(chunk.size());
+                chunk.forEach(show -> ids.add(show.getId()));
+            });
+        }
+
+        assertEquals(5, total);
+        assertEquals(List.of(2, 2, 1), chunkSizes);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+    }
+
+    @Test
+    void forEachChunk_ShouldReadEmptyDump() throws IOException {
+        Path dump = tempDir.resolve("dump.json");
+        Files.writeString(dump, "[]", StandardCharsets.UTF_8);
+
+        try (TvMazeDumpReader reader = TvMazeDumpReader.open(objectMapper, dump)) {
+            assertEquals(0, reader.forEachChunk(10, chunk -> fail("No chunk expected")));
+        }
+    }
+
+    @Test
+    void open_ShouldRejectNonArrayDump() throws IOException {
+        Path dump = tempDir.resolve("dump.json");
+        Files.writeString(dump, "{\"id\": 1}", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> TvMazeDumpReader.open(objectMapper, dump));
+    }
+
+    @Test
+    void close_ShouldDiscardUncommittedDump() throws IOException {
+        Path dump = tempDir.resolve("dump.json");
+        Files.writeString(dump, "[]", StandardCharsets.UTF_8);
+
+        try (TvMazeDumpWriter writer = TvMazeDumpWriter.create(objectMapper, dump)) {
+            writer.writeAll(List.of(show(1L)));
+        }
+
+        assertEquals("[]", Files.readString(dump));
+        assertFalse(Files.exists(tempDir.resolve("dump.json.part")));
+    }
+
+    // Writes and seeds 500k shows in a forked JVM; run with -P slow-tests.
+    @Test
+    @Tag("slow")
+    void forEachChunk_ShouldSeedLargeDumpUnderSmallHeap() throws Exception {
+        Path dump = tempDir.resolve("large-dump.json");
+        try (TvMazeDumpWriter writer = TvMazeDumpWriter.create(objectMapper, dump)) {
+            List<TvMazeShowDto> page = new ArrayList<>(1000);
+            for (long id = 1; id <= LARGE_DUMP_SIZE; id++) {
+                page.add(show(id));
+                if (page.size() == 1000) {
+                    writer.writeAll(page);
+                    page.clear();
+                }
+            }
+            writer.commit();
+        }
+
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                SMALL_HEAP,
+                "-cp", System.getProperty("java.class.path"),
+                TvMazeDumpSeedProbe.class.getName(),
+                dump.toString(),
+                "1000"
+        ).redirectErrorStream(true).start();
+
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(2, TimeUnit.MINUTES));
+        assertEquals(0, process.exitValue(), output);
+        String[] lines = output.strip().split("\\R");
+        assertEquals(String.valueOf(LARGE_DUMP_SIZE), lines[lines.length - 1], output);
+    }
+
+    static TvMazeShowDto show(long id) {
+        TvMazeShowDto show = new TvMazeShowDto();
+        show.setId(id);
+        show.setName("Show " + id);
+        show.setLanguage("English");
+        show.setGenres(List.of("Drama"));
+        show.setSummary("<p>Summary of show " + id + ".</p>");
+        return show;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.tvshows_service.history;
+
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.HttpClientProperties;
+import com.example.tvshows_service.config.SearchHistoryProperties;
+import com.example.tvshows_service.dto.external.StoreTvShowSearchBatchDto;
+import com.example.tvshows_service.dto.external.StoreTvShowSearchEntryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchHistoryPublisherTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
+
+    @Mock
+    private WebClient.RequestBodySpec requestBodySpec;
+
+    @Mock
+    private WebClient.RequestHeadersSpec requestHeadersSpec;
+
+    @Mock
+    private WebClient.ResponseSpec responseSpec;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SearchHistoryProperties properties;
+
+    private SearchHistoryPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SearchHistoryProperties();
+        properties.setQueueCapacity(3);
+        properties.setBatchSize(2);
+
+        HttpClientProperties.Downstream userService = new HttpClientProperties.Downstream();
+        userService.setSlidingWindowSize(2);
+        userService.setMinimumNumberOfCalls(2);
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.getDownstreams().put("user-service", userService);
+
+        publisher = new SearchHistoryPublisher(webClient, properties, new DownstreamGuard(httpClientProperties), meterRegistry);
+        ReflectionTestUtils.setField(publisher, "userServiceUrl", "http://user-service");
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toBodilessEntity()).thenReturn(Mono.just(ResponseEntity.accepted().build()));
+    }
+
+    @Test
+    void publish_ShouldNotCallUserServiceUntilFlush() {
+        assertTrue(publisher.publish(search("user1")));
+
+        verifyNoInteractions(webClient);
+        assertEquals(1.0, meterRegistry.get("tvshows.search.history.queue.size").gauge().value());
+    }
+
+    @Test
+    void publish_ShouldDropWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(publisher.publish(search("user" + i)));
+        }
+
+        assertFalse(publisher.publish(search("user3")));
+        assertEquals(1.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "dropped_queue_full").counter().count());
+        assertEquals(3.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "enqueued").counter().count());
+    }
+
+    @Test
+    void flush_ShouldSendQueuedSearchesInBatches() {
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(search("user" + i));
+        }
+
+        publisher.flush();
+
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(requestBodyUriSpec, times(2)).uri("http://user-service/api/users/search/batch");
+        verify(requestBodySpec, times(2)).bodyValue(body.capture());
+        List<Integer> batchSizes = body.getAllValues().stream()
+                .map(batch -> ((StoreTvShowSearchBatchDto) batch).getSearches().size())
+                .toList();
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(3.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "sent").counter().count());
+        assertEquals(0.0, meterRegistry.get("tvshows.search.history.queue.size").gauge().value());
+    }
+
+    @Test
+    void flush_ShouldCountFailedBatchesAsDropped() {
+        when(responseSpec.toBodilessEntity()).thenReturn(Mono.error(new RuntimeException("user-service down")));
+        publisher.publish(search("user1"));
+
+        publisher.flush();
+
+        assertEquals(1.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "dropped_send_failed").counter().count());
+        assertEquals(0.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "sent").counter().count());
+    }
+
+    @Test
+    void flush_ShouldSkipUserServiceWhileCircuitIsOpen() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(responseSpec.toBodilessEntity()).thenReturn(Mono.<ResponseEntity<Void>>error(new RuntimeException("user-service down"))
+                .doOnSubscribe(subscription -> attempts.incrementAndGet()));
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(search("user" + i));
+            publisher.flush();
+        }
+
+        assertEquals(2, attempts.get());
+        assertEquals(2.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "dropped_send_failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("tvshows.search.history.events").tag("outcome", "dropped_circuit_open").counter().count());
+    }
+
+    private static StoreTvShowSearchEntryDto search(String username) {
+        return StoreTvShowSearchEntryDto.builder()
+                .username(username)
+                .endpoint("http://localhost/api/tv-shows")
+                .searchTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.models.TvShow;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rows/sec of the bulk {@link TvShowUpsertRepository#insertAll} path with the per-row
+ * inserts the JPA {@code saveAll} path issues (one INSERT per show and per genre link, JDBC
+ * batches of 50). Needs a Postgres database, by default the dev one; override with
+ * {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.username} and
+ * {@code -Dbenchmark.jdbc.password}. Tables are created in a separate {@code bulk_benchmark} schema.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TvShowBulkInsertBenchmark.ROWS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TvShowBulkInsertBenchmark {
+    static final int ROWS = 5000;
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final List<String> GENRES = List.of("Drama", "Comedy", "Crime", "Thriller", "Science-Fiction");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TvShowUpsertRepository tvShowUpsertRepository;
+
+    private final List<TvShow> tvShows = new ArrayList<>(ROWS);
+    private final Map<Long, List<String>> genresByTvShowId = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5434/shows_service");
+        DriverManagerDataSource adminDataSource = new DriverManagerDataSource(url,
+                System.getProperty("benchmark.jdbc.username", "myuser"),
+                System.getProperty("benchmark.jdbc.password", "secret"));
+        new JdbcTemplate(adminDataSource).execute("CREATE SCHEMA IF NOT EXISTS bulk_benchmark");
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url + (url.contains("?") ? "&" : "?") + "currentSchema=bulk_benchmark",
+                adminDataSource.getUsername(),
+                adminDataSource.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tvShowUpsertRepository = new TvShowUpsertRepository(jdbcTemplate);
+
+        for (long id = 1; id <= ROWS; id++) {
+            TvShow tvShow = new TvShow();
+            tvShow.setTvShowId(id);
+            tvShow.setName("Show " + id);
+            tvShow.setType("Scripted");
+            tvShow.setLanguage("English");
+            tvShow.setStatus("Ended");
+            tvShow.setRuntime(60);
+            tvShow.setPremiered(LocalDate.of(2000, 1, 1).plusDays(id));
+            tvShow.setRating(7.5);
+            tvShow.setScheduleDays(List.of("Monday", "Thursday"));
+            tvShow.setSummary("<p>Summary of show " + id + ".</p>");
+            tvShows.add(tvShow);
+            genresByTvShowId.put(id, List.of(GENRES.get((int) (id % GENRES.size())), GENRES.get((int) ((id + 1) % GENRES.size()))));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE tv_show_genres, tv_shows, genres");
+    }
+
+    @Benchmark
+    public int bulkInsert() {
+        int inserted = 0;
+        for (int i = 0; i < tvShows.size(); i += CHUNK_SIZE) {
+            List<TvShow> chunk = tvShows.subList(i, Math.min(i + CHUNK_SIZE, tvShows.size()));
+            inserted += transactionTemplate.execute(status ->
+                    tvShowUpsertRepository.insertAll(chunk, genresByTvShowId).insertedTvShowIds().size());
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    public int perRowInsert() {
+        int inserted = 0;
+        for (int i = 0; i < tvShows.size(); i += CHUNK_SIZE) {
+            List<TvShow> chunk = tvShows.subList(i, Math.min(i + CHUNK_SIZE, tvShows.size()));
+            inserted += transactionTemplate.execute(status -> insertPerRow(chunk));
+        }
+        return inserted;
+    }
+
+    private int insertPerRow(List<TvShow> chunk) {
+        Map<String, UUID> genreIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM genres",
+                resultSet -> { genreIds.put(resultSet.getString("name"), resultSet.getObject("id", UUID.class)); });
+        for (String genre : GENRES) {
+            if (!genreIds.containsKey(genre)) {
+                UUID id = UUID.randomUUID();
+                jdbcTemplate.update("INSERT INTO genres (id, name) VALUES (?, ?)", id, genre);
+                genreIds.put(genre, id);
+            }
+        }
+
+        List<Object[]> showRows = new ArrayList<>(chunk.size());
+        List<Object[]> linkRows = new ArrayList<>();
+        for (TvShow tvShow : chunk) {
+            UUID id = UUID.randomUUID();
+            showRows.add(new Object[]{id, tvShow.getTvShowId(), tvShow.getName(), tvShow.getType(),
+                    tvShow.getLanguage(), tvShow.getStatus(), tvShow.getRuntime(), tvShow.getPremiered(),
+                    tvShow.getRating(), tvShow.getSummary()});
+            genresByTvShowId.get(tvShow.getTvShowId()).forEach(genre -> linkRows.add(new Object[]{id, genreIds.get(genre)}));
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO tv_shows (id, tv_show_id, name, type, language, status, runtime, " +
+                "premiered, rating, summary) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", showRows, JDBC_BATCH_SIZE, this::bindRow);
+        jdbcTemplate.batchUpdate("INSERT INTO tv_show_genres (tv_show_id, genre_id) VALUES (?, ?)", linkRows, JDBC_BATCH_SIZE, this::bindRow);
+        return showRows.size();
+    }
+
+    private void bindRow(PreparedStatement statement, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            statement.setObject(i + 1, row[i]);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TvShowBulkInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.tvshows_service.repositories;
+
+import com.example.tvshows_service.dto.BulkInsertResult;
+import com.example.tvshows_service.models.TvShow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TvShowUpsertRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private TvShowUpsertRepository tvShowUpsertRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void insertAll_ShouldReportDuplicatesAndInvalidRowsAsConflicts() throws SQLException {
+        // Show 4 already exists, so the insert only returns 1 and 3.
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 3L);
+
+        BulkInsertResult result = tvShowUpsertRepository.insertAll(
+                List.of(show(1L, "One"), show(2L, null), show(3L, "Three"), show(3L, "Three again"), show(4L, "Four")),
+                Map.of(1L, List.of("Drama"), 3L, List.of("Comedy"), 4L, List.of("Crime"))
+        );
+
+        assertEquals(List.of(1L, 3L), result.insertedTvShowIds());
+        assertEquals(List.of(
+                new BulkInsertResult.Conflict(2L, "missing name"),
+                new BulkInsertResult.Conflict(3L, "duplicate tv_show_id"),
+                new BulkInsertResult.Conflict(4L, "duplicate tv_show_id")
+        ), result.conflicts());
+        verify(statement, times(1)).executeQuery();
+        verify(connection, never()).createArrayOf(eq("text"), argThat(values -> List.of(values).contains("Crime")));
+    }
+
+    @Test
+    void insertAll_ShouldRejectValuesTooLongForTheirColumn() {
+        TvShow show = show(1L, "One");
+        show.setScheduleTime("12:00 to 13:00");
+
+        BulkInsertResult result = tvShowUpsertRepository.insertAll(List.of(show), Map.of());
+
+        assertEquals(List.of(), result.insertedTvShowIds());
+        assertEquals(List.of(new BulkInsertResult.Conflict(1L, "schedule_time longer than 10")), result.conflicts());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private TvShow show(Long tvShowId, String name) {
+        TvShow tvShow = new TvShow();
+        tvShow.setTvShowId(tvShowId);
+        tvShow.setName(name);
+        return tvShow;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.tvshows_service.reviews;
+
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.HttpClientProperties;
+import com.example.tvshows_service.config.ApplicationConfig;
+import com.example.tvshows_service.config.ReviewStatsClientProperties;
+import com.example.tvshows_service.dto.external.ReviewStatsDto;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewStatsClientTest {
+    private final List<String> requestedIds = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile int status = 200;
+
+    private HttpServer server;
+
+    private ConnectionProvider connectionProvider;
+
+    private ReviewStatsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/review/tv-show/stats", exchange -> {
+            String ids = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8)
+                    .replace("ids=", "")
+                    .replace("&", ",");
+            requestedIds.add(ids);
+            if (status != 200) {
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+                return;
+            }
+
+            byte[] body = Arrays.stream(ids.split(","))
+                    .filter(id -> !id.equals("3"))
+                    .map(id -> "{\"tvShowId\":" + id + ",\"averageRating\":4.0,\"totalReviews\":" + id + "}")
+                    .collect(Collectors.joining(",", "[", "]"))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        ApplicationConfig config = new ApplicationConfig();
+        connectionProvider = config.connectionProvider(httpClientProperties);
+
+        ReviewStatsClientProperties properties = new ReviewStatsClientProperties();
+        properties.setTtl(Duration.ofMinutes(1));
+        properties.setBatchSize(2);
+
+        client = new ReviewStatsClient(
+                config.webClient(connectionProvider, httpClientProperties),
+                properties,
+                new DownstreamGuard(httpClientProperties),
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(client, "reviewRatingServiceUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void getStats_ShouldFetchMissingShowsInBatches() {
+        Map<Long, ReviewStatsDto> stats = client.getStats(List.of(1L, 2L, 4L));
+
+        assertEquals(3, stats.size());
+        assertEquals(4L, stats.get(4L).getTotalReviews());
+        assertEquals(2, requestedIds.size());
+    }
+
+    @Test
+    void getStats_ShouldServeCachedShowsWithoutCallingDownstream() {
+        client.getStats(List.of(1L, 2L));
+        requestedIds.clear();
+
+        Map<Long, ReviewStatsDto> stats = client.getStats(List.of(1L, 2L, 4L));
+
+        assertEquals(3, stats.size());
+        assertEquals(List.of("4"), requestedIds);
+    }
+
+    @Test
+    void getStats_ShouldLeaveOutShowsWithoutStats() {
+        Map<Long, ReviewStatsDto> stats = client.getStats(List.of(1L, 3L));
+
+        assertTrue(stats.containsKey(1L));
+        assertFalse(stats.containsKey(3L));
+    }
+
+    @Test
+    void getStats_ShouldReturnCachedStatsWhenDownstreamFails() {
+        client.getStats(List.of(1L));
+        status = 500;
+
+        Map<Long, ReviewStatsDto> stats = client.getStats(List.of(1L, 2L));
+
+        assertEquals(1, stats.size());
+        assertTrue(stats.containsKey(1L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.tvshows_service.search;
+
+import com.example.tvshows_service.catalog.CatalogRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowSearchIndexTest {
+
+    private ShowSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = ShowSearchIndex.build(List.of(
+                row(1L, "Under the Dome", "<p><b>Under the Dome</b> is the story of a small town that is sealed off by a dome.</p>"),
+                row(2L, "Person of Interest", "<p>An ex-CIA agent and a billionaire work to prevent violent crimes.</p>"),
+                row(3L, "Breaking Bad", "<p>A chemistry teacher turns to manufacturing drugs.</p>"),
+                row(4L, "Dominion", null)
+        ));
+    }
+
+    @Test
+    void search_ShouldRankNamePrefixMatchesFirst() {
+        List<SearchHit> hits = index.search("dom", 10, 0.1);
+
+        assertEquals(List.of(4L, 1L), hits.stream().map(SearchHit::tvShowId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldTolerateMisspelledNames() {
+        List<SearchHit> hits = index.search("persn of intrest", 10, 0.2);
+
+        assertFalse(hits.isEmpty());
+        assertEquals(2L, hits.get(0).tvShowId());
+    }
+
+    @Test
+    void search_ShouldMatchSummaryWordsIgnoringMarkup() {
+        List<SearchHit> hits = index.search("chemistry teach", 10, 0.1);
+
+        assertEquals(List.of(3L), hits.stream().map(SearchHit::tvShowId).toList());
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(1, index.search("dom", 1, 0.1).size());
+    }
+
+    @Test
+    void search_ShouldReturnNothingForBlankQuery() {
+        assertTrue(index.search("  ", 10, 0.1).isEmpty());
+    }
+
+    @Test
+    void merge_ShouldMatchAFullBuildOfTheChangedCatalog() {
+        CatalogRow renamed = row(2L, "Dome Keepers", null);
+        CatalogRow added = row(5L, "Domestic Bliss", "<p>A teacher keeps house.</p>");
+
+        ShowSearchIndex merged = index.merge(List.of(2L, 3L, 5L), List.of(renamed, added));
+        ShowSearchIndex rebuilt = ShowSearchIndex.build(List.of(
+                row(1L, "Under the Dome", "<p><b>Under the Dome</b> is the story of a small town that is sealed off by a dome.</p>"),
+                renamed,
+                row(4L, "Dominion", null),
+                added
+        ));
+
+        assertEquals(rebuilt.size(), merged.size());
+        for (String query : List.of("dom", "dome keep", "teacher", "person of interest", "breaking bad", "small town")) {
+            assertEquals(rebuilt.search(query, 10, 0.1), merged.search(query, 10, 0.1), query);
+        }
+        assertTrue(merged.search("breaking bad", 10, 0.1).isEmpty());
+    }
+
+    private static CatalogRow row(Long tvShowId, String name, String summary) {
+        return new CatalogRow(tvShowId, name, summary, null, null, null, null, 0, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.cache.ShowPageCache;
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.config.CatalogIndexProperties;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeServiceTest {
+
+    @Mock
+    private TvShowRepository tvShowRepository;
+
+    @Mock
+    private CatalogIndexService catalogIndexService;
+
+    @Mock
+    private ShowSearchService showSearchService;
+
+    @Mock
+    private ShowPageCache showPageCache;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private CatalogChangeService catalogChangeService;
+
+    @BeforeEach
+    void setUp() {
+        catalogChangeService = new CatalogChangeService(
+                tvShowRepository, catalogIndexService, showSearchService, showPageCache, stringRedisTemplate, new CatalogIndexProperties());
+    }
+
+    @Test
+    void onCatalogChanged_ShouldUpdateIndexesBeforeEvictingPagesAndBroadcast() {
+        List<CatalogRow> rows = List.of(row(1L), row(2L));
+        when(tvShowRepository.findCatalogRowsByTvShowIdIn(List.of(1L, 2L))).thenReturn(rows);
+
+        catalogChangeService.onCatalogChanged(new CatalogChangedEvent(List.of(1L, 2L)));
+
+        InOrder inOrder = inOrder(catalogIndexService, showSearchService, showPageCache);
+        inOrder.verify(catalogIndexService).onCatalogChanged(List.of(1L, 2L), rows);
+        inOrder.verify(showSearchService).onCatalogChanged(List.of(1L, 2L), rows);
+        inOrder.verify(showPageCache).evictTag(ShowPageCache.CATALOG_TAG);
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("tv-shows:catalog:changed"), body.capture());
+        assertTrue(body.getValue().endsWith("|1,2"));
+        verify(tvShowRepository, times(1)).findCatalogRowsByTvShowIdIn(anyCollection());
+    }
+
+    @Test
+    void onCatalogChanged_ShouldAskForRebuildWhenRowsCannotBeLoaded() {
+        when(tvShowRepository.findCatalogRowsByTvShowIdIn(List.of(1L))).thenThrow(new RuntimeException("db down"));
+
+        catalogChangeService.onCatalogChanged(new CatalogChangedEvent(List.of(1L)));
+
+        verify(catalogIndexService).onCatalogChanged(List.of(1L), null);
+        verify(showSearchService).onCatalogChanged(List.of(1L), null);
+        verify(showPageCache).evictTag(ShowPageCache.CATALOG_TAG);
+    }
+
+    @Test
+    void onMessage_ShouldApplyChangesFromOtherInstances() {
+        catalogChangeService.onMessage(message("other-instance|3,4"), null);
+
+        verify(catalogIndexService).onCatalogChanged(eq(List.of(3L, 4L)), any());
+        verify(showSearchService).onCatalogChanged(eq(List.of(3L, 4L)), any());
+        verify(showPageCache).evictTag(ShowPageCache.CATALOG_TAG);
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreItsOwnBroadcast() {
+        catalogChangeService.onCatalogChanged(new CatalogChangedEvent(List.of(1L)));
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(anyString(), body.capture());
+        clearInvocations(catalogIndexService, showSearchService, showPageCache);
+
+        catalogChangeService.onMessage(message(body.getValue()), null);
+
+        verifyNoInteractions(catalogIndexService, showSearchService, showPageCache);
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreMalformedMessages() {
+        catalogChangeService.onMessage(message("other-instance|abc"), null);
+        catalogChangeService.onMessage(message("no-separator"), null);
+
+        verifyNoInteractions(catalogIndexService, showSearchService, showPageCache);
+    }
+
+    private static CatalogRow row(Long tvShowId) {
+        return new CatalogRow(tvShowId, "Show " + tvShowId, null, null, null, null, null, 0, 0, 0, null, null);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                "tv-shows:catalog:changed".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
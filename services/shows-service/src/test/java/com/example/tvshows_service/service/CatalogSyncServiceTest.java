@@ -0,0 +1,169 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.config.CatalogSyncProperties;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.example.tvshows_service.mappers.TvShowMapper;
+import com.example.tvshows_service.models.TvShow;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogSyncServiceTest {
+
+    @Mock
+    private TvShowMapper tvShowMapper;
+
+    @Mock
+    private TvShowUpsertRepository tvShowUpsertRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HttpServer tvMazeServer;
+
+    private final Map<String, String> responses = new HashMap<>();
+
+    private final List<String> requestedPaths = new CopyOnWriteArrayList<>();
+
+    private CatalogSyncProperties properties;
+
+    private CatalogSyncService catalogSyncService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tvMazeServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tvMazeServer.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().toString();
+            requestedPaths.add(path);
+
+            String body = responses.get(path);
+            byte[] bytes = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(body != null ? 200 : 404, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                exchange.getResponseBody().write(bytes);
+            }
+            exchange.close();
+        });
+        tvMazeServer.start();
+
+        properties = new CatalogSyncProperties();
+        properties.setBatchSize(2);
+        catalogSyncService = new CatalogSyncService(
+                WebClient.create(),
+                tvShowMapper,
+                tvShowUpsertRepository,
+                properties,
+                new TransactionTemplate(transactionManager),
+                eventPublisher
+        );
+        ReflectionTestUtils.setField(catalogSyncService, "tvMazeAPIUrl", "http://localhost:" + tvMazeServer.getAddress().getPort());
+
+        when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenAnswer(invocation -> {
+            TvShow show = new TvShow();
+            show.setTvShowId(invocation.<TvMazeShowDto>getArgument(0).getId());
+            return show;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tvMazeServer.stop(0);
+    }
+
+    @Test
+    void sync_ShouldFetchOnlyShowsNewerThanStored() {
+        responses.put("/updates/shows?since=day", "{\"1\":200,\"2\":100,\"3\":300}");
+        responses.put("/shows/1", "{\"id\":1,\"name\":\"Updated\",\"genres\":[\"Drama\"],\"updated\":200}");
+        responses.put("/shows/3", "{\"id\":3,\"name\":\"New\",\"updated\":300}");
+        when(tvShowUpsertRepository.findTvMazeUpdatedByTvShowIdIn(anyCollection())).thenReturn(Map.of(1L, 150L, 2L, 100L));
+
+        int synced = catalogSyncService.sync();
+
+        assertEquals(2, synced);
+        assertFalse(requestedPaths.contains("/shows/2"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, List<String>>> genres = ArgumentCaptor.forClass(Map.class);
+        verify(tvShowUpsertRepository).upsertAll(argThat(shows -> shows.size() == 2), genres.capture());
+        assertEquals(Map.of(1L, List.of("Drama"), 3L, List.of()), genres.getValue());
+
+        ArgumentCaptor<CatalogChangedEvent> event = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(Set.of(1L, 3L), new HashSet<>(event.getValue().getTvShowIds()));
+    }
+
+    @Test
+    void sync_ShouldUpsertInBatches() {
+        responses.put("/updates/shows?since=day", "{\"1\":1,\"2\":1,\"3\":1}");
+        responses.put("/shows/1", "{\"id\":1,\"name\":\"One\"}");
+        responses.put("/shows/2", "{\"id\":2,\"name\":\"Two\"}");
+        responses.put("/shows/3", "{\"id\":3,\"name\":\"Three\"}");
+        when(tvShowUpsertRepository.findTvMazeUpdatedByTvShowIdIn(anyCollection())).thenReturn(Map.of());
+
+        assertEquals(3, catalogSyncService.sync());
+
+        verify(tvShowUpsertRepository, times(2)).upsertAll(anyList(), anyMap());
+    }
+
+    @Test
+    void sync_ShouldSkipShowsThatNoLongerExist() {
+        responses.put("/updates/shows?since=day", "{\"1\":1,\"2\":1}");
+        responses.put("/shows/1", "{\"id\":1,\"name\":\"One\"}");
+        when(tvShowUpsertRepository.findTvMazeUpdatedByTvShowIdIn(anyCollection())).thenReturn(Map.of());
+
+        assertEquals(1, catalogSyncService.sync());
+
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(List.of(1L)));
+    }
+
+    @Test
+    void sync_ShouldDoNothingWhenNothingChanged() {
+        responses.put("/updates/shows?since=day", "{\"1\":100}");
+        when(tvShowUpsertRepository.findTvMazeUpdatedByTvShowIdIn(anyCollection())).thenReturn(Map.of(1L, 100L));
+
+        assertEquals(0, catalogSyncService.sync());
+
+        verify(tvShowUpsertRepository, never()).upsertAll(anyList(), anyMap());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void scheduledSync_ShouldNotRunWhenDisabled() {
+        properties.setEnabled(false);
+
+        catalogSyncService.scheduledSync();
+
+        assertTrue(requestedPaths.isEmpty());
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.tvshows_service.service;
 
+import com.example.tvshows_service.config.SeederProperties;
+import com.example.tvshows_service.dto.BulkInsertResult;
+import com.example.tvshows_service.dto.CatalogChangedEvent;
 import com.example.tvshows_service.dto.external.TvMazeShowDto;
 import com.example.tvshows_service.mappers.TvShowMapper;
 import com.example.tvshows_service.mappers.TvShowMapperImpl;
-import com.example.tvshows_service.models.Genre;
+import com.example.tvshows_service.models.SeedCheckpoint;
 import com.example.tvshows_service.models.TvShow;
-import com.example.tvshows_service.repositories.GenreRepository;
-import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.repositories.SeedCheckpointRepository;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,32 +46,37 @@ class SeederServiceTest {
     private WebClient webClient;
 
     @Mock
-    private TvShowRepository tvShowRepository;
+    private TvShowUpsertRepository tvShowUpsertRepository;
 
     @Mock
     private TvShowMapper tvShowMapper;
 
     @Mock
-    private GenreRepository genreRepository;
+    private TvShowMapperImpl tvShowMapperImpl;
 
     @Mock
-    private TvShowMapperImpl tvShowMapperImpl;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SeederProperties seederProperties = new SeederProperties();
 
     @Mock
-    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+    private SeedCheckpointRepository seedCheckpointRepository;
 
     @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
+    private TransactionTemplate transactionTemplate;
 
     @Mock
-    private WebClient.ResponseSpec responseSpec;
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private SeederService seederService;
 
+    private HttpServer tvMazeServer;
+    private final List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+
     private TvMazeShowDto tvMazeShowDto;
     private TvShow tvShow;
-    private Genre genre;
 
     @BeforeEach
     void setUp() {
@@ -73,142 +90,240 @@ void setUp() {
         tvShow = new TvShow();
         tvShow.setTvShowId(1L);
         tvShow.setName("Test Show");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tvMazeServer != null) {
+            tvMazeServer.stop(0);
+        }
+    }
+
+    private void stubTvMaze(Map<Integer, String> pages) {
+        stubTvMaze(pages, -1);
+    }
+
+    // Serves the given pages, a 404 past the last one, and a 500 for failingPage.
+    private void stubTvMaze(Map<Integer, String> pages, int failingPage) {
+        try {
+            tvMazeServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        tvMazeServer.createContext("/shows", exchange -> {
+            int page = Integer.parseInt(exchange.getRequestURI().getQuery().replace("page=", ""));
+            requestedPages.add(page);
+
+            String body = pages.get(page);
+            int status = page == failingPage ? 500 : body != null ? 200 : 404;
+            byte[] bytes = (body != null ? body : "").getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                exchange.getResponseBody().write(bytes);
+            }
+            exchange.close();
+        });
+        tvMazeServer.start();
+
+        when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenAnswer(invocation -> {
+            TvShow show = new TvShow();
+            show.setTvShowId(invocation.<TvMazeShowDto>getArgument(0).getId());
+            return show;
+        });
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenAnswer(invocation -> new BulkInsertResult(
+                invocation.<List<TvShow>>getArgument(0).stream().map(TvShow::getTvShowId).toList(),
+                List.of()
+        ));
+    }
+
+    private List<Integer> recordCheckpoints() {
+        List<Integer> committedPages = new ArrayList<>();
+        when(seedCheckpointRepository.save(any(SeedCheckpoint.class))).thenAnswer(invocation -> {
+            committedPages.add(invocation.<SeedCheckpoint>getArgument(0).getLastPage());
+            return invocation.getArgument(0);
+        });
+        return committedPages;
+    }
+
+    private SeederService stubbedSeederService() {
+        SeederService service = new SeederService(
+                WebClient.create(),
+                tvShowUpsertRepository,
+                tvShowMapper,
+                tvShowMapperImpl,
+                eventPublisher,
+                seederProperties,
+                seedCheckpointRepository,
+                new TransactionTemplate(transactionManager)
+        );
+        ReflectionTestUtils.setField(service, "tvMazeAPIUrl", "http://localhost:" + tvMazeServer.getAddress().getPort());
+        return service;
+    }
+
+    @Test
+    void seed_ShouldStreamPagesUntilNotFoundAndCheckpointEachPage() {
+        stubTvMaze(Map.of(
+                0, "[{\"id\":1,\"name\":\"Show 1\",\"genres\":[\"Drama\"]},{\"id\":2,\"name\":\"Show 2\"}]",
+                1, "[{\"id\":3,\"name\":\"Show 3\"}]"
+        ));
+        List<Integer> committedPages = recordCheckpoints();
+        List<List<TvMazeShowDto>> sunkPages = new ArrayList<>();
+
+        int seeded = stubbedSeederService().seed(sunkPages::add);
+
+        assertEquals(3, seeded);
+        assertEquals(List.of(0, 1, 1), committedPages);
+        assertEquals(2, sunkPages.size());
+        verify(tvShowUpsertRepository, times(2)).insertAll(any(), any());
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(List.of(1L, 2L, 3L)));
+    }
 
-        genre = new Genre();
-        genre.setName("Drama");
+    @Test
+    void seed_ShouldResumeAfterLastCommittedPage() {
+        stubTvMaze(Map.of(
+                0, "[{\"id\":1,\"name\":\"Show 1\"}]",
+                1, "[{\"id\":2,\"name\":\"Show 2\"}]"
+        ));
+        SeedCheckpoint checkpoint = SeedCheckpoint.start(SeederService.TVMAZE_SOURCE);
+        checkpoint.setLastPage(0);
+        when(seedCheckpointRepository.findById(SeederService.TVMAZE_SOURCE)).thenReturn(Optional.of(checkpoint));
+        recordCheckpoints();
+
+        int seeded = stubbedSeederService().seed(page -> {});
+
+        assertEquals(1, seeded);
+        assertFalse(requestedPages.contains(0));
+        assertTrue(checkpoint.isCompleted());
     }
 
     @Test
-    void fetchAllTvShows_ShouldReturnShowsSuccessfully() {
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToFlux(TvMazeShowDto.class))
-                .thenReturn(Flux.just(tvMazeShowDto));
+    void seed_ShouldKeepLastCommittedPageWhenFetchFails() {
+        stubTvMaze(Map.of(0, "[{\"id\":1,\"name\":\"Show 1\"}]"), 1);
+        List<Integer> committedPages = recordCheckpoints();
 
-        List<TvMazeShowDto> result = seederService.fetchAllTvShows();
+        SeederService service = stubbedSeederService();
+        assertThrows(RuntimeException.class, () -> service.seed(page -> {}));
 
-        assertNotNull(result);
-        verify(webClient, times(8)).get();
+        assertEquals(List.of(0), committedPages);
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(List.of(1L)));
     }
 
     @Test
-    void fetchAllTvShows_ShouldHandleErrorsGracefully() {
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToFlux(TvMazeShowDto.class))
-                .thenReturn(Flux.error(new RuntimeException("Service unavailable")));
+    void seed_ShouldSkipCompletedSeed() {
+        SeedCheckpoint checkpoint = SeedCheckpoint.start(SeederService.TVMAZE_SOURCE);
+        checkpoint.setCompleted(true);
+        when(seedCheckpointRepository.findById(SeederService.TVMAZE_SOURCE)).thenReturn(Optional.of(checkpoint));
 
-        List<TvMazeShowDto> result = seederService.fetchAllTvShows();
+        assertEquals(0, seederService.seed(page -> {}));
 
-        assertNotNull(result);
-        verify(webClient, times(8)).get();
+        verifyNoInteractions(webClient, tvShowUpsertRepository);
     }
 
     @Test
-    void saveTvShows_ShouldSaveSuccessfully() {
-        List<TvMazeShowDto> shows = Collections.singletonList(tvMazeShowDto);
-        
-        Genre existingGenre = new Genre();
-        existingGenre.setName("Drama");
-        Genre newGenre = new Genre();
-        newGenre.setName("Comedy");
-        
-        when(genreRepository.findByNameIn(any())).thenReturn(List.of(existingGenre));
-        when(genreRepository.saveAll(any())).thenReturn(List.of(newGenre));
+    void bulkSaveTvShows_ShouldBulkInsertShowsWithTheirGenres() {
         when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenReturn(tvShow);
-        when(tvShowRepository.saveAll(any())).thenReturn(Collections.singletonList(tvShow));
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(List.of(1L), List.of()));
 
-        seederService.saveTvShows(shows);
+        List<Long> saved = seederService.bulkSaveTvShows(List.of(tvMazeShowDto));
 
-        verify(genreRepository).findByNameIn(any());
-        verify(genreRepository).saveAll(any());
+        verify(tvShowUpsertRepository).insertAll(List.of(tvShow), Map.of(1L, List.of("Drama", "Comedy")));
+        assertEquals(List.of(1L), saved);
     }
 
     @Test
-    void saveTvShows_ShouldHandleEmptyList() {
+    void bulkSaveTvShows_ShouldHandleEmptyList() {
         List<TvMazeShowDto> emptyShows = new ArrayList<>();
 
-        seederService.saveTvShows(emptyShows);
+        assertTrue(seederService.bulkSaveTvShows(emptyShows).isEmpty());
 
-        verifyNoInteractions(genreRepository);
         verifyNoInteractions(tvShowMapper);
-        verifyNoInteractions(tvShowRepository);
+        verifyNoInteractions(tvShowUpsertRepository);
+    }
+
+    @Test
+    void bulkSaveTvShows_ShouldSkipConflictsWithoutRetryingRowByRow() {
+        TvMazeShowDto duplicate = new TvMazeShowDto();
+        duplicate.setId(2L);
+        duplicate.setName("Duplicate");
+        when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenAnswer(invocation -> {
+            TvShow show = new TvShow();
+            show.setTvShowId(invocation.<TvMazeShowDto>getArgument(0).getId());
+            return show;
+        });
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(
+                List.of(1L),
+                List.of(new BulkInsertResult.Conflict(2L, "duplicate tv_show_id"))
+        ));
+
+        List<Long> saved = seederService.bulkSaveTvShows(List.of(tvMazeShowDto, duplicate));
+
+        verify(tvShowUpsertRepository, times(1)).insertAll(any(), any());
+        assertEquals(List.of(1L), saved);
     }
 
     @Test
-    void saveTvShows_ShouldHandleDataIntegrityViolation() {
-        List<TvMazeShowDto> shows = List.of(tvMazeShowDto);
-        
-        when(genreRepository.findByNameIn(any())).thenReturn(new ArrayList<>());
-        when(genreRepository.saveAll(any())).thenReturn(List.of(genre));
+    void bulkSaveTvShows_ShouldSplitIntoBatches() {
+        seederProperties.setBatchSize(2);
+        List<TvMazeShowDto> shows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            TvMazeShowDto show = new TvMazeShowDto();
+            show.setId(id);
+            shows.add(show);
+        }
         when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenReturn(tvShow);
-        when(tvShowRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("Constraint violation"));
-        when(tvShowRepository.save(any(TvShow.class))).thenReturn(tvShow);
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(List.of(), List.of()));
 
-        seederService.saveTvShows(shows);
+        seederService.bulkSaveTvShows(shows);
 
-        verify(genreRepository).findByNameIn(any());
-        verify(genreRepository).saveAll(any());
-        verify(tvShowMapper).mazeDtoToTvShow(any(TvMazeShowDto.class));
-        verify(tvShowRepository).saveAll(any());
-        verify(tvShowRepository).save(any(TvShow.class));
+        verify(tvShowUpsertRepository, times(3)).insertAll(any(), any());
     }
 
     @Test
-    void saveTvShows_ShouldHandleMappingFailure() {
+    void bulkSaveTvShows_ShouldHandleMappingFailure() {
         TvMazeShowDto failingShow = new TvMazeShowDto();
         failingShow.setId(999L);
         failingShow.setName("Failing Show");
         failingShow.setGenres(List.of("Drama"));
-        
-        List<TvMazeShowDto> shows = List.of(failingShow);
-        
-        when(genreRepository.findByNameIn(any())).thenReturn(List.of(genre));
+
         when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenReturn(null);
-        when(tvShowRepository.saveAll(any())).thenReturn(new ArrayList<>());
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(List.of(), List.of()));
 
-        seederService.saveTvShows(shows);
+        seederService.bulkSaveTvShows(List.of(failingShow));
 
-        verify(genreRepository).findByNameIn(any());
+        verify(tvShowUpsertRepository).insertAll(List.of(), Map.of());
     }
 
     @Test
-    void saveTvShows_ShouldCreateNewGenres() {
-        TvMazeShowDto showWithNewGenre = new TvMazeShowDto();
-        showWithNewGenre.setId(1L);
-        showWithNewGenre.setGenres(List.of("NewGenre"));
-        
-        List<TvMazeShowDto> shows = List.of(showWithNewGenre);
-        
-        Genre newGenre = new Genre();
-        newGenre.setName("NewGenre");
-        
-        when(genreRepository.findByNameIn(any())).thenReturn(new ArrayList<>());
-        when(genreRepository.saveAll(any())).thenReturn(List.of(newGenre));
+    void bulkSaveTvShows_ShouldHandleShowsWithoutGenres() {
+        TvMazeShowDto showWithoutGenres = new TvMazeShowDto();
+        showWithoutGenres.setId(1L);
+        showWithoutGenres.setGenres(null);
+
         when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenReturn(tvShow);
-        when(tvShowRepository.saveAll(any())).thenReturn(List.of(tvShow));
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(List.of(1L), List.of()));
 
-        seederService.saveTvShows(shows);
+        seederService.bulkSaveTvShows(List.of(showWithoutGenres));
 
-        verify(genreRepository).findByNameIn(any());
-        verify(genreRepository).saveAll(any());
+        verify(tvShowUpsertRepository).insertAll(List.of(tvShow), Map.of(1L, List.of()));
     }
 
     @Test
-    void saveTvShows_ShouldHandleShowsWithoutGenres() {
-        TvMazeShowDto showWithoutGenres = new TvMazeShowDto();
-        showWithoutGenres.setId(1L);
-        showWithoutGenres.setGenres(null);
-        
-        List<TvMazeShowDto> shows = List.of(showWithoutGenres);
-        
+    void bulkSaveTvShows_ShouldLeaveCatalogEventToEndOfLoad() {
         when(tvShowMapper.mazeDtoToTvShow(any(TvMazeShowDto.class))).thenReturn(tvShow);
-        when(tvShowRepository.saveAll(any())).thenReturn(List.of(tvShow));
+        when(tvShowUpsertRepository.insertAll(any(), any())).thenReturn(new BulkInsertResult(List.of(1L), List.of()));
 
-        seederService.saveTvShows(shows);
+        List<Long> saved = seederService.bulkSaveTvShows(List.of(tvMazeShowDto));
+
+        assertEquals(List.of(1L), saved);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void publishCatalogChanged_ShouldSkipLoadsThatInsertedNothing() {
+        seederService.publishCatalogChanged(List.of());
 
-        verify(tvShowRepository).saveAll(any());
+        verifyNoInteractions(eventPublisher);
     }
-}
\ No newline at end of file
+}
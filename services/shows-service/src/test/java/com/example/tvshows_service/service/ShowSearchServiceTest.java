@@ -0,0 +1,83 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_service.catalog.CatalogRow;
+import com.example.tvshows_service.config.SearchProperties;
+import com.example.tvshows_service.enums.SearchMode;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.search.SearchHit;
+import com.example.tvshows_service.search.TvShowSearchView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShowSearchServiceTest {
+
+    @Mock
+    private TvShowRepository tvShowRepository;
+
+    @Mock
+    private TvShowSearchView tvShowSearchView;
+
+    private SearchProperties searchProperties;
+
+    private ShowSearchService showSearchService;
+
+    @BeforeEach
+    void setUp() {
+        searchProperties = new SearchProperties();
+        showSearchService = new ShowSearchService(tvShowRepository, searchProperties);
+    }
+
+    @Test
+    void search_ShouldUseInMemoryIndexByDefault() {
+        when(tvShowRepository.findAllCatalogRows()).thenReturn(List.of(
+                new CatalogRow(1L, "Under the Dome", null, null, null, null, null, 0, 0, 0, null, null)
+        ));
+
+        showSearchService.onApplicationReady();
+        List<SearchHit> hits = showSearchService.search("dome", 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).tvShowId());
+        verify(tvShowRepository, never()).searchByTrigram(anyString(), anyInt());
+    }
+
+    @Test
+    void search_ShouldDelegateToPostgresWhenTrigramExtensionIsInstalled() {
+        searchProperties.setMode(SearchMode.POSTGRES);
+        when(tvShowRepository.isTrigramSearchAvailable()).thenReturn(true);
+        when(tvShowSearchView.getTvShowId()).thenReturn(1L);
+        when(tvShowSearchView.getName()).thenReturn("Under the Dome");
+        when(tvShowSearchView.getScore()).thenReturn(0.9);
+        when(tvShowRepository.searchByTrigram("dome", 10)).thenReturn(List.of(tvShowSearchView));
+
+        showSearchService.onApplicationReady();
+        List<SearchHit> hits = showSearchService.search(" dome ", 10);
+
+        assertEquals(List.of(new SearchHit(1L, "Under the Dome", 0.9)), hits);
+        verify(tvShowRepository, never()).findAllCatalogRows();
+    }
+
+    @Test
+    void search_ShouldFallBackToMemoryWhenTrigramExtensionIsMissing() {
+        searchProperties.setMode(SearchMode.POSTGRES);
+        when(tvShowRepository.isTrigramSearchAvailable()).thenReturn(false);
+        when(tvShowRepository.findAllCatalogRows()).thenReturn(List.of());
+
+        showSearchService.onApplicationReady();
+
+        assertTrue(showSearchService.search("dome", 10).isEmpty());
+        verify(tvShowRepository).findAllCatalogRows();
+        verify(tvShowRepository, never()).searchByTrigram(anyString(), anyInt());
+    }
+}
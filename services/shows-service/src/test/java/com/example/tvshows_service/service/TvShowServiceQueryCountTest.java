@@ -0,0 +1,122 @@
+package com.example.tvshows_service.service;
+
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_service.cache.ShowDetailCache;
+import com.example.tvshows_service.cache.ShowPageCache;
+import com.example.tvshows_service.config.SearchProperties;
+import com.example.tvshows_service.config.ShowCacheProperties;
+import com.example.tvshows_service.config.TvShowListingProperties;
+import com.example.tvshows_service.exceptions.TvShowsNotFoundException;
+import com.example.tvshows_service.filters.TvShowFilter;
+import com.example.tvshows_service.helpers.CursorHelper;
+import com.example.tvshows_service.helpers.ReviewHelper;
+import com.example.tvshows_service.helpers.WatchlistHelper;
+import com.example.tvshows_service.history.SearchHistoryPublisher;
+import com.example.tvshows_service.mappers.TvShowMapperImpl;
+import com.example.tvshows_service.models.TvShow;
+import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.repositories.TvShowUpsertRepository;
+import com.example.tvshows_service.reviews.ReviewStatsClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Counts the SQL statements Hibernate prepares for a listing page against a real Postgres, so a
+ * lazy association touched per show shows up as statements that grow with the page size.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TvShowServiceQueryCountTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TvShowService tvShowService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tvShowService = new TvShowService(
+                tvShowRepository,
+                mock(WebClient.class),
+                new TvShowMapperImpl(),
+                mock(WatchlistHelper.class),
+                new ObjectMapper(),
+                mock(ReviewHelper.class),
+                mock(CursorHelper.class),
+                mock(CatalogIndexService.class),
+                mock(ShowSearchService.class),
+                new SearchProperties(),
+                mock(ShowPageCache.class),
+                new ShowCacheProperties(),
+                mock(ShowDetailCache.class),
+                mock(SearchHistoryPublisher.class),
+                mock(DownstreamGuard.class),
+                mock(ReviewStatsClient.class),
+                new TvShowListingProperties()
+        );
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        List<TvShow> tvShows = new ArrayList<>();
+        Map<Long, List<String>> genres = new HashMap<>();
+        for (long tvShowId = 1; tvShowId <= 60; tvShowId++) {
+            TvShow tvShow = new TvShow();
+            tvShow.setTvShowId(tvShowId);
+            tvShow.setName("Show " + tvShowId);
+            tvShows.add(tvShow);
+            genres.put(tvShowId, List.of("Drama", tvShowId % 2 == 0 ? "Comedy" : "Thriller"));
+        }
+        new TvShowUpsertRepository(jdbcTemplate).insertAll(tvShows, genres);
+    }
+
+    @Test
+    void getTvShows_ShouldPrepareSameNumberOfStatementsRegardlessOfPageSize() throws TvShowsNotFoundException {
+        long smallPage = statementsFor(5);
+        long largePage = statementsFor(50);
+
+        assertTrue(smallPage > 0);
+        assertEquals(smallPage, largePage);
+    }
+
+    private long statementsFor(int pageSize) throws TvShowsNotFoundException {
+        entityManager.clear();
+        statistics.clear();
+
+        assertEquals(pageSize, tvShowService.getTvShows(0, pageSize, new TvShowFilter(), "").getContent().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,14 +1,34 @@
 package com.example.tvshows_service.service;
 
+import com.example.tvshows_commons.resilience.DownstreamGuard;
+import com.example.tvshows_commons.resilience.DownstreamUnavailableException;
+import com.example.tvshows_commons.resilience.HttpClientProperties;
+import com.example.tvshows_service.cache.CachedShowPage;
+import com.example.tvshows_service.cache.ShowDetailCache;
+import com.example.tvshows_service.cache.ShowPageCache;
+import com.example.tvshows_service.catalog.GenreLink;
+import com.example.tvshows_service.config.SearchProperties;
+import com.example.tvshows_service.config.ShowCacheProperties;
+import com.example.tvshows_service.config.TvShowListingProperties;
+import com.example.tvshows_service.dto.TvShowCursorPageDto;
 import com.example.tvshows_service.dto.TvShowDto;
+import com.example.tvshows_service.dto.TvShowSuggestionDto;
+import com.example.tvshows_service.dto.external.ReviewStatsDto;
 import com.example.tvshows_service.dto.external.StoreWatchlistDto;
+import com.example.tvshows_service.enums.TvShowSortField;
+import com.example.tvshows_service.exceptions.InvalidCursorException;
 import com.example.tvshows_service.exceptions.TvShowsNotFoundException;
+import com.example.tvshows_service.filters.TvShowCursor;
 import com.example.tvshows_service.filters.TvShowFilter;
+import com.example.tvshows_service.helpers.CursorHelper;
 import com.example.tvshows_service.helpers.ReviewHelper;
 import com.example.tvshows_service.helpers.WatchlistHelper;
+import com.example.tvshows_service.history.SearchHistoryPublisher;
 import com.example.tvshows_service.mappers.TvShowMapper;
 import com.example.tvshows_service.models.TvShow;
 import com.example.tvshows_service.repositories.TvShowRepository;
+import com.example.tvshows_service.reviews.ReviewStatsClient;
+import com.example.tvshows_service.search.SearchHit;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,23 +36,36 @@
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +89,39 @@ class TvShowServiceTest {
     @Mock
     private ReviewHelper reviewHelper;
 
+    @Mock
+    private CursorHelper cursorHelper;
+
+    @Mock
+    private CatalogIndexService catalogIndexService;
+
+    @Mock
+    private ShowSearchService showSearchService;
+
+    @Mock
+    private SearchProperties searchProperties;
+
+    @Mock
+    private ShowPageCache showPageCache;
+
+    @Spy
+    private ShowCacheProperties showCacheProperties = new ShowCacheProperties();
+
+    @Mock
+    private ShowDetailCache showDetailCache;
+
+    @Mock
+    private SearchHistoryPublisher searchHistoryPublisher;
+
+    @Spy
+    private DownstreamGuard downstreamGuard = new DownstreamGuard(new HttpClientProperties());
+
+    @Mock
+    private ReviewStatsClient reviewStatsClient;
+
+    @Spy
+    private TvShowListingProperties tvShowListingProperties = new TvShowListingProperties();
+
     @Mock
     private WebClient.RequestBodyUriSpec requestBodyUriSpec;
 
@@ -103,7 +169,7 @@ void getTopRatedShows_ShouldReturnShowsSuccessfully() throws TvShowsNotFoundExce
         Page<TvShow> showsPage = new PageImpl<>(shows);
 
         when(tvShowRepository.findAll(any(Pageable.class))).thenReturn(showsPage);
-        when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
         when(watchlistHelper.createAddToWatchlistUrl(1L, "testuser")).thenReturn("http://watchlist-url");
 
         Page<TvShowDto> result = tvShowService.getTopRatedShows(0, 10, "testuser");
@@ -112,10 +178,41 @@ void getTopRatedShows_ShouldReturnShowsSuccessfully() throws TvShowsNotFoundExce
         assertEquals(1, result.getTotalElements());
         assertEquals(tvShowDto, result.getContent().get(0));
         verify(tvShowRepository).findAll(any(Pageable.class));
-        verify(tvShowMapper).tvShowToDto(tvShow);
+        verify(tvShowMapper).tvShowToListingDto(eq(tvShow), any());
         verify(watchlistHelper).createAddToWatchlistUrl(1L, "testuser");
     }
 
+    @Test
+    void getTopRatedShows_ShouldDecorateCachedPageForEachUser() throws TvShowsNotFoundException {
+        when(showPageCache.get("top-rated-shows:page=0&size=10"))
+                .thenReturn(Optional.of(new CachedShowPage(List.of(tvShowDto), 1)));
+        when(watchlistHelper.createAddToWatchlistUrl(1L, "testuser")).thenReturn("http://watchlist-url");
+
+        Page<TvShowDto> result = tvShowService.getTopRatedShows(0, 10, "testuser");
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("http://watchlist-url", result.getContent().get(0).getWatchlistUrl());
+        verifyNoInteractions(tvShowRepository);
+        verify(showPageCache).get(anyString());
+        verifyNoMoreInteractions(showPageCache);
+    }
+
+    @Test
+    void getTopRatedShows_ShouldCacheUserIndependentPageOnMiss() throws TvShowsNotFoundException {
+        when(tvShowRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+
+        tvShowService.getTopRatedShows(0, 10, "");
+
+        verify(showPageCache).put(
+                eq("top-rated-shows:page=0&size=10"),
+                argThat(page -> page.getTotalElements() == 1 && page.getContent().get(0).getWatchlistUrl() == null),
+                eq(showCacheProperties.getTopRatedShows().getTtl()),
+                eq(0L),
+                eq(ShowPageCache.CATALOG_TAG)
+        );
+    }
+
     @Test
     void getTopRatedShows_ShouldThrowExceptionWhenEmpty() {
         Page<TvShow> emptyPage = new PageImpl<>(Arrays.asList());
@@ -136,14 +233,14 @@ void getTopRatedShows_ShouldHandleBlankUsername() throws TvShowsNotFoundExceptio
         Page<TvShow> showsPage = new PageImpl<>(shows);
 
         when(tvShowRepository.findAll(any(Pageable.class))).thenReturn(showsPage);
-        when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
 
         Page<TvShowDto> result = tvShowService.getTopRatedShows(0, 10, "");
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(tvShowRepository).findAll(any(Pageable.class));
-        verify(tvShowMapper).tvShowToDto(tvShow);
+        verify(tvShowMapper).tvShowToListingDto(eq(tvShow), any());
         verifyNoInteractions(watchlistHelper);
     }
 
@@ -153,7 +250,7 @@ void getTvShows_ShouldReturnFilteredShowsSuccessfully() throws TvShowsNotFoundEx
         Page<TvShow> showsPage = new PageImpl<>(shows);
 
         when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(showsPage);
-        when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
         when(watchlistHelper.createAddToWatchlistUrl(1L, "testuser")).thenReturn("http://watchlist-url");
         when(reviewHelper.createReviewUrl(1L, "testuser")).thenReturn("http://review-url");
 
@@ -162,11 +259,92 @@ void getTvShows_ShouldReturnFilteredShowsSuccessfully() throws TvShowsNotFoundEx
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(tvShowRepository).findAll(any(Specification.class), any(Pageable.class));
-        verify(tvShowMapper).tvShowToDto(tvShow);
+        verify(tvShowMapper).tvShowToListingDto(eq(tvShow), any());
         verify(watchlistHelper).createAddToWatchlistUrl(1L, "testuser");
         verify(reviewHelper).createReviewUrl(1L, "testuser");
     }
 
+    @Test
+    void getTvShows_ShouldEmbedCommunityRatingsWithOneBatchedLookup() throws TvShowsNotFoundException {
+        when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+        when(reviewStatsClient.getStats(List.of(1L))).thenReturn(Map.of(1L, ReviewStatsDto.builder()
+                .tvShowId(1L)
+                .averageRating(4.5)
+                .totalReviews(12L)
+                .build()));
+
+        Page<TvShowDto> result = tvShowService.getTvShows(0, 10, filter, "testuser");
+
+        assertEquals(4.5, result.getContent().get(0).getCommunityRating());
+        assertEquals(12L, result.getContent().get(0).getCommunityReviewCount());
+        verify(reviewStatsClient, times(1)).getStats(anyList());
+    }
+
+    @Test
+    void getTvShows_ShouldServePageWithoutCommunityRatingsWhenStatsAreMissing() throws TvShowsNotFoundException {
+        when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+        when(reviewStatsClient.getStats(List.of(1L))).thenReturn(Map.of());
+
+        Page<TvShowDto> result = tvShowService.getTvShows(0, 10, filter, "testuser");
+
+        assertEquals(1, result.getTotalElements());
+        assertNull(result.getContent().get(0).getCommunityRating());
+        assertNull(result.getContent().get(0).getCommunityReviewCount());
+    }
+
+    @Test
+    void getTvShows_ShouldMakeSameRepositoryCallsRegardlessOfPageSize() throws TvShowsNotFoundException {
+        for (int pageSize : new int[]{5, 50}) {
+            List<TvShow> shows = new ArrayList<>();
+            for (long id = 1; id <= pageSize; id++) {
+                TvShow show = spy(new TvShow());
+                show.setTvShowId(id);
+                shows.add(show);
+            }
+
+            when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(shows));
+            when(tvShowRepository.findGenreLinksByTvShowIdIn(anyList()))
+                    .thenReturn(List.of(new GenreLink(1L, "Drama"), new GenreLink(2L, "Comedy")));
+            when(tvShowMapper.tvShowToListingDto(any(TvShow.class), anyList())).thenReturn(tvShowDto);
+
+            tvShowService.getTvShows(0, pageSize, filter, "");
+
+            verify(tvShowRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+            verify(tvShowRepository, times(1)).findGenreLinksByTvShowIdIn(anyList());
+            verify(tvShowMapper, never()).tvShowToDto(any());
+            shows.forEach(show -> verify(show, never()).getGenres());
+            verifyNoMoreInteractions(tvShowRepository);
+
+            clearInvocations(tvShowRepository, tvShowMapper);
+        }
+    }
+
+    @Test
+    void getTvShows_ShouldSortIdByTvShowIdWhenIndexIsNotReady() throws TvShowsNotFoundException {
+        filter.setSortBy("id");
+        filter.setSortOrder("desc");
+        when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), anyList())).thenReturn(tvShowDto);
+
+        tvShowService.getTvShows(0, 10, filter, "");
+
+        verify(tvShowRepository).findAll(any(Specification.class), eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "tvShowId"))));
+    }
+
+    @Test
+    void getTvShows_ShouldBreakSortTiesByTvShowIdWhenIndexIsNotReady() throws TvShowsNotFoundException {
+        filter.setSortBy("rating");
+        when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), anyList())).thenReturn(tvShowDto);
+
+        tvShowService.getTvShows(0, 10, filter, "");
+
+        verify(tvShowRepository).findAll(any(Specification.class),
+                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "rating").and(Sort.by(Sort.Direction.ASC, "tvShowId")))));
+    }
+
     @Test
     void getTvShows_ShouldThrowExceptionWhenNoResults() {
         Page<TvShow> emptyPage = new PageImpl<>(Arrays.asList());
@@ -180,7 +358,70 @@ void getTvShows_ShouldThrowExceptionWhenNoResults() {
     }
 
     @Test
-    void addToWatchList_ShouldAddSuccessfully() throws TvShowsNotFoundException {
+    void getTvShows_ShouldUseCatalogIndexWhenReady() throws TvShowsNotFoundException {
+        filter.setSortBy("rating");
+        filter.setSortOrder("desc");
+
+        when(catalogIndexService.isReady()).thenReturn(true);
+        when(catalogIndexService.search(filter, TvShowSortField.RATING, true, 0, 10))
+                .thenReturn(new PageImpl<>(List.of(1L), PageRequest.of(0, 10), 1));
+        when(tvShowRepository.findAllByTvShowIdIn(List.of(1L))).thenReturn(Optional.of(List.of(tvShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+        when(reviewHelper.createReviewUrl(1L, "testuser")).thenReturn("http://review-url");
+
+        Page<TvShowDto> result = tvShowService.getTvShows(0, 10, filter, "testuser");
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(tvShowDto, result.getContent().get(0));
+        verify(tvShowRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchTvShows_ShouldReturnShowsInRankOrder() throws TvShowsNotFoundException {
+        TvShow otherShow = new TvShow();
+        otherShow.setTvShowId(2L);
+        TvShowDto otherDto = new TvShowDto();
+        otherDto.setId(2L);
+
+        when(searchProperties.getMaxResults()).thenReturn(200);
+        when(showSearchService.search("dome", 200)).thenReturn(List.of(
+                new SearchHit(2L, "Dominion", 0.8),
+                new SearchHit(1L, "Test Show", 0.5)
+        ));
+        when(tvShowRepository.findAllByTvShowIdIn(List.of(2L, 1L))).thenReturn(Optional.of(List.of(tvShow, otherShow)));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(otherShow), any())).thenReturn(otherDto);
+
+        Page<TvShowDto> result = tvShowService.searchTvShows("dome", 0, 10, "");
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(otherDto, tvShowDto), result.getContent());
+    }
+
+    @Test
+    void searchTvShows_ShouldThrowExceptionWhenNoHits() {
+        when(searchProperties.getMaxResults()).thenReturn(200);
+        when(showSearchService.search("nothing", 200)).thenReturn(List.of());
+
+        assertThrows(TvShowsNotFoundException.class, () ->
+                tvShowService.searchTvShows("nothing", 0, 10, ""));
+
+        verifyNoInteractions(tvShowRepository);
+    }
+
+    @Test
+    void getSuggestions_ShouldCapLimit() {
+        when(searchProperties.getTypeaheadLimit()).thenReturn(10);
+        when(showSearchService.search("dom", 10)).thenReturn(List.of(new SearchHit(2L, "Dominion", 0.8)));
+
+        List<TvShowSuggestionDto> result = tvShowService.getSuggestions("dom", 50);
+
+        assertEquals(1, result.size());
+        assertEquals("Dominion", result.get(0).getName());
+    }
+
+    @Test
+    void addToWatchList_ShouldAddSuccessfully() throws TvShowsNotFoundException, DownstreamUnavailableException {
         when(tvShowRepository.findByTvShowId(1L)).thenReturn(Optional.of(tvShow));
         when(tvShowMapper.tvShowToStoreWatchlistDto(tvShow)).thenReturn(storeWatchlistDto);
         when(webClient.post()).thenReturn(requestBodyUriSpec);
@@ -196,6 +437,22 @@ void addToWatchList_ShouldAddSuccessfully() throws TvShowsNotFoundException {
         verify(webClient).post();
     }
 
+    @Test
+    void addToWatchList_ShouldFailFastWhenUserServiceIsUnavailable() {
+        when(tvShowRepository.findByTvShowId(1L)).thenReturn(Optional.of(tvShow));
+        when(tvShowMapper.tvShowToStoreWatchlistDto(tvShow)).thenReturn(storeWatchlistDto);
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toBodilessEntity()).thenReturn(Mono.error(new TimeoutException("user-service timed out")));
+
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class, () ->
+            tvShowService.addToWatchList(1L, "testuser"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    }
+
     @Test
     void addToWatchList_ShouldThrowExceptionWhenShowNotFound() {
         when(tvShowRepository.findByTvShowId(1L)).thenReturn(Optional.empty());
@@ -210,6 +467,7 @@ void addToWatchList_ShouldThrowExceptionWhenShowNotFound() {
 
     @Test
     void getTvShow_ShouldReturnShowSuccessfully() throws TvShowsNotFoundException {
+        loadThroughDetailCache();
         when(tvShowRepository.findByTvShowId(1L)).thenReturn(Optional.of(tvShow));
         when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
 
@@ -222,6 +480,7 @@ void getTvShow_ShouldReturnShowSuccessfully() throws TvShowsNotFoundException {
 
     @Test
     void getTvShow_ShouldThrowExceptionWhenNotFound() {
+        loadThroughDetailCache();
         when(tvShowRepository.findByTvShowId(1L)).thenReturn(Optional.empty());
 
         assertThrows(TvShowsNotFoundException.class, () -> 
@@ -232,20 +491,42 @@ void getTvShow_ShouldThrowExceptionWhenNotFound() {
     }
 
     @Test
-    void storeFilteredTvShowsSearchHistory_ShouldStoreSuccessfully() {
-        JsonNode filterNode = objectMapper.createObjectNode();
-        
+    void getTvShow_ShouldNotQueryDatabaseOnCacheHit() throws TvShowsNotFoundException {
+        when(showDetailCache.get(eq(1L), any())).thenReturn(tvShowDto);
+
+        TvShowDto result = tvShowService.getTvShow(1L);
+
+        assertEquals(tvShowDto, result);
+        verifyNoInteractions(tvShowRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadThroughDetailCache() {
+        when(showDetailCache.get(anyLong(), any())).thenAnswer(invocation ->
+                ((Function<Long, TvShowDto>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+
+    @Test
+    void storeFilteredTvShowsSearchHistory_ShouldEnqueueWithoutCallingUserService() {
+        JsonNode filterNode = new ObjectMapper().createObjectNode();
+
         when(objectMapper.valueToTree(filter)).thenReturn(filterNode);
-        when(webClient.post()).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
-        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.toBodilessEntity()).thenReturn(Mono.just(ResponseEntity.ok().build()));
 
         tvShowService.storeFilteredTvShowsSearchHistory("testuser", "/api/shows", filter);
 
-        verify(objectMapper).valueToTree(filter);
-        verify(webClient).post();
+        verify(searchHistoryPublisher).publish(argThat(entry ->
+                entry.getUsername().equals("testuser")
+                        && entry.getEndpoint().equals("/api/shows")
+                        && entry.getFilters() == filterNode
+                        && entry.getSearchTime() != null));
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    void storeFilteredTvShowsSearchHistory_ShouldSkipAnonymousSearches() {
+        tvShowService.storeFilteredTvShowsSearchHistory("", "/api/shows", filter);
+
+        verifyNoInteractions(searchHistoryPublisher, objectMapper);
     }
 
     @Test
@@ -257,7 +538,7 @@ void getTvShows_ShouldCreateCorrectPageableWithSortDesc() throws TvShowsNotFound
         Page<TvShow> showsPage = new PageImpl<>(shows);
 
         when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(showsPage);
-        when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
         when(watchlistHelper.createAddToWatchlistUrl(1L, "testuser")).thenReturn("http://watchlist-url");
         when(reviewHelper.createReviewUrl(1L, "testuser")).thenReturn("http://review-url");
 
@@ -276,7 +557,7 @@ void getTvShows_ShouldCreateCorrectPageableWithSortAsc() throws TvShowsNotFoundE
         Page<TvShow> showsPage = new PageImpl<>(shows);
 
         when(tvShowRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(showsPage);
-        when(tvShowMapper.tvShowToDto(tvShow)).thenReturn(tvShowDto);
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
         when(watchlistHelper.createAddToWatchlistUrl(1L, "testuser")).thenReturn("http://watchlist-url");
         when(reviewHelper.createReviewUrl(1L, "testuser")).thenReturn("http://review-url");
 
@@ -285,4 +566,81 @@ void getTvShows_ShouldCreateCorrectPageableWithSortAsc() throws TvShowsNotFoundE
         assertNotNull(result);
         verify(tvShowRepository).findAll(any(Specification.class), any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTvShowsAfter_ShouldReturnNextCursorWhenMoreRowsExist() throws TvShowsNotFoundException, InvalidCursorException {
+        filter.setSortBy("rating");
+        filter.setSortOrder("desc");
+
+        TvShow secondShow = new TvShow();
+        secondShow.setTvShowId(2L);
+        secondShow.setRating(7.0);
+
+        when(cursorHelper.decode("")).thenReturn(null);
+        when(tvShowRepository.findAfter(any(), eq(TvShowSortField.RATING), eq(true), isNull(), isNull(), eq(2)))
+                .thenReturn(Arrays.asList(tvShow, secondShow));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+        when(cursorHelper.encode(new TvShowCursor("rating", "desc", "8.5", 1L))).thenReturn("next-cursor");
+
+        TvShowCursorPageDto result = tvShowService.getTvShowsAfter("", 1, filter, "");
+
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals("next-cursor", result.getNextCursor());
+        verify(tvShowRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void getTvShowsAfter_ShouldSeekFromDecodedCursor() throws TvShowsNotFoundException, InvalidCursorException {
+        filter.setSortBy("rating");
+        filter.setSortOrder("desc");
+
+        when(cursorHelper.decode("cursor")).thenReturn(new TvShowCursor("rating", "desc", "8.5", 1L));
+        when(tvShowRepository.findAfter(any(), eq(TvShowSortField.RATING), eq(true), eq(8.5), eq(1L), eq(11)))
+                .thenReturn(List.of());
+
+        TvShowCursorPageDto result = tvShowService.getTvShowsAfter("cursor", 10, filter, "");
+
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getTvShowsAfter_ShouldFetchAtLeastOneRowWhenSizeIsZero() throws TvShowsNotFoundException, InvalidCursorException {
+        when(cursorHelper.decode("")).thenReturn(null);
+        when(tvShowRepository.findAfter(any(), eq(TvShowSortField.ID), eq(false), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(tvShow));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+
+        TvShowCursorPageDto result = tvShowService.getTvShowsAfter("", 0, filter, "");
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    void getTvShowsAfter_ShouldCapSizeAtMaxPageSize() throws TvShowsNotFoundException, InvalidCursorException {
+        when(cursorHelper.decode("")).thenReturn(null);
+        when(tvShowRepository.findAfter(any(), eq(TvShowSortField.ID), eq(false), isNull(), isNull(), eq(101)))
+                .thenReturn(List.of(tvShow));
+        when(tvShowMapper.tvShowToListingDto(eq(tvShow), any())).thenReturn(tvShowDto);
+
+        tvShowService.getTvShowsAfter("", 1_000_000, filter, "");
+
+        verify(tvShowRepository).findAfter(any(), eq(TvShowSortField.ID), eq(false), isNull(), isNull(), eq(101));
+    }
+
+    @Test
+    void getTvShowsAfter_ShouldRejectCursorForDifferentSort() {
+        filter.setSortBy("name");
+        filter.setSortOrder("asc");
+
+        when(cursorHelper.decode("cursor")).thenReturn(new TvShowCursor("rating", "desc", "8.5", 1L));
+
+        assertThrows(InvalidCursorException.class, () ->
+            tvShowService.getTvShowsAfter("cursor", 10, filter, ""));
+
+        verifyNoInteractions(tvShowRepository);
+    }
+}
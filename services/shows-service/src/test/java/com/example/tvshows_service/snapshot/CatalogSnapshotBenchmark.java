@@ -0,0 +1,82 @@
+package com.example.tvshows_service.snapshot;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading the catalog from the Jackson JSON dump with streaming it from a memory-mapped
+ * snapshot. Run {@link #main} from the test classpath; GC allocation rates are reported by the gc
+ * profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@State(Scope.Benchmark)
+public class CatalogSnapshotBenchmark {
+
+    @Param({"10000", "70000"})
+    private int shows;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private Path directory;
+    private Path dump;
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("catalog-benchmark");
+        dump = directory.resolve("dump.json");
+        snapshot = directory.resolve("catalog.snapshot");
+
+        try (var writer = objectMapper.writer().writeValuesAsArray(dump.toFile())) {
+            for (long id = 1; id <= shows; id++) {
+                writer.write(CatalogSnapshotTest.fullShow(id));
+            }
+        }
+        CatalogSnapshotConverter.convert(objectMapper, dump, snapshot);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dump);
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void jacksonReadAll(Blackhole blackhole) throws IOException {
+        List<TvMazeShowDto> all = objectMapper.readValue(dump.toFile(), new TypeReference<List<TvMazeShowDto>>() {});
+        all.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void snapshotStream(Blackhole blackhole) throws IOException {
+        CatalogSnapshotReader reader = CatalogSnapshotReader.open(snapshot);
+        while (reader.hasNext()) {
+            blackhole.consume(reader.next());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CatalogSnapshotBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
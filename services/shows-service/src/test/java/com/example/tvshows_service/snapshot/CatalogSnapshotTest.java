@@ -0,0 +1,163 @@
+package com.example.tvshows_service.snapshot;
+
+import com.example.tvshows_service.dto.external.TvMazeShowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void roundTrip_ShouldPreserveCatalogFields() throws IOException {
+        TvMazeShowDto show = fullShow(1L);
+        Path snapshot = tempDir.resolve("catalog.snapshot");
+
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(snapshot)) {
+            writer.write(show);
+        }
+
+        CatalogSnapshotReader reader = CatalogSnapshotReader.open(snapshot);
+        assertTrue(reader.hasNext());
+        TvMazeShowDto read = reader.next();
+        assertFalse(reader.hasNext());
+
+        show.setUrl(null);
+        assertEquals(show, read);
+    }
+
+    @Test
+    void roundTrip_ShouldKeepMissingFieldsNull() throws IOException {
+        TvMazeShowDto show = new TvMazeShowDto();
+        show.setId(2L);
+        show.setName("Sparse");
+        Path snapshot = tempDir.resolve("catalog.snapshot");
+
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(snapshot)) {
+            writer.write(show);
+        }
+
+        TvMazeShowDto read = CatalogSnapshotReader.open(snapshot).next();
+        assertEquals(show, read);
+        assertNull(read.getRating());
+        assertNull(read.getSchedule());
+        assertNull(read.getGenres());
+    }
+
+    @Test
+    void forEachBatch_ShouldStreamInFixedSizeBatches() throws IOException {
+        Path snapshot = tempDir.resolve("catalog.snapshot");
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(snapshot)) {
+            for (long id = 1; id <= 5; id++) {
+                writer.write(fullShow(id));
+            }
+        }
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        int total = CatalogSnapshotReader.open(snapshot).forEachBatch(2, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(show -> ids.add(show.getId()));
+        });
+
+        assertEquals(5, total);
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+    }
+
+    @Test
+    void open_ShouldRejectFilesWithoutHeader() throws IOException {
+        Path notASnapshot = tempDir.resolve("dump.json");
+        Files.writeString(notASnapshot, "[{\"id\":1}]");
+
+        assertThrows(IOException.class, () -> CatalogSnapshotReader.open(notASnapshot));
+    }
+
+    @Test
+    void next_ShouldRejectTruncatedRecords() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CatalogSnapshotFormat.HEADER_SIZE + 8)
+                .putInt(CatalogSnapshotFormat.MAGIC)
+                .putShort(CatalogSnapshotFormat.VERSION)
+                .putInt(100)
+                .putInt(0);
+        buffer.flip();
+
+        CatalogSnapshotReader reader = CatalogSnapshotReader.of(buffer);
+
+        assertThrows(IllegalStateException.class, reader::next);
+    }
+
+    @Test
+    void convert_ShouldTranslateJsonDumpToSnapshot() throws IOException {
+        Path dump = tempDir.resolve("dump.json");
+        Path snapshot = tempDir.resolve("catalog.snapshot");
+        objectMapper.writeValue(dump.toFile(), List.of(fullShow(1L), fullShow(2L)));
+
+        int converted = CatalogSnapshotConverter.convert(objectMapper, dump, snapshot);
+
+        assertEquals(2, converted);
+        assertFalse(Files.exists(tempDir.resolve("catalog.snapshot.part")));
+        CatalogSnapshotReader reader = CatalogSnapshotReader.open(snapshot);
+        assertEquals("Show 1", reader.next().getName());
+        assertEquals(List.of("Drama", "Thriller"), reader.next().getGenres());
+    }
+
+    static TvMazeShowDto fullShow(long id) {
+        TvMazeShowDto show = new TvMazeShowDto();
+        show.setId(id);
+        show.setUrl("https://www.tvmaze.com/shows/" + id);
+        show.setName("Show " + id);
+        show.setType("Scripted");
+        show.setLanguage("English");
+        show.setGenres(List.of("Drama", "Thriller"));
+        show.setStatus("Ended");
+        show.setRuntime(60);
+        show.setAverageRuntime(58);
+        show.setPremiered(LocalDate.of(2008, 1, 20));
+        show.setEnded(LocalDate.of(2013, 9, 29));
+        show.setOfficialSite("https://example.com/" + id);
+        show.setSummary("<p>A chemistry teacher turned <b>manufacturer</b>.</p>");
+        show.setUpdated(1_700_000_000L + id);
+
+        TvMazeShowDto.Schedule schedule = new TvMazeShowDto.Schedule();
+        schedule.setTime("22:00");
+        schedule.setDays(List.of("Sunday"));
+        show.setSchedule(schedule);
+
+        TvMazeShowDto.Rating rating = new TvMazeShowDto.Rating();
+        rating.setAverage(9.2);
+        show.setRating(rating);
+
+        TvMazeShowDto.Network network = new TvMazeShowDto.Network();
+        network.setName("AMC");
+        show.setNetwork(network);
+
+        TvMazeShowDto.Externals externals = new TvMazeShowDto.Externals();
+        externals.setTvrage(18164);
+        externals.setThetvdb(81189);
+        externals.setImdb("tt0903747");
+        show.setExternals(externals);
+
+        TvMazeShowDto.Image image = new TvMazeShowDto.Image();
+        image.setMedium("https://static.tvmaze.com/medium/" + id + ".jpg");
+        image.setOriginal("https://static.tvmaze.com/original/" + id + ".jpg");
+        show.setImage(image);
+
+        return show;
+    }
+}
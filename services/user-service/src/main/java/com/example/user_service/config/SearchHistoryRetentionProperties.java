@@ -0,0 +1,15 @@
+package com.example.user_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "search-history.retention")
+@Component
+@Data
+public class SearchHistoryRetentionProperties {
+    private int limit = 10;
+    private int chunkSize = 500;
+    private long trimIntervalMs = 1000;
+    private long sweepIntervalMs = 300_000;
+}
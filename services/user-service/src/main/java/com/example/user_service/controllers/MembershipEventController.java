@@ -0,0 +1,28 @@
+package com.example.user_service.controllers;
+
+import com.example.user_service.dto.MembershipChangedEventDto;
+import com.example.user_service.exceptions.AppException;
+import com.example.user_service.services.UserProfileService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Receives membership changes relayed from auth-service's outbox. Not routed by the gateway.
+ */
+@RestController
+@RequestMapping("/internal/membership-events")
+public class MembershipEventController {
+
+    private final UserProfileService userProfileService;
+
+    public MembershipEventController(UserProfileService userProfileService) {
+        this.userProfileService = userProfileService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> membershipChanged(@RequestBody MembershipChangedEventDto event) throws AppException {
+        userProfileService.applyMembershipChange(event);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.user_service.controllers;
 
+import com.example.user_service.dto.StoreShowsSearchBatchDto;
 import com.example.user_service.dto.StoreShowsSearchDto;
 import com.example.user_service.dto.TvShowSearchHistoryDto;
 import com.example.user_service.exceptions.UserProfileNotFoundException;
@@ -31,6 +32,13 @@ public ResponseEntity<Void> storeSearch(
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Void> storeSearches(@RequestBody StoreShowsSearchBatchDto storeShowsSearchBatchDto) {
+        tvShowSearchService.storeTvShowSearches(storeShowsSearchBatchDto);
+
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping("/{username}")
     public ResponseEntity<List<TvShowSearchHistoryDto>> getSearch(@PathVariable String username) throws UserProfileNotFoundException {
         List<TvShowSearchHistoryDto> tvShowSearchHistoryDtoList = tvShowSearchService.getSearchHistory(username);
@@ -1,7 +1,6 @@
 package com.example.user_service.controllers;
 
 import com.example.user_service.dto.StoreUserProfileDto;
-import com.example.user_service.dto.UpgradeUserProfileDto;
 import com.example.user_service.dto.UserProfileDto;
 import com.example.user_service.exceptions.AppException;
 import com.example.user_service.mappers.UserProfileMapper;
@@ -38,11 +37,4 @@ public ResponseEntity<UserProfileDto> getUserProfile(@PathVariable String userna
 
         return ResponseEntity.ok(userProfileDto);
     }
-
-    @PostMapping("/upgrade")
-    public ResponseEntity<UserProfileDto> upgradeProfile(@RequestBody UpgradeUserProfileDto upgradeUserProfileDto) throws AppException {
-        UserProfileDto userProfileDto = userProfileService.upgradeProfile(upgradeUserProfileDto);
-
-        return ResponseEntity.ok(userProfileDto);
-    }
 }
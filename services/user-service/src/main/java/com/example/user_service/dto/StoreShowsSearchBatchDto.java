@@ -1,14 +1,14 @@
 package com.example.user_service.dto;
 
 import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
-@Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class UpgradeUserProfileDto {
-    private String username;
+public class StoreShowsSearchBatchDto {
+    private List<StoreShowsSearchEntryDto> searches;
 }
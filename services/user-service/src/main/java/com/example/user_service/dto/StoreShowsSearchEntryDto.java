@@ -0,0 +1,20 @@
+package com.example.user_service.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreShowsSearchEntryDto {
+    private String username;
+    private String endpoint;
+    private JsonNode filters;
+    private LocalDateTime searchTime;
+}
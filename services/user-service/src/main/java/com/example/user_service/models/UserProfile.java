@@ -32,6 +32,9 @@ public class UserProfile {
     @Enumerated(EnumType.STRING)
     private MemberType memberType = MemberType.FREE;
 
+    @Column(name = "membership_changed_at")
+    private LocalDateTime membershipChangedAt;
+
     @OneToMany(mappedBy = "userProfile", fetch = FetchType.LAZY)
     private List<Watchlist> watchlists;
 
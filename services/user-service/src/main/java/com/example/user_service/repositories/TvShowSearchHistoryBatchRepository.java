@@ -0,0 +1,101 @@
+package com.example.user_service.repositories;
+
+import com.example.user_service.converter.JsonNodeConverter;
+import com.example.user_service.dto.StoreShowsSearchEntryDto;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class TvShowSearchHistoryBatchRepository {
+    // The user is resolved inside the insert, so unknown usernames simply insert nothing.
+    private static final String INSERT_SEARCH =
+            "INSERT INTO tv_show_search_history (user_id, endpoint, filters, search_time) " +
+            "SELECT up.id, :endpoint, CAST(:filters AS jsonb), :searchTime " +
+            "FROM user_profiles up WHERE up.username = :username";
+
+    private static final String TRIM_HISTORY =
+            "DELETE FROM tv_show_search_history h " +
+            "USING (" +
+            "    SELECT ranked.id FROM (" +
+            "        SELECT sh.id, ROW_NUMBER() OVER (PARTITION BY sh.user_id ORDER BY sh.search_time DESC, sh.id DESC) AS position " +
+            "        FROM tv_show_search_history sh " +
+            "        WHERE sh.user_id IN (%s)" +
+            "    ) ranked WHERE ranked.position > :keep" +
+            ") stale " +
+            "WHERE h.id = stale.id";
+
+    private static final String TRIM_BY_USERNAME =
+            TRIM_HISTORY.formatted("SELECT up.id FROM user_profiles up WHERE up.username IN (:usernames)");
+
+    private static final String TRIM_BY_USER_ID = TRIM_HISTORY.formatted(":userIds");
+
+    private static final String USERS_OVER_LIMIT =
+            "SELECT sh.user_id FROM tv_show_search_history sh " +
+            "WHERE sh.user_id IS NOT NULL AND (CAST(:after AS uuid) IS NULL OR sh.user_id > CAST(:after AS uuid)) " +
+            "GROUP BY sh.user_id HAVING COUNT(*) > :keep " +
+            "ORDER BY sh.user_id LIMIT :chunkSize";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final JsonNodeConverter jsonNodeConverter = new JsonNodeConverter();
+
+    public TvShowSearchHistoryBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int insertAll(List<StoreShowsSearchEntryDto> searches) {
+        SqlParameterSource[] batch = new SqlParameterSource[searches.size()];
+
+        for (int i = 0; i < searches.size(); i++) {
+            StoreShowsSearchEntryDto search = searches.get(i);
+            LocalDateTime searchTime = search.getSearchTime() != null ? search.getSearchTime() : LocalDateTime.now();
+
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("username", search.getUsername())
+                    .addValue("endpoint", search.getEndpoint())
+                    .addValue("filters", jsonNodeConverter.convertToDatabaseColumn(search.getFilters()))
+                    .addValue("searchTime", Timestamp.valueOf(searchTime));
+        }
+
+        return Arrays.stream(jdbcTemplate.batchUpdate(INSERT_SEARCH, batch))
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+
+    public int trimToLatest(Collection<String> usernames, int keep) {
+        if (usernames.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(TRIM_BY_USERNAME, new MapSqlParameterSource()
+                .addValue("usernames", usernames)
+                .addValue("keep", keep));
+    }
+
+    public int trimUsersToLatest(Collection<UUID> userIds, int keep) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(TRIM_BY_USER_ID, new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("keep", keep));
+    }
+
+    public List<UUID> findUserIdsOverLimit(UUID after, int keep, int chunkSize) {
+        return jdbcTemplate.queryForList(USERS_OVER_LIMIT, new MapSqlParameterSource()
+                .addValue("after", after != null ? after.toString() : null, Types.VARCHAR)
+                .addValue("keep", keep)
+                .addValue("chunkSize", chunkSize), UUID.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.user_service.services;
+
+import com.example.user_service.config.SearchHistoryRetentionProperties;
+import com.example.user_service.repositories.TvShowSearchHistoryBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each user's search history at the configured limit. Writers only mark users as needing a
+ * trim; repeated marks for the same user collapse into one pending entry that is trimmed on the
+ * next drain. A periodic sweep catches anything the drain missed by trimming every user above
+ * the limit, a chunk of users per statement.
+ */
+@Service
+@Slf4j
+public class SearchHistoryRetentionService {
+    private static final String METRIC_PREFIX = "user.search.history.retention";
+
+    private final TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository;
+
+    private final SearchHistoryRetentionProperties properties;
+
+    private final Clock clock;
+
+    // username -> epoch millis of the oldest unprocessed trim request
+    private final Map<String, Long> pendingTrims = new ConcurrentHashMap<>();
+
+    private final Counter coalescedRowsTrimmed;
+    private final Counter sweepRowsTrimmed;
+    private final Timer sweepTimer;
+
+    public SearchHistoryRetentionService(
+            TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository,
+            SearchHistoryRetentionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this(tvShowSearchHistoryBatchRepository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    SearchHistoryRetentionService(
+            TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository,
+            SearchHistoryRetentionProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.tvShowSearchHistoryBatchRepository = tvShowSearchHistoryBatchRepository;
+        this.properties = properties;
+        this.clock = clock;
+
+        this.coalescedRowsTrimmed = rowsTrimmed(meterRegistry, "coalesced");
+        this.sweepRowsTrimmed = rowsTrimmed(meterRegistry, "sweep");
+        this.sweepTimer = Timer.builder(METRIC_PREFIX + ".sweep.duration").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending.users", pendingTrims, Map::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".lag.seconds", this, SearchHistoryRetentionService::lagSeconds).register(meterRegistry);
+    }
+
+    public void requestTrim(Collection<String> usernames) {
+        long now = clock.millis();
+        for (String username : usernames) {
+            pendingTrims.putIfAbsent(username, now);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search-history.retention.trim-interval-ms:1000}")
+    public void trimPending() {
+        if (pendingTrims.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> drained = new HashMap<>();
+        for (String username : List.copyOf(pendingTrims.keySet())) {
+            Long requestedAt = pendingTrims.remove(username);
+            if (requestedAt != null) {
+                drained.put(username, requestedAt);
+            }
+        }
+
+        List<String> usernames = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < usernames.size(); from += properties.getChunkSize()) {
+            List<String> chunk = usernames.subList(from, Math.min(from + properties.getChunkSize(), usernames.size()));
+            try {
+                coalescedRowsTrimmed.increment(tvShowSearchHistoryBatchRepository.trimToLatest(chunk, properties.getLimit()));
+            } catch (RuntimeException e) {
+                chunk.forEach(username -> pendingTrims.merge(username, drained.get(username), Math::min));
+                log.warn("Failed to trim search history for {} users, will retry: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${search-history.retention.sweep-interval-ms:300000}",
+            fixedDelayString = "${search-history.retention.sweep-interval-ms:300000}"
+    )
+    public void sweep() {
+        sweepTimer.record(() -> {
+            UUID after = null;
+            long trimmed = 0;
+
+            try {
+                List<UUID> userIds;
+                do {
+                    userIds = tvShowSearchHistoryBatchRepository.findUserIdsOverLimit(after, properties.getLimit(), properties.getChunkSize());
+                    if (userIds.isEmpty()) {
+                        break;
+                    }
+
+                    int deleted = tvShowSearchHistoryBatchRepository.trimUsersToLatest(userIds, properties.getLimit());
+                    sweepRowsTrimmed.increment(deleted);
+                    trimmed += deleted;
+                    after = userIds.get(userIds.size() - 1);
+                } while (userIds.size() == properties.getChunkSize());
+            } catch (RuntimeException e) {
+                log.error("Search history retention sweep failed after trimming {} rows: {}", trimmed, e.getMessage());
+                return;
+            }
+
+            if (trimmed > 0) {
+                log.info("Search history retention sweep trimmed {} rows", trimmed);
+            }
+        });
+    }
+
+    double lagSeconds() {
+        OptionalLong oldest = pendingTrims.values().stream().mapToLong(Long::longValue).min();
+
+        return oldest.isPresent() ? Math.max(0, clock.millis() - oldest.getAsLong()) / 1000.0 : 0;
+    }
+
+    private static Counter rowsTrimmed(MeterRegistry meterRegistry, String source) {
+        return Counter.builder(METRIC_PREFIX + ".rows.trimmed")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
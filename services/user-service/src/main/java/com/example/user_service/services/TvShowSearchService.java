@@ -1,38 +1,50 @@
 package com.example.user_service.services;
 
-import com.example.user_service.dto.StoreSearchHistoryUserEvent;
+import com.example.user_service.config.SearchHistoryRetentionProperties;
+import com.example.user_service.dto.StoreShowsSearchBatchDto;
 import com.example.user_service.dto.StoreShowsSearchDto;
+import com.example.user_service.dto.StoreShowsSearchEntryDto;
 import com.example.user_service.dto.TvShowSearchHistoryDto;
 import com.example.user_service.exceptions.UserProfileNotFoundException;
 import com.example.user_service.mappers.TvShowSearchHistoryMapper;
 import com.example.user_service.models.TvShowSearchHistory;
 import com.example.user_service.models.UserProfile;
+import com.example.user_service.repositories.TvShowSearchHistoryBatchRepository;
 import com.example.user_service.repositories.TvShowSearchHistoryRepository;
 import com.example.user_service.repositories.UserProfileRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class TvShowSearchService {
-
     private final UserProfileRepository userProfileRepository;
     private final TvShowSearchHistoryRepository tvShowSearchHistoryRepository;
     private final TvShowSearchHistoryMapper tvShowSearchHistoryMapper;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository;
+    private final SearchHistoryRetentionService searchHistoryRetentionService;
+    private final SearchHistoryRetentionProperties searchHistoryRetentionProperties;
 
     public TvShowSearchService(
             UserProfileRepository userProfileRepository,
             TvShowSearchHistoryRepository tvShowSearchHistoryRepository,
-            TvShowSearchHistoryMapper tvShowSearchHistoryMapper, ApplicationEventPublisher applicationEventPublisher) {
+            TvShowSearchHistoryMapper tvShowSearchHistoryMapper,
+            TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository,
+            SearchHistoryRetentionService searchHistoryRetentionService,
+            SearchHistoryRetentionProperties searchHistoryRetentionProperties) {
         this.userProfileRepository = userProfileRepository;
         this.tvShowSearchHistoryRepository = tvShowSearchHistoryRepository;
         this.tvShowSearchHistoryMapper = tvShowSearchHistoryMapper;
-        this.applicationEventPublisher = applicationEventPublisher;
+        this.tvShowSearchHistoryBatchRepository = tvShowSearchHistoryBatchRepository;
+        this.searchHistoryRetentionService = searchHistoryRetentionService;
+        this.searchHistoryRetentionProperties = searchHistoryRetentionProperties;
     }
 
     public void storeTvShowSearch(String username, StoreShowsSearchDto storeShowsSearchDto) throws UserProfileNotFoundException {
@@ -50,16 +62,36 @@ public void storeTvShowSearch(String username, StoreShowsSearchDto storeShowsSea
 
         tvShowSearchHistoryRepository.save(tvShowSearchHistory);
 
-        List<TvShowSearchHistory> tvShowSearchHistoryList = tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile);
-        if (tvShowSearchHistoryList.size() > 10) {
-            applicationEventPublisher.publishEvent(new StoreSearchHistoryUserEvent(userProfile));
+        searchHistoryRetentionService.requestTrim(List.of(username));
+    }
+
+    @Transactional
+    public void storeTvShowSearches(StoreShowsSearchBatchDto storeShowsSearchBatchDto) {
+        List<StoreShowsSearchEntryDto> searches = Optional.ofNullable(storeShowsSearchBatchDto.getSearches())
+                .orElse(List.of())
+                .stream()
+                .filter(search -> search.getUsername() != null && !search.getUsername().isBlank())
+                .toList();
+
+        if (searches.isEmpty()) {
+            return;
         }
+
+        int inserted = tvShowSearchHistoryBatchRepository.insertAll(searches);
+
+        Set<String> usernames = searches.stream()
+                .map(StoreShowsSearchEntryDto::getUsername)
+                .collect(Collectors.toSet());
+        searchHistoryRetentionService.requestTrim(usernames);
+
+        log.debug("Stored {} searches for {} users ({} rows reported)", searches.size(), usernames.size(), inserted);
     }
 
     public List<TvShowSearchHistoryDto> getSearchHistory(String username) throws UserProfileNotFoundException {
         UserProfile userProfile = userProfileRepository.findByUsername(username).orElseThrow(UserProfileNotFoundException::new);
 
-        return tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile)
+        // Trimming is deferred, so cap the read at the retention limit as well.
+        return tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile, Limit.of(searchHistoryRetentionProperties.getLimit()))
                 .stream().map(tvShowSearchHistoryMapper::toDto).toList();
     }
 }
@@ -1,10 +1,9 @@
 package com.example.user_service.services;
 
+import com.example.user_service.dto.MembershipChangedEventDto;
 import com.example.user_service.dto.StoreUserProfileDto;
-import com.example.user_service.dto.UpgradeUserProfileDto;
 import com.example.user_service.dto.UserProfileDto;
 import com.example.user_service.enums.MemberType;
-import com.example.user_service.exceptions.AlreadyPremiumMemberException;
 import com.example.user_service.exceptions.AppException;
 import com.example.user_service.exceptions.UserProfileNotFoundException;
 import com.example.user_service.mappers.UserProfileMapper;
@@ -16,6 +15,7 @@
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -51,21 +51,23 @@ public UserProfileDto getProfile(String username) throws UserProfileNotFoundExce
         return userProfileMapper.profileToUserProfileDto(userProfile.get());
     }
 
-    public UserProfileDto upgradeProfile(UpgradeUserProfileDto upgradeUserProfileDto) throws AppException {
-        Optional<UserProfile> oUserProfile = userProfileRepository.findByUsername(upgradeUserProfileDto.getUsername());
-
-        if (oUserProfile.isEmpty()) {
-            throw new UserProfileNotFoundException();
+    /**
+     * Applies a membership change owned by auth-service. Events may be redelivered, so anything
+     * not newer than the last applied change is ignored.
+     */
+    public void applyMembershipChange(MembershipChangedEventDto event) throws AppException {
+        UserProfile userProfile = userProfileRepository.findByUsername(event.getUsername())
+                .orElseThrow(() -> new UserProfileNotFoundException(event.getUsername()));
+
+        LocalDateTime lastChange = userProfile.getMembershipChangedAt();
+        if (lastChange != null && !event.getOccurredAt().isAfter(lastChange)) {
+            log.debug("Ignoring stale membership event {} for {}", event.getEventId(), event.getUsername());
+            return;
         }
 
-        UserProfile userProfile = oUserProfile.get();
-
-        if (userProfile.getMemberType() == MemberType.PREMIUM) {
-            throw new AlreadyPremiumMemberException(userProfile.getUsername());
-        }
-
-        userProfile.setMemberType(MemberType.PREMIUM);
-
-        return userProfileMapper.profileToUserProfileDto(userProfileRepository.save(userProfile));
+        userProfile.setMemberType(MemberType.valueOf(event.getMembership()));
+        userProfile.setMembershipChangedAt(event.getOccurredAt());
+        userProfile.setUpdatedAt(LocalDateTime.now());
+        userProfileRepository.save(userProfile);
     }
 }
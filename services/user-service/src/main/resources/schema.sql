@@ -25,4 +25,8 @@ CREATE TABLE IF NOT EXISTS tv_show_search_history (
     endpoint TEXT,
     filters JSONB,
     search_time TIMESTAMP
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS idx_tv_show_search_history_user_time ON tv_show_search_history(user_id, search_time DESC);
+
+ALTER TABLE user_profiles ADD COLUMN IF NOT EXISTS membership_changed_at TIMESTAMP;
@@ -0,0 +1,114 @@
+package com.example.user_service.services;
+
+import com.example.user_service.config.SearchHistoryRetentionProperties;
+import com.example.user_service.repositories.TvShowSearchHistoryBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchHistoryRetentionServiceTest {
+
+    @Mock
+    private TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository;
+
+    @Mock
+    private Clock clock;
+
+    private SearchHistoryRetentionProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SearchHistoryRetentionService searchHistoryRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SearchHistoryRetentionProperties();
+        properties.setChunkSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+
+        searchHistoryRetentionService = new SearchHistoryRetentionService(
+                tvShowSearchHistoryBatchRepository, properties, meterRegistry, clock);
+    }
+
+    @Test
+    void trimPending_ShouldTrimEachUserOnceRegardlessOfRequestCount() {
+        for (int i = 0; i < 100; i++) {
+            searchHistoryRetentionService.requestTrim(List.of("testuser"));
+        }
+        when(tvShowSearchHistoryBatchRepository.trimToLatest(anyCollection(), eq(10))).thenReturn(5);
+
+        searchHistoryRetentionService.trimPending();
+        searchHistoryRetentionService.trimPending();
+
+        verify(tvShowSearchHistoryBatchRepository).trimToLatest(List.of("testuser"), 10);
+        assertEquals(5.0, meterRegistry.get("user.search.history.retention.rows.trimmed").tag("source", "coalesced").counter().count());
+        assertEquals(0.0, meterRegistry.get("user.search.history.retention.pending.users").gauge().value());
+    }
+
+    @Test
+    void trimPending_ShouldSplitUsersIntoChunks() {
+        searchHistoryRetentionService.requestTrim(Set.of("user1", "user2", "user3"));
+
+        searchHistoryRetentionService.trimPending();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(tvShowSearchHistoryBatchRepository, times(2)).trimToLatest(chunks.capture(), eq(10));
+        assertEquals(3, chunks.getAllValues().stream().mapToInt(Collection::size).sum());
+    }
+
+    @Test
+    void trimPending_ShouldKeepUsersPendingWhenTrimFails() {
+        when(clock.millis()).thenReturn(1_000L, 31_000L);
+        searchHistoryRetentionService.requestTrim(List.of("testuser"));
+        when(tvShowSearchHistoryBatchRepository.trimToLatest(anyCollection(), anyInt()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        searchHistoryRetentionService.trimPending();
+
+        assertEquals(1.0, meterRegistry.get("user.search.history.retention.pending.users").gauge().value());
+        assertEquals(30.0, meterRegistry.get("user.search.history.retention.lag.seconds").gauge().value());
+    }
+
+    @Test
+    void sweep_ShouldPageThroughUsersOverLimit() {
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID third = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+        when(tvShowSearchHistoryBatchRepository.findUserIdsOverLimit(null, 10, 2)).thenReturn(List.of(first, second));
+        when(tvShowSearchHistoryBatchRepository.findUserIdsOverLimit(second, 10, 2)).thenReturn(List.of(third));
+        when(tvShowSearchHistoryBatchRepository.trimUsersToLatest(List.of(first, second), 10)).thenReturn(7);
+        when(tvShowSearchHistoryBatchRepository.trimUsersToLatest(List.of(third), 10)).thenReturn(3);
+
+        searchHistoryRetentionService.sweep();
+
+        verify(tvShowSearchHistoryBatchRepository, times(2)).findUserIdsOverLimit(any(), eq(10), eq(2));
+        assertEquals(10.0, meterRegistry.get("user.search.history.retention.rows.trimmed").tag("source", "sweep").counter().count());
+    }
+
+    @Test
+    void sweep_ShouldStopOnFailure() {
+        when(tvShowSearchHistoryBatchRepository.findUserIdsOverLimit(null, 10, 2))
+                .thenThrow(new RuntimeException("Database error"));
+
+        searchHistoryRetentionService.sweep();
+
+        verify(tvShowSearchHistoryBatchRepository, never()).trimUsersToLatest(anyCollection(), anyInt());
+    }
+}
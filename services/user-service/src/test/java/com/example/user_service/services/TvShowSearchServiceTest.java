@@ -1,12 +1,15 @@
 package com.example.user_service.services;
 
-import com.example.user_service.dto.StoreSearchHistoryUserEvent;
+import com.example.user_service.config.SearchHistoryRetentionProperties;
+import com.example.user_service.dto.StoreShowsSearchBatchDto;
 import com.example.user_service.dto.StoreShowsSearchDto;
+import com.example.user_service.dto.StoreShowsSearchEntryDto;
 import com.example.user_service.dto.TvShowSearchHistoryDto;
 import com.example.user_service.exceptions.UserProfileNotFoundException;
 import com.example.user_service.mappers.TvShowSearchHistoryMapper;
 import com.example.user_service.models.TvShowSearchHistory;
 import com.example.user_service.models.UserProfile;
+import com.example.user_service.repositories.TvShowSearchHistoryBatchRepository;
 import com.example.user_service.repositories.TvShowSearchHistoryRepository;
 import com.example.user_service.repositories.UserProfileRepository;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -17,15 +20,18 @@
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +47,13 @@ class TvShowSearchServiceTest {
     private TvShowSearchHistoryMapper tvShowSearchHistoryMapper;
 
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private TvShowSearchHistoryBatchRepository tvShowSearchHistoryBatchRepository;
+
+    @Mock
+    private SearchHistoryRetentionService searchHistoryRetentionService;
+
+    @Spy
+    private SearchHistoryRetentionProperties searchHistoryRetentionProperties = new SearchHistoryRetentionProperties();
 
     @InjectMocks
     private TvShowSearchService tvShowSearchService;
@@ -74,17 +86,15 @@ void setUp() {
     }
 
     @Test
-    void storeTvShowSearch_ShouldStoreSearchSuccessfully() throws UserProfileNotFoundException {
+    void storeTvShowSearch_ShouldStoreSearchAndRequestTrim() throws UserProfileNotFoundException {
         when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
-        when(tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile))
-                .thenReturn(Arrays.asList(tvShowSearchHistory));
 
         tvShowSearchService.storeTvShowSearch("testuser", storeShowsSearchDto);
 
         verify(userProfileRepository).findByUsername("testuser");
         verify(tvShowSearchHistoryRepository).save(any(TvShowSearchHistory.class));
-        verify(tvShowSearchHistoryRepository).findByUserProfileOrderBySearchTimeDesc(userProfile);
-        verifyNoInteractions(applicationEventPublisher);
+        verify(searchHistoryRetentionService).requestTrim(List.of("testuser"));
+        verifyNoMoreInteractions(tvShowSearchHistoryRepository);
     }
 
     @Test
@@ -96,35 +106,13 @@ void storeTvShowSearch_ShouldThrowExceptionWhenUserNotFound() {
 
         verify(userProfileRepository).findByUsername("testuser");
         verifyNoInteractions(tvShowSearchHistoryRepository);
-        verifyNoInteractions(applicationEventPublisher);
-    }
-
-    @Test
-    void storeTvShowSearch_ShouldPublishEventWhenHistoryExceedsLimit() throws UserProfileNotFoundException {
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
-        
-        List<TvShowSearchHistory> largeHistoryList = Arrays.asList(
-            new TvShowSearchHistory(), new TvShowSearchHistory(), new TvShowSearchHistory(),
-            new TvShowSearchHistory(), new TvShowSearchHistory(), new TvShowSearchHistory(),
-            new TvShowSearchHistory(), new TvShowSearchHistory(), new TvShowSearchHistory(),
-            new TvShowSearchHistory(), new TvShowSearchHistory()
-        );
-        
-        when(tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile))
-                .thenReturn(largeHistoryList);
-
-        tvShowSearchService.storeTvShowSearch("testuser", storeShowsSearchDto);
-
-        verify(userProfileRepository).findByUsername("testuser");
-        verify(tvShowSearchHistoryRepository).save(any(TvShowSearchHistory.class));
-        verify(tvShowSearchHistoryRepository).findByUserProfileOrderBySearchTimeDesc(userProfile);
-        verify(applicationEventPublisher).publishEvent(any(StoreSearchHistoryUserEvent.class));
+        verifyNoInteractions(searchHistoryRetentionService);
     }
 
     @Test
     void getSearchHistory_ShouldReturnHistorySuccessfully() throws UserProfileNotFoundException {
         when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
-        when(tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile))
+        when(tvShowSearchHistoryRepository.findByUserProfileOrderBySearchTimeDesc(userProfile, Limit.of(10)))
                 .thenReturn(Arrays.asList(tvShowSearchHistory));
         when(tvShowSearchHistoryMapper.toDto(tvShowSearchHistory)).thenReturn(tvShowSearchHistoryDto);
 
@@ -135,7 +123,7 @@ void getSearchHistory_ShouldReturnHistorySuccessfully() throws UserProfileNotFou
         assertEquals(tvShowSearchHistoryDto, result.get(0));
 
         verify(userProfileRepository).findByUsername("testuser");
-        verify(tvShowSearchHistoryRepository).findByUserProfileOrderBySearchTimeDesc(userProfile);
+        verify(tvShowSearchHistoryRepository).findByUserProfileOrderBySearchTimeDesc(userProfile, Limit.of(10));
         verify(tvShowSearchHistoryMapper).toDto(tvShowSearchHistory);
     }
 
@@ -150,4 +138,39 @@ void getSearchHistory_ShouldThrowExceptionWhenUserNotFound() {
         verifyNoInteractions(tvShowSearchHistoryRepository);
         verifyNoInteractions(tvShowSearchHistoryMapper);
     }
-}
\ No newline at end of file
+
+    @Test
+    void storeTvShowSearches_ShouldBatchInsertAndRequestOneTrimPerUser() {
+        StoreShowsSearchBatchDto batch = new StoreShowsSearchBatchDto(List.of(
+                entry("testuser"),
+                entry("testuser"),
+                entry("otheruser")
+        ));
+        when(tvShowSearchHistoryBatchRepository.insertAll(anyList())).thenReturn(3);
+
+        tvShowSearchService.storeTvShowSearches(batch);
+
+        verify(tvShowSearchHistoryBatchRepository).insertAll(batch.getSearches());
+        verify(searchHistoryRetentionService).requestTrim(Set.of("testuser", "otheruser"));
+        verifyNoMoreInteractions(tvShowSearchHistoryBatchRepository);
+        verifyNoInteractions(userProfileRepository, tvShowSearchHistoryRepository);
+    }
+
+    @Test
+    void storeTvShowSearches_ShouldSkipAnonymousSearches() {
+        StoreShowsSearchBatchDto batch = new StoreShowsSearchBatchDto(List.of(entry(""), entry(null)));
+
+        tvShowSearchService.storeTvShowSearches(batch);
+
+        verifyNoInteractions(tvShowSearchHistoryBatchRepository, searchHistoryRetentionService);
+    }
+
+    private StoreShowsSearchEntryDto entry(String username) {
+        return StoreShowsSearchEntryDto.builder()
+                .username(username)
+                .endpoint("/api/tv-shows")
+                .filters(objectMapper.createObjectNode().put("genre", "comedy"))
+                .searchTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,10 +1,9 @@
 package com.example.user_service.services;
 
+import com.example.user_service.dto.MembershipChangedEventDto;
 import com.example.user_service.dto.StoreUserProfileDto;
-import com.example.user_service.dto.UpgradeUserProfileDto;
 import com.example.user_service.dto.UserProfileDto;
 import com.example.user_service.enums.MemberType;
-import com.example.user_service.exceptions.AlreadyPremiumMemberException;
 import com.example.user_service.exceptions.AppException;
 import com.example.user_service.exceptions.UserProfileNotFoundException;
 import com.example.user_service.mappers.UserProfileMapper;
@@ -18,7 +17,9 @@
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,7 +39,7 @@ class UserProfileServiceTest {
 
     private UserProfile userProfile;
     private StoreUserProfileDto storeUserProfileDto;
-    private UpgradeUserProfileDto upgradeUserProfileDto;
+    private MembershipChangedEventDto membershipChangedEvent;
     private UserProfileDto userProfileDto;
 
     @BeforeEach
@@ -50,8 +51,12 @@ void setUp() {
         storeUserProfileDto = new StoreUserProfileDto();
         storeUserProfileDto.setUsername("testuser");
 
-        upgradeUserProfileDto = new UpgradeUserProfileDto();
-        upgradeUserProfileDto.setUsername("testuser");
+        membershipChangedEvent = MembershipChangedEventDto.builder()
+                .eventId(UUID.randomUUID())
+                .username("testuser")
+                .membership("PREMIUM")
+                .occurredAt(LocalDateTime.of(2026, 1, 1, 10, 0))
+                .build();
 
         userProfileDto = new UserProfileDto();
         userProfileDto.setUsername("testuser");
@@ -109,42 +114,47 @@ void getProfile_ShouldThrowExceptionWhenUserNotFound() {
     }
 
     @Test
-    void upgradeProfile_ShouldUpgradeSuccessfully() throws AppException {
+    void applyMembershipChange_ShouldUpdateMemberType() throws AppException {
         when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
-        when(userProfileRepository.save(userProfile)).thenReturn(userProfile);
-        when(userProfileMapper.profileToUserProfileDto(userProfile)).thenReturn(userProfileDto);
 
-        UserProfileDto result = userProfileService.upgradeProfile(upgradeUserProfileDto);
+        userProfileService.applyMembershipChange(membershipChangedEvent);
 
-        assertEquals(userProfileDto, result);
         assertEquals(MemberType.PREMIUM, userProfile.getMemberType());
-        verify(userProfileRepository).findByUsername("testuser");
+        assertEquals(membershipChangedEvent.getOccurredAt(), userProfile.getMembershipChangedAt());
         verify(userProfileRepository).save(userProfile);
-        verify(userProfileMapper).profileToUserProfileDto(userProfile);
     }
 
     @Test
-    void upgradeProfile_ShouldThrowExceptionWhenUserNotFound() {
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+    void applyMembershipChange_ShouldIgnoreRedeliveredEvent() throws AppException {
+        userProfile.setMemberType(MemberType.PREMIUM);
+        userProfile.setMembershipChangedAt(membershipChangedEvent.getOccurredAt());
+        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
 
-        assertThrows(UserProfileNotFoundException.class, () -> 
-            userProfileService.upgradeProfile(upgradeUserProfileDto));
+        userProfileService.applyMembershipChange(membershipChangedEvent);
 
-        verify(userProfileRepository).findByUsername("testuser");
         verify(userProfileRepository, never()).save(any());
-        verifyNoInteractions(userProfileMapper);
     }
 
     @Test
-    void upgradeProfile_ShouldThrowExceptionWhenAlreadyPremium() {
-        userProfile.setMemberType(MemberType.PREMIUM);
+    void applyMembershipChange_ShouldIgnoreEventOlderThanLastChange() throws AppException {
+        userProfile.setMemberType(MemberType.FREE);
+        userProfile.setMembershipChangedAt(membershipChangedEvent.getOccurredAt().plusMinutes(5));
         when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(userProfile));
 
-        assertThrows(AlreadyPremiumMemberException.class, () -> 
-            userProfileService.upgradeProfile(upgradeUserProfileDto));
+        userProfileService.applyMembershipChange(membershipChangedEvent);
+
+        assertEquals(MemberType.FREE, userProfile.getMemberType());
+        verify(userProfileRepository, never()).save(any());
+    }
+
+    @Test
+    void applyMembershipChange_ShouldThrowExceptionWhenUserNotFound() {
+        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+
+        assertThrows(UserProfileNotFoundException.class, () ->
+            userProfileService.applyMembershipChange(membershipChangedEvent));
 
-        verify(userProfileRepository).findByUsername("testuser");
         verify(userProfileRepository, never()).save(any());
         verifyNoInteractions(userProfileMapper);
     }
-}
\ No newline at end of file
+}